@@ -0,0 +1,49 @@
+package com.quartz.checkin.common;
+
+import com.quartz.checkin.common.exception.ApiException;
+import com.quartz.checkin.common.exception.ErrorCode;
+import com.quartz.checkin.entity.Ticket;
+import com.quartz.checkin.entity.TicketView;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 커서 페이지네이션의 위치입니다. 클라이언트에는 "createdAt|id"를 base64url로 인코딩한 불투명한 문자열로 전달합니다.
+public record TicketCursor(LocalDateTime createdAt, Long id) {
+
+    private static final String DELIMITER = "|";
+
+    public static TicketCursor of(Ticket ticket) {
+        return new TicketCursor(ticket.getCreatedAt(), ticket.getId());
+    }
+
+    public static TicketCursor of(TicketView ticketView) {
+        return new TicketCursor(ticketView.getCreatedAt(), ticketView.getId());
+    }
+
+    // 빈 값은 첫 페이지를 의미하므로 null을 반환합니다.
+    public static TicketCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiter = decoded.indexOf(DELIMITER);
+            if (delimiter < 0) {
+                throw new ApiException(ErrorCode.INVALID_CURSOR);
+            }
+            return new TicketCursor(
+                    LocalDateTime.parse(decoded.substring(0, delimiter)),
+                    Long.parseLong(decoded.substring(delimiter + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ApiException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,26 @@
+package com.quartz.checkin.common;
+
+/*
+ * customId는 날짜(MMdd) + 1차 카테고리 약어 + "-" + 2차 카테고리 약어 + 번호 형식입니다.
+ * 2차 카테고리 약어가 숫자로 끝날 수 있으므로 끝의 숫자를 모두 번호로 보지 않고, 마지막 구분자 뒤의 고정 길이 접미사만 번호로 읽습니다.
+ */
+public class TicketCustomIdUtils {
+
+    public static final int NUMBER_WIDTH = 3;
+    private static final char SEPARATOR = '-';
+
+    private TicketCustomIdUtils() {
+    }
+
+    public static String format(String prefix, long number) {
+        return prefix + String.format("%0" + NUMBER_WIDTH + "d", number);
+    }
+
+    public static String numberPart(String customId) {
+        String suffix = customId.substring(customId.lastIndexOf(SEPARATOR) + 1);
+        if (suffix.length() < NUMBER_WIDTH) {
+            throw new IllegalArgumentException("티켓 번호가 없는 customId입니다. customId=" + customId);
+        }
+        return suffix.substring(suffix.length() - NUMBER_WIDTH);
+    }
+}
@@ -0,0 +1,42 @@
+package com.quartz.checkin.common;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.nio.ByteBuffer;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+public class TokenDigestUtils {
+
+    private static final String ALGORITHM = "SHA-256";
+
+    private TokenDigestUtils() {
+    }
+
+    public static byte[] sha256(String token) {
+        try {
+            return MessageDigest.getInstance(ALGORITHM).digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(ALGORITHM + " 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    // 토큰 원문 대신 고정 길이(43자)의 다이제스트를 캐시 키로 사용합니다.
+    public static String digest(String token) {
+        return digest(sha256(token));
+    }
+
+    // 같은 토큰으로 여러 키가 필요하면 sha256 결과를 한 번만 계산해 넘깁니다.
+    public static String digest(byte[] sha256) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(sha256);
+    }
+
+    // 블랙리스트처럼 오탐이 거부로만 이어지는 곳에서는 다이제스트 앞 8바이트만 키로 사용합니다.
+    public static long digestToLong(String token) {
+        return digestToLong(sha256(token));
+    }
+
+    public static long digestToLong(byte[] sha256) {
+        return ByteBuffer.wrap(sha256).getLong();
+    }
+}
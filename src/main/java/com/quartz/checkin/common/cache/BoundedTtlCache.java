@@ -0,0 +1,269 @@
+package com.quartz.checkin.common.cache;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+/*
+ * 최대 크기와 항목별 TTL을 가지는 캐시 엔진입니다.
+ * 조회는 lock 없이 참조 비트만 표시하고, 최대 크기를 넘으면 CLOCK(LRU 근사) 방식으로 오래 쓰이지 않은 항목부터 제거합니다.
+ * TTL이 지난 항목은 공유 타이밍 휠에서 만료 시각에 맞춰 제거됩니다.
+ */
+@Slf4j
+public class BoundedTtlCache extends AbstractValueAdaptingCache {
+
+    public static final long NO_EXPIRATION = Long.MAX_VALUE;
+
+    private final String name;
+    private final int maxSize;
+    private final long defaultTtlMillis;
+    private final ExpirationTimingWheel expirationTimingWheel;
+
+    private final Map<Object, Node> store = new ConcurrentHashMap<>();
+    private final Queue<Node> clock = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger clockLength = new AtomicInteger();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder putCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder expirationCount = new LongAdder();
+
+    public BoundedTtlCache(String name, int maxSize, long defaultTtlMillis,
+                           ExpirationTimingWheel expirationTimingWheel) {
+        super(false);
+        this.name = name;
+        this.maxSize = maxSize;
+        this.defaultTtlMillis = defaultTtlMillis;
+        this.expirationTimingWheel = expirationTimingWheel;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return store;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Node node = store.get(key);
+        if (node == null) {
+            missCount.increment();
+            return null;
+        }
+        if (node.isExpired(System.currentTimeMillis())) {
+            if (store.remove(key, node)) {
+                expirationCount.increment();
+                onRemoved(key, node.value);
+            }
+            missCount.increment();
+            return null;
+        }
+        node.referenced = true;
+        hitCount.increment();
+        return node.value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object value = lookup(key);
+        if (value != null) {
+            return (T) fromStoreValue(value);
+        }
+        try {
+            T loaded = valueLoader.call();
+            put(key, loaded);
+            return loaded;
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        long expiresAt = defaultTtlMillis > 0 ? System.currentTimeMillis() + defaultTtlMillis : NO_EXPIRATION;
+        put(key, value, expiresAt);
+    }
+
+    public void put(Object key, Object value, long expiresAt) {
+        Node node = new Node(key, toStoreValue(value), expiresAt);
+        store.put(key, node);
+        register(node, expiresAt);
+    }
+
+    // 살아 있는 항목이 없을 때만 원자적으로 저장하고, 이미 있으면 기존 값을 돌려줍니다.
+    public Object putIfAbsent(Object key, Object value, long expiresAt) {
+        long now = System.currentTimeMillis();
+        Node created = new Node(key, toStoreValue(value), expiresAt);
+        Node current = store.compute(key,
+                (k, existing) -> existing == null || existing.isExpired(now) ? created : existing);
+        if (current != created) {
+            current.referenced = true;
+            return fromStoreValue(current.value);
+        }
+        register(created, expiresAt);
+        return null;
+    }
+
+    private void register(Node node, long expiresAt) {
+        Object key = node.key;
+        clock.add(node);
+        clockLength.incrementAndGet();
+        putCount.increment();
+
+        if (expiresAt != NO_EXPIRATION) {
+            expirationTimingWheel.schedule(key, expiresAt, this::expireEntry);
+        }
+        if (store.size() > maxSize || hasTooManyDeadNodes()) {
+            maintain();
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        store.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        store.clear();
+    }
+
+    public void evictIf(Predicate<Object> keyPredicate) {
+        store.keySet().removeIf(keyPredicate);
+    }
+
+    public Iterable<Object> keys() {
+        return store.keySet();
+    }
+
+    public long getRemainingMillis(Object key) {
+        Node node = store.get(key);
+        if (node == null || node.expiresAt == NO_EXPIRATION) {
+            return 0L;
+        }
+        return Math.max(0L, node.expiresAt - System.currentTimeMillis());
+    }
+
+    // 만료나 용량 초과로 항목이 제거되었을 때 호출됩니다.
+    protected void onRemoved(Object key, Object value) {
+    }
+
+    private void expireEntry(Object key, long deadline) {
+        Node node = store.get(key);
+        if (node != null && node.isExpired(System.currentTimeMillis()) && store.remove(key, node)) {
+            expirationCount.increment();
+            onRemoved(key, node.value);
+        }
+    }
+
+    private boolean hasTooManyDeadNodes() {
+        return clockLength.get() > 2L * store.size() + 16;
+    }
+
+    private void maintain() {
+        if (!evictionLock.tryLock()) {
+            // 다른 스레드가 정리 중이면 그 스레드에 맡깁니다.
+            return;
+        }
+        try {
+            // 삭제되었거나 새 값으로 교체된 노드가 clock에 쌓이지 않도록 정리합니다.
+            if (hasTooManyDeadNodes()) {
+                int remaining = clockLength.get();
+                while (remaining-- > 0) {
+                    Node node = clock.poll();
+                    if (node == null) {
+                        break;
+                    }
+                    if (isLive(node)) {
+                        clock.add(node);
+                    } else {
+                        clockLength.decrementAndGet();
+                    }
+                }
+            }
+
+            while (store.size() > maxSize) {
+                Node candidate = clock.poll();
+                if (candidate == null) {
+                    return;
+                }
+                if (!isLive(candidate)) {
+                    clockLength.decrementAndGet();
+                    continue;
+                }
+                if (candidate.referenced) {
+                    candidate.referenced = false;
+                    clock.add(candidate);
+                    continue;
+                }
+                clockLength.decrementAndGet();
+                if (store.remove(candidate.key, candidate)) {
+                    evictionCount.increment();
+                    onRemoved(candidate.key, candidate.value);
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private boolean isLive(Node node) {
+        return store.get(node.key) == node;
+    }
+
+    public long size() {
+        return store.size();
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getPutCount() {
+        return putCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    public long getExpirationCount() {
+        return expirationCount.sum();
+    }
+
+    private static class Node {
+        private final Object key;
+        private final Object value;
+        private final long expiresAt;
+        private volatile boolean referenced;
+
+        private Node(Object key, Object value, long expiresAt) {
+            this.key = key;
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
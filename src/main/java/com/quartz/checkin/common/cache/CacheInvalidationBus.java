@@ -0,0 +1,18 @@
+package com.quartz.checkin.common.cache;
+
+import java.util.function.Consumer;
+
+/*
+ * 노드 로컬 보안 캐시의 변경 사항을 다른 노드에 전달하는 채널입니다.
+ * 메시지는 여러 번 전달될 수 있으므로 구독자는 같은 메시지를 다시 적용해도 결과가 같아야 합니다.
+ */
+public interface CacheInvalidationBus {
+
+    void publish(CacheInvalidationMessage message);
+
+    void subscribe(String channel, Consumer<CacheInvalidationMessage> subscriber);
+
+    // 메시지가 누락되었을 수 있을 때 호출됩니다. 변경분을 더하는 구독자는 이때 원본에서 다시 집계해야 합니다.
+    default void subscribeGaps(Runnable listener) {
+    }
+}
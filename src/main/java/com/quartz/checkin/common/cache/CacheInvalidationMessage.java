@@ -0,0 +1,44 @@
+package com.quartz.checkin.common.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CacheInvalidationMessage {
+
+    // cache_invalidation.cache_key 길이입니다. 여러 값을 한 메시지로 보낼 때 이 길이를 넘지 않도록 나눕니다.
+    public static final int MAX_KEY_LENGTH = 1024;
+    private static final String KEY_SEPARATOR = ";";
+
+    private final String channel;
+    private final String key;
+    private final long value;
+
+    // 여러 값을 구분자로 이어 MAX_KEY_LENGTH를 넘지 않는 키들로 묶습니다.
+    public static List<String> joinKeys(Collection<String> parts) {
+        List<String> keys = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (String part : parts) {
+            if (current.length() > 0 && current.length() + KEY_SEPARATOR.length() + part.length() > MAX_KEY_LENGTH) {
+                keys.add(current.toString());
+                current.setLength(0);
+            }
+            if (current.length() > 0) {
+                current.append(KEY_SEPARATOR);
+            }
+            current.append(part);
+        }
+        if (current.length() > 0) {
+            keys.add(current.toString());
+        }
+        return keys;
+    }
+
+    public static List<String> splitKey(String key) {
+        return List.of(key.split(KEY_SEPARATOR));
+    }
+}
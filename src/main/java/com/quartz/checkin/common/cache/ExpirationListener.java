@@ -0,0 +1,8 @@
+package com.quartz.checkin.common.cache;
+
+@FunctionalInterface
+public interface ExpirationListener {
+
+    // deadline이 지난 키에 대해 호출됩니다. 그 사이 값이 갱신되었을 수 있으므로 만료 여부를 다시 확인해야 합니다.
+    void expire(Object key, long deadline);
+}
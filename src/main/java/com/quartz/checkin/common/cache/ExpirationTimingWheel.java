@@ -0,0 +1,159 @@
+package com.quartz.checkin.common.cache;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * TTL 캐시들이 공유하는 계층형 타이밍 휠입니다.
+ * 등록은 큐에 넣는 O(1) 연산이고, 각 항목은 deadline으로부터 tick 하나 이내에 만료 처리됩니다.
+ * 휠 조작과 만료 콜백은 모두 전용 스레드 하나에서 실행됩니다.
+ */
+@Slf4j
+public class ExpirationTimingWheel {
+
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 4;
+    private static final long MAX_SPAN_TICKS = 1L << (WHEEL_BITS * LEVELS);
+
+    private final long tickMillis;
+    private final Entry[][] buckets = new Entry[LEVELS][WHEEL_SIZE];
+    private final Queue<Entry> registrations = new ConcurrentLinkedQueue<>();
+    private final AtomicLong pending = new AtomicLong();
+    private long currentTick;
+    private ScheduledExecutorService executor;
+
+    public ExpirationTimingWheel(long tickMillis, long startTimeMillis) {
+        this.tickMillis = tickMillis;
+        this.currentTick = startTimeMillis / tickMillis;
+    }
+
+    public void schedule(Object key, long deadline, ExpirationListener listener) {
+        registrations.add(new Entry(key, deadline, listener));
+        pending.incrementAndGet();
+    }
+
+    public long pendingCount() {
+        return pending.get();
+    }
+
+    public synchronized void start() {
+        if (executor != null) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cache-expiration");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(() -> advance(System.currentTimeMillis()),
+                tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    // now까지 밀린 tick을 모두 처리합니다. 한 스레드에서만 호출해야 합니다.
+    public void advance(long now) {
+        try {
+            long targetTick = now / tickMillis;
+            drainRegistrations();
+            while (currentTick < targetTick) {
+                currentTick++;
+                cascade();
+                fire(buckets[0], (int) (currentTick & WHEEL_MASK));
+            }
+        } catch (Exception e) {
+            log.error("캐시 만료 처리 중 문제가 발생했습니다. {}", e.getMessage(), e);
+        }
+    }
+
+    private void drainRegistrations() {
+        Entry entry;
+        while ((entry = registrations.poll()) != null) {
+            place(entry);
+        }
+    }
+
+    private void place(Entry entry) {
+        long deadlineTick = (entry.deadline + tickMillis - 1) / tickMillis;
+        long delta = deadlineTick - currentTick;
+        if (delta <= 0) {
+            expire(entry);
+            return;
+        }
+
+        // 휠 전체 범위를 넘어서는 항목은 마지막 칸에 두었다가 cascade 시점에 다시 배치합니다.
+        long placementTick = delta < MAX_SPAN_TICKS ? deadlineTick : currentTick + MAX_SPAN_TICKS - 1;
+        long placementDelta = placementTick - currentTick;
+
+        int level = 0;
+        while (level < LEVELS - 1 && placementDelta >= (1L << (WHEEL_BITS * (level + 1)))) {
+            level++;
+        }
+        int slot = (int) ((placementTick >>> (WHEEL_BITS * level)) & WHEEL_MASK);
+        entry.next = buckets[level][slot];
+        buckets[level][slot] = entry;
+    }
+
+    private void cascade() {
+        for (int level = 1; level < LEVELS; level++) {
+            long span = 1L << (WHEEL_BITS * level);
+            if (currentTick % span != 0) {
+                return;
+            }
+            int slot = (int) ((currentTick >>> (WHEEL_BITS * level)) & WHEEL_MASK);
+            Entry entry = buckets[level][slot];
+            buckets[level][slot] = null;
+            while (entry != null) {
+                Entry next = entry.next;
+                entry.next = null;
+                place(entry);
+                entry = next;
+            }
+        }
+    }
+
+    private void fire(Entry[] wheel, int slot) {
+        Entry entry = wheel[slot];
+        wheel[slot] = null;
+        while (entry != null) {
+            Entry next = entry.next;
+            entry.next = null;
+            expire(entry);
+            entry = next;
+        }
+    }
+
+    private void expire(Entry entry) {
+        pending.decrementAndGet();
+        try {
+            entry.listener.expire(entry.key, entry.deadline);
+        } catch (Exception e) {
+            log.error("키({})에 대한 만료 처리에 실패했습니다. {}", entry.key, e.getMessage());
+        }
+    }
+
+    private static class Entry {
+        private final Object key;
+        private final long deadline;
+        private final ExpirationListener listener;
+        private Entry next;
+
+        private Entry(Object key, long deadline, ExpirationListener listener) {
+            this.key = key;
+            this.deadline = deadline;
+            this.listener = listener;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.quartz.checkin.common.cache;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/*
+ * 단일 프로세스용 구현입니다. JDBC 구현과 같이 발행한 노드는 메시지를 받지 않고, 연결된 다른 노드의 구독자에게만 즉시 전달합니다.
+ * 발행하는 쪽은 이미 자기 상태를 바꾼 뒤이므로, 단일 노드 배포에서는 메시지가 아무에게도 전달되지 않습니다.
+ */
+public class InMemoryCacheInvalidationBus implements CacheInvalidationBus {
+
+    private final List<InMemoryCacheInvalidationBus> nodes;
+    private final Map<String, List<Consumer<CacheInvalidationMessage>>> subscribers = new ConcurrentHashMap<>();
+
+    public InMemoryCacheInvalidationBus() {
+        this(new CopyOnWriteArrayList<>());
+    }
+
+    private InMemoryCacheInvalidationBus(List<InMemoryCacheInvalidationBus> nodes) {
+        this.nodes = nodes;
+        nodes.add(this);
+    }
+
+    // 같은 프로세스 안에서 다른 노드 역할을 하는 버스를 만듭니다. 여러 노드를 흉내 내는 테스트에서 사용합니다.
+    public InMemoryCacheInvalidationBus connectNode() {
+        return new InMemoryCacheInvalidationBus(nodes);
+    }
+
+    @Override
+    public void publish(CacheInvalidationMessage message) {
+        for (InMemoryCacheInvalidationBus node : nodes) {
+            if (node != this) {
+                node.deliver(message);
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(String channel, Consumer<CacheInvalidationMessage> subscriber) {
+        subscribers.computeIfAbsent(channel, c -> new CopyOnWriteArrayList<>()).add(subscriber);
+    }
+
+    private void deliver(CacheInvalidationMessage message) {
+        subscribers.getOrDefault(message.getChannel(), List.of())
+                .forEach(subscriber -> subscriber.accept(message));
+    }
+}
@@ -0,0 +1,149 @@
+package com.quartz.checkin.common.cache;
+
+import com.quartz.checkin.entity.CacheInvalidation;
+import com.quartz.checkin.repository.CacheInvalidationRepository;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/*
+ * 추가만 되는 cache_invalidation 테이블을 주기적으로 읽어 다른 노드가 발행한 메시지를 적용합니다.
+ * 기동 시에는 보관 기간 안의 메시지를 모두 다시 읽어 블랙리스트, epoch, 로그인 잠금 상태를 복원합니다.
+ * 보관 기간이 지나 삭제된 번호는 누락으로 볼 수 없으므로, 이 노드가 실제로 읽은 행 사이의 빈 번호만 기다립니다.
+ */
+@Slf4j
+public class JdbcCacheInvalidationBus implements CacheInvalidationBus {
+
+    // 토큰과 로그인 잠금의 최대 유효기간(1시간)보다 길게 보관합니다.
+    private static final long RETENTION_HOURS = 2;
+    // 먼저 채번되었지만 늦게 커밋된 행을 기다리는 시간입니다. 이후에는 롤백된 것으로 간주합니다.
+    private static final long GAP_TIMEOUT_MILLIS = 30_000;
+
+    private final CacheInvalidationRepository cacheInvalidationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, List<Consumer<CacheInvalidationMessage>>> subscribers = new ConcurrentHashMap<>();
+    private final Map<Long, Long> pendingGaps = new ConcurrentHashMap<>();
+    private final List<Runnable> gapListeners = new CopyOnWriteArrayList<>();
+    private long lastSeenId = 0L;
+    private boolean seenAny;
+
+    public JdbcCacheInvalidationBus(CacheInvalidationRepository cacheInvalidationRepository,
+                                    PlatformTransactionManager transactionManager) {
+        this.cacheInvalidationRepository = cacheInvalidationRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // AFTER_COMMIT 리스너처럼 이미 커밋된 트랜잭션 안에서 호출될 수 있으므로 항상 새 트랜잭션으로 기록합니다.
+    @Override
+    public void publish(CacheInvalidationMessage message) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> cacheInvalidationRepository.save(
+                    new CacheInvalidation(message.getChannel(), message.getKey(), message.getValue(), nodeId)));
+        } catch (Exception e) {
+            log.error("캐시 무효화 메시지({})를 발행하지 못했습니다. {}", message.getChannel(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void subscribe(String channel, Consumer<CacheInvalidationMessage> subscriber) {
+        subscribers.computeIfAbsent(channel, c -> new CopyOnWriteArrayList<>()).add(subscriber);
+    }
+
+    @Override
+    public void subscribeGaps(Runnable listener) {
+        gapListeners.add(listener);
+    }
+
+    @Scheduled(fixedDelay = 1000)
+    public synchronized void poll() {
+        try {
+            retryGaps();
+
+            List<CacheInvalidation> rows;
+            do {
+                rows = cacheInvalidationRepository.findTop500ByIdGreaterThanOrderByIdAsc(lastSeenId);
+                long now = System.currentTimeMillis();
+                for (CacheInvalidation row : rows) {
+                    if (seenAny) {
+                        for (long gapId = lastSeenId + 1; gapId < row.getId(); gapId++) {
+                            pendingGaps.put(gapId, now);
+                        }
+                    }
+                    seenAny = true;
+                    lastSeenId = row.getId();
+                    deliver(row);
+                }
+            } while (rows.size() == 500);
+        } catch (Exception e) {
+            log.error("캐시 무효화 메시지를 읽어오지 못했습니다. {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "0 */10 * * * *")
+    public void deleteExpiredMessages() {
+        int deleted = cacheInvalidationRepository.deleteAllCreatedBefore(
+                LocalDateTime.now().minusHours(RETENTION_HOURS));
+        log.info("보관 기간이 지난 캐시 무효화 메시지 {}건을 삭제했습니다.", deleted);
+    }
+
+    private void retryGaps() {
+        if (pendingGaps.isEmpty()) {
+            return;
+        }
+        for (CacheInvalidation row : cacheInvalidationRepository.findAllById(pendingGaps.keySet())) {
+            pendingGaps.remove(row.getId());
+            deliver(row);
+        }
+
+        long now = System.currentTimeMillis();
+        boolean expired = false;
+        Iterator<Map.Entry<Long, Long>> iterator = pendingGaps.entrySet().iterator();
+        while (iterator.hasNext()) {
+            if (now - iterator.next().getValue() > GAP_TIMEOUT_MILLIS) {
+                iterator.remove();
+                expired = true;
+            }
+        }
+        if (expired) {
+            notifyGap();
+        }
+    }
+
+    // 롤백된 행과 끝내 읽지 못한 행을 구분할 수 없으므로, 빈 번호를 포기할 때마다 누락 가능성을 알립니다.
+    private void notifyGap() {
+        for (Runnable listener : gapListeners) {
+            try {
+                listener.run();
+            } catch (Exception e) {
+                log.error("캐시 무효화 메시지 누락 알림 처리에 실패했습니다. {}", e.getMessage());
+            }
+        }
+    }
+
+    private void deliver(CacheInvalidation row) {
+        if (nodeId.equals(row.getOriginNode())) {
+            return;
+        }
+        CacheInvalidationMessage message =
+                new CacheInvalidationMessage(row.getChannel(), row.getCacheKey(), row.getCacheValue());
+        for (Consumer<CacheInvalidationMessage> subscriber : subscribers.getOrDefault(row.getChannel(), List.of())) {
+            try {
+                subscriber.accept(message);
+            } catch (Exception e) {
+                log.error("캐시 무효화 메시지({}) 적용에 실패했습니다. {}", row.getId(), e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.quartz.checkin.common.cache;
+
+/*
+ * ip:username 또는 ip 단위의 로그인 실패 카운터를 보관합니다.
+ * 조회는 카운터를 변경하지 않으며, 마지막 실패로부터 윈도우가 지나면 항목이 만료됩니다.
+ */
+public class LoginAttemptCache extends BoundedTtlCache {
+
+    private static final int BUCKETS = 10;
+
+    private final long windowMillis;
+
+    public LoginAttemptCache(String name, int maxSize, long windowMillis,
+                             ExpirationTimingWheel expirationTimingWheel) {
+        super(name, maxSize, windowMillis, expirationTimingWheel);
+        this.windowMillis = windowMillis;
+    }
+
+    public long increment(String key) {
+        long now = System.currentTimeMillis();
+        SlidingWindowCounter counter = new SlidingWindowCounter(windowMillis, BUCKETS);
+        Object existing = putIfAbsent(key, counter, now + windowMillis);
+        if (existing != null) {
+            counter = (SlidingWindowCounter) existing;
+            // 실패가 이어지는 동안 항목이 만료되지 않도록 남은 시간이 절반 아래로 내려가면 연장합니다.
+            if (getRemainingMillis(key) < windowMillis / 2) {
+                put(key, counter, now + windowMillis);
+            }
+        }
+        return counter.increment(now);
+    }
+
+    public long count(String key) {
+        Object counter = lookup(key);
+        return counter == null ? 0L : ((SlidingWindowCounter) counter).sum(System.currentTimeMillis());
+    }
+}
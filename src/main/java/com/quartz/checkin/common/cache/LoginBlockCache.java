@@ -1,81 +1,39 @@
 package com.quartz.checkin.common.cache;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.concurrent.ConcurrentMapCache;
-import org.springframework.cache.support.SimpleValueWrapper;
 
 @Slf4j
-public class LoginBlockCache extends ConcurrentMapCache {
+public class LoginBlockCache extends BoundedTtlCache {
 
-    private final Map<String, Long> cache = new ConcurrentHashMap<>();
     private static final long TTL = 30 * 60 * 1000; //30분
-    public LoginBlockCache(String name) {
-        super(name);
-    }
 
-    public long getBlockTimeLeft(String key) {
-        long time = (Long) get(key).get();
-        long now = System.currentTimeMillis();
-        return (time + TTL) - now;
+    public LoginBlockCache(String name, int maxSize, ExpirationTimingWheel expirationTimingWheel) {
+        super(name, maxSize, TTL, expirationTimingWheel);
     }
 
-    @Override
-    public ValueWrapper get(Object key) {
-        Object value = lookup(key);
-        if (value != null) {
-            return new SimpleValueWrapper(value);
-        }
-        return null;
+    public long getBlockTimeLeft(String key) {
+        return getRemainingMillis(key);
     }
 
     @Override
     protected Object lookup(Object key) {
-        String k = (String) key;
-        Long blockedAt = cache.get(k);
+        Object blockedAt = super.lookup(key);
         if (blockedAt == null) {
-            log.info("{}에 대한 로그인 잠금 기록이 없습니다.",k);
-            return null;
-        }
-        if (isExpired(blockedAt)) {
-            log.info("{}에 대한 로그인 잠금 유효기간이 지났습니다. 캐시에서 제거합니다.");
-            cache.remove(key);
-            return null;
+            log.info("{}에 대한 로그인 잠금 기록이 없습니다.", key);
         }
         return blockedAt;
     }
 
-
+    // value는 잠금 시작 시각입니다. 만료 시각을 잠금 시작 시각 기준으로 계산하므로 같은 잠금을 다시 기록해도 잠금이 연장되지 않습니다.
     @Override
     public void put(Object key, Object value) {
-        String k = (String) key;
-        log.info("{}를 로그인 잠금 캐시에 기록합니다.", k);
-        cache.put(k, (Long) value);
-    }
-
-    @Override
-    public void evict(Object key) {
-        cache.remove((String) key);
-    }
-
-    @Override
-    public void clear() {
-        cache.clear();
-    }
-
-    private boolean isExpired(Long blockedAt) {
-        return System.currentTimeMillis() - blockedAt > TTL;
-    }
+        long blockedAt = (Long) value;
+        long expiresAt = blockedAt + TTL;
+        if (System.currentTimeMillis() >= expiresAt) {
+            return;
+        }
 
-    public void evictAllExpiredData() {
-        log.info("로그인 잠금 캐시에 대한 정리를 시작합니다.");
-        cache.keySet()
-                .stream()
-                .filter(k -> isExpired(cache.get(k)))
-                .forEach(k -> {
-                    log.info("키 {}를 로그인 잠금 캐시에서 삭제합니다.", k);
-                    this.evict(k);
-                });
+        log.info("{}를 로그인 잠금 캐시에 기록합니다.", key);
+        super.put(key, blockedAt, expiresAt);
     }
 }
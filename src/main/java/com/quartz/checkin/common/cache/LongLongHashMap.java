@@ -0,0 +1,130 @@
+package com.quartz.checkin.common.cache;
+
+import java.util.Arrays;
+
+/*
+ * long -> long 오픈 어드레싱 해시맵입니다. 박싱 없이 키와 값을 배열에 그대로 저장합니다.
+ * 값 0은 빈 슬롯을 의미하므로 0보다 큰 값만 저장할 수 있습니다. 동기화는 사용하는 쪽에서 처리합니다.
+ */
+public class LongLongHashMap {
+
+    public static final long NO_VALUE = 0L;
+
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] keys;
+    private long[] values;
+    private int size;
+    private int mask;
+
+    public LongLongHashMap(int initialCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(16, (int) (initialCapacity / LOAD_FACTOR)) - 1) << 1;
+        allocate(capacity);
+    }
+
+    public long get(long key) {
+        int index = indexOf(key);
+        return index < 0 ? NO_VALUE : values[index];
+    }
+
+    public void put(long key, long value) {
+        if (value <= NO_VALUE) {
+            throw new IllegalArgumentException("0보다 큰 값만 저장할 수 있습니다.");
+        }
+        int slot = slot(key);
+        while (values[slot] != NO_VALUE) {
+            if (keys[slot] == key) {
+                values[slot] = value;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > keys.length * LOAD_FACTOR) {
+            rehash(keys.length << 1);
+        }
+    }
+
+    public boolean remove(long key) {
+        int index = indexOf(key);
+        if (index < 0) {
+            return false;
+        }
+        deleteAt(index);
+        return true;
+    }
+
+    public void forEachKey(KeyConsumer consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (values[i] != NO_VALUE) {
+                consumer.accept(keys[i]);
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        Arrays.fill(values, NO_VALUE);
+        size = 0;
+    }
+
+    private int indexOf(long key) {
+        int slot = slot(key);
+        while (values[slot] != NO_VALUE) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    // 선형 탐사를 유지하기 위해 삭제된 슬롯 뒤의 엔트리들을 앞으로 당깁니다.
+    private void deleteAt(int index) {
+        int gap = index;
+        int slot = (index + 1) & mask;
+        while (values[slot] != NO_VALUE) {
+            int home = slot(keys[slot]);
+            if (((slot - home) & mask) >= ((slot - gap) & mask)) {
+                keys[gap] = keys[slot];
+                values[gap] = values[slot];
+                gap = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        values[gap] = NO_VALUE;
+        size--;
+    }
+
+    private int slot(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        allocate(capacity);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != NO_VALUE) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    @FunctionalInterface
+    public interface KeyConsumer {
+        void accept(long key);
+    }
+}
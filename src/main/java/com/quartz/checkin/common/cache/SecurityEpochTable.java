@@ -0,0 +1,46 @@
+package com.quartz.checkin.common.cache;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/*
+ * memberId -> 보안 epoch 테이블입니다. member_id는 1부터 증가하는 값이므로 배열 인덱스로 바로 조회합니다.
+ * 조회는 lock 없이 한 번의 배열 접근으로 끝나고, 메모리는 사용자 수에 비례합니다.
+ * epoch는 감소하지 않으므로 순서가 뒤바뀐 갱신이 들어와도 더 큰 값이 유지됩니다.
+ */
+public class SecurityEpochTable {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private volatile AtomicIntegerArray epochs = new AtomicIntegerArray(INITIAL_CAPACITY);
+
+    public int get(long memberId) {
+        AtomicIntegerArray current = epochs;
+        if (memberId <= 0 || memberId >= current.length()) {
+            return 0;
+        }
+        return current.get((int) memberId);
+    }
+
+    public synchronized void advance(long memberId, int securityEpoch) {
+        if (memberId <= 0 || securityEpoch <= 0) {
+            return;
+        }
+        if (memberId >= epochs.length()) {
+            grow(memberId);
+        }
+        epochs.accumulateAndGet((int) memberId, securityEpoch, Math::max);
+    }
+
+    private void grow(long memberId) {
+        AtomicIntegerArray current = epochs;
+        int capacity = current.length();
+        while (capacity <= memberId) {
+            capacity = Math.multiplyExact(capacity, 2);
+        }
+        AtomicIntegerArray grown = new AtomicIntegerArray(capacity);
+        for (int i = 0; i < current.length(); i++) {
+            grown.set(i, current.get(i));
+        }
+        epochs = grown;
+    }
+}
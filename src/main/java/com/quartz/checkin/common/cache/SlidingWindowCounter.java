@@ -0,0 +1,60 @@
+package com.quartz.checkin.common.cache;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/*
+ * 윈도우를 고정된 수의 하위 구간으로 나눠 집계하는 슬라이딩 윈도우 카운터입니다.
+ * 각 슬롯은 (구간 번호 << 24 | 횟수)를 하나의 long에 담아 CAS로만 갱신하므로 lock이 필요 없습니다.
+ */
+public class SlidingWindowCounter {
+
+    private static final int COUNT_BITS = 24;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+    private final AtomicLongArray slots;
+    private final long bucketMillis;
+
+    public SlidingWindowCounter(long windowMillis, int buckets) {
+        this.slots = new AtomicLongArray(buckets);
+        this.bucketMillis = Math.max(1L, windowMillis / buckets);
+    }
+
+    public long increment(long now) {
+        long bucket = now / bucketMillis;
+        int index = (int) (bucket % slots.length());
+
+        while (true) {
+            long current = slots.get(index);
+            long currentBucket = current >>> COUNT_BITS;
+            long next;
+            if (currentBucket == bucket) {
+                if ((current & COUNT_MASK) == COUNT_MASK) {
+                    break;
+                }
+                next = current + 1;
+            } else if (currentBucket < bucket) {
+                next = (bucket << COUNT_BITS) | 1L;
+            } else {
+                // 더 최근 구간이 이미 슬롯을 차지했다면 늦게 도착한 기록은 버립니다.
+                break;
+            }
+            if (slots.compareAndSet(index, current, next)) {
+                break;
+            }
+        }
+        return sum(now);
+    }
+
+    public long sum(long now) {
+        long bucket = now / bucketMillis;
+        long total = 0L;
+        for (int i = 0; i < slots.length(); i++) {
+            long slot = slots.get(i);
+            long slotBucket = slot >>> COUNT_BITS;
+            if (slotBucket <= bucket && bucket - slotBucket < slots.length()) {
+                total += slot & COUNT_MASK;
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,14 @@
+package com.quartz.checkin.common.cache;
+
+import java.time.LocalDate;
+
+/*
+ * 통계 응답 캐시 키입니다. 통계 쿼리는 오늘 날짜를 기준으로 기간을 계산하므로,
+ * 날짜를 시간 구간으로 키에 넣어 자정이 지나면 전날 기준의 응답을 쓰지 않습니다.
+ */
+public record StatsCacheKey(String endpoint, String period, LocalDate bucket) {
+
+    public static StatsCacheKey of(String endpoint, String period) {
+        return new StatsCacheKey(endpoint, period != null ? period.toUpperCase() : null, LocalDate.now());
+    }
+}
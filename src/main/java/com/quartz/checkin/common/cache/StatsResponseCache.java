@@ -0,0 +1,116 @@
+package com.quartz.checkin.common.cache;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * 통계 응답을 보관합니다. 같은 키를 동시에 놓친 요청은 하나의 계산 결과를 함께 기다리고,
+ * 신선 기간이 지난 응답은 그대로 돌려주면서 백그라운드에서 한 번만 다시 계산합니다.
+ * 항목은 신선 기간과 허용하는 지연 기간을 더한 시간이 지나면 만료됩니다.
+ */
+@Slf4j
+public class StatsResponseCache extends BoundedTtlCache {
+
+    private final long freshMillis;
+    private final Executor refreshExecutor;
+    private final Map<Object, CompletableFuture<Object>> loading = new ConcurrentHashMap<>();
+
+    private final LongAdder staleHitCount = new LongAdder();
+    private final LongAdder loadWaitCount = new LongAdder();
+
+    public StatsResponseCache(String name, int maxSize, long freshMillis, long maxStaleMillis,
+                              ExpirationTimingWheel expirationTimingWheel, Executor refreshExecutor) {
+        super(name, maxSize, freshMillis + maxStaleMillis, expirationTimingWheel);
+        this.freshMillis = freshMillis;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object stored = lookup(key);
+        if (stored != null) {
+            Entry entry = (Entry) fromStoreValue(stored);
+            if (System.currentTimeMillis() >= entry.refreshAt) {
+                staleHitCount.increment();
+                refreshInBackground(key, valueLoader, entry.value);
+            }
+            return (T) entry.value;
+        }
+
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = loading.putIfAbsent(key, created);
+        if (inFlight != null) {
+            loadWaitCount.increment();
+            return (T) await(key, valueLoader, inFlight);
+        }
+        return (T) load(key, valueLoader, created);
+    }
+
+    private void refreshInBackground(Object key, Callable<?> valueLoader, Object staleValue) {
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        if (loading.putIfAbsent(key, created) != null) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    load(key, valueLoader, created);
+                } catch (RuntimeException e) {
+                    log.warn("통계 응답을 다시 계산하지 못해 이전 응답을 계속 사용합니다. key={}, {}", key, e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 갱신 작업이 밀려 있으면 이번에는 다시 계산하지 않고, 그 사이 기다리던 요청에는 이전 응답을 줍니다.
+            loading.remove(key, created);
+            created.complete(staleValue);
+        }
+    }
+
+    private Object load(Object key, Callable<?> valueLoader, CompletableFuture<Object> created) {
+        try {
+            Object value = valueLoader.call();
+            put(key, new Entry(value, System.currentTimeMillis() + freshMillis));
+            created.complete(value);
+            return value;
+        } catch (Exception e) {
+            created.completeExceptionally(e);
+            throw rethrow(key, valueLoader, e);
+        } finally {
+            loading.remove(key, created);
+        }
+    }
+
+    private Object await(Object key, Callable<?> valueLoader, CompletableFuture<Object> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            throw rethrow(key, valueLoader, e.getCause());
+        }
+    }
+
+    private RuntimeException rethrow(Object key, Callable<?> valueLoader, Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new ValueRetrievalException(key, valueLoader, cause);
+    }
+
+    public long getStaleHitCount() {
+        return staleHitCount.sum();
+    }
+
+    public long getLoadWaitCount() {
+        return loadWaitCount.sum();
+    }
+
+    private record Entry(Object value, long refreshAt) {
+    }
+}
@@ -0,0 +1,116 @@
+package com.quartz.checkin.common.cache;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * 필터별 티켓 개수를 보관합니다. 요청자 키는 사용자별로 색인해 티켓이 변경된 사용자의 키만 제거하고,
+ * 요청자 필터가 없는 키(담당자 목록)는 세대 번호를 함께 저장해 세대가 바뀌면 조회되지 않도록 합니다.
+ * 개수를 세는 도중 무효화가 일어났다면 변경 전 상태로 센 값일 수 있으므로 저장한 값을 다시 제거합니다.
+ */
+public class TicketCountCache extends BoundedTtlCache {
+
+    private final AtomicLong generation = new AtomicLong();
+    private final Map<Long, Set<Object>> keysByMember = new ConcurrentHashMap<>();
+
+    public TicketCountCache(String name, int maxSize, long ttlMillis, ExpirationTimingWheel expirationTimingWheel) {
+        super(name, maxSize, ttlMillis, expirationTimingWheel);
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object value = super.lookup(key);
+        if (value instanceof GlobalCount globalCount) {
+            return globalCount.generation() == generation.get() ? globalCount.count() : null;
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+
+        long observed = generation.get();
+        T loaded;
+        try {
+            loaded = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, loaded, observed);
+        if (memberIdOf(key) != null && generation.get() != observed) {
+            evict(key);
+        }
+        return loaded;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        put(key, value, generation.get());
+    }
+
+    private void put(Object key, Object value, long observedGeneration) {
+        Long memberId = memberIdOf(key);
+        if (memberId == null) {
+            // 세는 도중 세대가 바뀌었다면 이전 세대로 저장되므로 다음 조회에서 다시 셉니다.
+            super.put(key, new GlobalCount(observedGeneration, value));
+            return;
+        }
+        keysByMember.computeIfAbsent(memberId, id -> ConcurrentHashMap.newKeySet()).add(key);
+        super.put(key, value);
+    }
+
+    // 전체 조회 키는 세대만 올려 무효화하므로, 무효화 비용은 변경된 사용자의 키 수에만 비례합니다.
+    public void invalidateMembers(Set<Long> memberIds) {
+        generation.incrementAndGet();
+        for (Long memberId : memberIds) {
+            Set<Object> keys = keysByMember.remove(memberId);
+            if (keys != null) {
+                keys.forEach(super::evict);
+            }
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        super.evict(key);
+        unindex(key);
+    }
+
+    @Override
+    public void clear() {
+        generation.incrementAndGet();
+        super.clear();
+        keysByMember.clear();
+    }
+
+    @Override
+    protected void onRemoved(Object key, Object value) {
+        unindex(key);
+    }
+
+    private void unindex(Object key) {
+        Long memberId = memberIdOf(key);
+        if (memberId == null) {
+            return;
+        }
+        keysByMember.computeIfPresent(memberId, (id, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+
+    private static Long memberIdOf(Object key) {
+        return ((TicketCountKey) key).memberId();
+    }
+
+    private record GlobalCount(long generation, Object count) {
+    }
+}
@@ -0,0 +1,55 @@
+package com.quartz.checkin.common.cache;
+
+import com.quartz.checkin.entity.Priority;
+import com.quartz.checkin.entity.Status;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/*
+ * 티켓 목록 필터를 정규화한 개수 캐시 키입니다.
+ * 목록 값은 순서와 중복을 없애고, 마감일 필터는 기준 날짜를 포함해 날짜가 바뀌면 다른 키가 됩니다.
+ */
+public record TicketCountKey(
+        Long memberId,
+        String keyword,
+        List<Status> statuses,
+        List<Long> managerIds,
+        List<Long> categoryIds,
+        List<Priority> priorities,
+        boolean dueToday,
+        boolean dueThisWeek,
+        LocalDate baseDate
+) {
+
+    public static TicketCountKey of(Long memberId, String keyword, List<Status> statuses, List<Long> managerIds,
+                                    List<Long> categoryIds, List<Priority> priorities,
+                                    Boolean dueToday, Boolean dueThisWeek) {
+        boolean today = Boolean.TRUE.equals(dueToday);
+        boolean thisWeek = Boolean.TRUE.equals(dueThisWeek);
+
+        return new TicketCountKey(
+                memberId,
+                keyword == null || keyword.isBlank() ? null : keyword.toLowerCase(),
+                normalize(statuses),
+                normalize(managerIds),
+                normalize(categoryIds),
+                normalize(priorities),
+                today,
+                thisWeek,
+                today || thisWeek ? LocalDate.now() : null
+        );
+    }
+
+    private static <T extends Comparable<? super T>> List<T> normalize(Collection<T> values) {
+        if (values == null || values.isEmpty()) {
+            return List.of();
+        }
+        return values.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .sorted()
+                .toList();
+    }
+}
@@ -1,78 +1,195 @@
 package com.quartz.checkin.common.cache;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import com.quartz.checkin.common.TokenDigestUtils;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.concurrent.ConcurrentMapCache;
-import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
 
+/*
+ * 토큰 원문 대신 64비트 다이제스트를 키로, 토큰 만료 시각을 값으로 박싱 없는 long -> long 맵에 저장합니다.
+ * 블룸 필터를 먼저 확인하므로 블랙리스트에 없는 대부분의 토큰은 맵을 조회하지 않습니다.
+ * 로그아웃된 토큰이 만료 전에 다시 통과하면 안 되므로 크기 제한으로 항목을 버리지 않고, 토큰 만료 시각에만 제거합니다.
+ */
 @Slf4j
-public class TokenBlacklistCache extends ConcurrentMapCache {
+public class TokenBlacklistCache extends AbstractValueAdaptingCache {
 
-    private final Map<String, Long> cache = new ConcurrentHashMap<>();
-    private static final long TTL = 60 * 60 * 1000; // 1시간
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int EXPECTED_INSERTIONS = 100_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final int MIN_REBUILD_THRESHOLD = 1024;
 
-    public TokenBlacklistCache(String name) {
-        super(name);
+    private final String name;
+    private final ExpirationTimingWheel expirationTimingWheel;
+    private final LongLongHashMap entries = new LongLongHashMap(INITIAL_CAPACITY);
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder putCount = new LongAdder();
+    private final LongAdder expirationCount = new LongAdder();
+    private volatile LongBloomFilter bloomFilter = newBloomFilter();
+    private int removedSinceRebuild;
+
+    public TokenBlacklistCache(String name, ExpirationTimingWheel expirationTimingWheel) {
+        super(false);
+        this.name = name;
+        this.expirationTimingWheel = expirationTimingWheel;
     }
 
     @Override
-    public ValueWrapper get(Object key) {
-        Object value = lookup(key);
-        if (value != null) {
-            return new SimpleValueWrapper(value);
-        }
-        return null;
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return entries;
     }
 
     @Override
     protected Object lookup(Object key) {
-        String k = (String) key;
-        Long blockedAt = cache.get(k);
-        if (blockedAt == null) {
-            log.info("토큰({})은 블랙리스트에 존재하지 않습니다.",k);
-            return null;
+        long expiresAt = getExpiresAt(TokenDigestUtils.digestToLong((String) key));
+        return expiresAt != LongLongHashMap.NO_VALUE ? expiresAt : null;
+    }
+
+    // 다이제스트를 이미 계산한 호출자는 토큰을 다시 해시하지 않고 조회합니다.
+    public boolean containsDigest(long digest) {
+        return getExpiresAt(digest) != LongLongHashMap.NO_VALUE;
+    }
+
+    private long getExpiresAt(long digest) {
+        if (!bloomFilter.mightContain(digest)) {
+            missCount.increment();
+            return LongLongHashMap.NO_VALUE;
         }
-        if (isExpired(blockedAt)) {
-            log.info("토큰({})에 대한 블랙리스트 유효기간이 지났습니다. 캐시에서 제거합니다.");
-            cache.remove(key);
-            return null;
+
+        long expiresAt;
+        synchronized (entries) {
+            expiresAt = entries.get(digest);
         }
-        return blockedAt;
+        if (expiresAt == LongLongHashMap.NO_VALUE || System.currentTimeMillis() >= expiresAt) {
+            log.info("토큰은 블랙리스트에 존재하지 않습니다.");
+            missCount.increment();
+            return LongLongHashMap.NO_VALUE;
+        }
+        hitCount.increment();
+        return expiresAt;
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object value = lookup(key);
+        if (value != null) {
+            return (T) fromStoreValue(value);
+        }
+        try {
+            T loaded = valueLoader.call();
+            put(key, loaded);
+            return loaded;
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
 
+    // value는 토큰의 만료 시각(epoch millis)입니다. 블랙리스트 항목은 토큰이 만료되는 시점까지만 유지됩니다.
     @Override
     public void put(Object key, Object value) {
-        String k = (String) key;
-        log.info("토큰{{}}를 블랙리스트에 기록합니다.", k);
-        cache.put(k, (Long) value);
+        putDigest(TokenDigestUtils.digestToLong((String) key), (Long) value);
+    }
+
+    // 다른 노드에서 전달받은 항목은 토큰 원문 없이 다이제스트로만 기록합니다.
+    public void putDigest(long digest, long expiresAt) {
+        if (System.currentTimeMillis() >= expiresAt) {
+            return;
+        }
+
+        log.info("토큰을 블랙리스트에 기록합니다.");
+        synchronized (entries) {
+            // 같은 토큰이 여러 번 기록되면 더 늦은 만료 시각을 유지합니다.
+            entries.put(digest, Math.max(entries.get(digest), expiresAt));
+            bloomFilter.put(digest);
+        }
+        putCount.increment();
+        expirationTimingWheel.schedule(digest, expiresAt, this::expireEntry);
     }
 
     @Override
     public void evict(Object key) {
-        String k = (String) key;
-        log.info("토큰{{}}를 블랙리스트에서 제거합니다. ", k);
-        cache.remove(k);
+        evictDigest(TokenDigestUtils.digestToLong((String) key));
+    }
+
+    public void evictDigest(long digest) {
+        log.info("토큰을 블랙리스트에서 제거합니다.");
+        synchronized (entries) {
+            if (entries.remove(digest)) {
+                onRemoved();
+            }
+        }
     }
 
     @Override
     public void clear() {
-        cache.clear();
+        synchronized (entries) {
+            entries.clear();
+            bloomFilter = newBloomFilter();
+            removedSinceRebuild = 0;
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getPutCount() {
+        return putCount.sum();
+    }
+
+    public long getExpirationCount() {
+        return expirationCount.sum();
+    }
+
+    // 더 늦은 만료 시각으로 다시 기록된 항목은 이전 예약으로 제거하지 않습니다.
+    private void expireEntry(Object key, long deadline) {
+        long digest = (Long) key;
+        synchronized (entries) {
+            long expiresAt = entries.get(digest);
+            if (expiresAt == LongLongHashMap.NO_VALUE || System.currentTimeMillis() < expiresAt) {
+                return;
+            }
+            entries.remove(digest);
+            onRemoved();
+        }
+        expirationCount.increment();
+    }
+
+    // 블룸 필터는 삭제를 지원하지 않으므로, 제거된 항목이 충분히 쌓이면 남은 항목으로 새로 만든 뒤 교체합니다.
+    private void onRemoved() {
+        if (++removedSinceRebuild < Math.max(MIN_REBUILD_THRESHOLD, entries.size())) {
+            return;
+        }
+        LongBloomFilter rebuilt = newBloomFilter(entries.size());
+        entries.forEachKey(rebuilt::put);
+        bloomFilter = rebuilt;
+        removedSinceRebuild = 0;
+        log.info("토큰 블랙리스트 블룸 필터를 재구성했습니다. 남은 토큰 {}개", entries.size());
     }
 
-    private boolean isExpired(Long blockedAt) {
-        return System.currentTimeMillis() - blockedAt > TTL;
+    private static LongBloomFilter newBloomFilter() {
+        return newBloomFilter(0);
     }
 
-    public void evictAllExpiredData() {
-        log.info("토큰 블랙리스트 캐시에 대한 정리를 시작합니다.");
-        cache.keySet()
-                .stream()
-                .filter(k -> isExpired(cache.get(k)))
-                .forEach(k -> {
-                    log.info("키 {}를 블랙리스트 캐시에서 삭제합니다.", k);
-                    this.evict(k);
-                });
+    // 크기 제한이 없으므로 재구성할 때는 남은 항목 수에 맞춰 필터를 키웁니다.
+    private static LongBloomFilter newBloomFilter(int size) {
+        return new LongBloomFilter(Math.max(EXPECTED_INSERTIONS, size * 2), FALSE_POSITIVE_RATE);
     }
 }
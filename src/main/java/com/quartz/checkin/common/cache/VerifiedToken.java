@@ -0,0 +1,16 @@
+package com.quartz.checkin.common.cache;
+
+import com.quartz.checkin.security.CustomUser;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class VerifiedToken {
+    private final CustomUser principal;
+    private final long expiresAt;
+
+    public boolean isExpired() {
+        return System.currentTimeMillis() >= expiresAt;
+    }
+}
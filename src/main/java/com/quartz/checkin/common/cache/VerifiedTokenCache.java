@@ -0,0 +1,15 @@
+package com.quartz.checkin.common.cache;
+
+public class VerifiedTokenCache extends BoundedTtlCache {
+
+    public VerifiedTokenCache(String name, int maxSize, ExpirationTimingWheel expirationTimingWheel) {
+        super(name, maxSize, 0L, expirationTimingWheel);
+    }
+
+    // 검증된 토큰은 토큰 자체의 만료 시각까지만 유지합니다.
+    @Override
+    public void put(Object key, Object value) {
+        VerifiedToken verifiedToken = (VerifiedToken) value;
+        super.put(key, verifiedToken, verifiedToken.getExpiresAt());
+    }
+}
@@ -9,6 +9,7 @@ public enum ErrorCode {
     INVALID_DATA(HttpStatus.BAD_REQUEST, "COMMON_4000", "필수로 요구되는 데이터가 비어있거나 규칙에 맞지 않습니다."),
     INVALID_PAGE_NUMBER(HttpStatus.BAD_REQUEST, "COMMON_4001", "페이지 번호가 유효하지 않습니다."),
     INVALID_PAGE_SIZE(HttpStatus.BAD_REQUEST, "COMMON_4002", "페이지 크기가 유효하지 않습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "COMMON_4003", "커서 값이 유효하지 않습니다."),
     INVALID_ACCESS_TOKEN(HttpStatus.UNAUTHORIZED, "COMMON_4010", "유효하지 않거나 만료된 accessToken입니다."),
     INVALID_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, "COMMON_4011", "유효하지 않거나 만료된 refreshToken입니다."),
     FORBIDDEN(HttpStatus.FORBIDDEN, "COMMON_4030", "접근 권한이 없습니다."),
@@ -18,6 +19,7 @@ public enum ErrorCode {
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "COMMON_5000", "서버 내부 오류가 발생했습니다."),
     DB_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "COMMON_5001", "데이터베이스 오류가 발생했습니다."),
     OBJECT_STORAGE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "COMMON_5002", "오브젝트 스토리지 오류가 발생했습니다."),
+    PASSWORD_HASHING_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "COMMON_5030", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
     INVALID_ORIGINAL_PASSWORD(HttpStatus.BAD_REQUEST, "MEMBER_4003", "현재 비밀번호가 일치하지 않습니다."),
     INVALID_NEW_PASSWORD(HttpStatus.BAD_REQUEST, "MEMBER_4004", "새 비밀번호가 기존 비밀번호와 동일합니다."),
@@ -30,6 +32,7 @@ public enum ErrorCode {
     MEMBER_NOT_SOFT_DELETED(HttpStatus.BAD_REQUEST, "MEMBER_4042", "소프트 딜리트된 회원이 아닙니다."),
     DUPLICATE_USERNAME(HttpStatus.CONFLICT, "MEMBER_4090", "이미 사용 중인 아이디입니다."),
     DUPLICATE_EMAIL(HttpStatus.CONFLICT, "MEMBER_4091", "이미 사용 중인 이메일 주소입니다."),
+    TOO_MANY_LOGIN_ATTEMPTS(HttpStatus.TOO_MANY_REQUESTS, "MEMBER_4290", "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요."),
 
     TEMPLATE_NOT_FOUND(HttpStatus.NOT_FOUND, "TEMPLATE_4040", "존재하지 않는 템플릿입니다."),
 
@@ -41,6 +44,9 @@ public enum ErrorCode {
     TICKET_ALREADY_ASSIGNED(HttpStatus.CONFLICT, "TICKET_4090", "이미 담당자가 할당된 상태입니다."),
     TICKET_ALREADY_ASSIGNED_TO_SELF(HttpStatus.CONFLICT, "TICKET_4091", "이미 본인이 담당자로 할당된 상태입니다."),
     DUPLICATE_TICKET_ID(HttpStatus.CONFLICT, "TICKET_4092", "중복되는 티켓 ID입니다."),
+    INVALID_IMPORT_FORMAT(HttpStatus.BAD_REQUEST, "TICKET_4010", "지원하지 않는 가져오기 형식입니다. NDJSON 또는 CSV만 가능합니다."),
+    IMPORT_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "TICKET_4041", "존재하지 않는 가져오기 작업입니다."),
+    TOO_MANY_IMPORT_JOBS(HttpStatus.TOO_MANY_REQUESTS, "TICKET_4290", "진행 중인 가져오기 작업이 많습니다. 잠시 후 다시 시도해주세요."),
 
     ATTACHMENT_LIMIT_EXCEEDED(HttpStatus.BAD_REQUEST,"ATTACHMENT_4000", "첨부파일은 최대 3개까지 첨부 가능합니다."),
     ATTACHMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "ATTACHMENT_4040", "존재하지 않는 첨부파일입니다."),
@@ -59,6 +65,8 @@ public enum ErrorCode {
     STATS_MISSING_DATE(HttpStatus.BAD_REQUEST, "STATS_4000", "시작 날짜 또는 종료 날짜가 누락되었습니다."),
     INVALID_STATS_PERIOD_FORMAT(HttpStatus.BAD_REQUEST, "STATS_4001", "날짜 형식이 올바르지 않습니다."),
     INVALID_STATS_DATE_RANGE(HttpStatus.BAD_REQUEST, "STATS_4002", "시작 날짜가 종료 날짜보다 큽니다."),
+    INVALID_STATS_TIMESERIES_DAYS(HttpStatus.BAD_REQUEST, "STATS_4003", "조회 일수가 보관 기간을 벗어났습니다."),
+    INVALID_STATS_TIMESERIES_FILTER(HttpStatus.BAD_REQUEST, "STATS_4004", "담당자와 카테고리 조건은 함께 사용할 수 없습니다."),
     STATS_MANAGER_NOT_FOUND(HttpStatus.NOT_FOUND, "STATS_4041", "존재하지 않는 담당자입니다.");
 
     private final HttpStatus status;
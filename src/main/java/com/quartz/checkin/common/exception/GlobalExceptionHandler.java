@@ -103,6 +103,12 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return handleExceptionInternal(ErrorCode.TOO_LARGE_FILE);
     }
 
+    @ExceptionHandler
+    public ResponseEntity<Object> handlePasswordHashingBusyException(PasswordHashingBusyException e) {
+        log.warn("비밀번호 해싱 작업이 포화 상태입니다.");
+        return handleExceptionInternal(ErrorCode.PASSWORD_HASHING_BUSY);
+    }
+
     @ExceptionHandler
     public ResponseEntity<Object> handleAccessDeniedException(AccessDeniedException e) {
         log.error("권한이 부족합니다. {}", e.getMessage());
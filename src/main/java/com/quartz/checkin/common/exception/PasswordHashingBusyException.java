@@ -0,0 +1,11 @@
+package com.quartz.checkin.common.exception;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+// 로그인 경로에서는 인증 실패 핸들러로, 그 외 경로에서는 GlobalExceptionHandler로 전달되어 503으로 응답합니다.
+public class PasswordHashingBusyException extends AuthenticationServiceException {
+
+    public PasswordHashingBusyException() {
+        super("비밀번호 해싱 작업이 포화 상태입니다.");
+    }
+}
@@ -0,0 +1,141 @@
+package com.quartz.checkin.common.importer;
+
+import com.quartz.checkin.dto.ticket.request.TicketImportRow;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/*
+ * 첫 행을 헤더로 사용하는 RFC 4180 형식의 CSV를 읽습니다. 따옴표로 감싼 필드 안의 쉼표와 줄바꿈을 허용합니다.
+ * 행 번호는 헤더를 제외한 레코드 번호입니다.
+ */
+public class CsvTicketImportRowReader implements TicketImportRowReader {
+
+    private static final List<String> COLUMNS =
+            List.of("username", "title", "content", "firstCategory", "secondCategory", "dueDate");
+
+    private final BufferedReader reader;
+    private final int[] columnIndexes = new int[COLUMNS.size()];
+    private long rowNumber = 0;
+
+    public CsvTicketImportRowReader(Reader reader) throws IOException {
+        this.reader = reader instanceof BufferedReader bufferedReader ? bufferedReader : new BufferedReader(reader);
+        readHeader();
+    }
+
+    @Override
+    public ParsedRow next() throws IOException {
+        List<String> record;
+        while ((record = readRecord()) != null) {
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+
+            rowNumber++;
+            return toRow(record);
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void readHeader() throws IOException {
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV 헤더가 없습니다.");
+        }
+
+        Map<String, Integer> positions = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).strip();
+            if (i == 0 && name.startsWith("\uFEFF")) {
+                name = name.substring(1);
+            }
+            positions.put(name.toLowerCase(Locale.ROOT), i);
+        }
+
+        for (int i = 0; i < COLUMNS.size(); i++) {
+            Integer position = positions.get(COLUMNS.get(i).toLowerCase(Locale.ROOT));
+            if (position == null) {
+                throw new IllegalArgumentException("CSV 헤더에 " + COLUMNS.get(i) + " 열이 없습니다.");
+            }
+            columnIndexes[i] = position;
+        }
+    }
+
+    private ParsedRow toRow(List<String> record) {
+        String[] values = new String[COLUMNS.size()];
+        for (int i = 0; i < COLUMNS.size(); i++) {
+            if (columnIndexes[i] >= record.size()) {
+                return ParsedRow.failure(rowNumber, "열 개수가 헤더와 일치하지 않습니다.");
+            }
+            values[i] = record.get(columnIndexes[i]);
+        }
+
+        LocalDate dueDate = null;
+        if (!values[5].isBlank()) {
+            try {
+                dueDate = LocalDate.parse(values[5].strip());
+            } catch (DateTimeParseException e) {
+                return ParsedRow.failure(rowNumber, "마감 기한은 yyyy-MM-dd 형식이어야 합니다.");
+            }
+        }
+
+        return ParsedRow.success(rowNumber,
+                new TicketImportRow(values[0], values[1], values[2], values[3], values[4], dueDate));
+    }
+
+    // 레코드 하나를 읽습니다. 파일 끝이면 null을 반환합니다.
+    private List<String> readRecord() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean read = false;
+
+        int c;
+        while ((c = reader.read()) != -1) {
+            read = true;
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        if (next != -1) {
+                            reader.reset();
+                        }
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+        }
+
+        if (!read) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
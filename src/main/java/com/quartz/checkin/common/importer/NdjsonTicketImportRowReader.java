@@ -0,0 +1,45 @@
+package com.quartz.checkin.common.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.quartz.checkin.dto.ticket.request.TicketImportRow;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+
+// 한 줄에 JSON 객체 하나씩 읽습니다. 행 번호는 파일의 줄 번호이며 빈 줄은 건너뜁니다.
+public class NdjsonTicketImportRowReader implements TicketImportRowReader {
+
+    private final BufferedReader reader;
+    private final ObjectReader objectReader;
+    private long lineNumber = 0;
+
+    public NdjsonTicketImportRowReader(Reader reader, ObjectMapper objectMapper) {
+        this.reader = reader instanceof BufferedReader bufferedReader ? bufferedReader : new BufferedReader(reader);
+        this.objectReader = objectMapper.readerFor(TicketImportRow.class);
+    }
+
+    @Override
+    public ParsedRow next() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+
+            try {
+                return ParsedRow.success(lineNumber, objectReader.readValue(line));
+            } catch (JsonProcessingException e) {
+                return ParsedRow.failure(lineNumber, "JSON 형식이 올바르지 않습니다: " + e.getOriginalMessage());
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
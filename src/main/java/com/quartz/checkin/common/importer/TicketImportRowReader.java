@@ -0,0 +1,28 @@
+package com.quartz.checkin.common.importer;
+
+import com.quartz.checkin.dto.ticket.request.TicketImportRow;
+import java.io.Closeable;
+import java.io.IOException;
+
+// 가져오기 파일을 한 행씩 읽습니다. 파일 전체를 메모리에 올리지 않습니다.
+public interface TicketImportRowReader extends Closeable {
+
+    // 더 읽을 행이 없으면 null을 반환합니다.
+    ParsedRow next() throws IOException;
+
+    // 형식 오류가 있는 행은 row가 null이고 error에 사유가 담깁니다.
+    record ParsedRow(long rowNumber, TicketImportRow row, String error) {
+
+        public static ParsedRow success(long rowNumber, TicketImportRow row) {
+            return new ParsedRow(rowNumber, row, null);
+        }
+
+        public static ParsedRow failure(long rowNumber, String error) {
+            return new ParsedRow(rowNumber, null, error);
+        }
+
+        public boolean hasError() {
+            return error != null;
+        }
+    }
+}
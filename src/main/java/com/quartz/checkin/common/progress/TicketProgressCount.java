@@ -0,0 +1,6 @@
+package com.quartz.checkin.common.progress;
+
+// 담당자별로 집계한 진행률 개수입니다. 담당자가 없는 티켓은 managerId가 null인 행으로 집계됩니다.
+public record TicketProgressCount(Long managerId, long open, long inProgress, long closed, long dueToday,
+                                  long total) {
+}
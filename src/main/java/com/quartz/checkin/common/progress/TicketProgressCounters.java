@@ -0,0 +1,99 @@
+package com.quartz.checkin.common.progress;
+
+import com.quartz.checkin.dto.ticket.response.TicketProgressResponse;
+import com.quartz.checkin.entity.Status;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * 담당자 진행률 화면의 개수를 메모리에 유지합니다.
+ * 전체 미처리 티켓 수와 전체 티켓 수, 담당자별 진행 중, 완료, 오늘 마감 티켓 수를 LongAdder로 세며,
+ * 오늘 마감 개수는 baseDate 기준이므로 날짜가 바뀌면 새로 집계해야 합니다.
+ */
+public class TicketProgressCounters {
+
+    private final LocalDate baseDate;
+    private final LongAdder open = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final Map<Long, ManagerCounters> managers = new ConcurrentHashMap<>();
+
+    public TicketProgressCounters(LocalDate baseDate) {
+        this.baseDate = baseDate;
+    }
+
+    public static TicketProgressCounters of(LocalDate baseDate, List<TicketProgressCount> counts) {
+        TicketProgressCounters counters = new TicketProgressCounters(baseDate);
+        for (TicketProgressCount count : counts) {
+            counters.open.add(count.open());
+            counters.total.add(count.total());
+            if (count.managerId() != null) {
+                ManagerCounters manager = counters.manager(count.managerId());
+                manager.inProgress.add(count.inProgress());
+                manager.closed.add(count.closed());
+                manager.dueToday.add(count.dueToday());
+            }
+        }
+        return counters;
+    }
+
+    public LocalDate getBaseDate() {
+        return baseDate;
+    }
+
+    // 변경 전 상태를 빼고 변경 후 상태를 더합니다.
+    public void apply(List<TicketProgressState> before, List<TicketProgressState> after) {
+        before.forEach(state -> add(state, -1));
+        after.forEach(state -> add(state, 1));
+    }
+
+    public TicketProgressResponse snapshot(Long managerId) {
+        ManagerCounters manager = managers.get(managerId);
+        long inProgress = manager != null ? manager.inProgress.sum() : 0L;
+        long closed = manager != null ? manager.closed.sum() : 0L;
+        long dueToday = manager != null ? manager.dueToday.sum() : 0L;
+        long totalTickets = total.sum();
+
+        String progressExpression = totalTickets > 0
+                ? String.format("%d / %d", inProgress + closed, totalTickets)
+                : "0 / 0";
+
+        return new TicketProgressResponse(dueToday, open.sum(), inProgress, closed, progressExpression);
+    }
+
+    private void add(TicketProgressState state, int sign) {
+        if (state == null || state.deleted()) {
+            return;
+        }
+
+        total.add(sign);
+        if (state.status() == Status.OPEN) {
+            open.add(sign);
+        }
+        if (state.managerId() == null) {
+            return;
+        }
+
+        ManagerCounters manager = manager(state.managerId());
+        if (state.status() == Status.IN_PROGRESS) {
+            manager.inProgress.add(sign);
+        } else if (state.status() == Status.CLOSED) {
+            manager.closed.add(sign);
+        }
+        if (baseDate.equals(state.dueDate())) {
+            manager.dueToday.add(sign);
+        }
+    }
+
+    private ManagerCounters manager(Long managerId) {
+        return managers.computeIfAbsent(managerId, id -> new ManagerCounters());
+    }
+
+    private static final class ManagerCounters {
+        private final LongAdder inProgress = new LongAdder();
+        private final LongAdder closed = new LongAdder();
+        private final LongAdder dueToday = new LongAdder();
+    }
+}
@@ -0,0 +1,38 @@
+package com.quartz.checkin.common.progress;
+
+import com.quartz.checkin.entity.Status;
+import com.quartz.checkin.entity.TicketView;
+import java.time.LocalDate;
+
+// 진행률 개수에 영향을 주는 티켓 값입니다. 삭제된 티켓은 어떤 개수에도 포함되지 않습니다.
+public record TicketProgressState(Long managerId, Status status, LocalDate dueDate, boolean deleted) {
+
+    private static final String SEPARATOR = ",";
+
+    public static TicketProgressState from(TicketView view) {
+        return new TicketProgressState(view.getManagerId(), view.getStatus(), view.getDueDate(),
+                view.getDeletedAt() != null);
+    }
+
+    // 다른 노드에 보낼 때는 개수에 포함되지 않는 상태(없음, 삭제됨)를 빈 문자열로 표현합니다.
+    public static String encode(TicketProgressState state) {
+        if (state == null || state.deleted()) {
+            return "";
+        }
+        return (state.managerId() != null ? state.managerId() : "") + SEPARATOR
+                + state.status() + SEPARATOR
+                + (state.dueDate() != null ? state.dueDate() : "");
+    }
+
+    public static TicketProgressState decode(String value) {
+        if (value.isEmpty()) {
+            return null;
+        }
+        String[] fields = value.split(SEPARATOR, -1);
+        return new TicketProgressState(
+                fields[0].isEmpty() ? null : Long.valueOf(fields[0]),
+                Status.valueOf(fields[1]),
+                fields[2].isEmpty() ? null : LocalDate.parse(fields[2]),
+                false);
+    }
+}
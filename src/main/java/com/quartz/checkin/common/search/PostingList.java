@@ -0,0 +1,89 @@
+package com.quartz.checkin.common.search;
+
+import java.util.Arrays;
+
+/*
+ * 한 색인어가 등장한 문서 번호와 빈도를 가변 길이 정수(varint)로 압축해 저장합니다.
+ * 문서 번호는 증가하는 순서로만 추가되므로 이전 번호와의 차이만 기록하며, 대부분 1~2바이트에 들어갑니다.
+ */
+public class PostingList {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private byte[] bytes = new byte[INITIAL_CAPACITY];
+    private int length;
+    private int size;
+    private int lastDocId = -1;
+
+    public void add(int docId, int frequency) {
+        if (docId <= lastDocId) {
+            throw new IllegalArgumentException("문서 번호는 증가하는 순서로 추가해야 합니다.");
+        }
+        writeVarInt(docId - lastDocId - 1);
+        writeVarInt(frequency);
+        lastDocId = docId;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int sizeInBytes() {
+        return length;
+    }
+
+    public void forEach(PostingConsumer consumer) {
+        int position = 0;
+        int docId = -1;
+        while (position < length) {
+            int delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = bytes[position++];
+                delta |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+
+            int frequency = 0;
+            shift = 0;
+            do {
+                b = bytes[position++];
+                frequency |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+
+            docId += delta + 1;
+            consumer.accept(docId, frequency);
+        }
+    }
+
+    // 삭제된 문서를 빼고 번호를 새로 매긴 목록을 만듭니다. 새 번호는 기존 순서를 유지해야 합니다.
+    public PostingList remap(int[] newDocIds) {
+        PostingList remapped = new PostingList();
+        forEach((docId, frequency) -> {
+            int newDocId = newDocIds[docId];
+            if (newDocId >= 0) {
+                remapped.add(newDocId, frequency);
+            }
+        });
+        return remapped;
+    }
+
+    private void writeVarInt(int value) {
+        if (length + 5 > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + 5));
+        }
+        while ((value & ~0x7F) != 0) {
+            bytes[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[length++] = (byte) value;
+    }
+
+    @FunctionalInterface
+    public interface PostingConsumer {
+        void accept(int docId, int frequency);
+    }
+}
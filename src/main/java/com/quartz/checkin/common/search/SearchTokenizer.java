@@ -0,0 +1,89 @@
+package com.quartz.checkin.common.search;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/*
+ * 공백과 문장 부호로 단어를 나누고, 한글 음절 구간은 두 글자씩(bigram) 잘라 색인어를 만듭니다.
+ * 한국어는 조사가 붙어 단어 단위로는 "서버가"와 "서버"가 일치하지 않으므로 bigram으로 부분 일치를 찾고,
+ * 영문과 숫자 구간은 단어 그대로 색인합니다. 문서에는 한글 구간의 마지막 음절도 따로 색인해, 한 음절 검색어를
+ * 그 음절로 시작하는 색인어의 접두사 검색으로 찾으면 구간의 어느 위치에 있든 일치하도록 합니다.
+ */
+public final class SearchTokenizer {
+
+    private static final char HANGUL_SYLLABLE_START = '가';
+    private static final char HANGUL_SYLLABLE_END = '힣';
+
+    private static final int SEPARATOR = 0;
+    private static final int HANGUL = 1;
+    private static final int WORD = 2;
+
+    private SearchTokenizer() {
+    }
+
+    // 문서 색인용으로, 빈도를 세기 위해 중복을 그대로 돌려줍니다.
+    public static List<String> tokenize(String text) {
+        return split(text, true);
+    }
+
+    // 검색어는 문서와 같은 규칙으로 나누되 마지막 음절은 따로 만들지 않으며, 모든 색인어를 포함한 문서만 일치합니다.
+    public static Set<String> queryTerms(String query) {
+        return new LinkedHashSet<>(split(query, false));
+    }
+
+    public static boolean isHangul(String term) {
+        return !term.isEmpty() && kindOf(term.charAt(0)) == HANGUL;
+    }
+
+    private static List<String> split(String text, boolean lastSyllable) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return terms;
+        }
+
+        String normalized = text.toLowerCase(Locale.ROOT);
+        int length = normalized.length();
+        int start = 0;
+        while (start < length) {
+            int kind = kindOf(normalized.charAt(start));
+            int end = start + 1;
+            while (end < length && kindOf(normalized.charAt(end)) == kind) {
+                end++;
+            }
+
+            if (kind == HANGUL) {
+                addHangulTerms(normalized, start, end, lastSyllable, terms);
+            } else if (kind == WORD) {
+                terms.add(normalized.substring(start, end));
+            }
+            start = end;
+        }
+        return terms;
+    }
+
+    private static void addHangulTerms(String text, int start, int end, boolean lastSyllable, List<String> terms) {
+        if (end - start == 1) {
+            terms.add(text.substring(start, end));
+            return;
+        }
+        for (int i = start; i < end - 1; i++) {
+            terms.add(text.substring(i, i + 2));
+        }
+        if (lastSyllable) {
+            terms.add(text.substring(end - 1, end));
+        }
+    }
+
+    private static int kindOf(char c) {
+        if (c >= HANGUL_SYLLABLE_START && c <= HANGUL_SYLLABLE_END) {
+            return HANGUL;
+        }
+        if (Character.isLetterOrDigit(c)) {
+            return WORD;
+        }
+        return SEPARATOR;
+    }
+}
@@ -0,0 +1,9 @@
+package com.quartz.checkin.common.search;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 색인 단위는 티켓이며, 댓글 본문은 해당 티켓 문서에 함께 포함됩니다.
+public record TicketSearchDocument(Long ticketId, Long userId, LocalDateTime createdAt,
+                                   String title, String content, List<String> comments) {
+}
@@ -0,0 +1,6 @@
+package com.quartz.checkin.common.search;
+
+import java.time.LocalDateTime;
+
+public record TicketSearchHit(Long ticketId, LocalDateTime createdAt, double score) {
+}
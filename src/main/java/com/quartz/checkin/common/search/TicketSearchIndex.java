@@ -0,0 +1,300 @@
+package com.quartz.checkin.common.search;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/*
+ * 티켓 제목, 본문, 댓글로 만든 메모리 역색인입니다.
+ * 문서를 수정하면 기존 문서 번호를 삭제 표시하고 새 번호로 다시 추가하며, 삭제된 번호가 살아 있는 문서보다 많아지면
+ * 목록을 다시 압축합니다. 검색은 모든 색인어를 포함한 문서를 BM25 점수와 함께 돌려주고, 제목의 색인어는 가중치를 더 줍니다.
+ * 한 음절 한글 검색어와 입력 중인 마지막 영문 단어는 접두사로 찾으며, 접두사에 해당하는 색인어를 빠짐없이 합칩니다.
+ */
+public class TicketSearchIndex {
+
+    public static final int TITLE_WEIGHT = 3;
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MIN_COMPACTION_DOCS = 1024;
+    // 한 글자 영문 접두사는 거의 모든 색인어로 확장되므로 접두사로 찾지 않고 그 단어와 정확히 일치하는 문서만 찾습니다.
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> docIdByTicketId = new HashMap<>();
+
+    private TreeMap<String, PostingList> postings = new TreeMap<>();
+    private long[] ticketIds = new long[INITIAL_CAPACITY];
+    private long[] userIds = new long[INITIAL_CAPACITY];
+    private LocalDateTime[] createdAts = new LocalDateTime[INITIAL_CAPACITY];
+    private int[] lengths = new int[INITIAL_CAPACITY];
+    private BitSet liveDocs = new BitSet();
+    private int nextDocId;
+    private long totalLength;
+
+    public void upsert(TicketSearchDocument document) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        int length = addTerms(frequencies, document.title(), TITLE_WEIGHT);
+        length += addTerms(frequencies, document.content(), 1);
+        if (document.comments() != null) {
+            for (String comment : document.comments()) {
+                length += addTerms(frequencies, comment, 1);
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeDocument(document.ticketId());
+
+            int docId = nextDocId++;
+            ensureCapacity(docId + 1);
+            ticketIds[docId] = document.ticketId();
+            userIds[docId] = document.userId();
+            createdAts[docId] = document.createdAt();
+            lengths[docId] = length;
+            liveDocs.set(docId);
+            docIdByTicketId.put(document.ticketId(), docId);
+            totalLength += length;
+
+            frequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, key -> new PostingList()).add(docId, frequency));
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long ticketId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(ticketId);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docIdByTicketId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ownerId가 있으면 해당 사용자가 작성한 티켓만 돌려줍니다.
+    public List<TicketSearchHit> search(String query, Long ownerId) {
+        List<String> terms = new ArrayList<>(SearchTokenizer.queryTerms(query));
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            int liveCount = docIdByTicketId.size();
+            if (liveCount == 0) {
+                return List.of();
+            }
+            double averageLength = Math.max(1.0, (double) totalLength / liveCount);
+
+            List<ScoredDocs> matches = new ArrayList<>(terms.size());
+            for (int i = 0; i < terms.size(); i++) {
+                String term = terms.get(i);
+                boolean prefix = SearchTokenizer.isHangul(term)
+                        ? term.length() == 1
+                        : i == terms.size() - 1 && term.length() >= MIN_PREFIX_LENGTH;
+                ScoredDocs termMatches = prefix
+                        ? matchPrefix(term, liveCount, averageLength)
+                        : matchTerm(term, liveCount, averageLength);
+                if (termMatches.size == 0) {
+                    return List.of();
+                }
+                matches.add(termMatches);
+            }
+
+            matches.sort(Comparator.comparingInt(scoredDocs -> scoredDocs.size));
+            ScoredDocs result = matches.get(0);
+            for (int i = 1; i < matches.size() && result.size > 0; i++) {
+                result = result.intersect(matches.get(i));
+            }
+
+            List<TicketSearchHit> hits = new ArrayList<>(result.size);
+            for (int i = 0; i < result.size; i++) {
+                int docId = result.docIds[i];
+                if (!liveDocs.get(docId) || (ownerId != null && userIds[docId] != ownerId)) {
+                    continue;
+                }
+                hits.add(new TicketSearchHit(ticketIds[docId], createdAts[docId], result.scores[i]));
+            }
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int addTerms(Map<String, Integer> frequencies, String text, int weight) {
+        List<String> terms = SearchTokenizer.tokenize(text);
+        for (String term : terms) {
+            frequencies.merge(term, weight, Integer::sum);
+        }
+        return terms.size();
+    }
+
+    private void removeDocument(Long ticketId) {
+        Integer docId = docIdByTicketId.remove(ticketId);
+        if (docId == null) {
+            return;
+        }
+        liveDocs.clear(docId);
+        createdAts[docId] = null;
+        totalLength -= lengths[docId];
+    }
+
+    private ScoredDocs matchTerm(String term, int liveCount, double averageLength) {
+        PostingList postingList = postings.get(term);
+        if (postingList == null) {
+            return ScoredDocs.EMPTY;
+        }
+
+        double idf = idf(postingList.size(), liveCount);
+        ScoredDocs scoredDocs = new ScoredDocs(postingList.size());
+        postingList.forEach((docId, frequency) ->
+                scoredDocs.append(docId, score(idf, frequency, docId, averageLength)));
+        return scoredDocs;
+    }
+
+    // 확장된 색인어의 점수를 문서 번호 배열에 더하므로 비용은 일치한 목록 길이의 합에 비례합니다.
+    private ScoredDocs matchPrefix(String prefix, int liveCount, double averageLength) {
+        double[] scores = new double[nextDocId];
+        BitSet matched = new BitSet(nextDocId);
+        for (PostingList postingList : postings.subMap(prefix, true, prefix + Character.MAX_VALUE, true).values()) {
+            double idf = idf(postingList.size(), liveCount);
+            postingList.forEach((docId, frequency) -> {
+                scores[docId] += score(idf, frequency, docId, averageLength);
+                matched.set(docId);
+            });
+        }
+
+        ScoredDocs scoredDocs = new ScoredDocs(matched.cardinality());
+        for (int docId = matched.nextSetBit(0); docId >= 0; docId = matched.nextSetBit(docId + 1)) {
+            scoredDocs.append(docId, scores[docId]);
+        }
+        return scoredDocs;
+    }
+
+    private double idf(int documentFrequency, int liveCount) {
+        int df = Math.min(documentFrequency, liveCount);
+        return Math.log(1 + (liveCount - df + 0.5) / (df + 0.5));
+    }
+
+    private double score(double idf, int frequency, int docId, double averageLength) {
+        double normalization = K1 * (1 - B + B * lengths[docId] / averageLength);
+        return idf * frequency * (K1 + 1) / (frequency + normalization);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= ticketIds.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, ticketIds.length * 2);
+        ticketIds = Arrays.copyOf(ticketIds, newCapacity);
+        userIds = Arrays.copyOf(userIds, newCapacity);
+        createdAts = Arrays.copyOf(createdAts, newCapacity);
+        lengths = Arrays.copyOf(lengths, newCapacity);
+    }
+
+    private void compactIfNeeded() {
+        int liveCount = docIdByTicketId.size();
+        int deletedCount = nextDocId - liveCount;
+        if (deletedCount < MIN_COMPACTION_DOCS || deletedCount <= liveCount) {
+            return;
+        }
+
+        int[] newDocIds = new int[nextDocId];
+        int next = 0;
+        for (int docId = 0; docId < nextDocId; docId++) {
+            newDocIds[docId] = liveDocs.get(docId) ? next++ : -1;
+        }
+
+        TreeMap<String, PostingList> compacted = new TreeMap<>();
+        postings.forEach((term, postingList) -> {
+            PostingList remapped = postingList.remap(newDocIds);
+            if (remapped.size() > 0) {
+                compacted.put(term, remapped);
+            }
+        });
+
+        int capacity = Math.max(INITIAL_CAPACITY, next);
+        long[] newTicketIds = new long[capacity];
+        long[] newUserIds = new long[capacity];
+        LocalDateTime[] newCreatedAts = new LocalDateTime[capacity];
+        int[] newLengths = new int[capacity];
+        for (int docId = 0; docId < nextDocId; docId++) {
+            int newDocId = newDocIds[docId];
+            if (newDocId >= 0) {
+                newTicketIds[newDocId] = ticketIds[docId];
+                newUserIds[newDocId] = userIds[docId];
+                newCreatedAts[newDocId] = createdAts[docId];
+                newLengths[newDocId] = lengths[docId];
+            }
+        }
+
+        docIdByTicketId.replaceAll((ticketId, docId) -> newDocIds[docId]);
+        postings = compacted;
+        ticketIds = newTicketIds;
+        userIds = newUserIds;
+        createdAts = newCreatedAts;
+        lengths = newLengths;
+        liveDocs = new BitSet(next);
+        liveDocs.set(0, next);
+        nextDocId = next;
+    }
+
+    // 문서 번호 오름차순으로 정렬된 (문서 번호, 점수) 목록입니다.
+    private static final class ScoredDocs {
+
+        private static final ScoredDocs EMPTY = new ScoredDocs(0);
+
+        private final int[] docIds;
+        private final double[] scores;
+        private int size;
+
+        private ScoredDocs(int capacity) {
+            this.docIds = new int[capacity];
+            this.scores = new double[capacity];
+        }
+
+        private void append(int docId, double score) {
+            docIds[size] = docId;
+            scores[size] = score;
+            size++;
+        }
+
+        private ScoredDocs intersect(ScoredDocs other) {
+            ScoredDocs result = new ScoredDocs(Math.min(size, other.size));
+            int i = 0;
+            int j = 0;
+            while (i < size && j < other.size) {
+                if (docIds[i] < other.docIds[j]) {
+                    i++;
+                } else if (docIds[i] > other.docIds[j]) {
+                    j++;
+                } else {
+                    result.append(docIds[i], scores[i] + other.scores[j]);
+                    i++;
+                    j++;
+                }
+            }
+            return result;
+        }
+    }
+}
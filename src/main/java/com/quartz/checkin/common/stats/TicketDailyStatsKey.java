@@ -0,0 +1,24 @@
+package com.quartz.checkin.common.stats;
+
+import com.quartz.checkin.entity.Status;
+import com.quartz.checkin.entity.TicketDailyStats;
+import com.quartz.checkin.entity.TicketView;
+import java.time.LocalDate;
+
+// ticket_daily_stats의 한 행을 가리키는 키입니다.
+public record TicketDailyStatsKey(LocalDate statDate, LocalDate dueDate, Long managerId, Long firstCategoryId,
+                                  Status status) {
+
+    // 삭제된 티켓은 통계에 포함되지 않으므로 null을 돌려줍니다.
+    public static TicketDailyStatsKey from(TicketView view) {
+        if (view.getDeletedAt() != null) {
+            return null;
+        }
+        return new TicketDailyStatsKey(
+                view.getCreatedAt().toLocalDate(),
+                view.getDueDate(),
+                view.getManagerId() != null ? view.getManagerId() : TicketDailyStats.NO_MANAGER,
+                view.getFirstCategoryId(),
+                view.getStatus());
+    }
+}
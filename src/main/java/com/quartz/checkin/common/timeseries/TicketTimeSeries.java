@@ -0,0 +1,178 @@
+package com.quartz.checkin.common.timeseries;
+
+import com.quartz.checkin.dto.stat.response.StatTimeSeriesPointResponse;
+import com.quartz.checkin.dto.stat.response.StatTimeSeriesResponse;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/*
+ * 일별 생성, 완료, 마감 초과 티켓 수를 전체, 담당자별, 1차 카테고리별 링 버퍼로 메모리에 유지합니다.
+ * 버퍼는 capacity일 길이의 int 배열이고 날짜의 epoch day를 길이로 나눈 나머지 칸에 기록하므로, 최근 n일의 합은 n칸만 읽습니다.
+ * 마감 초과는 마감일이 지나야 정해지고 baseDate 기준으로 보관 구간이 정해지므로, 날짜가 바뀌면 새로 집계해야 합니다.
+ */
+public class TicketTimeSeries {
+
+    private final LocalDate baseDate;
+    private final int capacity;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final DailyCounts total;
+    private final Map<Long, DailyCounts> managers = new HashMap<>();
+    private final Map<Long, DailyCounts> categories = new HashMap<>();
+
+    public TicketTimeSeries(LocalDate baseDate, int capacity) {
+        this.baseDate = baseDate;
+        this.capacity = capacity;
+        this.total = new DailyCounts(capacity);
+    }
+
+    public static TicketTimeSeries of(LocalDate baseDate, int capacity, List<TicketTimeSeriesCount> counts) {
+        TicketTimeSeries series = new TicketTimeSeries(baseDate, capacity);
+        for (TicketTimeSeriesCount count : counts) {
+            series.record(count.measure(), count.date(), count.managerId(), count.categoryId(),
+                    Math.toIntExact(count.count()));
+        }
+        return series;
+    }
+
+    public LocalDate getBaseDate() {
+        return baseDate;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    // 변경 전 상태를 빼고 변경 후 상태를 더한 칸별 증감입니다. 서로 상쇄된 칸은 빠지고, 보관 구간은 적용할 때 거릅니다.
+    public static List<TicketTimeSeriesCount> changes(List<TicketTimeSeriesState> before,
+                                                      List<TicketTimeSeriesState> after) {
+        Map<Bucket, Long> deltas = new LinkedHashMap<>();
+        before.forEach(state -> addChanges(deltas, state, -1));
+        after.forEach(state -> addChanges(deltas, state, 1));
+
+        List<TicketTimeSeriesCount> changes = new ArrayList<>();
+        deltas.forEach((bucket, delta) -> {
+            if (delta != 0) {
+                changes.add(new TicketTimeSeriesCount(bucket.measure(), bucket.date(), bucket.managerId(),
+                        bucket.categoryId(), delta));
+            }
+        });
+        return changes;
+    }
+
+    public void apply(List<TicketTimeSeriesCount> changes) {
+        lock.writeLock().lock();
+        try {
+            for (TicketTimeSeriesCount change : changes) {
+                record(change.measure(), change.date(), change.managerId(), change.categoryId(),
+                        Math.toIntExact(change.count()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // baseDate까지 최근 days일의 일별 개수와 합계를 돌려줍니다. managerId나 categoryId가 있으면 해당 버퍼만 읽습니다.
+    public StatTimeSeriesResponse window(Long managerId, Long categoryId, int days) {
+        LocalDate from = baseDate.minusDays(days - 1L);
+        List<StatTimeSeriesPointResponse> points = new ArrayList<>(days);
+        long createdCount = 0L;
+        long closedCount = 0L;
+        long overdueCount = 0L;
+
+        lock.readLock().lock();
+        try {
+            DailyCounts counts = managerId != null ? managers.get(managerId)
+                    : categoryId != null ? categories.get(categoryId)
+                    : total;
+            for (LocalDate date = from; !date.isAfter(baseDate); date = date.plusDays(1)) {
+                int slot = slot(date);
+                int created = counts != null ? counts.created[slot] : 0;
+                int closed = counts != null ? counts.closed[slot] : 0;
+                int overdue = counts != null ? counts.overdue[slot] : 0;
+                points.add(new StatTimeSeriesPointResponse(date, created, closed, overdue));
+                createdCount += created;
+                closedCount += closed;
+                overdueCount += overdue;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return new StatTimeSeriesResponse(from, baseDate, createdCount, closedCount, overdueCount, points);
+    }
+
+    private static void addChanges(Map<Bucket, Long> deltas, TicketTimeSeriesState state, int sign) {
+        if (state == null) {
+            return;
+        }
+
+        addChange(deltas, TicketTimeSeriesMeasure.CREATED, state.createdDate(), state, sign);
+        if (state.closedDate() != null) {
+            addChange(deltas, TicketTimeSeriesMeasure.CLOSED, state.closedDate(), state, sign);
+        }
+        if (state.missedDueDate()) {
+            addChange(deltas, TicketTimeSeriesMeasure.OVERDUE, state.dueDate(), state, sign);
+        }
+    }
+
+    private static void addChange(Map<Bucket, Long> deltas, TicketTimeSeriesMeasure measure, LocalDate date,
+                                  TicketTimeSeriesState state, int sign) {
+        if (date == null) {
+            return;
+        }
+        deltas.merge(new Bucket(measure, date, state.managerId(), state.categoryId()), (long) sign, Long::sum);
+    }
+
+    private void record(TicketTimeSeriesMeasure measure, LocalDate date, Long managerId, Long categoryId, int delta) {
+        if (!contains(measure, date)) {
+            return;
+        }
+
+        int slot = slot(date);
+        total.add(measure, slot, delta);
+        if (managerId != null) {
+            managers.computeIfAbsent(managerId, id -> new DailyCounts(capacity)).add(measure, slot, delta);
+        }
+        if (categoryId != null) {
+            categories.computeIfAbsent(categoryId, id -> new DailyCounts(capacity)).add(measure, slot, delta);
+        }
+    }
+
+    // 오늘 마감인 티켓은 아직 마감을 넘긴 것이 아니므로 마감 초과는 어제까지만 기록합니다.
+    private boolean contains(TicketTimeSeriesMeasure measure, LocalDate date) {
+        LocalDate last = measure == TicketTimeSeriesMeasure.OVERDUE ? baseDate.minusDays(1) : baseDate;
+        return date != null && date.isAfter(baseDate.minusDays(capacity)) && !date.isAfter(last);
+    }
+
+    private int slot(LocalDate date) {
+        return Math.floorMod(date.toEpochDay(), capacity);
+    }
+
+    private record Bucket(TicketTimeSeriesMeasure measure, LocalDate date, Long managerId, Long categoryId) {
+    }
+
+    private static final class DailyCounts {
+
+        private final int[] created;
+        private final int[] closed;
+        private final int[] overdue;
+
+        private DailyCounts(int capacity) {
+            this.created = new int[capacity];
+            this.closed = new int[capacity];
+            this.overdue = new int[capacity];
+        }
+
+        private void add(TicketTimeSeriesMeasure measure, int slot, int delta) {
+            switch (measure) {
+                case CREATED -> created[slot] += delta;
+                case CLOSED -> closed[slot] += delta;
+                case OVERDUE -> overdue[slot] += delta;
+            }
+        }
+    }
+}
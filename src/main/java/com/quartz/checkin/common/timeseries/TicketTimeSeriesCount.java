@@ -0,0 +1,29 @@
+package com.quartz.checkin.common.timeseries;
+
+import java.time.LocalDate;
+
+// 날짜, 담당자, 1차 카테고리별로 집계한 개수입니다. 담당자가 없는 티켓은 managerId가 null인 행으로 집계됩니다.
+// 티켓 변경을 다른 노드에 보낼 때는 같은 형태로 칸별 증감을 담습니다.
+public record TicketTimeSeriesCount(TicketTimeSeriesMeasure measure, LocalDate date, Long managerId,
+                                    Long categoryId, long count) {
+
+    private static final String SEPARATOR = ",";
+
+    public static String encode(TicketTimeSeriesCount count) {
+        return count.measure() + SEPARATOR
+                + count.date() + SEPARATOR
+                + (count.managerId() != null ? count.managerId() : "") + SEPARATOR
+                + (count.categoryId() != null ? count.categoryId() : "") + SEPARATOR
+                + count.count();
+    }
+
+    public static TicketTimeSeriesCount decode(String value) {
+        String[] fields = value.split(SEPARATOR, -1);
+        return new TicketTimeSeriesCount(
+                TicketTimeSeriesMeasure.valueOf(fields[0]),
+                LocalDate.parse(fields[1]),
+                fields[2].isEmpty() ? null : Long.valueOf(fields[2]),
+                fields[3].isEmpty() ? null : Long.valueOf(fields[3]),
+                Long.parseLong(fields[4]));
+    }
+}
@@ -0,0 +1,8 @@
+package com.quartz.checkin.common.timeseries;
+
+// 일별로 세는 티켓 흐름의 종류입니다. 생성일, 완료일, 마감일을 기준으로 해당 날짜에 기록합니다.
+public enum TicketTimeSeriesMeasure {
+    CREATED,
+    CLOSED,
+    OVERDUE
+}
@@ -0,0 +1,26 @@
+package com.quartz.checkin.common.timeseries;
+
+import com.quartz.checkin.entity.Status;
+import com.quartz.checkin.entity.TicketView;
+import java.time.LocalDate;
+
+/*
+ * 일별 흐름 개수에 영향을 주는 티켓 값입니다.
+ * 완료일은 완료 상태일 때만 두고, 마감 초과는 완료되지 않았거나 마감일보다 늦게 완료된 경우입니다.
+ */
+public record TicketTimeSeriesState(Long managerId, Long categoryId, LocalDate createdDate, LocalDate closedDate,
+                                    LocalDate dueDate, boolean missedDueDate) {
+
+    // 삭제된 티켓은 어떤 개수에도 포함되지 않으므로 null을 돌려줍니다.
+    public static TicketTimeSeriesState from(TicketView view) {
+        if (view.getDeletedAt() != null) {
+            return null;
+        }
+
+        boolean closed = view.getStatus() == Status.CLOSED;
+        LocalDate closedDate = closed ? view.getClosedDate() : null;
+        boolean missedDueDate = !closed || (closedDate != null && closedDate.isAfter(view.getDueDate()));
+        return new TicketTimeSeriesState(view.getManagerId(), view.getFirstCategoryId(),
+                view.getCreatedAt().toLocalDate(), closedDate, view.getDueDate(), missedDueDate);
+    }
+}
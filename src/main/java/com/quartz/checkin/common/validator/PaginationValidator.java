@@ -22,4 +22,8 @@ public class PaginationValidator {
         if (page < 1) throw new ApiException(ErrorCode.INVALID_PAGE_NUMBER);
         if (size != 20 && size != 50 && size != 100) throw new ApiException(ErrorCode.INVALID_PAGE_SIZE);
     }
+
+    public static void validateSize(int size) {
+        if (size != 20 && size != 50 && size != 100) throw new ApiException(ErrorCode.INVALID_PAGE_SIZE);
+    }
 }
@@ -1,58 +1,180 @@
 package com.quartz.checkin.config;
 
+import com.quartz.checkin.common.cache.BoundedTtlCache;
+import com.quartz.checkin.common.cache.ExpirationTimingWheel;
+import com.quartz.checkin.common.cache.LoginAttemptCache;
 import com.quartz.checkin.common.cache.LoginBlockCache;
-import com.quartz.checkin.common.cache.LoginFailureCache;
-import com.quartz.checkin.common.cache.RoleUpdateCache;
-import com.quartz.checkin.common.cache.SoftDeletedMemberCache;
+import com.quartz.checkin.common.cache.StatsResponseCache;
+import com.quartz.checkin.common.cache.TicketCountCache;
 import com.quartz.checkin.common.cache.TokenBlacklistCache;
+import com.quartz.checkin.common.cache.VerifiedTokenCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.support.SimpleCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.scheduling.annotation.Scheduled;
 
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
     public static final String LOGIN_BLOCK_CACHE = "loginBlock";
-    public static final String LOGIN_FAILURE_CACHE = "loginFailure";
-    public static final String ROLE_UPDATE_CACHE = "roleUpdate";
-    public static final String SOFT_DELETED_MEMBER_CACHE = "softDeletedMember";
+    public static final String LOGIN_ATTEMPT_CACHE = "loginAttempt";
     public static final String TOKEN_BLACKLIST_CACHE = "tokenBlacklist";
+    public static final String VERIFIED_TOKEN_CACHE = "verifiedToken";
+    public static final String TICKET_COUNT_CACHE = "ticketCount";
+    public static final String CATEGORY_ID_CACHE = "categoryId";
+    public static final String MEMBER_ID_CACHE = "memberId";
+    public static final String STATS_RESPONSE_CACHE = "statsResponse";
+
+    private static final int LOGIN_BLOCK_CACHE_MAX_SIZE = 100_000;
+    private static final int LOGIN_ATTEMPT_CACHE_MAX_SIZE = 200_000;
+    private static final int VERIFIED_TOKEN_CACHE_MAX_SIZE = 10_000;
+    private static final int TICKET_COUNT_CACHE_MAX_SIZE = 10_000;
+    private static final int CATEGORY_ID_CACHE_MAX_SIZE = 1_000;
+    private static final int MEMBER_ID_CACHE_MAX_SIZE = 50_000;
+    private static final int STATS_RESPONSE_CACHE_MAX_SIZE = 100;
+    private static final int STATS_REFRESH_QUEUE_CAPACITY = 32;
+    private static final long EXPIRATION_TICK_MILLIS = 1000L;
+
+    // TTL이 포함된 캐시들은 만료 시각에 맞춰 타이밍 휠에서 개별적으로 정리됩니다.
+    @Bean(destroyMethod = "shutdown")
+    public ExpirationTimingWheel expirationTimingWheel(MeterRegistry meterRegistry) {
+        ExpirationTimingWheel expirationTimingWheel =
+                new ExpirationTimingWheel(EXPIRATION_TICK_MILLIS, System.currentTimeMillis());
+        Gauge.builder("cache.expiration.pending", expirationTimingWheel, ExpirationTimingWheel::pendingCount)
+                .description("타이밍 휠에서 만료를 기다리는 캐시 항목 수")
+                .register(meterRegistry);
+        expirationTimingWheel.start();
+        return expirationTimingWheel;
+    }
 
     @Bean
-    public CacheManager cacheManager() {
+    public CacheManager cacheManager(ExpirationTimingWheel expirationTimingWheel, MeterRegistry meterRegistry,
+                                     @Value("${login.limit.window-seconds:300}") long loginLimitWindowSeconds,
+                                     @Value("${ticket.count-cache.ttl-seconds:30}") long ticketCountTtlSeconds,
+                                     @Value("${ticket.filter-dictionary.ttl-seconds:600}") long filterDictionaryTtlSeconds,
+                                     @Value("${stats.cache.fresh-seconds:30}") long statsFreshSeconds,
+                                     @Value("${stats.cache.max-stale-seconds:300}") long statsMaxStaleSeconds) {
+        StatsResponseCache statsResponseCache = new StatsResponseCache(STATS_RESPONSE_CACHE,
+                STATS_RESPONSE_CACHE_MAX_SIZE, statsFreshSeconds * 1000, statsMaxStaleSeconds * 1000,
+                expirationTimingWheel, statsRefreshExecutor());
+        List<BoundedTtlCache> caches = List.of(
+                new LoginAttemptCache(LOGIN_ATTEMPT_CACHE, LOGIN_ATTEMPT_CACHE_MAX_SIZE,
+                        loginLimitWindowSeconds * 1000, expirationTimingWheel),
+                new LoginBlockCache(LOGIN_BLOCK_CACHE, LOGIN_BLOCK_CACHE_MAX_SIZE, expirationTimingWheel),
+                new VerifiedTokenCache(VERIFIED_TOKEN_CACHE, VERIFIED_TOKEN_CACHE_MAX_SIZE, expirationTimingWheel),
+                new TicketCountCache(TICKET_COUNT_CACHE, TICKET_COUNT_CACHE_MAX_SIZE,
+                        ticketCountTtlSeconds * 1000, expirationTimingWheel),
+                new BoundedTtlCache(CATEGORY_ID_CACHE, CATEGORY_ID_CACHE_MAX_SIZE,
+                        filterDictionaryTtlSeconds * 1000, expirationTimingWheel),
+                new BoundedTtlCache(MEMBER_ID_CACHE, MEMBER_ID_CACHE_MAX_SIZE,
+                        filterDictionaryTtlSeconds * 1000, expirationTimingWheel),
+                statsResponseCache
+        );
+        TokenBlacklistCache tokenBlacklistCache = new TokenBlacklistCache(TOKEN_BLACKLIST_CACHE, expirationTimingWheel);
+        caches.forEach(cache -> bindMetrics(meterRegistry, cache));
+        bindStatsMetrics(meterRegistry, statsResponseCache);
+        bindBlacklistMetrics(meterRegistry, tokenBlacklistCache);
+
+        List<Cache> allCaches = new ArrayList<>(caches);
+        allCaches.add(tokenBlacklistCache);
         SimpleCacheManager simpleCacheManager = new SimpleCacheManager();
-        simpleCacheManager.setCaches(List.of(
-                new LoginFailureCache(LOGIN_FAILURE_CACHE),
-                new LoginBlockCache(LOGIN_BLOCK_CACHE),
-                new RoleUpdateCache(ROLE_UPDATE_CACHE),
-                new SoftDeletedMemberCache(SOFT_DELETED_MEMBER_CACHE),
-                new TokenBlacklistCache(TOKEN_BLACKLIST_CACHE)
-        ));
+        simpleCacheManager.setCaches(allCaches);
         simpleCacheManager.afterPropertiesSet();
         return simpleCacheManager;
     }
 
-    // 1시간마다 TTL이 포함된 캐시들에서 만료된 데이터들을 정리합니다.
-    @Scheduled(cron = "0 0 * * * *")
-    public void evictCaches() {
-        CacheManager cacheManager = cacheManager();
+    // 통계 응답은 같은 계산을 여러 번 하지 않는 것이 목적이므로, 이전 응답으로 응답한 횟수와 계산을 기다린 횟수도 따로 봅니다.
+    private void bindStatsMetrics(MeterRegistry meterRegistry, StatsResponseCache cache) {
+        Tags tags = Tags.of("cache", cache.getName());
+
+        Gauge.builder("cache.hit.ratio", cache, CacheConfig::hitRatio)
+                .tags(tags)
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.stale.hits", cache, StatsResponseCache::getStaleHitCount)
+                .tags(tags)
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.load.waits", cache, StatsResponseCache::getLoadWaitCount)
+                .tags(tags)
+                .register(meterRegistry);
+    }
 
-        LoginFailureCache loginFailureCache =
-                (LoginFailureCache) cacheManager.getCache(LOGIN_FAILURE_CACHE);
+    // 블랙리스트는 크기 제한이 없으므로 크기 초과로 제거되는 항목이 없고, 만료된 항목 수만 봅니다.
+    private void bindBlacklistMetrics(MeterRegistry meterRegistry, TokenBlacklistCache cache) {
+        Tags tags = Tags.of("cache", cache.getName());
 
-        LoginBlockCache loginBlockCache =
-                (LoginBlockCache) cacheManager.getCache(LOGIN_BLOCK_CACHE);
+        Gauge.builder("cache.size", cache, TokenBlacklistCache::size)
+                .tags(tags)
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.gets", cache, TokenBlacklistCache::getHitCount)
+                .tags(tags)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.gets", cache, TokenBlacklistCache::getMissCount)
+                .tags(tags)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.puts", cache, TokenBlacklistCache::getPutCount)
+                .tags(tags)
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.expirations", cache, TokenBlacklistCache::getExpirationCount)
+                .tags(tags)
+                .register(meterRegistry);
+    }
+
+    private static double hitRatio(BoundedTtlCache cache) {
+        long hits = cache.getHitCount();
+        long total = hits + cache.getMissCount();
+        return total > 0 ? (double) hits / total : 0.0;
+    }
+
+    // 백그라운드 갱신은 한 스레드로 충분하며, 밀린 갱신은 버리고 이전 응답을 계속 씁니다.
+    private Executor statsRefreshExecutor() {
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(STATS_REFRESH_QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "stats-cache-refresh");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
 
-        TokenBlacklistCache tokenBlacklistCache =
-                (TokenBlacklistCache) cacheManager.getCache(TOKEN_BLACKLIST_CACHE);
+    private void bindMetrics(MeterRegistry meterRegistry, BoundedTtlCache cache) {
+        Tags tags = Tags.of("cache", cache.getName());
 
-        loginFailureCache.evictAllExpiredData();
-        loginBlockCache.evictAllExpiredData();
-        tokenBlacklistCache.evictAllExpiredData();
+        Gauge.builder("cache.size", cache, BoundedTtlCache::size)
+                .tags(tags)
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.gets", cache, BoundedTtlCache::getHitCount)
+                .tags(tags)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.gets", cache, BoundedTtlCache::getMissCount)
+                .tags(tags)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.puts", cache, BoundedTtlCache::getPutCount)
+                .tags(tags)
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.evictions", cache, BoundedTtlCache::getEvictionCount)
+                .tags(tags)
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.expirations", cache, BoundedTtlCache::getExpirationCount)
+                .tags(tags)
+                .register(meterRegistry);
     }
 }
@@ -0,0 +1,36 @@
+package com.quartz.checkin.config;
+
+import com.quartz.checkin.common.cache.CacheInvalidationBus;
+import com.quartz.checkin.common.cache.InMemoryCacheInvalidationBus;
+import com.quartz.checkin.common.cache.JdbcCacheInvalidationBus;
+import com.quartz.checkin.repository.CacheInvalidationRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+public class CacheInvalidationConfig {
+
+    public static final String TOKEN_BLACKLIST_CHANNEL = "tokenBlacklist";
+    public static final String SECURITY_EPOCH_CHANNEL = "securityEpoch";
+    public static final String LOGIN_BLOCK_CHANNEL = "loginBlock";
+    public static final String TICKET_COUNT_CHANNEL = "ticketCount";
+    public static final String TICKET_SEARCH_CHANNEL = "ticketSearch";
+    public static final String FILTER_DICTIONARY_CHANNEL = "filterDictionary";
+    public static final String TICKET_PROGRESS_CHANNEL = "ticketProgress";
+    public static final String TICKET_TIMESERIES_CHANNEL = "ticketTimeSeries";
+
+    @Bean
+    @ConditionalOnProperty(name = "cache.invalidation.type", havingValue = "jdbc", matchIfMissing = true)
+    public CacheInvalidationBus jdbcCacheInvalidationBus(CacheInvalidationRepository cacheInvalidationRepository,
+                                                         PlatformTransactionManager transactionManager) {
+        return new JdbcCacheInvalidationBus(cacheInvalidationRepository, transactionManager);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "cache.invalidation.type", havingValue = "memory")
+    public CacheInvalidationBus inMemoryCacheInvalidationBus() {
+        return new InMemoryCacheInvalidationBus();
+    }
+}
@@ -0,0 +1,83 @@
+package com.quartz.checkin.config;
+
+import com.quartz.checkin.entity.IdGenerators;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/*
+ * IDENTITY로 쌓인 기존 행과 id_generator가 나눠 줄 키가 겹치지 않도록, 애플리케이션 시작 시 next_val을 테이블의 최대 id 이후로 맞춥니다.
+ * pooled 방식은 읽은 next_val에서 ALLOCATION_SIZE - 1을 뺀 값부터 사용하므로 max(id) + ALLOCATION_SIZE 이상이어야 합니다.
+ * EntityManagerFactory에 의존해 스키마 갱신이 끝난 뒤에 실행됩니다.
+ */
+@Slf4j
+@Component
+public class IdGeneratorAligner {
+
+    private static final List<Segment> SEGMENTS = List.of(
+            new Segment(IdGenerators.TICKET, "ticket", "ticket_id"),
+            new Segment(IdGenerators.TICKET_LOG, "ticket_log", "ticket_log_id"),
+            new Segment(IdGenerators.TICKET_ATTACHMENT, "ticket_attachment", "ticket_attachment_id"),
+            new Segment(IdGenerators.TEMPLATE_ATTACHMENT, "template_attachment", "template_attachment_id"),
+            new Segment(IdGenerators.ALERT_LOG, "alert_log", "alert_id"),
+            new Segment(IdGenerators.LIKES, "likes", "like_id"),
+            new Segment(IdGenerators.TICKET_IMPORT_ERROR, "ticket_import_error", "ticket_import_error_id")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public IdGeneratorAligner(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                              EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    public void align() {
+        for (Segment segment : SEGMENTS) {
+            try {
+                alignInTransaction(segment);
+            } catch (DataIntegrityViolationException e) {
+                // 다른 노드가 같은 세그먼트 행을 먼저 만들었다면 그 행을 기준으로 다시 맞춥니다.
+                alignInTransaction(segment);
+            }
+        }
+    }
+
+    private void alignInTransaction(Segment segment) {
+        transactionTemplate.executeWithoutResult(status -> {
+            long maxId = jdbcTemplate.queryForObject(
+                    "SELECT COALESCE(MAX(" + segment.idColumn() + "), 0) FROM " + segment.table(), Long.class);
+            if (maxId == 0) {
+                return;
+            }
+
+            long required = maxId + IdGenerators.ALLOCATION_SIZE;
+            List<Long> current = jdbcTemplate.queryForList(
+                    "SELECT " + IdGenerators.VALUE_COLUMN + " FROM " + IdGenerators.TABLE
+                            + " WHERE " + IdGenerators.SEGMENT_COLUMN + " = ? FOR UPDATE",
+                    Long.class, segment.name());
+
+            if (current.isEmpty()) {
+                jdbcTemplate.update("INSERT INTO " + IdGenerators.TABLE + " (" + IdGenerators.SEGMENT_COLUMN + ", "
+                        + IdGenerators.VALUE_COLUMN + ") VALUES (?, ?)", segment.name(), required);
+            } else if (current.get(0) < required) {
+                jdbcTemplate.update("UPDATE " + IdGenerators.TABLE + " SET " + IdGenerators.VALUE_COLUMN + " = ? WHERE "
+                        + IdGenerators.SEGMENT_COLUMN + " = ?", required, segment.name());
+            } else {
+                return;
+            }
+            log.info("{}의 id 생성 값을 {}로 맞췄습니다. max(id)={}", segment.name(), required, maxId);
+        });
+    }
+
+    private record Segment(String name, String table, String idColumn) {
+    }
+}
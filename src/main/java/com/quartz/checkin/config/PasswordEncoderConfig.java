@@ -1,15 +1,37 @@
 package com.quartz.checkin.config;
 
+import com.quartz.checkin.security.crypto.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 @Configuration
 public class PasswordEncoderConfig {
 
-    @Bean
-    PasswordEncoder passwordEncoder() {
-        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+    private static final String BCRYPT_ID = "bcrypt";
+
+    @Value("${password.bcrypt.strength:10}")
+    private int bcryptStrength;
+
+    @Value("${password.hashing.threads:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}")
+    private int hashingThreads;
+
+    @Value("${password.hashing.queue-capacity:64}")
+    private int hashingQueueCapacity;
+
+    @Value("${password.hashing.timeout-millis:3000}")
+    private long hashingTimeoutMillis;
+
+    @Bean(destroyMethod = "shutdown")
+    BoundedPasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        PasswordEncoder delegate = new DelegatingPasswordEncoder(BCRYPT_ID,
+                Map.of(BCRYPT_ID, new BCryptPasswordEncoder(bcryptStrength)));
+        return new BoundedPasswordEncoder(delegate, bcryptStrength, hashingThreads, hashingQueueCapacity,
+                hashingTimeoutMillis, meterRegistry);
     }
 }
@@ -0,0 +1,44 @@
+package com.quartz.checkin.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.springframework.stereotype.Component;
+
+/*
+ * 테이블은 아직 ddl-auto가 만들므로, 버전 1을 ddl-auto 스키마로 보고 그 위에 인덱스 같은 변경을 마이그레이션으로 쌓습니다.
+ * 마이그레이션이 만들어진 테이블을 대상으로 하도록 EntityManagerFactory에 의존해 스키마 갱신이 끝난 뒤에 실행됩니다.
+ */
+@Slf4j
+@Component
+public class SchemaMigrationRunner {
+
+    public static final String LOCATION = "classpath:db/migration";
+    public static final String BASELINE_VERSION = "1";
+
+    private final DataSource dataSource;
+
+    public SchemaMigrationRunner(DataSource dataSource, EntityManagerFactory entityManagerFactory) {
+        this.dataSource = dataSource;
+    }
+
+    public static Flyway flyway(DataSource dataSource) {
+        return Flyway.configure()
+                .dataSource(dataSource)
+                .locations(LOCATION)
+                .baselineOnMigrate(true)
+                .baselineVersion(BASELINE_VERSION)
+                .load();
+    }
+
+    @PostConstruct
+    public void migrate() {
+        MigrateResult result = flyway(dataSource).migrate();
+        if (result.migrationsExecuted > 0) {
+            log.info("스키마 마이그레이션 {}건을 적용했습니다. 현재 버전={}", result.migrationsExecuted, result.targetSchemaVersion);
+        }
+    }
+}
@@ -10,6 +10,7 @@ import com.quartz.checkin.security.handler.CustomLoginSuccessHandler;
 import com.quartz.checkin.security.handler.CustomLogoutHandler;
 import com.quartz.checkin.security.handler.CustomLogoutSuccessHandler;
 import com.quartz.checkin.security.service.CustomUserDetailsService;
+import com.quartz.checkin.service.LoginAttemptService;
 import com.quartz.checkin.service.LoginBlockCacheService;
 import java.util.Arrays;
 import java.util.List;
@@ -24,6 +25,7 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer.FrameOptionsConfig;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.logout.LogoutFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -45,7 +47,9 @@ public class SecurityConfig {
     private final CustomLogoutHandler customLogoutHandler;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final LoginBlockCacheService loginBlockCacheService;
+    private final LoginAttemptService loginAttemptService;
     private final ObjectMapper objectMapper;
+    private final PasswordEncoder passwordEncoder;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -87,6 +91,9 @@ public class SecurityConfig {
     public AuthenticationManager authenticationManager() {
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
         provider.setUserDetailsService(customUserService);
+        provider.setPasswordEncoder(passwordEncoder);
+        // 저장된 해시의 cost가 설정과 다르면 로그인 성공 시 다시 해싱해 저장한다.
+        provider.setUserDetailsPasswordService(customUserService);
 
         // UserNotFoundException을 BadCredentialException으로 변환하지 않게 한다.
         provider.setHideUserNotFoundExceptions(false);
@@ -96,7 +103,8 @@ public class SecurityConfig {
     @Bean
     public CustomUsernamePasswordAuthenticationFilter customUsernamePasswordAuthenticationFilter() {
         CustomUsernamePasswordAuthenticationFilter customUsernamePasswordAuthenticationFilter =
-                new CustomUsernamePasswordAuthenticationFilter(objectMapper, loginBlockCacheService);
+                new CustomUsernamePasswordAuthenticationFilter(objectMapper, loginBlockCacheService,
+                        loginAttemptService);
 
         customUsernamePasswordAuthenticationFilter.setAuthenticationManager(authenticationManager());
         customUsernamePasswordAuthenticationFilter.setAuthenticationSuccessHandler(customLoginSuccessHandler);
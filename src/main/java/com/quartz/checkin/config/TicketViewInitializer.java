@@ -0,0 +1,55 @@
+package com.quartz.checkin.config;
+
+import com.quartz.checkin.entity.TicketView;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/*
+ * 읽기 모델이 도입되기 전에 만들어진 티켓을 ticket_view가 비어 있을 때 시작 시 한 번에 채웁니다.
+ * 이미 채워진 뒤에는 매 시작마다 ticket 전체를 조인하지 않으며, 이후의 변경은 티켓 이벤트로 반영됩니다.
+ * EntityManagerFactory에 의존해 스키마 갱신이 끝난 뒤에 실행됩니다.
+ * 이미 있는 행을 고치는 마이그레이션이 먼저 끝나도록 SchemaMigrationRunner에도 의존하고, 새로 채우는 행은 여기서 모든 열을 채웁니다.
+ */
+@Slf4j
+@Component
+public class TicketViewInitializer {
+
+    private static final String HAS_ROWS_SQL = "SELECT EXISTS (SELECT 1 FROM ticket_view)";
+
+    private static final String BACKFILL_SQL = "INSERT INTO ticket_view (ticket_id, custom_id, user_id, manager_id, "
+            + "manager_username, manager_profile_pic, first_category_id, first_category_name, "
+            + "second_category_id, second_category_name, title, content_preview, priority, status, due_date, "
+            + "created_at, closed_date, deleted_at) "
+            + "SELECT t.ticket_id, t.custom_id, t.user_id, t.manager_id, m.username, m.profile_pic, "
+            + "t.first_category_id, fc.name, t.second_category_id, sc.name, t.title, "
+            + "SUBSTRING(t.content, 1, " + TicketView.CONTENT_PREVIEW_LENGTH + "), t.priority, t.status, t.due_date, "
+            + "t.created_at, CAST(t.closed_at AS DATE), t.deleted_at "
+            + "FROM ticket t "
+            + "JOIN category fc ON fc.category_id = t.first_category_id "
+            + "JOIN category sc ON sc.category_id = t.second_category_id "
+            + "LEFT JOIN member m ON m.member_id = t.manager_id "
+            + "LEFT JOIN ticket_view tv ON tv.ticket_id = t.ticket_id "
+            + "WHERE tv.ticket_id IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TicketViewInitializer(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory,
+                                 SchemaMigrationRunner schemaMigrationRunner) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void backfill() {
+        if (Boolean.TRUE.equals(jdbcTemplate.queryForObject(HAS_ROWS_SQL, Boolean.class))) {
+            return;
+        }
+
+        int inserted = jdbcTemplate.update(BACKFILL_SQL);
+        if (inserted > 0) {
+            log.info("ticket_view에 없던 티켓 {}건을 채웠습니다.", inserted);
+        }
+    }
+}
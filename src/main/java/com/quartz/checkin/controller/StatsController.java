@@ -4,11 +4,15 @@ import com.quartz.checkin.dto.common.response.ApiResponse;
 import com.quartz.checkin.dto.stat.response.StatCategoryCountResponse;
 import com.quartz.checkin.dto.stat.response.StatCategoryRateResponse;
 import com.quartz.checkin.dto.stat.response.StatClosedRateResponse;
+import com.quartz.checkin.dto.stat.response.StatDashboardResponse;
+import com.quartz.checkin.dto.stat.response.StatTimeSeriesResponse;
 import com.quartz.checkin.dto.stat.response.StatTotalProgressResultResponse;
 import com.quartz.checkin.security.annotation.Admin;
 import com.quartz.checkin.security.annotation.AdminOrManager;
 import com.quartz.checkin.security.annotation.Manager;
+import com.quartz.checkin.service.StatsDashboardService;
 import com.quartz.checkin.service.StatsService;
+import com.quartz.checkin.service.TicketTimeSeriesService;
 import io.swagger.v3.oas.annotations.Operation;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +28,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class StatsController {
 
     private final StatsService statsService;
+    private final StatsDashboardService statsDashboardService;
+    private final TicketTimeSeriesService ticketTimeSeriesService;
 
     @AdminOrManager
     @Operation(summary = "API 명세서 v0.3 line 66", description = "각 담당자의 상태별 티켓수(type params 필요)- 세로 막대그래프")
@@ -61,6 +67,28 @@ public class StatsController {
         return ApiResponse.createSuccessResponseWithData(HttpStatus.OK.value(), response);
     }
 
+    @Admin
+    @Operation(summary = "대시보드 통계 일괄 조회", description = "대시보드의 통계를 동시에 계산해 한 번에 반환(type params 필요). 제한 시간을 넘긴 항목은 비워서 반환")
+    @GetMapping("/dashboard")
+    public ApiResponse<StatDashboardResponse> getDashboard(
+            @RequestParam(name = "type") String type
+    ) {
+        StatDashboardResponse response = statsDashboardService.getDashboard(type);
+        return ApiResponse.createSuccessResponseWithData(HttpStatus.OK.value(), response);
+    }
+
+    @AdminOrManager
+    @Operation(summary = "일별 티켓 흐름 조회", description = "최근 days일(기본 30일)의 일별 생성, 완료, 마감 초과 티켓수와 합계. managerId 또는 categoryId(1차)로 한정 가능 - 꺾은선 그래프")
+    @GetMapping("/timeseries")
+    public ApiResponse<StatTimeSeriesResponse> getTimeSeries(
+            @RequestParam(name = "days", defaultValue = "30") int days,
+            @RequestParam(name = "managerId", required = false) Long managerId,
+            @RequestParam(name = "categoryId", required = false) Long categoryId
+    ) {
+        StatTimeSeriesResponse response = ticketTimeSeriesService.getTimeSeries(days, managerId, categoryId);
+        return ApiResponse.createSuccessResponseWithData(HttpStatus.OK.value(), response);
+    }
+
     @Manager
     @Operation(summary = "API 명세서 v0.3 line 65", description = "각 담당자의 카테고리별 티켓수 - 가로 누적그래프")
     @GetMapping("/managers/categories")
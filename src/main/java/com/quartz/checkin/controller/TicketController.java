@@ -4,30 +4,41 @@ import com.quartz.checkin.config.S3Config;
 import com.quartz.checkin.dto.common.response.ApiResponse;
 import com.quartz.checkin.dto.common.response.UploadAttachmentsResponse;
 import com.quartz.checkin.dto.ticket.request.PriorityUpdateRequest;
+import com.quartz.checkin.dto.ticket.request.TicketBulkCreateRequest;
 import com.quartz.checkin.dto.ticket.request.TicketCreateRequest;
 import com.quartz.checkin.dto.ticket.request.TicketDeleteOrRestoreOrPurgeRequest;
 import com.quartz.checkin.dto.ticket.request.TicketUpdateRequest;
 import com.quartz.checkin.dto.ticket.response.AttachmentResponse;
+import com.quartz.checkin.dto.ticket.response.DeletedTicketDetailResponse;
 import com.quartz.checkin.dto.ticket.response.ManagerTicketListResponse;
+import com.quartz.checkin.dto.ticket.response.ManagerTicketSummaryResponse;
 import com.quartz.checkin.dto.ticket.response.SoftDeletedTicketResponse;
+import com.quartz.checkin.dto.ticket.response.TicketBulkCreateResponse;
 import com.quartz.checkin.dto.ticket.response.TicketCreateResponse;
+import com.quartz.checkin.dto.ticket.response.TicketCursorResponse;
 import com.quartz.checkin.dto.ticket.response.TicketDetailResponse;
+import com.quartz.checkin.dto.ticket.response.TicketImportJobResponse;
 import com.quartz.checkin.dto.ticket.response.TicketProgressResponse;
 import com.quartz.checkin.dto.ticket.response.UserTicketListResponse;
+import com.quartz.checkin.dto.ticket.response.UserTicketSummaryResponse;
 import com.quartz.checkin.entity.Priority;
 import com.quartz.checkin.entity.Status;
 import com.quartz.checkin.security.CustomUser;
+import com.quartz.checkin.security.annotation.Admin;
 import com.quartz.checkin.security.annotation.Manager;
 import com.quartz.checkin.security.annotation.ManagerOrUser;
 import com.quartz.checkin.security.annotation.User;
 import com.quartz.checkin.service.AttachmentService;
 import com.quartz.checkin.service.TicketCudService;
+import com.quartz.checkin.service.TicketImportService;
 import com.quartz.checkin.service.TicketQueryService;
 import com.quartz.checkin.service.TicketTrashService;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
+import java.io.InputStream;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -37,6 +48,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
@@ -50,6 +62,7 @@ public class TicketController {
 
     private final AttachmentService attachmentService;
     private final TicketCudService ticketCudService;
+    private final TicketImportService ticketImportService;
     private final TicketQueryService ticketQueryService;
     private final TicketTrashService ticketTrashService;
 
@@ -64,6 +77,37 @@ public class TicketController {
         return ApiResponse.createSuccessResponseWithData(HttpStatus.OK.value(), response);
     }
 
+    @User
+    @Operation(summary = "티켓 일괄 생성", description = "여러 티켓을 한 번에 생성")
+    @PostMapping("/bulk")
+    public ApiResponse<TicketBulkCreateResponse> createTickets(
+            @AuthenticationPrincipal CustomUser user,
+            @RequestBody @Valid TicketBulkCreateRequest request) {
+
+        TicketBulkCreateResponse response = ticketCudService.createTickets(user.getId(), request);
+        return ApiResponse.createSuccessResponseWithData(HttpStatus.OK.value(), response);
+    }
+
+    @Admin
+    @Operation(summary = "티켓 가져오기", description = "NDJSON 또는 CSV 본문을 읽어 티켓을 생성하는 작업을 등록")
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv"})
+    public ApiResponse<TicketImportJobResponse> importTickets(
+            @AuthenticationPrincipal CustomUser user,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) {
+
+        TicketImportJobResponse response = ticketImportService.startImport(user.getId(), contentType, body);
+        return ApiResponse.createSuccessResponseWithData(HttpStatus.ACCEPTED.value(), response);
+    }
+
+    @Admin
+    @Operation(summary = "티켓 가져오기 작업 조회", description = "가져오기 진행 상황과 행별 오류 조회")
+    @GetMapping("/import/{jobId}")
+    public ApiResponse<TicketImportJobResponse> getImportJob(@PathVariable String jobId) {
+        TicketImportJobResponse response = ticketImportService.getImportJob(jobId);
+        return ApiResponse.createSuccessResponseWithData(HttpStatus.OK.value(), response);
+    }
+
     @User
     @Operation(summary = "API 명세서 v0.3 line 33", description = "티켓에 첨부파일 업로드")
     @PostMapping("/attachment")
@@ -150,6 +194,27 @@ public class TicketController {
         return ApiResponse.createSuccessResponseWithData(HttpStatus.OK.value(), response);
     }
 
+    @Manager
+    @Operation(summary = "담당자 전체 티켓 커서 조회", description = "cursor 파라미터가 있으면 커서 기반으로 조회. 첫 페이지는 cursor를 빈 값으로 전달")
+    @GetMapping(params = "cursor")
+    public ApiResponse<TicketCursorResponse<ManagerTicketSummaryResponse>> getTicketsByCursor(
+            @RequestParam(required = false, name = "statuses") List<Status> statuses,
+            @RequestParam(required = false, name = "usernames") List<String> usernames,
+            @RequestParam(required = false, name = "categories") List<String> categories,
+            @RequestParam(required = false, name = "priorities") List<Priority> priorities,
+            @RequestParam(required = false, name = "dueToday") Boolean dueToday,
+            @RequestParam(required = false, name = "dueThisWeek") Boolean dueThisWeek,
+            @RequestParam(required = false, name = "cursor") String cursor,
+            @RequestParam(defaultValue = "20", name = "size") int size,
+            @RequestParam(defaultValue = "asc", name = "sortByCreatedAt") String sortByCreatedAt) {
+
+        TicketCursorResponse<ManagerTicketSummaryResponse> response = ticketQueryService.getManagerTicketsByCursor(
+                statuses, usernames, categories, priorities, dueToday, dueThisWeek, cursor, size, sortByCreatedAt
+        );
+
+        return ApiResponse.createSuccessResponseWithData(HttpStatus.OK.value(), response);
+    }
+
     @Manager
     @Operation(summary = "API 명세서 v0.3 line 42", description = "담당자가 자신의 데이터 조회(내 티켓 현황)")
     @GetMapping("/progress")
@@ -167,7 +232,7 @@ public class TicketController {
             @RequestParam(required = false) String keyword,
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "20") int size,
-            @RequestParam(defaultValue = "asc") String sortByCreatedAt,
+            @RequestParam(required = false) String sortByCreatedAt,
             @AuthenticationPrincipal CustomUser user) {
 
         ManagerTicketListResponse response = ticketQueryService.searchManagerTickets(user.getId(), keyword, page, size, sortByCreatedAt);
@@ -175,6 +240,20 @@ public class TicketController {
     }
 
 
+    @Manager
+    @Operation(summary = "담당자 티켓 커서 검색", description = "cursor 파라미터가 있으면 커서 기반으로 검색")
+    @GetMapping(value = "/search", params = "cursor")
+    public ApiResponse<TicketCursorResponse<ManagerTicketSummaryResponse>> searchTicketsByCursor(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "asc") String sortByCreatedAt) {
+
+        TicketCursorResponse<ManagerTicketSummaryResponse> response =
+                ticketQueryService.searchManagerTicketsByCursor(keyword, cursor, size, sortByCreatedAt);
+        return ApiResponse.createSuccessResponseWithData(HttpStatus.OK.value(), response);
+    }
+
     @User
     @Operation(summary = "API 명세서 v0.3 line 43", description = "사용자 전체 티켓 조회")
     @GetMapping("/my-tickets")
@@ -198,6 +277,28 @@ public class TicketController {
     }
 
 
+    @User
+    @Operation(summary = "사용자 전체 티켓 커서 조회", description = "cursor 파라미터가 있으면 커서 기반으로 조회")
+    @GetMapping(value = "/my-tickets", params = "cursor")
+    public ApiResponse<TicketCursorResponse<UserTicketSummaryResponse>> getUserTicketsByCursor(
+            @RequestParam(required = false, name = "statuses") List<Status> statuses,
+            @RequestParam(required = false, name = "usernames") List<String> usernames,
+            @RequestParam(required = false, name = "categories") List<String> categories,
+            @RequestParam(required = false, name = "priorities") List<Priority> priorities,
+            @RequestParam(required = false, name = "dueToday") Boolean dueToday,
+            @RequestParam(required = false, name = "dueThisWeek") Boolean dueThisWeek,
+            @RequestParam(required = false, name = "cursor") String cursor,
+            @RequestParam(defaultValue = "20", name = "size") int size,
+            @RequestParam(defaultValue = "asc", name = "sortByCreatedAt") String sortByCreatedAt,
+            @AuthenticationPrincipal CustomUser user) {
+
+        TicketCursorResponse<UserTicketSummaryResponse> response = ticketQueryService.getUserTicketsByCursor(
+                user.getId(), statuses, usernames, categories, priorities, dueToday, dueThisWeek, cursor, size, sortByCreatedAt
+        );
+
+        return ApiResponse.createSuccessResponseWithData(HttpStatus.OK.value(), response);
+    }
+
     @User
     @Operation(summary = "API 명세서 v0.3 line 45", description = "사용자 티켓 검색")
     @GetMapping("/my-tickets/search")
@@ -205,13 +306,28 @@ public class TicketController {
             @RequestParam(required = false) String keyword,
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "20") int size,
-            @RequestParam(defaultValue = "asc") String sortByCreatedAt,
+            @RequestParam(required = false) String sortByCreatedAt,
             @AuthenticationPrincipal CustomUser user) {
 
         UserTicketListResponse response = ticketQueryService.searchUserTickets(user.getId(), keyword, page, size, sortByCreatedAt);
         return ApiResponse.createSuccessResponseWithData(HttpStatus.OK.value(), response);
     }
 
+    @User
+    @Operation(summary = "사용자 티켓 커서 검색", description = "cursor 파라미터가 있으면 커서 기반으로 검색")
+    @GetMapping(value = "/my-tickets/search", params = "cursor")
+    public ApiResponse<TicketCursorResponse<UserTicketSummaryResponse>> searchUserTicketsByCursor(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "asc") String sortByCreatedAt,
+            @AuthenticationPrincipal CustomUser user) {
+
+        TicketCursorResponse<UserTicketSummaryResponse> response =
+                ticketQueryService.searchUserTicketsByCursor(user.getId(), keyword, cursor, size, sortByCreatedAt);
+        return ApiResponse.createSuccessResponseWithData(HttpStatus.OK.value(), response);
+    }
+
     @Manager
     @Operation(summary = "API 명세서 v0.3 line 50", description = "중요도 변경")
     @PatchMapping("/{ticketId}/priority")
@@ -258,5 +374,17 @@ public class TicketController {
         SoftDeletedTicketResponse response = ticketTrashService.getDeletedTickets(user.getId(), page, size);
         return ApiResponse.createSuccessResponseWithData(HttpStatus.OK.value(), response);
     }
-}
 
+    @User
+    @Operation(summary = "휴지통 커서 조회", description = "cursor 파라미터가 있으면 커서 기반으로 조회")
+    @GetMapping(value = "/trash", params = "cursor")
+    public ApiResponse<TicketCursorResponse<DeletedTicketDetailResponse>> getDeletedTicketsByCursor(
+            @AuthenticationPrincipal CustomUser user,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        TicketCursorResponse<DeletedTicketDetailResponse> response =
+                ticketTrashService.getDeletedTicketsByCursor(user.getId(), cursor, size);
+        return ApiResponse.createSuccessResponseWithData(HttpStatus.OK.value(), response);
+    }
+}
@@ -1,19 +1,24 @@
 package com.quartz.checkin.converter;
 
+import com.quartz.checkin.common.TicketCursor;
 import com.quartz.checkin.dto.ticket.response.DeletedTicketDetailResponse;
 import com.quartz.checkin.dto.ticket.response.ManagerTicketListResponse;
 import com.quartz.checkin.dto.ticket.response.ManagerTicketSummaryResponse;
 import com.quartz.checkin.dto.ticket.response.SoftDeletedTicketResponse;
+import com.quartz.checkin.dto.ticket.response.TicketCursorResponse;
 import com.quartz.checkin.dto.ticket.response.UserTicketListResponse;
 import com.quartz.checkin.dto.ticket.response.UserTicketSummaryResponse;
 import com.quartz.checkin.entity.Ticket;
+import com.quartz.checkin.entity.TicketView;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Function;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 public class TicketResponseConverter {
 
-    public static ManagerTicketListResponse toManagerTicketListResponse(Page<Ticket> ticketPage) {
+    public static ManagerTicketListResponse toManagerTicketListResponse(Page<TicketView> ticketPage) {
         List<ManagerTicketSummaryResponse> ticketList = ticketPage.hasContent()
                 ? ticketPage.getContent().stream().map(ManagerTicketSummaryResponse::from).toList()
                 : Collections.emptyList();
@@ -27,7 +32,7 @@ public class TicketResponseConverter {
         );
     }
 
-    public static UserTicketListResponse toUserTicketListResponse(Page<Ticket> ticketPage) {
+    public static UserTicketListResponse toUserTicketListResponse(Page<TicketView> ticketPage) {
         List<UserTicketSummaryResponse> ticketList = ticketPage.hasContent()
                 ? ticketPage.getContent().stream().map(UserTicketSummaryResponse::from).toList()
                 : Collections.emptyList();
@@ -55,7 +60,35 @@ public class TicketResponseConverter {
         );
     }
 
-    private static int getPageNumber(Page<Ticket> ticketPage) {
+    public static TicketCursorResponse<ManagerTicketSummaryResponse> toManagerTicketCursorResponse(Slice<TicketView> ticketSlice) {
+        return toCursorResponse(ticketSlice, TicketCursor::of, ManagerTicketSummaryResponse::from);
+    }
+
+    public static TicketCursorResponse<UserTicketSummaryResponse> toUserTicketCursorResponse(Slice<TicketView> ticketSlice) {
+        return toCursorResponse(ticketSlice, TicketCursor::of, UserTicketSummaryResponse::from);
+    }
+
+    public static TicketCursorResponse<DeletedTicketDetailResponse> toSoftDeletedTicketCursorResponse(Slice<Ticket> ticketSlice) {
+        return toCursorResponse(ticketSlice, TicketCursor::of, DeletedTicketDetailResponse::from);
+    }
+
+    private static <S, T> TicketCursorResponse<T> toCursorResponse(Slice<S> ticketSlice,
+                                                                   Function<S, TicketCursor> cursorOf,
+                                                                   Function<S, T> mapper) {
+        List<S> tickets = ticketSlice.getContent();
+        String nextCursor = ticketSlice.hasNext()
+                ? cursorOf.apply(tickets.get(tickets.size() - 1)).encode()
+                : null;
+
+        return new TicketCursorResponse<>(
+                ticketSlice.getSize(),
+                ticketSlice.hasNext(),
+                nextCursor,
+                tickets.stream().map(mapper).toList()
+        );
+    }
+
+    private static int getPageNumber(Page<?> ticketPage) {
         return ticketPage.getNumber() + 1;
     }
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.quartz.checkin.dto.member.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class MemberSecurityEpoch {
+
+    private Long memberId;
+    private int securityEpoch;
+}
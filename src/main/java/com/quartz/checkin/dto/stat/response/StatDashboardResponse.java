@@ -0,0 +1,17 @@
+package com.quartz.checkin.dto.stat.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 대시보드 통계를 한 번에 돌려줍니다. 제한 시간 안에 계산하지 못한 항목은 null이며 failedSections에 이름이 담깁니다.
+@Getter
+@AllArgsConstructor
+public class StatDashboardResponse {
+    private List<StatCategoryRateResponse> managers;
+    private List<StatCategoryCountResponse> categories;
+    private StatTotalProgressResultResponse statusRate;
+    private StatClosedRateResponse closedRate;
+    private List<StatCategoryRateResponse> managerCategories;
+    private List<String> failedSections;
+}
@@ -0,0 +1,14 @@
+package com.quartz.checkin.dto.stat.response;
+
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class StatTimeSeriesPointResponse {
+    private LocalDate date;
+    private int createdCount;
+    private int closedCount;
+    private int overdueCount;
+}
@@ -0,0 +1,17 @@
+package com.quartz.checkin.dto.stat.response;
+
+import java.time.LocalDate;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class StatTimeSeriesResponse {
+    private LocalDate from;
+    private LocalDate to;
+    private long createdCount;
+    private long closedCount;
+    private long overdueCount;
+    private List<StatTimeSeriesPointResponse> points;
+}
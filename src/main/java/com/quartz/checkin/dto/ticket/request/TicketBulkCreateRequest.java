@@ -0,0 +1,19 @@
+package com.quartz.checkin.dto.ticket.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketBulkCreateRequest {
+
+    @NotEmpty
+    @Size(max = 500, message = "한 번에 최대 500건까지 생성할 수 있습니다.")
+    private List<@Valid TicketCreateRequest> tickets;
+}
@@ -0,0 +1,36 @@
+package com.quartz.checkin.dto.ticket.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 가져오기 파일의 한 행입니다. 이관되는 티켓이므로 마감 기한이 과거여도 허용합니다.
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketImportRow {
+
+    @NotBlank
+    private String username;
+
+    @NotBlank
+    @Size(max = 25, message = "제목은 최대 25자까지 입력할 수 있습니다.")
+    private String title;
+
+    @NotBlank
+    @Size(max = 256, message = "내용은 최대 256자까지 입력할 수 있습니다.")
+    private String content;
+
+    @NotBlank
+    private String firstCategory;
+
+    @NotBlank
+    private String secondCategory;
+
+    @NotNull
+    private LocalDate dueDate;
+}
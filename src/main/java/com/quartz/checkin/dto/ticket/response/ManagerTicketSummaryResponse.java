@@ -3,7 +3,7 @@ package com.quartz.checkin.dto.ticket.response;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.quartz.checkin.entity.Priority;
 import com.quartz.checkin.entity.Status;
-import com.quartz.checkin.entity.Ticket;
+import com.quartz.checkin.entity.TicketView;
 import java.time.LocalDate;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -30,19 +30,19 @@ public class ManagerTicketSummaryResponse {
     private Priority priority;
     private Status status;
 
-    public static ManagerTicketSummaryResponse from(Ticket ticket) {
+    public static ManagerTicketSummaryResponse from(TicketView ticketView) {
         return ManagerTicketSummaryResponse.builder()
-                .ticketId(ticket.getId())
-                .customId(ticket.getCustomId())
-                .title(ticket.getTitle())
-                .firstCategory(ticket.getFirstCategory().getName())
-                .secondCategory(ticket.getSecondCategory().getName())
-                .manager(ticket.getManager() != null ? ticket.getManager().getUsername() : null)
-                .managerProfilePic(ticket.getManager() != null ? ticket.getManager().getProfilePic() : null)
-                .content(ticket.getContent())
-                .dueDate(ticket.getDueDate())
-                .priority(ticket.getPriority())
-                .status(ticket.getStatus())
+                .ticketId(ticketView.getId())
+                .customId(ticketView.getCustomId())
+                .title(ticketView.getTitle())
+                .firstCategory(ticketView.getFirstCategoryName())
+                .secondCategory(ticketView.getSecondCategoryName())
+                .manager(ticketView.getManagerUsername())
+                .managerProfilePic(ticketView.getManagerProfilePic())
+                .content(ticketView.getContentPreview())
+                .dueDate(ticketView.getDueDate())
+                .priority(ticketView.getPriority())
+                .status(ticketView.getStatus())
                 .build();
     }
 }
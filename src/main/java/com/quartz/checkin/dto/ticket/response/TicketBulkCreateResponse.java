@@ -0,0 +1,6 @@
+package com.quartz.checkin.dto.ticket.response;
+
+import java.util.List;
+
+public record TicketBulkCreateResponse(List<Long> ticketIds) {
+}
@@ -0,0 +1,15 @@
+package com.quartz.checkin.dto.ticket.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 다음 페이지가 없으면 nextCursor는 null입니다.
+@Getter
+@AllArgsConstructor
+public class TicketCursorResponse<T> {
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+    private List<T> tickets;
+}
@@ -0,0 +1,10 @@
+package com.quartz.checkin.dto.ticket.response;
+
+import com.quartz.checkin.entity.TicketImportError;
+
+public record TicketImportErrorResponse(long row, String message) {
+
+    public static TicketImportErrorResponse from(TicketImportError error) {
+        return new TicketImportErrorResponse(error.getRowNumber(), error.getMessage());
+    }
+}
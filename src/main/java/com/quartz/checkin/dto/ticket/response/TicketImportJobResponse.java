@@ -0,0 +1,36 @@
+package com.quartz.checkin.dto.ticket.response;
+
+import com.quartz.checkin.entity.TicketImportFormat;
+import com.quartz.checkin.entity.TicketImportJob;
+import com.quartz.checkin.entity.TicketImportStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record TicketImportJobResponse(
+        String jobId,
+        TicketImportFormat format,
+        TicketImportStatus status,
+        long processedRows,
+        long importedRows,
+        long failedRows,
+        String failureMessage,
+        LocalDateTime createdAt,
+        LocalDateTime finishedAt,
+        List<TicketImportErrorResponse> errors
+) {
+
+    public static TicketImportJobResponse of(TicketImportJob job, List<TicketImportErrorResponse> errors) {
+        return new TicketImportJobResponse(
+                job.getId(),
+                job.getFormat(),
+                job.getStatus(),
+                job.getProcessedRows(),
+                job.getImportedRows(),
+                job.getFailedRows(),
+                job.getFailureMessage(),
+                job.getCreatedAt(),
+                job.getFinishedAt(),
+                errors
+        );
+    }
+}
@@ -2,7 +2,7 @@ package com.quartz.checkin.dto.ticket.response;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.quartz.checkin.entity.Status;
-import com.quartz.checkin.entity.Ticket;
+import com.quartz.checkin.entity.TicketView;
 import java.time.LocalDate;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -28,19 +28,18 @@ public class UserTicketSummaryResponse {
 
     private Status status;
 
-    public static UserTicketSummaryResponse from(Ticket ticket) {
+    public static UserTicketSummaryResponse from(TicketView ticketView) {
         return UserTicketSummaryResponse.builder()
-                .ticketId(ticket.getId())
-                .customId(ticket.getCustomId())
-                .title(ticket.getTitle())
-                .firstCategory(ticket.getFirstCategory().getName())
-                .secondCategory(ticket.getSecondCategory().getName())
-                .manager(ticket.getManager() != null ? ticket.getManager().getUsername() : null)
-                .managerProfilePic(ticket.getManager() != null ? ticket.getManager().getProfilePic() : null)
-                .content(ticket.getContent())
-                .dueDate(ticket.getDueDate())
-                .status(ticket.getStatus())
+                .ticketId(ticketView.getId())
+                .customId(ticketView.getCustomId())
+                .title(ticketView.getTitle())
+                .firstCategory(ticketView.getFirstCategoryName())
+                .secondCategory(ticketView.getSecondCategoryName())
+                .manager(ticketView.getManagerUsername())
+                .managerProfilePic(ticketView.getManagerProfilePic())
+                .content(ticketView.getContentPreview())
+                .dueDate(ticketView.getDueDate())
+                .status(ticketView.getStatus())
                 .build();
     }
 }
-
@@ -0,0 +1,41 @@
+package com.quartz.checkin.entity;
+
+import com.quartz.checkin.common.cache.CacheInvalidationMessage;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class CacheInvalidation extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "cache_invalidation_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private String channel;
+
+    @Column(nullable = false, length = CacheInvalidationMessage.MAX_KEY_LENGTH)
+    private String cacheKey;
+
+    @Column(nullable = false)
+    private long cacheValue;
+
+    @Column(nullable = false)
+    private String originNode;
+
+    public CacheInvalidation(String channel, String cacheKey, long cacheValue, String originNode) {
+        this.channel = channel;
+        this.cacheKey = cacheKey;
+        this.cacheValue = cacheValue;
+        this.originNode = originNode;
+    }
+}
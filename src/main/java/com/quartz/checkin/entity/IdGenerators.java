@@ -0,0 +1,25 @@
+package com.quartz.checkin.entity;
+
+/*
+ * 여러 행을 한 번에 저장하는 엔티티가 공유하는 id 생성 테이블 설정입니다.
+ * IDENTITY는 insert를 실행해야 키를 알 수 있어 Hibernate가 insert를 배치로 묶지 못하므로,
+ * id_generator 테이블에서 ALLOCATION_SIZE 단위로 키를 미리 받아 옵니다. MySQL과 H2 모두에서 동작합니다.
+ */
+public final class IdGenerators {
+
+    public static final String TABLE = "id_generator";
+    public static final String SEGMENT_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    public static final String TICKET = "ticket";
+    public static final String TICKET_LOG = "ticket_log";
+    public static final String TICKET_ATTACHMENT = "ticket_attachment";
+    public static final String TEMPLATE_ATTACHMENT = "template_attachment";
+    public static final String ALERT_LOG = "alert_log";
+    public static final String LIKES = "likes";
+    public static final String TICKET_IMPORT_ERROR = "ticket_import_error";
+
+    private IdGenerators() {
+    }
+}
@@ -16,6 +16,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Builder
@@ -45,23 +46,23 @@ public class Member extends BaseEntity {
     @Column(nullable = false)
     private Role role;
 
-    private String refreshToken;
-
     private LocalDateTime passwordChangedAt;
 
     private LocalDateTime deletedAt;
 
+    // 권한 변경, 소프트 딜리트 시 증가합니다. accessToken에 담긴 값이 이보다 작으면 거부됩니다.
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int securityEpoch;
+
     public void updatePassword(String encodedPassword) {
         this.password = encodedPassword;
         this.passwordChangedAt = LocalDateTime.now();
     }
 
-    public void updateRefreshToken(String refreshToken) {
-        this.refreshToken = refreshToken;
-    }
-
     public void updateRole(Role role) {
         this.role = role;
+        this.securityEpoch++;
     }
 
     public void updateProfilePic(String profilePic) {
@@ -69,7 +70,7 @@ public class Member extends BaseEntity {
     }
 
     public void softDelete() {
-        this.refreshToken = null;
+        this.securityEpoch++;
         this.deletedAt = LocalDateTime.now();
     }
 
@@ -0,0 +1,57 @@
+package com.quartz.checkin.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/*
+ * 삭제되지 않은 티켓 수를 생성일, 마감일, 담당자, 1차 카테고리, 상태별로 미리 더해 둔 통계용 집계 테이블입니다.
+ * 티켓을 변경한 트랜잭션 안에서 증감되고, 매일 밤 ticket 테이블로부터 다시 계산됩니다.
+ * 담당자가 없는 티켓은 manager_id 0으로 집계합니다.
+ */
+@Entity
+@Table(name = "ticket_daily_stats",
+        uniqueConstraints = @UniqueConstraint(name = "uk_ticket_daily_stats",
+                columnNames = {"statDate", "dueDate", "managerId", "firstCategoryId", "status"}),
+        indexes = @Index(name = "idx_ticket_daily_stats_due_date", columnList = "dueDate, status"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class TicketDailyStats {
+
+    public static final long NO_MANAGER = 0L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ticket_daily_stats_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDate statDate;
+
+    @Column(nullable = false)
+    private LocalDate dueDate;
+
+    @Column(nullable = false)
+    private Long managerId;
+
+    @Column(nullable = false)
+    private Long firstCategoryId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status;
+
+    @Column(nullable = false)
+    private long ticketCount;
+}
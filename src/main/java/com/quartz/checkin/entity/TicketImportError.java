@@ -0,0 +1,45 @@
+package com.quartz.checkin.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "ticket_import_error", indexes = {
+        @Index(name = "idx_ticket_import_error_job", columnList = "jobId, rowNumber")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class TicketImportError {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "ticket_import_error_id_generator")
+    @TableGenerator(name = "ticket_import_error_id_generator", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.SEGMENT_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = IdGenerators.TICKET_IMPORT_ERROR, allocationSize = IdGenerators.ALLOCATION_SIZE)
+    @Column(name = "ticket_import_error_id")
+    private Long id;
+
+    @Column(nullable = false, length = 36)
+    private String jobId;
+
+    @Column(nullable = false)
+    private long rowNumber;
+
+    @Column(nullable = false, length = 500)
+    private String message;
+
+    public TicketImportError(String jobId, long rowNumber, String message) {
+        this.jobId = jobId;
+        this.rowNumber = rowNumber;
+        this.message = message.length() > 500 ? message.substring(0, 500) : message;
+    }
+}
@@ -0,0 +1,29 @@
+package com.quartz.checkin.entity;
+
+import java.util.Optional;
+import org.springframework.http.MediaType;
+
+public enum TicketImportFormat {
+    NDJSON("application/x-ndjson"),
+    CSV("text/csv");
+
+    private final String mediaType;
+
+    TicketImportFormat(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public static Optional<TicketImportFormat> fromContentType(String contentType) {
+        if (contentType == null) {
+            return Optional.empty();
+        }
+
+        MediaType requested = MediaType.parseMediaType(contentType);
+        for (TicketImportFormat format : values()) {
+            if (MediaType.parseMediaType(format.mediaType).equalsTypeAndSubtype(requested)) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+}
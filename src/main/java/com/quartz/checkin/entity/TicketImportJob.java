@@ -0,0 +1,80 @@
+package com.quartz.checkin.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 티켓 가져오기 작업의 진행 상황입니다. 청크가 커밋될 때마다 같은 트랜잭션에서 갱신되므로 processedRows까지는 반영이 보장됩니다.
+@Entity
+@Table(name = "ticket_import_job")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class TicketImportJob {
+
+    @Id
+    @Column(name = "ticket_import_job_id", length = 36)
+    private String id;
+
+    @Column(nullable = false)
+    private Long requestedBy;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TicketImportFormat format;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TicketImportStatus status;
+
+    @Column(nullable = false)
+    private long processedRows;
+
+    @Column(nullable = false)
+    private long importedRows;
+
+    @Column(nullable = false)
+    private long failedRows;
+
+    private String failureMessage;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime finishedAt;
+
+    public TicketImportJob(String id, Long requestedBy, TicketImportFormat format) {
+        this.id = id;
+        this.requestedBy = requestedBy;
+        this.format = format;
+        this.status = TicketImportStatus.QUEUED;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public void start() {
+        this.status = TicketImportStatus.RUNNING;
+    }
+
+    public void checkpoint(int processed, int imported, int failed) {
+        this.processedRows += processed;
+        this.importedRows += imported;
+        this.failedRows += failed;
+    }
+
+    public void complete() {
+        this.status = TicketImportStatus.COMPLETED;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public void fail(String failureMessage) {
+        this.status = TicketImportStatus.FAILED;
+        this.failureMessage = failureMessage;
+        this.finishedAt = LocalDateTime.now();
+    }
+}
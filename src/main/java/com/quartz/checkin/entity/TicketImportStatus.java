@@ -0,0 +1,5 @@
+package com.quartz.checkin.entity;
+
+public enum TicketImportStatus {
+    QUEUED, RUNNING, COMPLETED, FAILED
+}
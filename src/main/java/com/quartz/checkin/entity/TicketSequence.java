@@ -0,0 +1,36 @@
+package com.quartz.checkin.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 날짜별로 다음에 할당할 티켓 번호를 저장합니다. 각 노드는 이 값을 블록 단위로 가져갑니다.
+@Entity
+@Table(name = "ticket_sequence")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class TicketSequence {
+
+    @Id
+    @Column(name = "sequence_date")
+    private LocalDate sequenceDate;
+
+    @Column(nullable = false)
+    private long nextValue;
+
+    public TicketSequence(LocalDate sequenceDate, long nextValue) {
+        this.sequenceDate = sequenceDate;
+        this.nextValue = nextValue;
+    }
+
+    public long allocate(int blockSize) {
+        long start = nextValue;
+        nextValue += blockSize;
+        return start;
+    }
+}
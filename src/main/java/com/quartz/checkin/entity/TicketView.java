@@ -0,0 +1,134 @@
+package com.quartz.checkin.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+/*
+ * 목록, 검색, 대시보드 조회용으로 티켓과 카테고리, 담당자 정보를 한 행에 펼쳐 둔 읽기 모델입니다.
+ * 티켓을 변경한 트랜잭션이 커밋되기 직전에 함께 갱신되므로 ticket 테이블과 어긋나지 않습니다.
+ * 인덱스는 V4__ticket_view_indexes 마이그레이션이 만듭니다.
+ */
+@Entity
+@Table(name = "ticket_view")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class TicketView implements Persistable<Long> {
+
+    public static final int CONTENT_PREVIEW_LENGTH = 256;
+
+    @Id
+    @Column(name = "ticket_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private String customId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    private Long managerId;
+
+    private String managerUsername;
+
+    private String managerProfilePic;
+
+    @Column(nullable = false)
+    private Long firstCategoryId;
+
+    @Column(nullable = false)
+    private String firstCategoryName;
+
+    @Column(nullable = false)
+    private Long secondCategoryId;
+
+    @Column(nullable = false)
+    private String secondCategoryName;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false, length = CONTENT_PREVIEW_LENGTH)
+    private String contentPreview;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Priority priority;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status;
+
+    @Column(nullable = false)
+    private LocalDate dueDate;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDate closedDate;
+
+    private LocalDateTime deletedAt;
+
+    // id를 티켓에서 그대로 가져오므로, 저장 전에 존재 여부를 다시 조회(merge)하지 않도록 새 행인지 직접 표시합니다.
+    @Transient
+    private boolean newView;
+
+    public static TicketView from(Ticket ticket) {
+        TicketView view = new TicketView();
+        view.id = ticket.getId();
+        view.newView = true;
+        view.refresh(ticket);
+        return view;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newView;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.newView = false;
+    }
+
+    public void refresh(Ticket ticket) {
+        Member manager = ticket.getManager();
+        Category firstCategory = ticket.getFirstCategory();
+        Category secondCategory = ticket.getSecondCategory();
+
+        this.customId = ticket.getCustomId();
+        this.userId = ticket.getUser().getId();
+        this.managerId = manager != null ? manager.getId() : null;
+        this.managerUsername = manager != null ? manager.getUsername() : null;
+        this.managerProfilePic = manager != null ? manager.getProfilePic() : null;
+        this.firstCategoryId = firstCategory.getId();
+        this.firstCategoryName = firstCategory.getName();
+        this.secondCategoryId = secondCategory.getId();
+        this.secondCategoryName = secondCategory.getName();
+        this.title = ticket.getTitle();
+        this.contentPreview = toPreview(ticket.getContent());
+        this.priority = ticket.getPriority();
+        this.status = ticket.getStatus();
+        this.dueDate = ticket.getDueDate();
+        this.createdAt = ticket.getCreatedAt();
+        this.closedDate = ticket.getClosedAt() != null ? ticket.getClosedAt().toLocalDate() : null;
+        this.deletedAt = ticket.getDeletedAt();
+    }
+
+    private static String toPreview(String content) {
+        return content.length() > CONTENT_PREVIEW_LENGTH ? content.substring(0, CONTENT_PREVIEW_LENGTH) : content;
+    }
+}
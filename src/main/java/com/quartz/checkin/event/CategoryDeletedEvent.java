@@ -0,0 +1,11 @@
+package com.quartz.checkin.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CategoryDeletedEvent {
+    private final Long categoryId;
+    private final boolean firstCategory;
+}
@@ -0,0 +1,12 @@
+package com.quartz.checkin.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CategoryUpdatedEvent {
+    private final Long categoryId;
+    private final String name;
+    private final boolean firstCategory;
+}
@@ -0,0 +1,11 @@
+package com.quartz.checkin.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class MemberProfilePicUpdatedEvent {
+    private final Long memberId;
+    private final String profilePic;
+}
@@ -5,7 +5,9 @@ import lombok.Getter;
 
 @Getter
 @AllArgsConstructor
-public class RoleUpdateEvent {
+public class RoleUpdateEvent implements SecurityEpochChangedEvent {
 
+    Long memberId;
     String username;
+    int securityEpoch;
 }
@@ -0,0 +1,9 @@
+package com.quartz.checkin.event;
+
+// 사용자의 보안 epoch가 증가하는 이벤트입니다. 이전 epoch로 발급된 accessToken은 모두 거부됩니다.
+public interface SecurityEpochChangedEvent {
+
+    Long getMemberId();
+
+    int getSecurityEpoch();
+}
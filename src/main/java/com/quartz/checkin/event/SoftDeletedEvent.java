@@ -5,7 +5,9 @@ import lombok.Getter;
 
 @Getter
 @AllArgsConstructor
-public class SoftDeletedEvent {
+public class SoftDeletedEvent implements SecurityEpochChangedEvent {
 
+    Long memberId;
     String username;
+    int securityEpoch;
 }
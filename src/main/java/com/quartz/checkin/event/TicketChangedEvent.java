@@ -0,0 +1,22 @@
+package com.quartz.checkin.event;
+
+import java.util.Collections;
+import java.util.List;
+import lombok.Getter;
+
+// 목록 조회 결과에 영향을 주는 티켓 변경(생성, 수정, 상태, 담당자, 카테고리, 우선순위, 삭제, 복구)을 알립니다.
+@Getter
+public class TicketChangedEvent {
+    private final List<Long> ticketIds;
+    private final List<Long> userIds;
+
+    public TicketChangedEvent(List<Long> ticketIds, List<Long> userIds) {
+        this.ticketIds = ticketIds;
+        this.userIds = userIds;
+    }
+
+    public TicketChangedEvent(Long ticketId, Long userId) {
+        this.ticketIds = Collections.singletonList(ticketId);
+        this.userIds = Collections.singletonList(userId);
+    }
+}
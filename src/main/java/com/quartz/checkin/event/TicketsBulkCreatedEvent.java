@@ -0,0 +1,11 @@
+package com.quartz.checkin.event;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TicketsBulkCreatedEvent {
+    private final List<TicketCreatedEvent> events;
+}
@@ -0,0 +1,23 @@
+package com.quartz.checkin.event.listener;
+
+import com.quartz.checkin.event.SoftDeletedEvent;
+import com.quartz.checkin.service.RefreshTokenService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenEventListener {
+
+    private final RefreshTokenService refreshTokenService;
+
+    // 소프트 딜리트와 같은 트랜잭션에서 모든 세션을 폐기합니다.
+    @EventListener
+    public void handleSoftDeletedEvent(SoftDeletedEvent event) {
+        log.info("소프트 딜리트된 사용자({})의 모든 세션을 폐기합니다.", event.getMemberId());
+        refreshTokenService.revokeAllByMemberId(event.getMemberId());
+    }
+}
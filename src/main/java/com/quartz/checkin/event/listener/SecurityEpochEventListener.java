@@ -0,0 +1,25 @@
+package com.quartz.checkin.event.listener;
+
+import com.quartz.checkin.event.SecurityEpochChangedEvent;
+import com.quartz.checkin.security.service.SecurityEpochService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SecurityEpochEventListener {
+
+    private final SecurityEpochService securityEpochService;
+
+    // 커밋 직후 바로 반영되어야 하므로 비동기로 처리하지 않습니다.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleSecurityEpochChangedEvent(SecurityEpochChangedEvent event) {
+        log.info("사용자({})의 보안 epoch가 {}(으)로 변경되었습니다. 이전에 발급된 토큰은 거부됩니다.",
+                event.getMemberId(), event.getSecurityEpoch());
+        securityEpochService.advance(event.getMemberId(), event.getSecurityEpoch());
+    }
+}
@@ -0,0 +1,21 @@
+package com.quartz.checkin.event.listener;
+
+import com.quartz.checkin.event.TicketChangedEvent;
+import com.quartz.checkin.service.TicketCountCacheService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class TicketChangedEventListener {
+
+    private final TicketCountCacheService ticketCountCacheService;
+
+    // 변경 직후의 목록 조회가 이전 개수를 보지 않도록 비동기로 처리하지 않습니다.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleTicketChangedEvent(TicketChangedEvent event) {
+        ticketCountCacheService.invalidate(event.getUserIds());
+    }
+}
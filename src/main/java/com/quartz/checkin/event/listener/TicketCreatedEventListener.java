@@ -2,6 +2,7 @@ package com.quartz.checkin.event.listener;
 
 import com.quartz.checkin.entity.AlertLog;
 import com.quartz.checkin.event.TicketCreatedEvent;
+import com.quartz.checkin.event.TicketsBulkCreatedEvent;
 import com.quartz.checkin.repository.AlertLogRepository;
 import com.quartz.checkin.service.WebhookService;
 import java.time.LocalDateTime;
@@ -24,6 +25,17 @@ public class TicketCreatedEventListener {
     @Async
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleTicketCreatedEvent(TicketCreatedEvent event) {
+        processTicketCreatedEvent(event);
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleTicketsBulkCreatedEvent(TicketsBulkCreatedEvent event) {
+        event.getEvents().forEach(this::processTicketCreatedEvent);
+        log.info("Tickets Bulk Created Event Processed: count={}", event.getEvents().size());
+    }
+
+    private void processTicketCreatedEvent(TicketCreatedEvent event) {
         try {
             Long agitId = webhookService.createAgitPost(
                     event.getCustomId(),
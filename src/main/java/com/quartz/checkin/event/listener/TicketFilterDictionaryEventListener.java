@@ -0,0 +1,37 @@
+package com.quartz.checkin.event.listener;
+
+import com.quartz.checkin.event.CategoryDeletedEvent;
+import com.quartz.checkin.event.CategoryUpdatedEvent;
+import com.quartz.checkin.event.MemberHardDeletedEvent;
+import com.quartz.checkin.service.TicketFilterDictionary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class TicketFilterDictionaryEventListener {
+
+    private final TicketFilterDictionary ticketFilterDictionary;
+
+    // 필터는 1차 카테고리 이름으로만 찾으므로 2차 카테고리 변경은 무시합니다.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleCategoryUpdatedEvent(CategoryUpdatedEvent event) {
+        if (event.isFirstCategory()) {
+            ticketFilterDictionary.evictCategories();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleCategoryDeletedEvent(CategoryDeletedEvent event) {
+        if (event.isFirstCategory()) {
+            ticketFilterDictionary.evictCategories();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleMemberHardDeletedEvent(MemberHardDeletedEvent event) {
+        ticketFilterDictionary.evictMember(event.getUsername());
+    }
+}
@@ -0,0 +1,40 @@
+package com.quartz.checkin.event.listener;
+
+import com.quartz.checkin.event.CommentAddedEvent;
+import com.quartz.checkin.event.TicketChangedEvent;
+import com.quartz.checkin.service.TicketSearchService;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TicketSearchEventListener {
+
+    private final TicketSearchService ticketSearchService;
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleTicketChangedEvent(TicketChangedEvent event) {
+        try {
+            ticketSearchService.reindex(event.getTicketIds());
+        } catch (Exception e) {
+            log.error("티켓 검색 색인 반영 실패: ticketIds={}, {}", event.getTicketIds(), e.getMessage(), e);
+        }
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleCommentAddedEvent(CommentAddedEvent event) {
+        try {
+            ticketSearchService.reindex(List.of(event.getId()));
+        } catch (Exception e) {
+            log.error("댓글 검색 색인 반영 실패: ticketId={}, {}", event.getId(), e.getMessage(), e);
+        }
+    }
+}
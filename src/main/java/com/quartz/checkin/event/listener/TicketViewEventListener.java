@@ -0,0 +1,33 @@
+package com.quartz.checkin.event.listener;
+
+import com.quartz.checkin.event.CategoryUpdatedEvent;
+import com.quartz.checkin.event.MemberProfilePicUpdatedEvent;
+import com.quartz.checkin.event.TicketChangedEvent;
+import com.quartz.checkin.service.TicketViewService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 읽기 모델은 원본을 변경한 트랜잭션 안에서 커밋 직전에 갱신해, 함께 커밋되거나 함께 롤백되도록 합니다.
+@Component
+@RequiredArgsConstructor
+public class TicketViewEventListener {
+
+    private final TicketViewService ticketViewService;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void handleTicketChangedEvent(TicketChangedEvent event) {
+        ticketViewService.refresh(event.getTicketIds());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void handleCategoryUpdatedEvent(CategoryUpdatedEvent event) {
+        ticketViewService.renameCategory(event.getCategoryId(), event.getName(), event.isFirstCategory());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void handleMemberProfilePicUpdatedEvent(MemberProfilePicUpdatedEvent event) {
+        ticketViewService.updateManagerProfilePic(event.getMemberId(), event.getProfilePic());
+    }
+}
@@ -4,6 +4,8 @@ import com.quartz.checkin.entity.Category;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CategoryRepository extends JpaRepository<Category, Long>, CategoryRepositoryCustom {
 
@@ -19,5 +21,8 @@ public interface CategoryRepository extends JpaRepository<Category, Long>, Categ
     boolean existsByParent(Category parent);
     boolean existsByNameAndParent(String name, Category parent);
     List<Category> findByParentId(Long parentId);
+
+    @Query("SELECT c.id FROM Category c WHERE c.parent IS NULL AND LOWER(TRIM(c.name)) = :categoryKey")
+    List<Long> findFirstCategoryIdsByKey(@Param("categoryKey") String categoryKey);
 }
 
@@ -1,6 +1,7 @@
 package com.quartz.checkin.repository;
 
 import com.quartz.checkin.dto.member.response.MemberRoleCount;
+import com.quartz.checkin.dto.member.response.MemberSecurityEpoch;
 import com.quartz.checkin.entity.Member;
 import com.quartz.checkin.entity.Role;
 import java.util.List;
@@ -8,6 +9,7 @@ import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -19,7 +21,13 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     Optional<Member> findByUsername(String username);
 
-    Optional<Member> findByRefreshToken(String refreshToken);
+    @Query("SELECT m.id FROM Member m WHERE m.username = :username")
+    Optional<Long> findIdByUsername(@Param("username") String username);
+
+    @Query("SELECT new com.quartz.checkin.dto.member.response.MemberSecurityEpoch(m.id, m.securityEpoch) "
+            + "FROM Member m "
+            + "WHERE m.securityEpoch > 0")
+    List<MemberSecurityEpoch> findAllSecurityEpochs();
 
     @Query(value = "SELECT m FROM Member m "
             + "WHERE m.role = :role "
@@ -57,4 +65,9 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
             AND m.id != -1
              """)
     MemberRoleCount findRoleCounts();
+
+    // 비밀번호 변경 시각은 바꾸지 않고 해시만 교체합니다.
+    @Modifying
+    @Query("UPDATE Member m SET m.password = :password WHERE m.username = :username")
+    int updatePasswordHash(@Param("username") String username, @Param("password") String password);
 }
@@ -0,0 +1,33 @@
+package com.quartz.checkin.repository;
+
+import com.quartz.checkin.entity.RefreshToken;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    @Query("SELECT rt FROM RefreshToken rt JOIN FETCH rt.member WHERE rt.tokenHash = :tokenHash")
+    Optional<RefreshToken> findByTokenHashJoinFetch(@Param("tokenHash") String tokenHash);
+
+    // 동시에 같은 토큰으로 재발급하더라도 한 요청만 성공하도록 조건부로 사용 처리합니다.
+    @Modifying
+    @Query("UPDATE RefreshToken rt SET rt.used = true "
+            + "WHERE rt.id = :id AND rt.used = false AND rt.revoked = false")
+    int markUsed(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE RefreshToken rt SET rt.revoked = true WHERE rt.familyId = :familyId AND rt.revoked = false")
+    int revokeFamily(@Param("familyId") String familyId);
+
+    @Modifying
+    @Query("UPDATE RefreshToken rt SET rt.revoked = true WHERE rt.member.id = :memberId AND rt.revoked = false")
+    int revokeAllByMemberId(@Param("memberId") Long memberId);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken rt WHERE rt.expiresAt < :now")
+    int deleteAllExpiredBefore(@Param("now") LocalDateTime now);
+}
@@ -9,13 +9,14 @@ import com.quartz.checkin.dto.stat.response.StatTotalProgressResponse;
 import com.quartz.checkin.dto.stat.response.StatTotalProgressResultResponse;
 import com.quartz.checkin.entity.QCategory;
 import com.quartz.checkin.entity.QMember;
-import com.quartz.checkin.entity.QTicket;
+import com.quartz.checkin.entity.QTicketDailyStats;
 import com.quartz.checkin.entity.Status;
 import com.querydsl.core.Tuple;
-import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.StringExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.time.LocalDate;
-import java.time.LocalTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -28,25 +29,25 @@ import org.springframework.stereotype.Repository;
 @RequiredArgsConstructor
 public class StatsRepositoryCustomImpl implements StatsRepositoryCustom {
 
+    private static final QTicketDailyStats stats = QTicketDailyStats.ticketDailyStats;
+
     private final JPAQueryFactory queryFactory;
 
+    // 통계는 ticket 테이블 대신 ticket_daily_stats의 집계 행을 더해 계산합니다.
     @Override
     public List<StatCategoryRateResponse> findStatsByCategory() {
         QMember member = QMember.member;
-        QTicket ticket = QTicket.ticket;
         QCategory category = QCategory.category;
+        NumberExpression<Long> ticketCount = stats.ticketCount.sum();
+        StringExpression managerName = managerName(member);
 
         List<Tuple> results = queryFactory
-                .select(
-                        ticket.manager.id.when(-1L).then("삭제된 사용자").otherwise(member.username),
-                        category.name,
-                        ticket.count()
-                )
-                .from(ticket)
-                .join(ticket.manager, member)
-                .join(ticket.firstCategory, category)
+                .select(managerName, category.name, ticketCount)
+                .from(stats)
+                .join(member).on(stats.managerId.eq(member.id))
+                .join(category).on(stats.firstCategoryId.eq(category.id))
                 .where(
-                        ticket.deletedAt.isNull(),
+                        stats.ticketCount.gt(0L),
                         member.deletedAt.isNull()
                 )
                 .groupBy(member.username, category.name)
@@ -58,10 +59,10 @@ public class StatsRepositoryCustomImpl implements StatsRepositoryCustom {
 
         Map<String, List<StatCategoryCountResponse>> groupedData = results.stream()
                 .collect(Collectors.groupingBy(
-                        tuple -> Objects.requireNonNull(tuple.get(ticket.manager.id.when(-1L).then("삭제된 사용자").otherwise(member.username))),
+                        tuple -> Objects.requireNonNull(tuple.get(managerName)),
                         Collectors.mapping(tuple -> new StatCategoryCountResponse(
                                 tuple.get(category.name),
-                                Objects.requireNonNull(tuple.get(ticket.count())).intValue()
+                                Objects.requireNonNull(tuple.get(ticketCount)).intValue()
                         ), Collectors.toList())
                 ));
 
@@ -72,37 +73,35 @@ public class StatsRepositoryCustomImpl implements StatsRepositoryCustom {
 
     @Override
     public StatTotalProgressResultResponse findStatTotalProgress() {
-        QTicket ticket = QTicket.ticket;
         QMember member = QMember.member;
 
         LocalDate today = LocalDate.now();
         LocalDate fromDate = today.minusDays(31);
 
         Long overdueCount = queryFactory
-                .select(ticket.count())
-                .from(ticket)
-                .join(member).on(ticket.manager.id.eq(member.id)
+                .select(stats.ticketCount.sum())
+                .from(stats)
+                .join(member).on(stats.managerId.eq(member.id)
                         .and(member.deletedAt.isNull())
                         .and(member.id.ne(-1L)))
-                .where(ticket.deletedAt.isNull(),
-                        ticket.status.eq(Status.IN_PROGRESS),
-                        ticket.dueDate.between(fromDate, today.minusDays(1)))
+                .where(stats.status.eq(Status.IN_PROGRESS),
+                        stats.dueDate.between(fromDate, today.minusDays(1)))
                 .fetchOne();
 
+        NumberExpression<Long> ticketCount = stats.ticketCount.sum();
         List<Tuple> statusCounts = queryFactory
-                .select(ticket.status, ticket.count())
-                .from(ticket)
-                .where(ticket.deletedAt.isNull(),
-                        ticket.createdAt.loe(today.atTime(LocalTime.MAX)),
-                        ticket.dueDate.goe(LocalDate.from(today.atTime(LocalTime.MIN))),
-                        ticket.status.in(Status.OPEN, Status.IN_PROGRESS, Status.CLOSED))
-                .groupBy(ticket.status)
+                .select(stats.status, ticketCount)
+                .from(stats)
+                .where(stats.statDate.loe(today),
+                        stats.dueDate.goe(today),
+                        stats.status.in(Status.OPEN, Status.IN_PROGRESS, Status.CLOSED))
+                .groupBy(stats.status)
                 .fetch();
 
         Map<String, Integer> statusTicketCountMap = statusCounts.stream()
                 .collect(Collectors.toMap(
-                        tuple -> Objects.requireNonNull(tuple.get(ticket.status)).name(),
-                        tuple -> Objects.requireNonNull(tuple.get(ticket.count())).intValue()
+                        tuple -> Objects.requireNonNull(tuple.get(stats.status)).name(),
+                        tuple -> Objects.requireNonNullElse(tuple.get(ticketCount), 0L).intValue()
                 ));
 
         List<StatTotalProgressResponse> ticketStatusList = List.of(
@@ -122,23 +121,20 @@ public class StatsRepositoryCustomImpl implements StatsRepositoryCustom {
     @Override
     public List<StatCategoryRateResponse> findStatsByManager(String period) {
         QMember member = QMember.member;
-        QTicket ticket = QTicket.ticket;
+        NumberExpression<Long> ticketCount = stats.ticketCount.sum();
+        StringExpression managerName = managerName(member);
 
         LocalDate fromDate = getFromDate(period);
 
         List<Tuple> results = queryFactory
-                .select(
-                        ticket.manager.id.when(-1L).then("삭제된 사용자").otherwise(member.username),
-                        ticket.status,
-                        ticket.count()
-                )
-                .from(ticket)
-                .join(ticket.manager, member)
+                .select(managerName, stats.status, ticketCount)
+                .from(stats)
+                .join(member).on(stats.managerId.eq(member.id))
                 .where(
-                        ticket.deletedAt.isNull(),
-                        ticket.createdAt.after(fromDate.atStartOfDay())
+                        stats.ticketCount.gt(0L),
+                        stats.statDate.goe(fromDate)
                 )
-                .groupBy(member.username, ticket.status)
+                .groupBy(member.username, stats.status)
                 .fetch();
 
         if (results.isEmpty()) {
@@ -147,10 +143,10 @@ public class StatsRepositoryCustomImpl implements StatsRepositoryCustom {
 
         Map<String, List<StatCategoryCountResponse>> groupedData = results.stream()
                 .collect(Collectors.groupingBy(
-                        tuple -> Objects.requireNonNull(tuple.get(ticket.manager.id.when(-1L).then("삭제된 사용자").otherwise(member.username))),
+                        tuple -> Objects.requireNonNull(tuple.get(managerName)),
                         Collectors.mapping(tuple -> new StatCategoryCountResponse(
-                                Objects.requireNonNull(tuple.get(ticket.status)).name(),
-                                Objects.requireNonNull(tuple.get(ticket.count())).intValue()
+                                Objects.requireNonNull(tuple.get(stats.status)).name(),
+                                Objects.requireNonNull(tuple.get(ticketCount)).intValue()
                         ), Collectors.toList())
                 ));
 
@@ -161,33 +157,26 @@ public class StatsRepositoryCustomImpl implements StatsRepositoryCustom {
 
     @Override
     public StatClosedRateResponse findClosedRate(String period) {
-        QTicket ticket = QTicket.ticket;
-        QMember member = QMember.member;
-
         LocalDate today = LocalDate.now();
         LocalDate fromDate = getFromDate(period);
 
-        Long totalCount = queryFactory
-                .select(ticket.count())
-                .from(ticket)
-                .leftJoin(ticket.manager, member)
-                .where(commonTicketConditions(today, fromDate))
-                .fetchOne();
+        NumberExpression<Long> totalCount = stats.ticketCount.sum();
+        NumberExpression<Long> closedCount = new CaseBuilder()
+                .when(stats.status.eq(Status.CLOSED)).then(stats.ticketCount)
+                .otherwise(0L)
+                .sum();
 
-        Long closedCount = queryFactory
-                .select(ticket.count())
-                .from(ticket)
-                .leftJoin(ticket.manager, member)
+        Tuple counts = queryFactory
+                .select(totalCount, closedCount)
+                .from(stats)
                 .where(
-                        ticket.deletedAt.isNull(),
-                        ticket.status.eq(Status.CLOSED),
-                        ticket.createdAt.loe(today.atStartOfDay()),
-                        ticket.dueDate.goe(fromDate)
+                        stats.statDate.lt(today),
+                        stats.dueDate.goe(fromDate)
                 )
                 .fetchOne();
 
-        int total = Objects.requireNonNullElse(totalCount, 0).intValue();
-        int closed = Objects.requireNonNullElse(closedCount, 0).intValue();
+        int total = counts != null ? Objects.requireNonNullElse(counts.get(totalCount), 0L).intValue() : 0;
+        int closed = counts != null ? Objects.requireNonNullElse(counts.get(closedCount), 0L).intValue() : 0;
         int unclosed = total - closed;
         double closedRate = (total > 0) ? ((double) closed / total) * 100 : 0.0;
 
@@ -196,19 +185,16 @@ public class StatsRepositoryCustomImpl implements StatsRepositoryCustom {
 
     @Override
     public List<StatCategoryCountResponse> findCategoryInProgressTickets() {
-        QTicket ticket = QTicket.ticket;
         QCategory category = QCategory.category;
+        NumberExpression<Long> ticketCount = stats.ticketCount.sum();
 
         List<Tuple> results = queryFactory
-                .select(
-                        category.name,
-                        ticket.count()
-                )
-                .from(ticket)
-                .join(ticket.firstCategory, category)
+                .select(category.name, ticketCount)
+                .from(stats)
+                .join(category).on(stats.firstCategoryId.eq(category.id))
                 .where(
-                        ticket.deletedAt.isNull(),  // 삭제되지 않은 티켓
-                        ticket.status.eq(Status.IN_PROGRESS) // 진행 중(IN_PROGRESS) 상태
+                        stats.ticketCount.gt(0L),
+                        stats.status.eq(Status.IN_PROGRESS) // 진행 중(IN_PROGRESS) 상태
                 )
                 .groupBy(category.name)
                 .fetch();
@@ -220,16 +206,13 @@ public class StatsRepositoryCustomImpl implements StatsRepositoryCustom {
         return results.stream()
                 .map(tuple -> new StatCategoryCountResponse(
                         tuple.get(category.name),
-                        Objects.requireNonNull(tuple.get(ticket.count())).intValue()
+                        Objects.requireNonNull(tuple.get(ticketCount)).intValue()
                 ))
                 .collect(Collectors.toList());
     }
 
-    private BooleanExpression commonTicketConditions(LocalDate today, LocalDate fromDate) {
-        QTicket ticket = QTicket.ticket;
-        return ticket.deletedAt.isNull()
-                .and(ticket.createdAt.loe(today.atStartOfDay()))
-                .and(ticket.dueDate.goe(fromDate));
+    private StringExpression managerName(QMember member) {
+        return stats.managerId.when(-1L).then("삭제된 사용자").otherwise(member.username);
     }
 
     private LocalDate getFromDate(String period) {
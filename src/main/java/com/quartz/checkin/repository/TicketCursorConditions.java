@@ -0,0 +1,44 @@
+package com.quartz.checkin.repository;
+
+import com.quartz.checkin.common.TicketCursor;
+import com.quartz.checkin.entity.QTicket;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.DateTimePath;
+import com.querydsl.core.types.dsl.NumberPath;
+import java.time.LocalDateTime;
+
+// (createdAt, id) 기준 keyset 조건과 정렬입니다. 같은 시각에 생성된 티켓은 id로 순서를 정합니다.
+final class TicketCursorConditions {
+
+    private TicketCursorConditions() {
+    }
+
+    static BooleanExpression after(QTicket ticket, TicketCursor cursor, boolean ascending) {
+        return after(ticket.createdAt, ticket.id, cursor, ascending);
+    }
+
+    static OrderSpecifier<?>[] orderBy(QTicket ticket, boolean ascending) {
+        return orderBy(ticket.createdAt, ticket.id, ascending);
+    }
+
+    static BooleanExpression after(DateTimePath<LocalDateTime> createdAt, NumberPath<Long> id,
+                                   TicketCursor cursor, boolean ascending) {
+        if (cursor == null) {
+            return null;
+        }
+
+        if (ascending) {
+            return createdAt.gt(cursor.createdAt())
+                    .or(createdAt.eq(cursor.createdAt()).and(id.gt(cursor.id())));
+        }
+        return createdAt.lt(cursor.createdAt())
+                .or(createdAt.eq(cursor.createdAt()).and(id.lt(cursor.id())));
+    }
+
+    static OrderSpecifier<?>[] orderBy(DateTimePath<LocalDateTime> createdAt, NumberPath<Long> id, boolean ascending) {
+        return ascending
+                ? new OrderSpecifier<?>[]{createdAt.asc(), id.asc()}
+                : new OrderSpecifier<?>[]{createdAt.desc(), id.desc()};
+    }
+}
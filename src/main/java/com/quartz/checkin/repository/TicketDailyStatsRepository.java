@@ -0,0 +1,13 @@
+package com.quartz.checkin.repository;
+
+import com.quartz.checkin.entity.TicketDailyStats;
+import java.time.LocalDate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+public interface TicketDailyStatsRepository extends JpaRepository<TicketDailyStats, Long>,
+        TicketDailyStatsRepositoryCustom {
+
+    @Query("SELECT MIN(s.statDate) FROM TicketDailyStats s")
+    LocalDate findFirstStatDate();
+}
@@ -0,0 +1,15 @@
+package com.quartz.checkin.repository;
+
+import com.quartz.checkin.common.stats.TicketDailyStatsKey;
+import java.time.LocalDate;
+import java.util.Map;
+
+public interface TicketDailyStatsRepositoryCustom {
+
+    void addCounts(Map<TicketDailyStatsKey, Long> deltas);
+
+    LocalDate findFirstTicketDate();
+
+    // 생성일 구간의 행을 지우고 ticket 테이블에서 다시 집계해 넣습니다. 호출하는 쪽의 트랜잭션 안에서 실행해야 합니다.
+    int rebuildCounts(LocalDate from, LocalDate to);
+}
@@ -0,0 +1,95 @@
+package com.quartz.checkin.repository;
+
+import com.quartz.checkin.common.stats.TicketDailyStatsKey;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class TicketDailyStatsRepositoryCustomImpl implements TicketDailyStatsRepositoryCustom {
+
+    // DB별 upsert 문법에 기대지 않도록 먼저 기존 행에 더하고, 행이 없던 키만 새로 넣습니다.
+    private static final String ADD_COUNT_SQL = """
+            UPDATE ticket_daily_stats SET ticket_count = ticket_count + :delta
+            WHERE stat_date = :statDate AND due_date = :dueDate AND manager_id = :managerId
+            AND first_category_id = :firstCategoryId AND status = :status
+            """;
+    private static final String INSERT_COUNT_SQL = """
+            INSERT INTO ticket_daily_stats (stat_date, due_date, manager_id, first_category_id, status, ticket_count)
+            VALUES (:statDate, :dueDate, :managerId, :firstCategoryId, :status, :delta)
+            """;
+    private static final String DELETE_RANGE_SQL = """
+            DELETE FROM ticket_daily_stats WHERE stat_date >= :from AND stat_date < :to
+            """;
+    private static final String SELECT_FIRST_TICKET_DATE = "SELECT MIN(created_at) FROM ticket";
+    private static final String INSERT_AGGREGATED_SQL = """
+            INSERT INTO ticket_daily_stats (stat_date, due_date, manager_id, first_category_id, status, ticket_count)
+            SELECT CAST(created_at AS DATE), due_date, COALESCE(manager_id, 0), first_category_id, status, COUNT(*)
+            FROM ticket
+            WHERE deleted_at IS NULL AND created_at >= :from AND created_at < :to
+            GROUP BY CAST(created_at AS DATE), due_date, COALESCE(manager_id, 0), first_category_id, status
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public void addCounts(Map<TicketDailyStatsKey, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        SqlParameterSource[] params = toParams(deltas);
+        int[] updated = jdbcTemplate.batchUpdate(ADD_COUNT_SQL, params);
+        for (int i = 0; i < params.length; i++) {
+            if (updated[i] == 0) {
+                insertCount(params[i]);
+            }
+        }
+    }
+
+    // 같은 키를 동시에 처음 증가시킨 트랜잭션이 먼저 넣었다면 유니크 키 충돌이 나므로 그 행에 더합니다.
+    private void insertCount(SqlParameterSource params) {
+        try {
+            jdbcTemplate.update(INSERT_COUNT_SQL, params);
+        } catch (DuplicateKeyException e) {
+            jdbcTemplate.update(ADD_COUNT_SQL, params);
+        }
+    }
+
+    @Override
+    public LocalDate findFirstTicketDate() {
+        Timestamp firstCreatedAt =
+                jdbcTemplate.getJdbcTemplate().queryForObject(SELECT_FIRST_TICKET_DATE, Timestamp.class);
+        return firstCreatedAt != null ? firstCreatedAt.toLocalDateTime().toLocalDate() : null;
+    }
+
+    // 먼저 지운 행의 잠금이 커밋까지 유지되므로, 그 사이 같은 행을 증감하려는 티켓 변경은 새 집계가 들어간 뒤에 더해집니다.
+    @Override
+    public int rebuildCounts(LocalDate from, LocalDate to) {
+        jdbcTemplate.update(DELETE_RANGE_SQL, new MapSqlParameterSource()
+                .addValue("from", Date.valueOf(from))
+                .addValue("to", Date.valueOf(to)));
+        return jdbcTemplate.update(INSERT_AGGREGATED_SQL, new MapSqlParameterSource()
+                .addValue("from", from.atStartOfDay())
+                .addValue("to", to.atStartOfDay()));
+    }
+
+    private SqlParameterSource[] toParams(Map<TicketDailyStatsKey, Long> counts) {
+        return counts.entrySet().stream()
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("statDate", Date.valueOf(entry.getKey().statDate()))
+                        .addValue("dueDate", Date.valueOf(entry.getKey().dueDate()))
+                        .addValue("managerId", entry.getKey().managerId())
+                        .addValue("firstCategoryId", entry.getKey().firstCategoryId())
+                        .addValue("status", entry.getKey().status().name())
+                        .addValue("delta", entry.getValue()))
+                .toArray(SqlParameterSource[]::new);
+    }
+}
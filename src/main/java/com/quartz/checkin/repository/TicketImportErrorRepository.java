@@ -0,0 +1,11 @@
+package com.quartz.checkin.repository;
+
+import com.quartz.checkin.entity.TicketImportError;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface TicketImportErrorRepository extends JpaRepository<TicketImportError, Long> {
+
+    List<TicketImportError> findAllByJobIdOrderByRowNumberAsc(String jobId, Pageable pageable);
+}
@@ -0,0 +1,7 @@
+package com.quartz.checkin.repository;
+
+import com.quartz.checkin.entity.TicketImportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface TicketImportJobRepository extends JpaRepository<TicketImportJob, String> {
+}
@@ -3,14 +3,20 @@ package com.quartz.checkin.repository;
 import com.quartz.checkin.entity.Category;
 import com.quartz.checkin.entity.Member;
 import com.quartz.checkin.entity.Ticket;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface TicketRepository extends JpaRepository<Ticket, Long>, TicketRepositoryCustom,
         TicketTrashRepositoryCustom {
     List<Ticket> findByUser(Member member);
     List<Ticket> findByManager(Member member);
-    boolean existsByCustomId(String customId);
     boolean existsByFirstCategory(Category secondCategory);
     boolean existsBySecondCategory(Category secondCategory);
+
+    @Query("SELECT t FROM Ticket t JOIN FETCH t.firstCategory JOIN FETCH t.secondCategory "
+            + "LEFT JOIN FETCH t.manager WHERE t.id IN :ticketIds")
+    List<Ticket> findAllWithViewAssociationsByIdIn(@Param("ticketIds") Collection<Long> ticketIds);
 }
@@ -0,0 +1,22 @@
+package com.quartz.checkin.repository;
+
+import com.quartz.checkin.entity.TicketSequence;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDate;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface TicketSequenceRepository extends JpaRepository<TicketSequence, LocalDate> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT ts FROM TicketSequence ts WHERE ts.sequenceDate = :sequenceDate")
+    Optional<TicketSequence> findByIdForUpdate(@Param("sequenceDate") LocalDate sequenceDate);
+
+    // customId에는 연도가 없으므로, 이전 해 같은 날짜에 쓰인 번호 다음부터 시작해야 중복되지 않습니다.
+    @Query("SELECT MAX(ts.nextValue) FROM TicketSequence ts "
+            + "WHERE MONTH(ts.sequenceDate) = :month AND DAY(ts.sequenceDate) = :day")
+    Long findMaxNextValueByMonthAndDay(@Param("month") int month, @Param("day") int day);
+}
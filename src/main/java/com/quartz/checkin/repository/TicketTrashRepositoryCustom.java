@@ -1,15 +1,18 @@
 package com.quartz.checkin.repository;
 
+import com.quartz.checkin.common.TicketCursor;
 import com.quartz.checkin.entity.Ticket;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface TicketTrashRepositoryCustom {
     List<Ticket> findExpiredTickets(LocalDate thresholdDate);
     List<Ticket> findOldClosedTickets(LocalDate sixMonthsAgo);
     Page<Ticket> fetchDeletedTickets(Long memberId, Pageable pageable);
+    Slice<Ticket> fetchDeletedTicketsByCursor(Long memberId, TicketCursor cursor, int size);
     List<Ticket> findOldSoftDeletedTickets(LocalDateTime thirtyDaysAgo);
 }
@@ -1,5 +1,6 @@
 package com.quartz.checkin.repository;
 
+import com.quartz.checkin.common.TicketCursor;
 import com.quartz.checkin.entity.QMember;
 import com.quartz.checkin.entity.QTicket;
 import com.quartz.checkin.entity.Status;
@@ -12,7 +13,10 @@ import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -68,6 +72,22 @@ public class TicketTrashRepositoryCustomImpl implements TicketTrashRepositoryCus
         return new PageImpl<>(ticketList, pageable, totalCount);
     }
 
+    @Override
+    public Slice<Ticket> fetchDeletedTicketsByCursor(Long memberId, TicketCursor cursor, int size) {
+        List<Ticket> ticketList = queryFactory
+                .selectFrom(ticket)
+                .leftJoin(ticket.manager, manager).fetchJoin()
+                .where(ticket.deletedAt.isNotNull()
+                                .and(ticket.user.id.eq(memberId)),
+                        TicketCursorConditions.after(ticket, cursor, false))
+                .orderBy(TicketCursorConditions.orderBy(ticket, false))
+                .limit(size + 1)
+                .fetch();
+
+        boolean hasNext = ticketList.size() > size;
+        return new SliceImpl<>(hasNext ? ticketList.subList(0, size) : ticketList, PageRequest.of(0, size), hasNext);
+    }
+
     @Override
     public List<Ticket> findOldSoftDeletedTickets(LocalDateTime thirtyDaysAgo) {
         return queryFactory
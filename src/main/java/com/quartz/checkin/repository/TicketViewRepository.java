@@ -0,0 +1,27 @@
+package com.quartz.checkin.repository;
+
+import com.quartz.checkin.entity.TicketView;
+import java.util.Collection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface TicketViewRepository extends JpaRepository<TicketView, Long>, TicketViewRepositoryCustom {
+
+    @Modifying
+    @Query("UPDATE TicketView tv SET tv.firstCategoryName = :name WHERE tv.firstCategoryId = :categoryId")
+    int updateFirstCategoryName(@Param("categoryId") Long categoryId, @Param("name") String name);
+
+    @Modifying
+    @Query("UPDATE TicketView tv SET tv.secondCategoryName = :name WHERE tv.secondCategoryId = :categoryId")
+    int updateSecondCategoryName(@Param("categoryId") Long categoryId, @Param("name") String name);
+
+    @Modifying
+    @Query("UPDATE TicketView tv SET tv.managerProfilePic = :profilePic WHERE tv.managerId = :managerId")
+    int updateManagerProfilePic(@Param("managerId") Long managerId, @Param("profilePic") String profilePic);
+
+    @Modifying
+    @Query("DELETE FROM TicketView tv WHERE tv.id IN :ticketIds")
+    int deleteAllByTicketIds(@Param("ticketIds") Collection<Long> ticketIds);
+}
@@ -0,0 +1,37 @@
+package com.quartz.checkin.repository;
+
+import com.quartz.checkin.common.TicketCursor;
+import com.quartz.checkin.common.progress.TicketProgressCount;
+import com.quartz.checkin.common.timeseries.TicketTimeSeriesCount;
+import com.quartz.checkin.entity.Priority;
+import com.quartz.checkin.entity.Status;
+import com.quartz.checkin.entity.TicketView;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+public interface TicketViewRepositoryCustom {
+    List<TicketProgressCount> countProgressByManager(LocalDate today);
+
+    List<TicketTimeSeriesCount> countTimeSeries(LocalDate from, LocalDate today);
+
+    List<TicketView> fetchSearchedTickets(Long memberId, String keyword, Pageable pageable, String sortByCreatedAt);
+
+    long countSearchedTickets(Long memberId, String keyword);
+
+    List<TicketView> fetchTickets(Long memberId, List<Status> statuses, List<Long> managerIds,
+                                  List<Long> categoryIds, List<Priority> priorities,
+                                  Boolean dueToday, Boolean dueThisWeek, Pageable pageable, String sortByCreatedAt);
+
+    long countTickets(Long memberId, List<Status> statuses, List<Long> managerIds, List<Long> categoryIds,
+                      List<Priority> priorities, Boolean dueToday, Boolean dueThisWeek);
+
+    Slice<TicketView> fetchSearchedTicketsByCursor(Long memberId, String keyword, TicketCursor cursor, int size,
+                                                   String sortByCreatedAt);
+
+    Slice<TicketView> fetchTicketsByCursor(Long memberId, List<Status> statuses, List<Long> managerIds,
+                                           List<Long> categoryIds, List<Priority> priorities,
+                                           Boolean dueToday, Boolean dueThisWeek, TicketCursor cursor, int size,
+                                           String sortByCreatedAt);
+}
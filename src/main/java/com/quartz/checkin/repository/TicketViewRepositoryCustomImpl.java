@@ -0,0 +1,281 @@
+package com.quartz.checkin.repository;
+
+import com.quartz.checkin.common.TicketCursor;
+import com.quartz.checkin.common.exception.ApiException;
+import com.quartz.checkin.common.exception.ErrorCode;
+import com.quartz.checkin.common.progress.TicketProgressCount;
+import com.quartz.checkin.common.timeseries.TicketTimeSeriesCount;
+import com.quartz.checkin.common.timeseries.TicketTimeSeriesMeasure;
+import com.quartz.checkin.entity.Priority;
+import com.quartz.checkin.entity.QTicket;
+import com.quartz.checkin.entity.QTicketView;
+import com.quartz.checkin.entity.Status;
+import com.quartz.checkin.entity.TicketView;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class TicketViewRepositoryCustomImpl implements TicketViewRepositoryCustom {
+
+    private static final QTicketView view = QTicketView.ticketView;
+    private static final QTicket ticket = QTicket.ticket;
+
+    private final JPAQueryFactory queryFactory;
+
+    public TicketViewRepositoryCustomImpl(JPAQueryFactory queryFactory) {
+        this.queryFactory = queryFactory;
+    }
+
+    // 진행률에 필요한 개수를 담당자별 조건부 집계 한 번으로 계산합니다.
+    @Override
+    public List<TicketProgressCount> countProgressByManager(LocalDate today) {
+        NumberExpression<Long> openTicketCount = countIf(view.status.eq(Status.OPEN));
+        NumberExpression<Long> inProgressTicketCount = countIf(view.status.eq(Status.IN_PROGRESS));
+        NumberExpression<Long> closedTicketCount = countIf(view.status.eq(Status.CLOSED));
+        NumberExpression<Long> dueTodayCount = countIf(view.dueDate.eq(today));
+        NumberExpression<Long> totalCount = view.count();
+
+        return queryFactory
+                .select(view.managerId, openTicketCount, inProgressTicketCount, closedTicketCount, dueTodayCount,
+                        totalCount)
+                .from(view)
+                .where(view.deletedAt.isNull())
+                .groupBy(view.managerId)
+                .fetch()
+                .stream()
+                .map(counts -> new TicketProgressCount(
+                        counts.get(view.managerId),
+                        valueOf(counts, openTicketCount),
+                        valueOf(counts, inProgressTicketCount),
+                        valueOf(counts, closedTicketCount),
+                        valueOf(counts, dueTodayCount),
+                        valueOf(counts, totalCount)))
+                .toList();
+    }
+
+    // 생성일, 완료일, 마감일별 개수를 담당자와 1차 카테고리로 묶어 집계합니다. 마감 초과는 어제 마감까지만 셉니다.
+    @Override
+    public List<TicketTimeSeriesCount> countTimeSeries(LocalDate from, LocalDate today) {
+        NumberExpression<Integer> createdYear = view.createdAt.year();
+        NumberExpression<Integer> createdMonth = view.createdAt.month();
+        NumberExpression<Integer> createdDay = view.createdAt.dayOfMonth();
+        NumberExpression<Long> ticketCount = view.count();
+        List<TicketTimeSeriesCount> counts = new ArrayList<>();
+
+        queryFactory
+                .select(createdYear, createdMonth, createdDay, view.managerId, view.firstCategoryId, ticketCount)
+                .from(view)
+                .where(view.deletedAt.isNull(),
+                        view.createdAt.goe(from.atStartOfDay()),
+                        view.createdAt.lt(today.plusDays(1).atStartOfDay()))
+                .groupBy(createdYear, createdMonth, createdDay, view.managerId, view.firstCategoryId)
+                .fetch()
+                .forEach(row -> counts.add(new TicketTimeSeriesCount(TicketTimeSeriesMeasure.CREATED,
+                        LocalDate.of(row.get(createdYear), row.get(createdMonth), row.get(createdDay)),
+                        row.get(view.managerId), row.get(view.firstCategoryId), valueOf(row, ticketCount))));
+
+        queryFactory
+                .select(view.closedDate, view.managerId, view.firstCategoryId, ticketCount)
+                .from(view)
+                .where(view.deletedAt.isNull(),
+                        view.status.eq(Status.CLOSED),
+                        view.closedDate.between(from, today))
+                .groupBy(view.closedDate, view.managerId, view.firstCategoryId)
+                .fetch()
+                .forEach(row -> counts.add(new TicketTimeSeriesCount(TicketTimeSeriesMeasure.CLOSED,
+                        row.get(view.closedDate), row.get(view.managerId), row.get(view.firstCategoryId),
+                        valueOf(row, ticketCount))));
+
+        queryFactory
+                .select(view.dueDate, view.managerId, view.firstCategoryId, ticketCount)
+                .from(view)
+                .where(view.deletedAt.isNull(),
+                        view.dueDate.goe(from),
+                        view.dueDate.lt(today),
+                        view.status.ne(Status.CLOSED).or(view.closedDate.gt(view.dueDate)))
+                .groupBy(view.dueDate, view.managerId, view.firstCategoryId)
+                .fetch()
+                .forEach(row -> counts.add(new TicketTimeSeriesCount(TicketTimeSeriesMeasure.OVERDUE,
+                        row.get(view.dueDate), row.get(view.managerId), row.get(view.firstCategoryId),
+                        valueOf(row, ticketCount))));
+
+        return counts;
+    }
+
+    private NumberExpression<Long> countIf(BooleanExpression condition) {
+        return new CaseBuilder().when(condition).then(1L).otherwise(0L).sum();
+    }
+
+    private long valueOf(Tuple counts, NumberExpression<Long> expression) {
+        if (counts == null) {
+            return 0L;
+        }
+        return Optional.ofNullable(counts.get(expression)).orElse(0L);
+    }
+
+    @Override
+    public List<TicketView> fetchSearchedTickets(Long memberId, String keyword, Pageable pageable,
+                                                 String sortByCreatedAt) {
+        BooleanBuilder whereClause = buildWhereClause(memberId, keyword, null, null, null, null, null, null);
+
+        return executeTicketQuery(whereClause, pageable, sortByCreatedAt);
+    }
+
+    @Override
+    public long countSearchedTickets(Long memberId, String keyword) {
+        return getTotalCount(buildWhereClause(memberId, keyword, null, null, null, null, null, null));
+    }
+
+    @Override
+    public List<TicketView> fetchTickets(Long memberId, List<Status> statuses, List<Long> managerIds,
+                                         List<Long> categoryIds, List<Priority> priorities,
+                                         Boolean dueToday, Boolean dueThisWeek, Pageable pageable, String sortByCreatedAt) {
+        BooleanBuilder whereClause = buildWhereClause(memberId, null, statuses, managerIds, categoryIds, priorities, dueToday, dueThisWeek);
+
+        return executeTicketQuery(whereClause, pageable, sortByCreatedAt);
+    }
+
+    @Override
+    public long countTickets(Long memberId, List<Status> statuses, List<Long> managerIds, List<Long> categoryIds,
+                             List<Priority> priorities, Boolean dueToday, Boolean dueThisWeek) {
+        return getTotalCount(buildWhereClause(memberId, null, statuses, managerIds, categoryIds, priorities, dueToday, dueThisWeek));
+    }
+
+    private List<TicketView> executeTicketQuery(BooleanBuilder whereClause, Pageable pageable, String sortByCreatedAt) {
+        return queryFactory
+                .selectFrom(view)
+                .where(whereClause)
+                .orderBy(getOrderSpecifiers(sortByCreatedAt))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+    }
+
+    @Override
+    public Slice<TicketView> fetchSearchedTicketsByCursor(Long memberId, String keyword, TicketCursor cursor, int size,
+                                                          String sortByCreatedAt) {
+        BooleanBuilder whereClause = buildWhereClause(memberId, keyword, null, null, null, null, null, null);
+
+        return executeTicketCursorQuery(whereClause, cursor, size, sortByCreatedAt);
+    }
+
+    @Override
+    public Slice<TicketView> fetchTicketsByCursor(Long memberId, List<Status> statuses, List<Long> managerIds,
+                                                  List<Long> categoryIds, List<Priority> priorities,
+                                                  Boolean dueToday, Boolean dueThisWeek, TicketCursor cursor, int size,
+                                                  String sortByCreatedAt) {
+        BooleanBuilder whereClause = buildWhereClause(memberId, null, statuses, managerIds, categoryIds, priorities, dueToday, dueThisWeek);
+
+        return executeTicketCursorQuery(whereClause, cursor, size, sortByCreatedAt);
+    }
+
+    // 전체 개수를 세지 않고 size + 1건을 조회해 다음 페이지 존재 여부를 판단합니다.
+    private Slice<TicketView> executeTicketCursorQuery(BooleanBuilder whereClause, TicketCursor cursor,
+                                                       int size, String sortByCreatedAt) {
+        boolean ascending = isAscending(sortByCreatedAt);
+        whereClause.and(TicketCursorConditions.after(view.createdAt, view.id, cursor, ascending));
+
+        List<TicketView> results = queryFactory
+                .selectFrom(view)
+                .where(whereClause)
+                .orderBy(TicketCursorConditions.orderBy(view.createdAt, view.id, ascending))
+                .limit(size + 1)
+                .fetch();
+
+        boolean hasNext = results.size() > size;
+        return new SliceImpl<>(hasNext ? results.subList(0, size) : results, PageRequest.of(0, size), hasNext);
+    }
+
+    private BooleanBuilder buildWhereClause(Long memberId, String keyword, List<Status> statuses, List<Long> managerIds,
+                                            List<Long> categoryIds, List<Priority> priorities,
+                                            Boolean dueToday, Boolean dueThisWeek) {
+        BooleanBuilder whereClause = new BooleanBuilder();
+        whereClause.and(view.deletedAt.isNull());
+
+        if (memberId != null) {
+            whereClause.and(view.userId.eq(memberId));
+        }
+
+        if (statuses != null && !statuses.isEmpty()) {
+            whereClause.and(view.status.in(statuses));
+        }
+
+        if (categoryIds != null && !categoryIds.isEmpty()) {
+            whereClause.and(view.firstCategoryId.in(categoryIds));
+        }
+
+        if (priorities != null && !priorities.isEmpty()) {
+            whereClause.and(view.priority.in(priorities));
+        }
+
+        if (managerIds != null && !managerIds.isEmpty()) {
+            whereClause.and(view.managerId.in(managerIds));
+        }
+
+        if (Boolean.TRUE.equals(dueToday) && Boolean.TRUE.equals(dueThisWeek)) {
+            throw new ApiException(ErrorCode.INVALID_TICKET_DUE_DATE);
+        }
+
+        if (Boolean.TRUE.equals(dueToday)) {
+            LocalDate today = LocalDate.now();
+            whereClause.and(view.dueDate.eq(today));
+        }
+
+        if (Boolean.TRUE.equals(dueThisWeek)) {
+            LocalDate today = LocalDate.now();
+            LocalDate endOfWeek = today.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
+            whereClause.and(view.dueDate.between(today, endOfWeek));
+        }
+
+        // 뷰에는 본문 앞부분만 저장하므로 본문 검색은 원본 티켓의 전체 본문을 대상으로 합니다.
+        if (keyword != null && !keyword.isBlank()) {
+            String searchKeyword = "%" + keyword.toLowerCase() + "%";
+            whereClause.and(view.title.lower().like(searchKeyword)
+                    .or(JPAExpressions.selectOne()
+                            .from(ticket)
+                            .where(ticket.id.eq(view.id), ticket.content.lower().like(searchKeyword))
+                            .exists()));
+        }
+
+        return whereClause;
+    }
+
+    private OrderSpecifier<?>[] getOrderSpecifiers(String sortByCreatedAt) {
+        return new OrderSpecifier<?>[]{
+                isAscending(sortByCreatedAt) ? view.createdAt.asc() : view.createdAt.desc()
+        };
+    }
+
+    private boolean isAscending(String sortByCreatedAt) {
+        if (!"asc".equalsIgnoreCase(sortByCreatedAt) && !"desc".equalsIgnoreCase(sortByCreatedAt)) {
+            throw new ApiException(ErrorCode.INVALID_DATA);
+        }
+        return "asc".equalsIgnoreCase(sortByCreatedAt);
+    }
+
+    private long getTotalCount(BooleanBuilder whereClause) {
+        return Optional.ofNullable(
+                queryFactory.select(view.count())
+                        .from(view)
+                        .where(whereClause)
+                        .fetchOne()
+        ).orElse(0L);
+    }
+}
@@ -16,6 +16,7 @@ public class CustomUser extends User {
     private String email;
     private Role role;
     private LocalDateTime passwordChangedAt;
+    private int securityEpoch;
 
     public CustomUser(
             Long id,
@@ -26,11 +27,25 @@ public class CustomUser extends User {
             Role role,
             LocalDateTime passwordChangedAt,
             Collection<? extends GrantedAuthority> authorities) {
+        this(id, username, password, email, profilePic, role, passwordChangedAt, 0, authorities);
+    }
+
+    public CustomUser(
+            Long id,
+            String username,
+            String password,
+            String email,
+            String profilePic,
+            Role role,
+            LocalDateTime passwordChangedAt,
+            int securityEpoch,
+            Collection<? extends GrantedAuthority> authorities) {
         super(username, password, authorities);
         this.id = id;
         this.email = email;
         this.profilePic = profilePic;
         this.role = role;
         this.passwordChangedAt = passwordChangedAt;
+        this.securityEpoch = securityEpoch;
     }
 }
@@ -5,6 +5,7 @@ import com.quartz.checkin.common.ServletRequestUtils;
 import com.quartz.checkin.common.ServletResponseUtils;
 import com.quartz.checkin.common.exception.ErrorCode;
 import com.quartz.checkin.dto.auth.response.LoginBlockTimeLeftResponse;
+import com.quartz.checkin.service.LoginAttemptService;
 import com.quartz.checkin.service.LoginBlockCacheService;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -32,19 +33,29 @@ public class CustomUsernamePasswordAuthenticationFilter extends AbstractAuthenti
 
     private final ObjectMapper objectMapper;
     private final LoginBlockCacheService loginBlockCacheService;
+    private final LoginAttemptService loginAttemptService;
     private static final AntPathRequestMatcher DEFAULT_LOGIN_PATH_REQUEST_MATCHER =
             new AntPathRequestMatcher(DEFAULT_LOGIN_REQUEST_URL, HTTP_METHOD);
 
     public CustomUsernamePasswordAuthenticationFilter(
-            ObjectMapper objectMapper, LoginBlockCacheService loginBlockCacheService) {
+            ObjectMapper objectMapper, LoginBlockCacheService loginBlockCacheService,
+            LoginAttemptService loginAttemptService) {
         super(DEFAULT_LOGIN_PATH_REQUEST_MATCHER);
         this.objectMapper = objectMapper;
         this.loginBlockCacheService = loginBlockCacheService;
+        this.loginAttemptService = loginAttemptService;
     }
 
     @Override
     public Authentication attemptAuthentication(HttpServletRequest request, HttpServletResponse response)
             throws AuthenticationException, IOException, ServletException {
+        String ip = ServletRequestUtils.getClientIp(request);
+        if (loginAttemptService.isIpLimited(ip)) {
+            log.error("{}의 로그인 시도가 너무 많아 요청을 거부합니다.", ip);
+            ServletResponseUtils.writeApiErrorResponse(response, ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+            return null;
+        }
+
         if (request.getContentType() == null || !request.getContentType().equals(CONTENT_TYPE)) {
             throw new AuthenticationServiceException(
                     "Authentication Content-Type not supported: " + request.getContentType());
@@ -56,7 +67,6 @@ public class CustomUsernamePasswordAuthenticationFilter extends AbstractAuthenti
 
         String username = usernamePasswordMap.get(USERNAME);
         String password = usernamePasswordMap.get(PASSWORD);
-        String ip = ServletRequestUtils.getClientIp(request);
 
         if (username == null || password == null) {
             log.warn("username 또는 password 값을 찾을 수 없습니다.");
@@ -2,11 +2,12 @@ package com.quartz.checkin.security.filter;
 
 import com.quartz.checkin.common.exception.ErrorCode;
 import com.quartz.checkin.common.exception.InValidAccessTokenException;
+import com.quartz.checkin.security.CustomUser;
 import com.quartz.checkin.security.service.CustomUserDetailsService;
 import com.quartz.checkin.security.service.JwtService;
 import com.quartz.checkin.common.ServletResponseUtils;
-import com.quartz.checkin.service.RoleUpdateCacheService;
-import com.quartz.checkin.service.SoftDeletedMemberCacheService;
+import com.quartz.checkin.common.TokenDigestUtils;
+import com.quartz.checkin.security.service.SecurityEpochService;
 import com.quartz.checkin.service.TokenBlackListCacheService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -43,8 +44,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtService jwtService;
     private final CustomUserDetailsService customUserDetailsService;
     private final TokenBlackListCacheService tokenBlackListCacheService;
-    private final RoleUpdateCacheService roleUpdateCacheService;
-    private final SoftDeletedMemberCacheService softDeletedMemberCacheService;
+    private final SecurityEpochService securityEpochService;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -67,23 +67,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        if (!jwtService.isValidToken(accessToken)) {
-            throw new InValidAccessTokenException();
-        }
+        // 검증 캐시와 블랙리스트 키는 같은 SHA-256 결과에서 만듭니다.
+        byte[] tokenHash = TokenDigestUtils.sha256(accessToken);
+        UserDetails userDetails = customUserDetailsService.loadUserByAccessToken(accessToken,
+                TokenDigestUtils.digest(tokenHash));
 
-        if (tokenBlackListCacheService.isBlackList(accessToken)) {
+        if (tokenBlackListCacheService.isBlackListDigest(TokenDigestUtils.digestToLong(tokenHash))) {
             log.error("블랙리스트에 속한 토큰으로 접근하려 합니다.");
             throw new InValidAccessTokenException();
         }
 
-        UserDetails userDetails = customUserDetailsService.loadUserByAccessToken(accessToken);
-        if (roleUpdateCacheService.isRoleUpdated(userDetails.getUsername())) {
-            log.error("권한 변경 기록이 있는 사용자입니다. 재발급이 필요합니다.");
-            throw new InValidAccessTokenException();
-        }
-
-        if (softDeletedMemberCacheService.isSoftDeleted(userDetails.getUsername())) {
-            log.error("소프트 딜리트된 사용자입니다. 인증을 거부합니다.");
+        CustomUser customUser = (CustomUser) userDetails;
+        if (securityEpochService.isStale(customUser.getId(), customUser.getSecurityEpoch())) {
+            log.error("권한 변경 또는 소프트 딜리트 이전에 발급된 토큰입니다. 재발급이 필요합니다.");
             throw new InValidAccessTokenException();
         }
 
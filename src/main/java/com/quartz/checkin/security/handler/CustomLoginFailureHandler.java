@@ -1,11 +1,11 @@
 package com.quartz.checkin.security.handler;
 
 import com.quartz.checkin.common.ServletRequestUtils;
-import com.quartz.checkin.common.cache.LoginFailureInfo;
 import com.quartz.checkin.common.exception.ErrorCode;
+import com.quartz.checkin.common.exception.PasswordHashingBusyException;
 import com.quartz.checkin.common.ServletResponseUtils;
+import com.quartz.checkin.service.LoginAttemptService;
 import com.quartz.checkin.service.LoginBlockCacheService;
-import com.quartz.checkin.service.LoginFailureCacheService;
 import com.quartz.checkin.service.MemberAccessLogService;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -26,32 +26,35 @@ public class CustomLoginFailureHandler implements AuthenticationFailureHandler {
 
     private final MemberAccessLogService memberAccessLogService;
     private final LoginBlockCacheService loginBlockCacheService;
-    private final LoginFailureCacheService loginFailureCacheService;
+    private final LoginAttemptService loginAttemptService;
 
     @Override
     public void onAuthenticationFailure(HttpServletRequest request, HttpServletResponse response,
                                         AuthenticationException exception) throws IOException, ServletException {
 
+        if (exception instanceof PasswordHashingBusyException) {
+            log.warn("비밀번호 해싱 작업이 포화 상태라 로그인 요청을 처리하지 못했습니다.");
+            ServletResponseUtils.writeApiErrorResponse(response, ErrorCode.PASSWORD_HASHING_BUSY);
+            return;
+        }
+
+        String clientIp = ServletRequestUtils.getClientIp(request);
+
         if (exception instanceof UsernameNotFoundException) {
             log.warn("존재하지 않는 사용자입니다.");
+            loginAttemptService.recordIpFailure(clientIp);
 
         } else if (exception instanceof BadCredentialsException) {
             log.warn("비밀번호가 틀렸습니다.");
 
             String username = (String) request.getAttribute("username");
-            String clientIp = ServletRequestUtils.getClientIp(request);
             memberAccessLogService.writeWrongPasswordAccessLog(username, clientIp);
+            loginAttemptService.recordIpFailure(clientIp);
 
-            String key = clientIp + ":" + username;
-            LoginFailureInfo loginFailureInfo = loginFailureCacheService.getLoginFailureInfo(key);
-
-            if (loginFailureInfo.getCount() == 5) {
-                loginFailureCacheService.evictLoginFailureInfo(key);
-
-
+            if (loginAttemptService.recordMemberFailure(clientIp, username)) {
+                String key = clientIp + ":" + username;
                 log.error("{}를 잠금", key);
                 loginBlockCacheService.block(key);
-
             }
         }
 
@@ -3,9 +3,9 @@ package com.quartz.checkin.security.handler;
 import com.quartz.checkin.common.ServletRequestUtils;
 import com.quartz.checkin.security.CustomUser;
 import com.quartz.checkin.security.service.JwtService;
+import com.quartz.checkin.service.LoginAttemptService;
 import com.quartz.checkin.service.MemberAccessLogService;
-import com.quartz.checkin.service.MemberService;
-import com.quartz.checkin.service.RoleUpdateCacheService;
+import com.quartz.checkin.service.RefreshTokenService;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -23,8 +23,8 @@ public class CustomLoginSuccessHandler implements AuthenticationSuccessHandler {
 
     private final JwtService jwtService;
     private final MemberAccessLogService memberAccessLogService;
-    private final MemberService memberService;
-    private final RoleUpdateCacheService roleUpdateCacheService;
+    private final RefreshTokenService refreshTokenService;
+    private final LoginAttemptService loginAttemptService;
 
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response,
@@ -34,18 +34,11 @@ public class CustomLoginSuccessHandler implements AuthenticationSuccessHandler {
         CustomUser user = (CustomUser) authentication.getPrincipal();
         jwtService.setAuthenticationResponse(response, user);
 
-        String refreshToken = jwtService.createRefreshToken();
+        String refreshToken = refreshTokenService.issue(user.getId());
         jwtService.setRefreshToken(response, refreshToken);
-        memberService.updateMemberRefreshToken(user.getId(), refreshToken);
 
         String clientIp = ServletRequestUtils.getClientIp(request);
+        loginAttemptService.resetMemberFailures(clientIp, user.getUsername());
         memberAccessLogService.writeLoginSuccessAccessLog(user.getId(), clientIp);
-
-        String username = user.getUsername();
-        if (roleUpdateCacheService.isRoleUpdated(username)) {
-            log.info("권한 변경 기록이 있는 사용자 {}가 새로 로그인했습니다. 권한 변경 기록을 삭제합니다.", username);
-            roleUpdateCacheService.evict(username);
-        }
-
     }
 }
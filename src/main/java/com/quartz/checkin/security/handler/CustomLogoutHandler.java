@@ -2,7 +2,7 @@ package com.quartz.checkin.security.handler;
 
 import com.quartz.checkin.security.CustomUser;
 import com.quartz.checkin.security.service.JwtService;
-import com.quartz.checkin.service.MemberService;
+import com.quartz.checkin.service.RefreshTokenService;
 import com.quartz.checkin.service.TokenBlackListCacheService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -18,7 +18,7 @@ import org.springframework.stereotype.Component;
 public class CustomLogoutHandler implements LogoutHandler {
 
     private final JwtService jwtService;
-    private final MemberService memberService;
+    private final RefreshTokenService refreshTokenService;
     private final TokenBlackListCacheService tokenBlackListCacheService;
 
     @Override
@@ -27,12 +27,10 @@ public class CustomLogoutHandler implements LogoutHandler {
         log.info("{}가 로그아웃 합니다.", customUser.getUsername());
 
         String accessToken = jwtService.extractAccessTokenFromRequest(request).get();
-        tokenBlackListCacheService.addBlacklist(accessToken);
+        tokenBlackListCacheService.addBlacklist(accessToken, jwtService.getExpirationTime(accessToken));
 
+        // 다른 기기의 세션은 유지하고 현재 세션의 refreshToken family만 폐기합니다.
+        jwtService.extractRefreshToken(request).ifPresent(refreshTokenService::revokeFamily);
         jwtService.expireRefreshTokenCookie(response);
-
-        memberService.updateMemberRefreshToken(customUser.getId(), null);
-
-        //TODO 로그아웃한 사용자의 accessToken 블랙리스트에 등록
     }
 }
@@ -5,6 +5,7 @@ import com.quartz.checkin.entity.Member;
 import com.quartz.checkin.entity.Role;
 import com.quartz.checkin.repository.MemberRepository;
 import com.quartz.checkin.security.CustomUser;
+import com.quartz.checkin.service.VerifiedTokenCacheService;
 import io.jsonwebtoken.Claims;
 
 import java.time.LocalDateTime;
@@ -13,17 +14,20 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final MemberRepository memberRepository;
     private final JwtService jwtService;
+    private final VerifiedTokenCacheService verifiedTokenCacheService;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
@@ -45,17 +49,46 @@ public class CustomUserDetailsService implements UserDetailsService {
                 member.getProfilePic(),
                 member.getRole(),
                 member.getPasswordChangedAt(),
+                member.getSecurityEpoch(),
                 Collections.singleton(new SimpleGrantedAuthority("ROLE_" + member.getRole().getValue()))
         );
     }
 
-    public UserDetails loadUserByAccessToken(String accessToken) throws InValidAccessTokenException {
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        log.info("{}의 비밀번호를 현재 설정된 cost로 다시 해싱합니다.", user.getUsername());
+        memberRepository.updatePasswordHash(user.getUsername(), newPassword);
+
+        CustomUser customUser = (CustomUser) user;
+        return new CustomUser(
+                customUser.getId(),
+                customUser.getUsername(),
+                newPassword,
+                customUser.getEmail(),
+                customUser.getProfilePic(),
+                customUser.getRole(),
+                customUser.getPasswordChangedAt(),
+                customUser.getSecurityEpoch(),
+                customUser.getAuthorities()
+        );
+    }
+
+    // 토큰 서명 검증과 클레임 해독을 한 번에 수행하고, 검증된 사용자 정보는 토큰 만료 시점까지 캐시합니다.
+    // tokenDigest는 호출자가 TokenDigestUtils.digest로 계산한 값입니다.
+    public UserDetails loadUserByAccessToken(String accessToken, String tokenDigest) throws InValidAccessTokenException {
+        CustomUser cachedUser = verifiedTokenCacheService.getPrincipal(tokenDigest);
+        if (cachedUser != null) {
+            return cachedUser;
+        }
+
         try {
             log.info("accessToken으로부터 사용자 정보를 읽어옵니다.");
             Claims claims = jwtService.decodeToken(accessToken);
             Role role = Role.fromValue(claims.get(JwtService.ROLE_CLAIM, String.class));
+            Integer securityEpoch = claims.get(JwtService.SECURITY_EPOCH_CLAIM, Integer.class);
 
-            return new CustomUser(
+            CustomUser customUser = new CustomUser(
                     claims.get(JwtService.ID_CLAIM, Long.class),
 
                     claims.get(JwtService.USERNAME_CLAIM, String.class),
@@ -64,8 +97,12 @@ public class CustomUserDetailsService implements UserDetailsService {
                     claims.get(JwtService.PROFILE_PIC_CLAIM, String.class),
                     role,
                     null,
+                    securityEpoch == null ? 0 : securityEpoch,
                     Collections.singleton(new SimpleGrantedAuthority("ROLE_" + role.getValue()))
             );
+            verifiedTokenCacheService.put(tokenDigest, customUser, claims.getExpiration().getTime());
+
+            return customUser;
         } catch (Exception e) {
             log.error("사용자 정보를 읽어오는데 실패하였습니다. {}", e.getMessage());
             throw new InValidAccessTokenException();
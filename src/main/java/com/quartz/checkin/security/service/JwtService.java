@@ -8,6 +8,7 @@ import com.quartz.checkin.dto.auth.response.AuthenticationResponse;
 import com.quartz.checkin.entity.Role;
 import com.quartz.checkin.security.CustomUser;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -44,17 +45,22 @@ public class JwtService {
     public static final String ROLE_CLAIM = "role";
     public static final String PROFILE_PIC_CLAIM = "profilePic";
     public static final String USERNAME_CLAIM = "username";
+    public static final String SECURITY_EPOCH_CLAIM = "epoch";
 
     @Value("${jwt.secretKey}")
     private String secretKey;
     private SecretKey key;
+    private JwtParser parser;
 
     @PostConstruct
     void initializeKey() {
         key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parser()
+                .verifyWith(key)
+                .build();
     }
 
-    public String createAccessToken(Long id, String username, String profilePic, Role role) {
+    public String createAccessToken(Long id, String username, String profilePic, Role role, int securityEpoch) {
         Date now = new Date();
 
         return Jwts
@@ -64,6 +70,7 @@ public class JwtService {
                 .claim(USERNAME_CLAIM, username)
                 .claim(PROFILE_PIC_CLAIM, profilePic)
                 .claim(ROLE_CLAIM, role)
+                .claim(SECURITY_EPOCH_CLAIM, securityEpoch)
                 .expiration(new Date(now.getTime() + ACCESS_TOKEN_EXPIRATION_PERIOD))
                 .signWith(key)
                 .compact();
@@ -79,6 +86,7 @@ public class JwtService {
                 .claim(USERNAME_CLAIM, customUser.getUsername())
                 .claim(PROFILE_PIC_CLAIM, customUser.getProfilePic())
                 .claim(ROLE_CLAIM, customUser.getRole().getValue())
+                .claim(SECURITY_EPOCH_CLAIM, customUser.getSecurityEpoch())
                 .expiration(new Date(now.getTime() + ACCESS_TOKEN_EXPIRATION_PERIOD))
                 .signWith(key)
                 .compact();
@@ -188,11 +196,18 @@ public class JwtService {
         }
     }
 
+    public long getExpirationTime(String token) {
+        try {
+            return decodeToken(token).getExpiration().getTime();
+        } catch (Exception e) {
+            log.warn("토큰의 만료 시각을 읽을 수 없습니다. 최대 유효기간을 적용합니다. {}", e.getMessage());
+            return System.currentTimeMillis() + ACCESS_TOKEN_EXPIRATION_PERIOD;
+        }
+    }
+
+    // 파서는 thread-safe 하므로 초기화 시점에 한 번만 생성해 재사용합니다.
     public Claims decodeToken(String token) throws Exception {
-        return Jwts
-                .parser()
-                .verifyWith(key)
-                .build()
+        return parser
                 .parseSignedClaims(token)
                 .getPayload();
     }
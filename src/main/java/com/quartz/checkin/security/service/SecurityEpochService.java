@@ -0,0 +1,45 @@
+package com.quartz.checkin.security.service;
+
+import com.quartz.checkin.common.cache.CacheInvalidationBus;
+import com.quartz.checkin.common.cache.CacheInvalidationMessage;
+import com.quartz.checkin.common.cache.SecurityEpochTable;
+import com.quartz.checkin.config.CacheInvalidationConfig;
+import com.quartz.checkin.dto.member.response.MemberSecurityEpoch;
+import com.quartz.checkin.repository.MemberRepository;
+import jakarta.annotation.PostConstruct;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SecurityEpochService {
+
+    private final MemberRepository memberRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final SecurityEpochTable securityEpochTable = new SecurityEpochTable();
+
+    @PostConstruct
+    void loadSecurityEpochs() {
+        List<MemberSecurityEpoch> memberSecurityEpochs = memberRepository.findAllSecurityEpochs();
+        for (MemberSecurityEpoch memberSecurityEpoch : memberSecurityEpochs) {
+            securityEpochTable.advance(memberSecurityEpoch.getMemberId(), memberSecurityEpoch.getSecurityEpoch());
+        }
+        log.info("사용자 {}명의 보안 epoch를 읽어왔습니다.", memberSecurityEpochs.size());
+
+        cacheInvalidationBus.subscribe(CacheInvalidationConfig.SECURITY_EPOCH_CHANNEL, message ->
+                securityEpochTable.advance(Long.parseLong(message.getKey()), (int) message.getValue()));
+    }
+
+    public boolean isStale(Long memberId, int tokenSecurityEpoch) {
+        return tokenSecurityEpoch < securityEpochTable.get(memberId);
+    }
+
+    public void advance(Long memberId, int securityEpoch) {
+        securityEpochTable.advance(memberId, securityEpoch);
+        cacheInvalidationBus.publish(new CacheInvalidationMessage(
+                CacheInvalidationConfig.SECURITY_EPOCH_CHANNEL, memberId.toString(), securityEpoch));
+    }
+}
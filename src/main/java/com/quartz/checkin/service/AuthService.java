@@ -5,7 +5,6 @@ import com.quartz.checkin.common.exception.ErrorCode;
 import com.quartz.checkin.dto.auth.response.AuthenticationResponse;
 import com.quartz.checkin.entity.Member;
 import com.quartz.checkin.entity.Role;
-import com.quartz.checkin.repository.MemberRepository;
 import com.quartz.checkin.security.service.JwtService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -22,11 +21,10 @@ import org.springframework.transaction.annotation.Transactional;
 public class AuthService {
 
     private final JwtService jwtService;
-    private final MemberRepository memberRepository;
-    private final RoleUpdateCacheService roleUpdateCacheService;
+    private final RefreshTokenService refreshTokenService;
 
-
-    @Transactional
+    // 재사용이 감지되어 family를 폐기한 결과는 예외가 발생해도 유지되어야 합니다.
+    @Transactional(noRollbackFor = ApiException.class)
     public AuthenticationResponse refresh(HttpServletRequest request, HttpServletResponse response) {
         log.info("토큰 재발급을 시도합니다.");
         String refreshToken = jwtService.extractRefreshToken(request).orElse(null);
@@ -35,16 +33,8 @@ public class AuthService {
             throw new ApiException(ErrorCode.INVALID_REFRESH_TOKEN);
         }
 
-        Member member = memberRepository.findByRefreshToken(refreshToken)
-                .orElseThrow(() -> {
-                    log.error("해당 refreshToken을 소유한 사용자는 없습니다.");
-                    return new ApiException(ErrorCode.INVALID_REFRESH_TOKEN);
-                });
-
-        if (member.getDeletedAt() != null) {
-            log.error("소프트 딜리트된 사용자가 재발급하려고 합니다.");
-            throw new ApiException(ErrorCode.MEMBER_NOT_FOUND);
-        }
+        String newRefreshToken = jwtService.createRefreshToken();
+        Member member = refreshTokenService.rotate(refreshToken, newRefreshToken);
 
         Long memberId = member.getId();
         String username = member.getUsername();
@@ -52,18 +42,12 @@ public class AuthService {
         Role role = member.getRole();
         LocalDateTime passwordChangedAt = member.getPasswordChangedAt();
 
-        if (roleUpdateCacheService.isRoleUpdated(username)) {
-            log.info("권한 변경 기록이 있는 사용자 {}가 새로 로그인했습니다. 권한 변경 기록을 삭제합니다.", username);
-            roleUpdateCacheService.evict(username);
-        }
-
-        String accessToken = jwtService.createAccessToken(memberId, username, profilePic, role);
-        refreshToken = jwtService.createRefreshToken();
+        String accessToken =
+                jwtService.createAccessToken(memberId, username, profilePic, role, member.getSecurityEpoch());
         String passwordResetToken =
                 passwordChangedAt == null ? jwtService.createPasswordResetToken(memberId) : null;
 
-        member.updateRefreshToken(refreshToken);
-        jwtService.setRefreshToken(response, refreshToken);
+        jwtService.setRefreshToken(response, newRefreshToken);
 
         return AuthenticationResponse.builder()
                 .memberId(memberId)
@@ -10,6 +10,8 @@ import com.quartz.checkin.dto.category.response.CategoryResponse;
 import com.quartz.checkin.dto.category.response.FirstCategoryCreateResponse;
 import com.quartz.checkin.dto.category.response.SecondCategoryCreateResponse;
 import com.quartz.checkin.entity.Category;
+import com.quartz.checkin.event.CategoryDeletedEvent;
+import com.quartz.checkin.event.CategoryUpdatedEvent;
 import com.quartz.checkin.repository.CategoryRepository;
 import com.quartz.checkin.repository.TicketRepository;
 import java.util.HashSet;
@@ -17,6 +19,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +29,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class CategoryServiceImpl implements CategoryService {
     private final CategoryRepository categoryRepository;
     private final TicketRepository ticketRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public List<CategoryResponse> getAllCategories(Long memberId) {
@@ -57,7 +61,11 @@ public class CategoryServiceImpl implements CategoryService {
             checkDuplicateAlias(request.getAlias(), firstCategoryId);
         }
 
+        String oldName = firstCategory.getName();
         firstCategory.updateCategory(request.getName(), request.getAlias(), request.getContentGuide());
+        if (!oldName.equals(firstCategory.getName())) {
+            eventPublisher.publishEvent(new CategoryUpdatedEvent(firstCategory.getId(), firstCategory.getName(), true));
+        }
     }
 
     @Override
@@ -74,6 +82,7 @@ public class CategoryServiceImpl implements CategoryService {
         }
 
         categoryRepository.delete(firstCategory);
+        eventPublisher.publishEvent(new CategoryDeletedEvent(firstCategory.getId(), true));
     }
 
     @Override
@@ -100,7 +109,11 @@ public class CategoryServiceImpl implements CategoryService {
             validateDuplicateSecondCategoryAlias(secondCategory.getParent(), request.getAlias(), secondCategoryId);
         }
 
+        String oldName = secondCategory.getName();
         secondCategory.updateCategory(request.getSecondCategory(), request.getAlias(), null);
+        if (!oldName.equals(secondCategory.getName())) {
+            eventPublisher.publishEvent(new CategoryUpdatedEvent(secondCategory.getId(), secondCategory.getName(), false));
+        }
     }
 
     @Override
@@ -0,0 +1,59 @@
+package com.quartz.checkin.service;
+
+import com.quartz.checkin.common.cache.LoginAttemptCache;
+import com.quartz.checkin.config.CacheConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class LoginAttemptService {
+
+    private static final String IP_KEY_PREFIX = "ip:";
+
+    private final LoginAttemptCache loginAttemptCache;
+    private final int memberMaxFailures;
+    private final int ipMaxFailures;
+
+    public LoginAttemptService(CacheManager cacheManager,
+                               @Value("${login.limit.member-max-failures:5}") int memberMaxFailures,
+                               @Value("${login.limit.ip-max-failures:50}") int ipMaxFailures) {
+        this.loginAttemptCache = (LoginAttemptCache) cacheManager.getCache(CacheConfig.LOGIN_ATTEMPT_CACHE);
+        this.memberMaxFailures = memberMaxFailures;
+        this.ipMaxFailures = ipMaxFailures;
+    }
+
+    public boolean isIpLimited(String ip) {
+        return loginAttemptCache.count(IP_KEY_PREFIX + ip) >= ipMaxFailures;
+    }
+
+    public void recordIpFailure(String ip) {
+        long count = loginAttemptCache.increment(IP_KEY_PREFIX + ip);
+        if (count == ipMaxFailures) {
+            log.error("{}의 로그인 실패 횟수가 {}회에 도달했습니다.", ip, count);
+        }
+    }
+
+    // ip:username의 실패 횟수가 기준에 도달하면 카운터를 초기화하고 true를 반환합니다.
+    public boolean recordMemberFailure(String ip, String username) {
+        String key = ip + ":" + username;
+        long count = loginAttemptCache.increment(key);
+        log.info("{} 로그인 실패 횟수: {}", key, count);
+
+        if (count < memberMaxFailures) {
+            return false;
+        }
+        loginAttemptCache.evict(key);
+        return true;
+    }
+
+    public void resetMemberFailures(String ip, String username) {
+        loginAttemptCache.evict(ip + ":" + username);
+    }
+
+    public void resetIpFailures(String ip) {
+        loginAttemptCache.evict(IP_KEY_PREFIX + ip);
+    }
+}
@@ -1,7 +1,11 @@
 package com.quartz.checkin.service;
 
+import com.quartz.checkin.common.cache.CacheInvalidationBus;
+import com.quartz.checkin.common.cache.CacheInvalidationMessage;
 import com.quartz.checkin.common.cache.LoginBlockCache;
 import com.quartz.checkin.config.CacheConfig;
+import com.quartz.checkin.config.CacheInvalidationConfig;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.Cache.ValueWrapper;
 import org.springframework.cache.CacheManager;
@@ -13,9 +17,17 @@ import org.springframework.stereotype.Service;
 public class LoginBlockCacheService {
 
     private final LoginBlockCache loginBlockCache;
+    private final CacheInvalidationBus cacheInvalidationBus;
 
-    public LoginBlockCacheService(CacheManager cacheManager) {
+    public LoginBlockCacheService(CacheManager cacheManager, CacheInvalidationBus cacheInvalidationBus) {
         this.loginBlockCache = (LoginBlockCache) cacheManager.getCache(CacheConfig.LOGIN_BLOCK_CACHE);
+        this.cacheInvalidationBus = cacheInvalidationBus;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        cacheInvalidationBus.subscribe(CacheInvalidationConfig.LOGIN_BLOCK_CHANNEL, message ->
+                loginBlockCache.put(message.getKey(), message.getValue()));
     }
     
     public boolean isBlockedMember(String key) {
@@ -27,10 +39,11 @@ public class LoginBlockCacheService {
         return loginBlockCache.getBlockTimeLeft(key);
     }
 
-
-
     public void block(String key) {
-        loginBlockCache.put(key, System.currentTimeMillis());
+        long blockedAt = System.currentTimeMillis();
+        loginBlockCache.put(key, blockedAt);
+        cacheInvalidationBus.publish(
+                new CacheInvalidationMessage(CacheInvalidationConfig.LOGIN_BLOCK_CHANNEL, key, blockedAt));
     }
 
     @CacheEvict(cacheNames = {CacheConfig.LOGIN_BLOCK_CACHE})
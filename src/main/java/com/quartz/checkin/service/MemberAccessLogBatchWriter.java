@@ -0,0 +1,175 @@
+package com.quartz.checkin.service;
+
+import com.quartz.checkin.entity.AccessLogType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/*
+ * 접속 기록을 고정 크기 버퍼에 모았다가 별도 스레드에서 JDBC batch insert로 기록합니다.
+ * 버퍼가 가득 차면 새 기록을 버리고 개수만 집계하므로, 유실은 버퍼 크기를 넘는 순간의 기록으로 한정됩니다.
+ */
+@Slf4j
+@Component
+public class MemberAccessLogBatchWriter {
+
+    private static final String INSERT_BY_MEMBER_ID = """
+            INSERT INTO member_access_log (member_id, access_log_type, ip, created_at)
+            VALUES (?, ?, ?, ?)
+            """;
+    private static final String INSERT_BY_USERNAME = """
+            INSERT INTO member_access_log (member_id, access_log_type, ip, created_at)
+            SELECT m.member_id, ?, ?, ? FROM member m WHERE m.username = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<AccessLogRecord> buffer;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final Counter droppedCounter;
+    private final Counter writtenCounter;
+
+    private volatile boolean running = true;
+    private Thread flusher;
+
+    public MemberAccessLogBatchWriter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${access-log.buffer-capacity:10000}") int bufferCapacity,
+                                      @Value("${access-log.batch-size:200}") int batchSize,
+                                      @Value("${access-log.flush-interval-millis:1000}") long flushIntervalMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+
+        Gauge.builder("access.log.buffer.size", buffer, BlockingQueue::size)
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("access.log.dropped")
+                .description("버퍼가 가득 차 버려진 접속 기록 수")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("access.log.written")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        flusher = new Thread(this::runFlusher, "access-log-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    public void append(Long memberId, String username, AccessLogType accessLogType, String ip) {
+        AccessLogRecord record = new AccessLogRecord(memberId, username, accessLogType, ip, LocalDateTime.now());
+        if (!buffer.offer(record)) {
+            droppedCounter.increment();
+            log.warn("접속 기록 버퍼가 가득 차 기록을 버립니다. {} {}", accessLogType, ip);
+        }
+    }
+
+    // 종료 시 버퍼에 남은 기록을 모두 기록합니다.
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        running = false;
+        flusher.interrupt();
+        flusher.join(flushIntervalMillis * 5);
+
+        List<AccessLogRecord> remaining = new ArrayList<>();
+        buffer.drainTo(remaining);
+        for (int from = 0; from < remaining.size(); from += batchSize) {
+            write(remaining.subList(from, Math.min(from + batchSize, remaining.size())));
+        }
+        log.info("종료 전 접속 기록 {}건을 기록했습니다.", remaining.size());
+    }
+
+    private void runFlusher() {
+        List<AccessLogRecord> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                long deadline = System.currentTimeMillis() + flushIntervalMillis;
+                while (batch.size() < batchSize) {
+                    long remaining = deadline - System.currentTimeMillis();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    AccessLogRecord record = buffer.poll(remaining, TimeUnit.MILLISECONDS);
+                    if (record == null) {
+                        break;
+                    }
+                    batch.add(record);
+                    buffer.drainTo(batch, batchSize - batch.size());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<AccessLogRecord> records) {
+        List<Object[]> byMemberId = new ArrayList<>();
+        List<Object[]> byUsername = new ArrayList<>();
+        for (AccessLogRecord record : records) {
+            Timestamp createdAt = Timestamp.valueOf(record.createdAt());
+            if (record.memberId() != null) {
+                byMemberId.add(new Object[]{record.memberId(), record.accessLogType().name(), record.ip(), createdAt});
+            } else {
+                byUsername.add(new Object[]{record.accessLogType().name(), record.ip(), createdAt, record.username()});
+            }
+        }
+
+        int written = insert(INSERT_BY_MEMBER_ID, byMemberId) + insert(INSERT_BY_USERNAME, byUsername);
+        writtenCounter.increment(written);
+        droppedCounter.increment(records.size() - written);
+    }
+
+    // 버퍼에 있는 동안 회원이 삭제되는 등 일부 행이 실패하면 나머지 행은 한 건씩 다시 기록합니다.
+    private int insert(String sql, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        try {
+            // 실패한 batch가 일부만 반영된 채 다시 기록되지 않도록 하나의 트랜잭션으로 묶습니다.
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, rows));
+            return rows.size();
+        } catch (Exception e) {
+            log.warn("접속 기록 일괄 기록에 실패해 한 건씩 다시 기록합니다. {}", e.getMessage());
+        }
+
+        int written = 0;
+        for (Object[] row : rows) {
+            try {
+                jdbcTemplate.update(sql, row);
+                written++;
+            } catch (Exception e) {
+                log.error("접속 기록을 기록하지 못했습니다. {}", e.getMessage());
+            }
+        }
+        return written;
+    }
+
+    private record AccessLogRecord(Long memberId, String username, AccessLogType accessLogType, String ip,
+                                   LocalDateTime createdAt) {
+    }
+}
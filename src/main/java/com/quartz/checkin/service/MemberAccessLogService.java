@@ -6,7 +6,6 @@ import com.quartz.checkin.common.validator.PaginationValidator;
 import com.quartz.checkin.dto.common.request.SimplePageRequest;
 import com.quartz.checkin.dto.member.response.AccessLogListResponse;
 import com.quartz.checkin.entity.AccessLogType;
-import com.quartz.checkin.entity.Member;
 import com.quartz.checkin.entity.MemberAccessLog;
 import com.quartz.checkin.repository.MemberAccessLogRepository;
 import lombok.RequiredArgsConstructor;
@@ -25,7 +24,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class MemberAccessLogService {
 
     private final MemberAccessLogRepository memberAccessLogRepository;
-    private final MemberService memberService;
+    private final MemberAccessLogBatchWriter memberAccessLogBatchWriter;
 
     public AccessLogListResponse getAccessLogList(SimplePageRequest pageRequest, String order) {
 
@@ -50,31 +49,12 @@ public class MemberAccessLogService {
         return AccessLogListResponse.from(accessLogPage);
     }
 
-    @Transactional
+    // 접속 기록은 요청 스레드에서 DB에 접근하지 않고 버퍼에 넣은 뒤 일괄 기록됩니다.
     public void writeLoginSuccessAccessLog(Long memberId, String clientIp) {
-        Member member = memberService.getMemberByIdOrThrow(memberId);
-
-        MemberAccessLog memberAccessLog = MemberAccessLog.builder()
-                .member(member)
-                .accessLogType(AccessLogType.LOGIN_SUCCESS)
-                .ip(clientIp)
-                .build();
-
-        memberAccessLogRepository.save(memberAccessLog);
+        memberAccessLogBatchWriter.append(memberId, null, AccessLogType.LOGIN_SUCCESS, clientIp);
     }
 
-    @Transactional
     public void writeWrongPasswordAccessLog(String username, String clientIp) {
-        Member member = memberService.getMemberByUsernameOrThrow(username);
-
-        MemberAccessLog memberAccessLog = MemberAccessLog.builder()
-                .member(member)
-                .accessLogType(AccessLogType.WRONG_PASSWORD)
-                .ip(clientIp)
-                .build();
-
-        memberAccessLogRepository.save(memberAccessLog);
-
+        memberAccessLogBatchWriter.append(null, username, AccessLogType.WRONG_PASSWORD, clientIp);
     }
-
 }
@@ -21,11 +21,13 @@ import com.quartz.checkin.entity.Template;
 import com.quartz.checkin.entity.TemplateAttachment;
 import com.quartz.checkin.entity.Ticket;
 import com.quartz.checkin.event.MemberHardDeletedEvent;
+import com.quartz.checkin.event.MemberProfilePicUpdatedEvent;
 import com.quartz.checkin.event.MemberRegisteredEvent;
 import com.quartz.checkin.event.MemberRestoredEvent;
 import com.quartz.checkin.event.PasswordResetMailEvent;
 import com.quartz.checkin.event.RoleUpdateEvent;
 import com.quartz.checkin.event.SoftDeletedEvent;
+import com.quartz.checkin.event.TicketChangedEvent;
 import com.quartz.checkin.repository.CommentRepository;
 import com.quartz.checkin.repository.LikeRepository;
 import com.quartz.checkin.repository.MemberAccessLogRepository;
@@ -37,6 +39,7 @@ import com.quartz.checkin.security.CustomUser;
 import com.quartz.checkin.security.service.JwtService;
 import jakarta.servlet.http.HttpServletRequest;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
@@ -192,13 +195,6 @@ public class MemberService {
         eventPublisher.publishEvent(new PasswordResetMailEvent(member.getId(), member.getEmail(), passwordResetToken));
     }
 
-    @Transactional
-    public void updateMemberRefreshToken(Long id, String refreshToken) {
-        Member member = getMemberByIdOrThrow(id);
-
-        member.updateRefreshToken(refreshToken);
-    }
-
     @Transactional
     public String updateMemberProfilePic(Long id, CustomUser customUser, MultipartFile file) {
         if (file.isEmpty() || !s3Service.isImageType(file.getContentType())) {
@@ -219,6 +215,7 @@ public class MemberService {
         try {
             String profilePic = s3Service.uploadFile(file, S3Config.PROFILE_DIR);
             member.updateProfilePic(profilePic);
+            eventPublisher.publishEvent(new MemberProfilePicUpdatedEvent(member.getId(), profilePic));
 
             return profilePic;
         } catch (Exception exception) {
@@ -239,7 +236,8 @@ public class MemberService {
 
         member.updateRole(newRole);
 
-        eventPublisher.publishEvent(new RoleUpdateEvent(member.getUsername()));
+        eventPublisher.publishEvent(
+                new RoleUpdateEvent(member.getId(), member.getUsername(), member.getSecurityEpoch()));
     }
 
     @Transactional
@@ -252,7 +250,8 @@ public class MemberService {
         }
 
         member.softDelete();
-        eventPublisher.publishEvent(new SoftDeletedEvent(member.getUsername()));
+        eventPublisher.publishEvent(
+                new SoftDeletedEvent(member.getId(), member.getUsername(), member.getSecurityEpoch()));
     }
 
     @Transactional
@@ -265,16 +264,19 @@ public class MemberService {
 
         Member deletedUser = getMemberByIdOrThrow(-1L);
 
+        List<Long> changedTicketIds = new ArrayList<>();
         List<Ticket> tickets = ticketRepository.findByUser(member);
         for (Ticket ticket : tickets) {
             log.info("티켓 {}의 요청자 초기화", ticket.getId());
             ticket.hardDeleteUser(deletedUser);
+            changedTicketIds.add(ticket.getId());
         }
 
         tickets = ticketRepository.findByManager(member);
         for (Ticket ticket : tickets) {
             log.info("티켓 {}의 담당자 초기화", ticket.getId());
             ticket.hardDeleteManager(deletedUser);
+            changedTicketIds.add(ticket.getId());
         }
 
         List<Comment> comments = commentRepository.findByMember(member);
@@ -309,6 +311,10 @@ public class MemberService {
 
         memberRepository.delete(member);
         eventPublisher.publishEvent(new MemberHardDeletedEvent(member.getUsername()));
+        if (!changedTicketIds.isEmpty()) {
+            eventPublisher.publishEvent(
+                    new TicketChangedEvent(changedTicketIds, List.of(member.getId(), deletedUser.getId())));
+        }
     }
 
     @Scheduled(cron = "0 0 0 * * ?")
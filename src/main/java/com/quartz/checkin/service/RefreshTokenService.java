@@ -0,0 +1,102 @@
+package com.quartz.checkin.service;
+
+import com.quartz.checkin.common.TokenDigestUtils;
+import com.quartz.checkin.common.exception.ApiException;
+import com.quartz.checkin.common.exception.ErrorCode;
+import com.quartz.checkin.entity.Member;
+import com.quartz.checkin.entity.RefreshToken;
+import com.quartz.checkin.repository.MemberRepository;
+import com.quartz.checkin.repository.RefreshTokenRepository;
+import com.quartz.checkin.security.service.JwtService;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RefreshTokenService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final MemberRepository memberRepository;
+    private final JwtService jwtService;
+
+    // 로그인마다 새 family를 만들므로 기기별 세션이 서로 영향을 주지 않습니다.
+    @Transactional
+    public String issue(Long memberId) {
+        String refreshToken = jwtService.createRefreshToken();
+        save(memberRepository.getReferenceById(memberId), refreshToken, UUID.randomUUID().toString());
+        return refreshToken;
+    }
+
+    /*
+     * 기존 토큰을 사용 처리하고 같은 family로 새 토큰을 발급합니다.
+     * 이미 사용된 토큰이 다시 제출되면 탈취된 것으로 보고 family 전체를 폐기합니다.
+     */
+    @Transactional(noRollbackFor = ApiException.class)
+    public Member rotate(String refreshToken, String newRefreshToken) {
+        RefreshToken stored = refreshTokenRepository.findByTokenHashJoinFetch(TokenDigestUtils.digest(refreshToken))
+                .orElseThrow(() -> {
+                    log.error("해당 refreshToken을 소유한 사용자는 없습니다.");
+                    return new ApiException(ErrorCode.INVALID_REFRESH_TOKEN);
+                });
+
+        if (stored.isRevoked() || stored.isExpired(LocalDateTime.now())) {
+            log.error("폐기되었거나 만료된 refreshToken입니다.");
+            throw new ApiException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
+
+        if (stored.getMember().getDeletedAt() != null) {
+            log.error("소프트 딜리트된 사용자가 재발급하려고 합니다.");
+            throw new ApiException(ErrorCode.MEMBER_NOT_FOUND);
+        }
+
+        if (refreshTokenRepository.markUsed(stored.getId()) == 0) {
+            int revoked = refreshTokenRepository.revokeFamily(stored.getFamilyId());
+            log.error("이미 사용된 refreshToken이 다시 제출되었습니다. 같은 family의 토큰 {}개를 폐기합니다.", revoked);
+            throw new ApiException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
+
+        save(stored.getMember(), newRefreshToken, stored.getFamilyId());
+        return stored.getMember();
+    }
+
+    @Transactional
+    public void revokeFamily(String refreshToken) {
+        refreshTokenRepository.findByTokenHashJoinFetch(TokenDigestUtils.digest(refreshToken))
+                .ifPresent(stored -> refreshTokenRepository.revokeFamily(stored.getFamilyId()));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void revokeAllByMemberId(Long memberId) {
+        int revoked = refreshTokenRepository.revokeAllByMemberId(memberId);
+        log.info("사용자({})의 refreshToken {}개를 폐기했습니다.", memberId, revoked);
+    }
+
+    @Transactional
+    @Scheduled(cron = "0 0 * * * *")
+    public void deleteExpiredTokens() {
+        int deleted = refreshTokenRepository.deleteAllExpiredBefore(LocalDateTime.now());
+        log.info("만료된 refreshToken {}개를 삭제했습니다.", deleted);
+    }
+
+    private void save(Member member, String refreshToken, String familyId) {
+        LocalDateTime expiresAt = LocalDateTime.ofInstant(
+                Instant.ofEpochMilli(jwtService.getExpirationTime(refreshToken)), ZoneId.systemDefault());
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .member(member)
+                .tokenHash(TokenDigestUtils.digest(refreshToken))
+                .familyId(familyId)
+                .expiresAt(expiresAt)
+                .build());
+    }
+}
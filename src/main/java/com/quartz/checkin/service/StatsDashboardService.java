@@ -0,0 +1,133 @@
+package com.quartz.checkin.service;
+
+import com.quartz.checkin.common.exception.ApiException;
+import com.quartz.checkin.dto.stat.response.StatCategoryCountResponse;
+import com.quartz.checkin.dto.stat.response.StatCategoryRateResponse;
+import com.quartz.checkin.dto.stat.response.StatClosedRateResponse;
+import com.quartz.checkin.dto.stat.response.StatDashboardResponse;
+import com.quartz.checkin.dto.stat.response.StatTotalProgressResultResponse;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/*
+ * 대시보드의 통계 항목을 제한된 스레드 풀에서 동시에 계산합니다.
+ * 각 항목은 제한 시간을 가진 자기 읽기 전용 트랜잭션(커넥션)에서 실행되어 느린 쿼리는 DB에서 중단되고,
+ * 제한 시간 안에 끝나지 않거나 실패한 항목은 취소한 뒤 비워 둔 채 나머지 결과를 돌려줍니다.
+ */
+@Slf4j
+@Service
+public class StatsDashboardService {
+
+    private final StatsService statsService;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor executor;
+    private final long queryTimeoutMillis;
+
+    public StatsDashboardService(StatsService statsService,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${stats.dashboard.threads:5}") int threads,
+                                 @Value("${stats.dashboard.queue-capacity:5}") int queueCapacity,
+                                 @Value("${stats.dashboard.query-timeout-millis:3000}") long queryTimeoutMillis) {
+        this.statsService = statsService;
+        this.queryTimeoutMillis = queryTimeoutMillis;
+
+        // 트랜잭션 제한 시간은 그 안에서 실행되는 JPA 쿼리의 JDBC 쿼리 제한 시간으로 적용됩니다.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.transactionTemplate.setTimeout((int) Math.max(1L, TimeUnit.MILLISECONDS.toSeconds(queryTimeoutMillis + 999L)));
+
+        // 제한 시간을 넘긴 작업은 취소되므로, 큐는 스레드가 한 번 더 처리할 만큼이면 충분합니다.
+        AtomicInteger threadNumber = new AtomicInteger(1);
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> new Thread(runnable, "stats-dashboard-" + threadNumber.getAndIncrement()),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public StatDashboardResponse getDashboard(String period) {
+        long deadline = System.currentTimeMillis() + queryTimeoutMillis;
+        List<String> failedSections = new ArrayList<>();
+
+        Future<List<StatCategoryRateResponse>> managers =
+                submit("managers", () -> statsService.getStatsByManager(period), failedSections);
+        Future<List<StatCategoryCountResponse>> categories =
+                submit("categories", statsService::getCategoryInProgressTickets, failedSections);
+        Future<StatTotalProgressResultResponse> statusRate =
+                submit("statusRate", statsService::getStatTotalProgress, failedSections);
+        Future<StatClosedRateResponse> closedRate =
+                submit("closedRate", () -> statsService.getClosedRate(period), failedSections);
+        Future<List<StatCategoryRateResponse>> managerCategories =
+                submit("managerCategories", statsService::getStatsByCategory, failedSections);
+
+        return new StatDashboardResponse(
+                await("managers", managers, deadline, failedSections),
+                await("categories", categories, deadline, failedSections),
+                await("statusRate", statusRate, deadline, failedSections),
+                await("closedRate", closedRate, deadline, failedSections),
+                await("managerCategories", managerCategories, deadline, failedSections),
+                failedSections);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> Future<T> submit(String section, Callable<T> task, List<String> failedSections) {
+        try {
+            return executor.submit(() -> transactionTemplate.execute(status -> call(task)));
+        } catch (RejectedExecutionException e) {
+            log.warn("대시보드 통계 작업이 밀려 있어 {} 항목을 건너뜁니다.", section);
+            failedSections.add(section);
+            return null;
+        }
+    }
+
+    // 모든 항목은 같은 시각에 시작하므로 하나의 마감 시각까지 기다립니다.
+    private <T> T await(String section, Future<T> future, long deadline, List<String> failedSections) {
+        if (future == null) {
+            return null;
+        }
+        try {
+            return future.get(Math.max(0L, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 대기 중인 작업은 시작하지 않도록 취소하고, 실행 중인 쿼리는 트랜잭션 제한 시간으로 중단됩니다.
+            future.cancel(true);
+            log.warn("대시보드 통계 {} 항목이 {}ms 안에 끝나지 않았습니다.", section, queryTimeoutMillis);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ApiException apiException) {
+                throw apiException;
+            }
+            log.error("대시보드 통계 {} 항목을 계산하지 못했습니다. {}", section, e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        failedSections.add(section);
+        return null;
+    }
+
+    private static <T> T call(Callable<T> task) {
+        try {
+            return task.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
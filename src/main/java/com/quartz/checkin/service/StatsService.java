@@ -1,40 +1,60 @@
 package com.quartz.checkin.service;
 
+import com.quartz.checkin.common.cache.StatsCacheKey;
+import com.quartz.checkin.config.CacheConfig;
 import com.quartz.checkin.dto.stat.response.StatCategoryCountResponse;
 import com.quartz.checkin.dto.stat.response.StatCategoryRateResponse;
 import com.quartz.checkin.dto.stat.response.StatClosedRateResponse;
 import com.quartz.checkin.dto.stat.response.StatTotalProgressResultResponse;
 import com.quartz.checkin.repository.StatsRepository;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.function.Supplier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+/*
+ * 같은 통계를 여러 사용자가 동시에 조회해도 집계는 한 번만 하도록 응답을 캐시합니다.
+ * 집계를 기다리는 요청이 커넥션을 잡고 있지 않도록, 트랜잭션은 실제로 집계하는 로더 안에서만 엽니다.
+ */
 @Service
-@RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class StatsService {
 
     private final StatsRepository statsRepository;
+    private final Cache statsResponseCache;
+    private final TransactionTemplate transactionTemplate;
+
+    public StatsService(StatsRepository statsRepository, CacheManager cacheManager,
+                        PlatformTransactionManager transactionManager) {
+        this.statsRepository = statsRepository;
+        this.statsResponseCache = cacheManager.getCache(CacheConfig.STATS_RESPONSE_CACHE);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
 
     public List<StatCategoryRateResponse> getStatsByCategory() {
-        return statsRepository.findStatsByCategory();
+        return getCached(StatsCacheKey.of("managers/categories", null), statsRepository::findStatsByCategory);
     }
 
     public StatTotalProgressResultResponse getStatTotalProgress() {
-        return statsRepository.findStatTotalProgress();
+        return getCached(StatsCacheKey.of("status-rate", null), statsRepository::findStatTotalProgress);
     }
 
     public List<StatCategoryRateResponse> getStatsByManager(String period) {
-        return statsRepository.findStatsByManager(period);
+        return getCached(StatsCacheKey.of("managers", period), () -> statsRepository.findStatsByManager(period));
     }
+
     public StatClosedRateResponse getClosedRate(String period) {
-        return statsRepository.findClosedRate(period);
+        return getCached(StatsCacheKey.of("closed-rate", period), () -> statsRepository.findClosedRate(period));
     }
 
     public List<StatCategoryCountResponse> getCategoryInProgressTickets() {
-        return statsRepository.findCategoryInProgressTickets();
+        return getCached(StatsCacheKey.of("categories", null), statsRepository::findCategoryInProgressTickets);
     }
 
-
-}
\ No newline at end of file
+    private <T> T getCached(StatsCacheKey key, Supplier<T> query) {
+        return statsResponseCache.get(key, () -> transactionTemplate.execute(status -> query.get()));
+    }
+}
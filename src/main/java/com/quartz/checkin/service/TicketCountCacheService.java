@@ -0,0 +1,77 @@
+package com.quartz.checkin.service;
+
+import com.quartz.checkin.common.cache.CacheInvalidationBus;
+import com.quartz.checkin.common.cache.CacheInvalidationMessage;
+import com.quartz.checkin.common.cache.TicketCountCache;
+import com.quartz.checkin.common.cache.TicketCountKey;
+import com.quartz.checkin.config.CacheConfig;
+import com.quartz.checkin.config.CacheInvalidationConfig;
+import jakarta.annotation.PostConstruct;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class TicketCountCacheService {
+
+    private static final String ALL_MEMBERS = "*";
+    // 한 번에 많은 사용자의 티켓이 바뀌면(스케줄러, 가져오기) 메시지를 나눠 보내지 않고 전체를 비웁니다.
+    private static final int MAX_TARGETED_MEMBERS = 10;
+
+    private final TicketCountCache ticketCountCache;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    public TicketCountCacheService(CacheManager cacheManager, CacheInvalidationBus cacheInvalidationBus) {
+        this.ticketCountCache = (TicketCountCache) cacheManager.getCache(CacheConfig.TICKET_COUNT_CACHE);
+        this.cacheInvalidationBus = cacheInvalidationBus;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        cacheInvalidationBus.subscribe(CacheInvalidationConfig.TICKET_COUNT_CHANNEL, message -> {
+            if (ALL_MEMBERS.equals(message.getKey())) {
+                ticketCountCache.clear();
+            } else {
+                ticketCountCache.invalidateMembers(Set.of(Long.valueOf(message.getKey())));
+            }
+        });
+    }
+
+    // 필터별 전체 개수를 캐시에서 꺼내고, 없을 때만 counter로 셉니다.
+    public long getCount(TicketCountKey countKey, Callable<Long> counter) {
+        return ticketCountCache.get(countKey, counter);
+    }
+
+    public void invalidate(Collection<Long> userIds) {
+        Set<Long> memberIds = userIds.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (memberIds.isEmpty()) {
+            return;
+        }
+
+        if (memberIds.size() > MAX_TARGETED_MEMBERS) {
+            invalidateAll();
+            return;
+        }
+
+        ticketCountCache.invalidateMembers(memberIds);
+        memberIds.forEach(memberId -> publish(String.valueOf(memberId)));
+    }
+
+    public void invalidateAll() {
+        ticketCountCache.clear();
+        publish(ALL_MEMBERS);
+    }
+
+    private void publish(String key) {
+        cacheInvalidationBus.publish(
+                new CacheInvalidationMessage(CacheInvalidationConfig.TICKET_COUNT_CHANNEL, key, 0L));
+    }
+}
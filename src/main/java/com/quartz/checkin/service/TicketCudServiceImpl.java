@@ -1,11 +1,14 @@
 package com.quartz.checkin.service;
 
 import com.quartz.checkin.common.AttachmentUtils;
+import com.quartz.checkin.common.TicketCustomIdUtils;
 import com.quartz.checkin.common.exception.ApiException;
 import com.quartz.checkin.common.exception.ErrorCode;
 import com.quartz.checkin.dto.ticket.request.PriorityUpdateRequest;
+import com.quartz.checkin.dto.ticket.request.TicketBulkCreateRequest;
 import com.quartz.checkin.dto.ticket.request.TicketCreateRequest;
 import com.quartz.checkin.dto.ticket.request.TicketUpdateRequest;
+import com.quartz.checkin.dto.ticket.response.TicketBulkCreateResponse;
 import com.quartz.checkin.dto.ticket.response.TicketCreateResponse;
 import com.quartz.checkin.entity.Attachment;
 import com.quartz.checkin.entity.Category;
@@ -14,8 +17,10 @@ import com.quartz.checkin.entity.Priority;
 import com.quartz.checkin.entity.Status;
 import com.quartz.checkin.entity.Ticket;
 import com.quartz.checkin.entity.TicketAttachment;
+import com.quartz.checkin.event.TicketChangedEvent;
 import com.quartz.checkin.event.TicketCreatedEvent;
 import com.quartz.checkin.event.TicketDeletedEvent;
+import com.quartz.checkin.event.TicketsBulkCreatedEvent;
 import com.quartz.checkin.repository.AttachmentRepository;
 import com.quartz.checkin.repository.TicketAttachmentRepository;
 import com.quartz.checkin.repository.TicketRepository;
@@ -23,7 +28,13 @@ import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -44,6 +55,7 @@ public class TicketCudServiceImpl implements TicketCudService {
     private final MemberService memberService;
     private final TicketAttachmentRepository ticketAttachmentRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final TicketSequenceAllocator ticketSequenceAllocator;
 
     @Override
     public TicketCreateResponse createTicket(Long memberId, TicketCreateRequest request) {
@@ -52,23 +64,15 @@ public class TicketCudServiceImpl implements TicketCudService {
         Category firstCategory = categoryService.getFirstCategoryOrThrow(request.getFirstCategory());
         Category secondCategory = categoryService.getSecondCategoryOrThrow(request.getSecondCategory(), firstCategory);
 
-        String datePart = LocalDate.now().format(DateTimeFormatter.ofPattern("MMdd"));
+        LocalDate today = LocalDate.now();
+        String datePart = today.format(DateTimeFormatter.ofPattern("MMdd"));
         String firstCategoryAlias = firstCategory.getAlias();
         String secondCategoryAlias = secondCategory.getAlias();
         String prefix = datePart + firstCategoryAlias + "-" + secondCategoryAlias;
 
-        int lastCustomId = ticketRepository.findLastCustomIdByDate(datePart);
-        int lastTicketNumber = lastCustomId == 0 ? 1 : lastCustomId + 1;
-        String newCustomId = prefix + String.format("%03d", lastTicketNumber);
-
         List<Long> attachmentIds = request.getAttachmentIds();
         List<Attachment> attachments = attachmentRepository.findAllById(attachmentIds);
 
-        if (ticketRepository.existsByCustomId(newCustomId)) {
-            log.error("중복된 customId가 감지되었습니다: {}", newCustomId);
-            throw new ApiException(ErrorCode.DUPLICATE_TICKET_ID);
-        }
-
         if (attachmentIds.size() > 3) {
             log.error("첨부파일은 최대 3개까지 등록 가능합니다.");
             throw new ApiException(ErrorCode.ATTACHMENT_LIMIT_EXCEEDED);
@@ -79,6 +83,9 @@ public class TicketCudServiceImpl implements TicketCudService {
             throw new ApiException(ErrorCode.ATTACHMENT_NOT_FOUND);
         }
 
+        // 번호는 3자리로 표시하며, 카테고리 변경과 마지막 번호 조회도 같은 자리의 접미사를 번호로 읽습니다.
+        String newCustomId = TicketCustomIdUtils.format(prefix, ticketSequenceAllocator.next(today));
+
         Ticket ticket = Ticket.builder()
                 .customId(newCustomId)
                 .user(member)
@@ -108,10 +115,106 @@ public class TicketCudServiceImpl implements TicketCudService {
                 savedTicket.getContent(),
                 List.of(member.getUsername())
         ));
+        eventPublisher.publishEvent(new TicketChangedEvent(savedTicket.getId(), member.getId()));
 
         return new TicketCreateResponse(savedTicket.getId());
     }
 
+    @Override
+    public TicketBulkCreateResponse createTickets(Long memberId, TicketBulkCreateRequest request) {
+
+        Member member = memberService.getMemberByIdOrThrow(memberId);
+        List<TicketCreateRequest> requests = request.getTickets();
+
+        Map<String, Category> firstCategories = new HashMap<>();
+        Map<List<String>, Category> secondCategories = new HashMap<>();
+        Set<Long> allAttachmentIds = new LinkedHashSet<>();
+
+        for (TicketCreateRequest ticketRequest : requests) {
+            Category firstCategory = firstCategories.computeIfAbsent(ticketRequest.getFirstCategory(),
+                    categoryService::getFirstCategoryOrThrow);
+            secondCategories.computeIfAbsent(
+                    List.of(ticketRequest.getFirstCategory(), ticketRequest.getSecondCategory()),
+                    key -> categoryService.getSecondCategoryOrThrow(ticketRequest.getSecondCategory(), firstCategory));
+
+            List<Long> attachmentIds = attachmentIdsOf(ticketRequest);
+            if (attachmentIds.size() > 3) {
+                log.error("첨부파일은 최대 3개까지 등록 가능합니다.");
+                throw new ApiException(ErrorCode.ATTACHMENT_LIMIT_EXCEEDED);
+            }
+            // 한 첨부파일이 두 티켓에 연결되면 한쪽을 삭제할 때 다른 티켓의 첨부파일도 지워지므로, 단건 생성과 같이 거부합니다.
+            for (Long attachmentId : attachmentIds) {
+                if (!allAttachmentIds.add(attachmentId)) {
+                    log.error("중복된 첨부파일이 포함되어 있습니다.");
+                    throw new ApiException(ErrorCode.ATTACHMENT_NOT_FOUND);
+                }
+            }
+        }
+
+        Map<Long, Attachment> attachments = allAttachmentIds.isEmpty()
+                ? Map.of()
+                : attachmentRepository.findAllById(allAttachmentIds).stream()
+                        .collect(Collectors.toMap(Attachment::getId, Function.identity()));
+
+        if (attachments.size() != allAttachmentIds.size()) {
+            log.error("존재하지 않는 첨부파일이 포함되어 있습니다.");
+            throw new ApiException(ErrorCode.ATTACHMENT_NOT_FOUND);
+        }
+
+        LocalDate today = LocalDate.now();
+        String datePart = today.format(DateTimeFormatter.ofPattern("MMdd"));
+        long firstNumber = ticketSequenceAllocator.nextRange(today, requests.size());
+
+        List<Ticket> tickets = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            TicketCreateRequest ticketRequest = requests.get(i);
+            Category firstCategory = firstCategories.get(ticketRequest.getFirstCategory());
+            Category secondCategory = secondCategories.get(
+                    List.of(ticketRequest.getFirstCategory(), ticketRequest.getSecondCategory()));
+            String prefix = datePart + firstCategory.getAlias() + "-" + secondCategory.getAlias();
+
+            tickets.add(Ticket.builder()
+                    .customId(TicketCustomIdUtils.format(prefix, firstNumber + i))
+                    .user(member)
+                    .firstCategory(firstCategory)
+                    .secondCategory(secondCategory)
+                    .title(ticketRequest.getTitle())
+                    .content(ticketRequest.getContent())
+                    .priority(Priority.UNDEFINED)
+                    .status(Status.OPEN)
+                    .dueDate(ticketRequest.getDueDate())
+                    .agitId(null)
+                    .build());
+        }
+
+        List<Ticket> savedTickets = ticketRepository.saveAll(tickets);
+
+        List<TicketAttachment> ticketAttachments = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            for (Long attachmentId : attachmentIdsOf(requests.get(i))) {
+                ticketAttachments.add(new TicketAttachment(savedTickets.get(i), attachments.get(attachmentId)));
+            }
+        }
+        ticketAttachmentRepository.saveAll(ticketAttachments);
+
+        List<TicketCreatedEvent> events = savedTickets.stream()
+                .map(ticket -> new TicketCreatedEvent(
+                        ticket.getId(),
+                        ticket.getCustomId(),
+                        member.getId(),
+                        ticket.getTitle(),
+                        ticket.getContent(),
+                        List.of(member.getUsername())
+                ))
+                .toList();
+        eventPublisher.publishEvent(new TicketsBulkCreatedEvent(events));
+
+        List<Long> ticketIds = savedTickets.stream().map(Ticket::getId).toList();
+        eventPublisher.publishEvent(new TicketChangedEvent(ticketIds, List.of(member.getId())));
+
+        return new TicketBulkCreateResponse(ticketIds);
+    }
+
     @Override
     public void updateTicket(Long memberId, TicketUpdateRequest request, Long ticketId) {
         Ticket ticket = ticketRepository.findById(ticketId)
@@ -148,6 +251,7 @@ public class TicketCudServiceImpl implements TicketCudService {
                 savedTicket.getContent(),
                 List.of(member.getUsername())
         ));
+        eventPublisher.publishEvent(new TicketChangedEvent(ticket.getId(), member.getId()));
 
         ticketRepository.save(ticket);
     }
@@ -205,6 +309,7 @@ public class TicketCudServiceImpl implements TicketCudService {
         }
 
         ticketRepository.saveAll(tickets);
+        eventPublisher.publishEvent(new TicketChangedEvent(ticketIds, List.of(member.getId())));
     }
 
     @Override
@@ -215,6 +320,11 @@ public class TicketCudServiceImpl implements TicketCudService {
 
         ticket.updatePriority(request.getPriority());
         ticketRepository.save(ticket);
+        eventPublisher.publishEvent(new TicketChangedEvent(ticket.getId(), ticket.getUser().getId()));
+    }
+
+    private List<Long> attachmentIdsOf(TicketCreateRequest request) {
+        return request.getAttachmentIds() != null ? request.getAttachmentIds() : Collections.emptyList();
     }
 
     private Ticket getValidTicket(Long ticketId) {
@@ -0,0 +1,101 @@
+package com.quartz.checkin.service;
+
+import com.quartz.checkin.common.stats.TicketDailyStatsKey;
+import com.quartz.checkin.repository.TicketDailyStatsRepository;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/*
+ * ticket_daily_stats 집계 테이블을 관리합니다.
+ * 티켓이 바뀌면 변경 전후의 키로 개수를 증감하고, 매일 밤 생성일 기준 기간별로 나눠 ticket 테이블에서 다시 계산해
+ * 누락된 변경(직접 수정한 데이터, 배포 전 티켓 등)을 바로잡습니다.
+ */
+@Slf4j
+@Service
+public class TicketDailyStatsService {
+
+    private final TicketDailyStatsRepository ticketDailyStatsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int rebuildChunkDays;
+
+    public TicketDailyStatsService(TicketDailyStatsRepository ticketDailyStatsRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${ticket.daily-stats.rebuild-chunk-days:30}") int rebuildChunkDays) {
+        this.ticketDailyStatsRepository = ticketDailyStatsRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.rebuildChunkDays = rebuildChunkDays;
+    }
+
+    // 티켓을 변경한 트랜잭션 안에서 호출되어 함께 커밋되거나 롤백됩니다.
+    public void applyChange(List<TicketDailyStatsKey> before, List<TicketDailyStatsKey> after) {
+        Map<TicketDailyStatsKey, Long> deltas = new HashMap<>();
+        before.stream().filter(Objects::nonNull).forEach(key -> deltas.merge(key, -1L, Long::sum));
+        after.stream().filter(Objects::nonNull).forEach(key -> deltas.merge(key, 1L, Long::sum));
+        deltas.values().removeIf(delta -> delta == 0L);
+
+        ticketDailyStatsRepository.addCounts(deltas);
+    }
+
+    // 집계 테이블이 도입되기 전의 티켓을 채우기 위해, 테이블이 비어 있으면 시작할 때 한 번 다시 계산합니다.
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        if (ticketDailyStatsRepository.count() == 0) {
+            rebuild();
+        }
+    }
+
+    @Scheduled(cron = "0 30 3 * * ?")
+    public void rebuildNightly() {
+        rebuild();
+    }
+
+    public synchronized void rebuild() {
+        LocalDate firstTicketDate = ticketDailyStatsRepository.findFirstTicketDate();
+        LocalDate firstStatDate = ticketDailyStatsRepository.findFirstStatDate();
+        LocalDate from = earlierOf(firstTicketDate, firstStatDate);
+        if (from == null) {
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        LocalDate end = LocalDate.now().plusDays(1);
+        int rows = 0;
+        try {
+            while (from.isBefore(end)) {
+                LocalDate to = from.plusDays(rebuildChunkDays).isBefore(end) ? from.plusDays(rebuildChunkDays) : end;
+                rows += rebuildChunk(from, to);
+                from = to;
+            }
+            log.info("티켓 일별 통계를 다시 계산했습니다. {}행, {}ms", rows, System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            log.error("티켓 일별 통계를 다시 계산하지 못했습니다. 구간 시작={}, {}", from, e.getMessage(), e);
+        }
+    }
+
+    // 집계와 교체를 한 트랜잭션에서 처리해 그 사이에 커밋된 티켓 변경이 이전 집계로 덮이지 않게 하고,
+    // 구간마다 따로 커밋해 티켓 변경이 집계 테이블의 잠금을 오래 기다리지 않도록 합니다.
+    private int rebuildChunk(LocalDate from, LocalDate to) {
+        Integer rows = transactionTemplate.execute(status -> ticketDailyStatsRepository.rebuildCounts(from, to));
+        return rows != null ? rows : 0;
+    }
+
+    private LocalDate earlierOf(LocalDate first, LocalDate second) {
+        if (first == null || second == null) {
+            return first != null ? first : second;
+        }
+        return first.isBefore(second) ? first : second;
+    }
+}
@@ -0,0 +1,142 @@
+package com.quartz.checkin.service;
+
+import com.quartz.checkin.common.cache.CacheInvalidationBus;
+import com.quartz.checkin.common.cache.CacheInvalidationMessage;
+import com.quartz.checkin.config.CacheConfig;
+import com.quartz.checkin.config.CacheInvalidationConfig;
+import com.quartz.checkin.repository.CategoryRepository;
+import com.quartz.checkin.repository.MemberRepository;
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+/*
+ * 티켓 목록 필터로 들어온 카테고리 이름과 담당자 아이디를 id로 바꿔 줍니다.
+ * 조회 결과는 노드마다 캐시에 두고, 카테고리나 회원이 바뀌면 이벤트와 무효화 채널로 지웁니다.
+ * 없는 이름은 캐시하지 않으므로 새로 만든 카테고리나 회원도 바로 찾을 수 있습니다.
+ */
+@Service
+public class TicketFilterDictionary {
+
+    private static final String ALL_CATEGORIES = "category";
+    private static final String MEMBER_PREFIX = "member:";
+
+    private final Cache categoryIdCache;
+    private final Cache memberIdCache;
+    private final CategoryRepository categoryRepository;
+    private final MemberRepository memberRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    public TicketFilterDictionary(CacheManager cacheManager, CategoryRepository categoryRepository,
+                                  MemberRepository memberRepository, CacheInvalidationBus cacheInvalidationBus) {
+        this.categoryIdCache = cacheManager.getCache(CacheConfig.CATEGORY_ID_CACHE);
+        this.memberIdCache = cacheManager.getCache(CacheConfig.MEMBER_ID_CACHE);
+        this.categoryRepository = categoryRepository;
+        this.memberRepository = memberRepository;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        cacheInvalidationBus.subscribe(CacheInvalidationConfig.FILTER_DICTIONARY_CHANNEL, message -> {
+            if (ALL_CATEGORIES.equals(message.getKey())) {
+                categoryIdCache.clear();
+            } else if (message.getKey().startsWith(MEMBER_PREFIX)) {
+                memberIdCache.evict(message.getKey().substring(MEMBER_PREFIX.length()));
+            }
+        });
+    }
+
+    // 이름 조건이 없으면 null을, 이름은 있지만 하나도 찾지 못하면 빈 목록을 돌려줍니다.
+    public ResolvedFilter resolve(List<String> usernames, List<String> categories) {
+        return new ResolvedFilter(resolveManagerIds(usernames), resolveCategoryIds(categories));
+    }
+
+    public void evictCategories() {
+        categoryIdCache.clear();
+        publish(ALL_CATEGORIES);
+    }
+
+    public void evictMember(String username) {
+        if (username == null) {
+            return;
+        }
+        memberIdCache.evict(username);
+        publish(MEMBER_PREFIX + username);
+    }
+
+    private List<Long> resolveManagerIds(List<String> usernames) {
+        if (usernames == null || usernames.isEmpty()) {
+            return null;
+        }
+
+        Set<Long> managerIds = new LinkedHashSet<>();
+        for (String username : usernames) {
+            if (username == null || username.isBlank()) {
+                continue;
+            }
+            Long cached = memberIdCache.get(username, Long.class);
+            if (cached != null) {
+                managerIds.add(cached);
+                continue;
+            }
+            Optional<Long> memberId = memberRepository.findIdByUsername(username);
+            memberId.ifPresent(id -> {
+                memberIdCache.put(username, id);
+                managerIds.add(id);
+            });
+        }
+        return new ArrayList<>(managerIds);
+    }
+
+    private List<Long> resolveCategoryIds(List<String> categories) {
+        if (categories == null || categories.isEmpty()) {
+            return null;
+        }
+
+        Set<Long> categoryIds = new LinkedHashSet<>();
+        for (String category : categories) {
+            if (category == null || category.isBlank()) {
+                continue;
+            }
+            String key = category.trim().toLowerCase(Locale.ROOT);
+            List<Long> cached = cachedIds(categoryIdCache.get(key));
+            if (cached != null) {
+                categoryIds.addAll(cached);
+                continue;
+            }
+            List<Long> ids = categoryRepository.findFirstCategoryIdsByKey(key);
+            if (!ids.isEmpty()) {
+                categoryIdCache.put(key, List.copyOf(ids));
+                categoryIds.addAll(ids);
+            }
+        }
+        return new ArrayList<>(categoryIds);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> cachedIds(Cache.ValueWrapper wrapper) {
+        return wrapper != null ? (List<Long>) wrapper.get() : null;
+    }
+
+    private void publish(String key) {
+        cacheInvalidationBus.publish(
+                new CacheInvalidationMessage(CacheInvalidationConfig.FILTER_DICTIONARY_CHANNEL, key, 0L));
+    }
+
+    public record ResolvedFilter(List<Long> managerIds, List<Long> categoryIds) {
+
+        // 이름 조건을 줬는데 해당하는 id가 하나도 없으면 조회할 필요 없이 빈 결과입니다.
+        public boolean matchesNothing() {
+            return (managerIds != null && managerIds.isEmpty())
+                    || (categoryIds != null && categoryIds.isEmpty());
+        }
+    }
+}
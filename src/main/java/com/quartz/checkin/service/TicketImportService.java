@@ -0,0 +1,344 @@
+package com.quartz.checkin.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.quartz.checkin.common.TicketCustomIdUtils;
+import com.quartz.checkin.common.exception.ApiException;
+import com.quartz.checkin.common.exception.ErrorCode;
+import com.quartz.checkin.common.importer.CsvTicketImportRowReader;
+import com.quartz.checkin.common.importer.NdjsonTicketImportRowReader;
+import com.quartz.checkin.common.importer.TicketImportRowReader;
+import com.quartz.checkin.common.importer.TicketImportRowReader.ParsedRow;
+import com.quartz.checkin.dto.ticket.request.TicketImportRow;
+import com.quartz.checkin.dto.ticket.response.TicketImportErrorResponse;
+import com.quartz.checkin.dto.ticket.response.TicketImportJobResponse;
+import com.quartz.checkin.entity.Category;
+import com.quartz.checkin.entity.Member;
+import com.quartz.checkin.entity.Priority;
+import com.quartz.checkin.entity.Status;
+import com.quartz.checkin.entity.Ticket;
+import com.quartz.checkin.entity.TicketImportError;
+import com.quartz.checkin.entity.TicketImportFormat;
+import com.quartz.checkin.entity.TicketImportJob;
+import com.quartz.checkin.event.TicketChangedEvent;
+import com.quartz.checkin.repository.CategoryRepository;
+import com.quartz.checkin.repository.MemberRepository;
+import com.quartz.checkin.repository.TicketImportErrorRepository;
+import com.quartz.checkin.repository.TicketImportJobRepository;
+import com.quartz.checkin.repository.TicketRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/*
+ * 이관용 티켓 가져오기를 처리합니다.
+ * 요청 본문은 임시 파일로 흘려 보낸 뒤 바로 작업 ID를 반환하고, 별도 스레드가 파일을 한 행씩 읽어 chunkSize 단위 트랜잭션으로 저장합니다.
+ * 각 청크의 티켓, 행 오류, 진행 상황은 같은 트랜잭션에서 커밋되므로 processedRows까지는 항상 반영되어 있습니다.
+ * 이관되는 티켓은 아지트 게시글을 만들지 않도록 생성 이벤트를 발행하지 않습니다.
+ */
+@Slf4j
+@Service
+public class TicketImportService {
+
+    private static final DateTimeFormatter DATE_PREFIX_FORMAT = DateTimeFormatter.ofPattern("MMdd");
+    private static final int MAX_ERRORS_IN_RESPONSE = 1000;
+
+    private final TicketImportJobRepository ticketImportJobRepository;
+    private final TicketImportErrorRepository ticketImportErrorRepository;
+    private final TicketRepository ticketRepository;
+    private final CategoryRepository categoryRepository;
+    private final MemberRepository memberRepository;
+    private final TicketSequenceAllocator ticketSequenceAllocator;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor executor;
+    private final int chunkSize;
+
+    public TicketImportService(TicketImportJobRepository ticketImportJobRepository,
+                               TicketImportErrorRepository ticketImportErrorRepository,
+                               TicketRepository ticketRepository,
+                               CategoryRepository categoryRepository,
+                               MemberRepository memberRepository,
+                               TicketSequenceAllocator ticketSequenceAllocator,
+                               ObjectMapper objectMapper,
+                               Validator validator,
+                               ApplicationEventPublisher eventPublisher,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${ticket.import.chunk-size:500}") int chunkSize,
+                               @Value("${ticket.import.threads:1}") int threads,
+                               @Value("${ticket.import.queue-capacity:10}") int queueCapacity) {
+        this.ticketImportJobRepository = ticketImportJobRepository;
+        this.ticketImportErrorRepository = ticketImportErrorRepository;
+        this.ticketRepository = ticketRepository;
+        this.categoryRepository = categoryRepository;
+        this.memberRepository = memberRepository;
+        this.ticketSequenceAllocator = ticketSequenceAllocator;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+
+        AtomicInteger threadNumber = new AtomicInteger(1);
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> new Thread(runnable, "ticket-import-" + threadNumber.getAndIncrement()),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public TicketImportJobResponse startImport(Long memberId, String contentType, InputStream body) {
+        TicketImportFormat format = TicketImportFormat.fromContentType(contentType)
+                .orElseThrow(() -> new ApiException(ErrorCode.INVALID_IMPORT_FORMAT));
+
+        Path file = spool(body);
+        TicketImportJob job = ticketImportJobRepository.save(
+                new TicketImportJob(UUID.randomUUID().toString(), memberId, format));
+
+        try {
+            executor.execute(() -> run(job.getId(), file, format));
+        } catch (RejectedExecutionException e) {
+            deleteQuietly(file);
+            ticketImportJobRepository.delete(job);
+            throw new ApiException(ErrorCode.TOO_MANY_IMPORT_JOBS);
+        }
+
+        log.info("티켓 가져오기 작업을 등록했습니다. jobId={}, format={}", job.getId(), format);
+        return TicketImportJobResponse.of(job, List.of());
+    }
+
+    public TicketImportJobResponse getImportJob(String jobId) {
+        TicketImportJob job = ticketImportJobRepository.findById(jobId)
+                .orElseThrow(() -> new ApiException(ErrorCode.IMPORT_JOB_NOT_FOUND));
+
+        List<TicketImportErrorResponse> errors = ticketImportErrorRepository
+                .findAllByJobIdOrderByRowNumberAsc(jobId, PageRequest.of(0, MAX_ERRORS_IN_RESPONSE))
+                .stream()
+                .map(TicketImportErrorResponse::from)
+                .toList();
+
+        return TicketImportJobResponse.of(job, errors);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private Path spool(InputStream body) {
+        try {
+            Path file = Files.createTempFile("ticket-import-", ".tmp");
+            Files.copy(body, file, StandardCopyOption.REPLACE_EXISTING);
+            return file;
+        } catch (IOException e) {
+            log.error("가져오기 파일을 임시 저장하지 못했습니다. {}", e.getMessage());
+            throw new ApiException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private void run(String jobId, Path file, TicketImportFormat format) {
+        TicketImportJob job = ticketImportJobRepository.findById(jobId).orElseThrow();
+        job.start();
+        ticketImportJobRepository.save(job);
+
+        try (TicketImportRowReader reader = openReader(file, format)) {
+            ImportContext context = new ImportContext(loadCategories());
+
+            List<ParsedRow> chunk = new ArrayList<>(chunkSize);
+            ParsedRow parsedRow;
+            while ((parsedRow = reader.next()) != null) {
+                chunk.add(parsedRow);
+                if (chunk.size() == chunkSize) {
+                    writeChunk(job, chunk, context);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                writeChunk(job, chunk, context);
+            }
+
+            job.complete();
+            ticketImportJobRepository.save(job);
+            log.info("티켓 가져오기 작업을 완료했습니다. jobId={}, imported={}, failed={}",
+                    jobId, job.getImportedRows(), job.getFailedRows());
+        } catch (Exception e) {
+            log.error("티켓 가져오기 작업이 실패했습니다. jobId={}, {}", jobId, e.getMessage());
+            // 실패한 청크에서 메모리에만 반영된 진행 상황을 버리고, 마지막으로 커밋된 값을 기준으로 기록합니다.
+            ticketImportJobRepository.findById(jobId).ifPresent(committed -> {
+                committed.fail(e.getMessage());
+                ticketImportJobRepository.save(committed);
+            });
+        } finally {
+            deleteQuietly(file);
+        }
+    }
+
+    private TicketImportRowReader openReader(Path file, TicketImportFormat format) throws IOException {
+        Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+        return switch (format) {
+            case NDJSON -> new NdjsonTicketImportRowReader(reader, objectMapper);
+            case CSV -> new CsvTicketImportRowReader(reader);
+        };
+    }
+
+    // 작업 동안 사용할 (1차 카테고리 이름, 2차 카테고리 이름) -> 카테고리 목록입니다.
+    private Map<List<String>, Category[]> loadCategories() {
+        return transactionTemplate.execute(status -> {
+            List<Category> categories = categoryRepository.findAll();
+            Map<Long, Category> byId = categories.stream()
+                    .collect(Collectors.toMap(Category::getId, category -> category));
+
+            Map<List<String>, Category[]> pairs = new HashMap<>();
+            for (Category category : categories) {
+                if (category.getParent() == null) {
+                    continue;
+                }
+                Category parent = byId.get(category.getParent().getId());
+                pairs.put(List.of(parent.getName(), category.getName()), new Category[]{parent, category});
+            }
+            return pairs;
+        });
+    }
+
+    private void writeChunk(TicketImportJob job, List<ParsedRow> chunk, ImportContext context) {
+        List<TicketImportRow> validRows = new ArrayList<>(chunk.size());
+        List<Member> members = new ArrayList<>(chunk.size());
+        List<Category[]> categories = new ArrayList<>(chunk.size());
+        List<TicketImportError> errors = new ArrayList<>();
+
+        for (ParsedRow parsedRow : chunk) {
+            if (parsedRow.hasError()) {
+                errors.add(new TicketImportError(job.getId(), parsedRow.rowNumber(), parsedRow.error()));
+                continue;
+            }
+
+            TicketImportRow row = parsedRow.row();
+            String error = validate(row);
+            Category[] category = null;
+            Member member = null;
+
+            if (error == null) {
+                category = context.categories().get(List.of(row.getFirstCategory(), row.getSecondCategory()));
+                if (category == null) {
+                    error = "존재하지 않는 카테고리입니다.";
+                }
+            }
+            if (error == null) {
+                member = context.findMember(row.getUsername(), memberRepository).orElse(null);
+                if (member == null) {
+                    error = ErrorCode.MEMBER_NOT_FOUND.getMessage();
+                }
+            }
+
+            if (error != null) {
+                errors.add(new TicketImportError(job.getId(), parsedRow.rowNumber(), error));
+                continue;
+            }
+
+            validRows.add(row);
+            members.add(member);
+            categories.add(category);
+        }
+
+        List<Ticket> tickets = new ArrayList<>(validRows.size());
+        if (!validRows.isEmpty()) {
+            LocalDate today = LocalDate.now();
+            String datePart = today.format(DATE_PREFIX_FORMAT);
+            long firstNumber = ticketSequenceAllocator.nextRange(today, validRows.size());
+
+            for (int i = 0; i < validRows.size(); i++) {
+                TicketImportRow row = validRows.get(i);
+                Category firstCategory = categories.get(i)[0];
+                Category secondCategory = categories.get(i)[1];
+                String prefix = datePart + firstCategory.getAlias() + "-" + secondCategory.getAlias();
+
+                tickets.add(Ticket.builder()
+                        .customId(TicketCustomIdUtils.format(prefix, firstNumber + i))
+                        .user(members.get(i))
+                        .firstCategory(firstCategory)
+                        .secondCategory(secondCategory)
+                        .title(row.getTitle())
+                        .content(row.getContent())
+                        .priority(Priority.UNDEFINED)
+                        .status(Status.OPEN)
+                        .dueDate(row.getDueDate())
+                        .agitId(null)
+                        .build());
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            ticketRepository.saveAll(tickets);
+            ticketImportErrorRepository.saveAll(errors);
+            job.checkpoint(chunk.size(), tickets.size(), errors.size());
+            ticketImportJobRepository.save(job);
+            if (!tickets.isEmpty()) {
+                eventPublisher.publishEvent(new TicketChangedEvent(
+                        tickets.stream().map(Ticket::getId).toList(),
+                        members.stream().map(Member::getId).distinct().toList()));
+            }
+        });
+    }
+
+    private String validate(TicketImportRow row) {
+        Set<ConstraintViolation<TicketImportRow>> violations = validator.validate(row);
+        if (violations.isEmpty()) {
+            return null;
+        }
+
+        return violations.stream()
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .collect(Collectors.joining(", "));
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("가져오기 임시 파일을 삭제하지 못했습니다. {}", file);
+        }
+    }
+
+    private record ImportContext(Map<List<String>, Category[]> categories, Map<String, Optional<Member>> members) {
+
+        private ImportContext(Map<List<String>, Category[]> categories) {
+            this(categories, new HashMap<>());
+        }
+
+        private Optional<Member> findMember(String username, MemberRepository memberRepository) {
+            return members.computeIfAbsent(username, key -> memberRepository.findByUsername(key)
+                    .filter(member -> member.getDeletedAt() == null));
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.quartz.checkin.service;
 
+import com.quartz.checkin.common.TicketCustomIdUtils;
 import com.quartz.checkin.common.exception.ApiException;
 import com.quartz.checkin.common.exception.ErrorCode;
 import com.quartz.checkin.dto.category.request.FirstCategoryPatchRequest;
@@ -14,6 +15,7 @@ import com.quartz.checkin.entity.Ticket;
 import com.quartz.checkin.entity.TicketLog;
 import com.quartz.checkin.event.TicketAssigneeChangedEvent;
 import com.quartz.checkin.event.TicketCategoryChangedEvent;
+import com.quartz.checkin.event.TicketChangedEvent;
 import com.quartz.checkin.event.TicketStatusChangedEvent;
 import com.quartz.checkin.repository.CategoryRepository;
 import com.quartz.checkin.repository.MemberRepository;
@@ -70,6 +72,7 @@ public class TicketLogServiceImpl implements TicketLogService {
 
         ticketLogRepository.save(ticketLog);
         eventPublisher.publishEvent(new TicketStatusChangedEvent(ticket.getId(), ticket.getCustomId(), ticket.getAgitId(), 2));
+        eventPublisher.publishEvent(new TicketChangedEvent(ticket.getId(), ticket.getUser().getId()));
 
         return new TicketLogResponse(ticketLog);
     }
@@ -164,6 +167,7 @@ public class TicketLogServiceImpl implements TicketLogService {
         ticketLogRepository.save(ticketLog);
 
         eventPublisher.publishEvent(new TicketStatusChangedEvent(ticket.getId(), ticket.getCustomId(), ticket.getAgitId(), 1));
+        eventPublisher.publishEvent(new TicketChangedEvent(ticket.getId(), ticket.getUser().getId()));
 
         List<String> assigneesForInProgress = new ArrayList<>();
         if (ticket.getUser() != null) {
@@ -217,12 +221,13 @@ public class TicketLogServiceImpl implements TicketLogService {
         String secondCategoryAlias = secondCategory.getAlias();
         String datePart = ticket.getCreatedAt().format(DateTimeFormatter.ofPattern("MMdd"));
         String oldCustomId = ticket.getCustomId();
-        String numberPart = oldCustomId.substring(oldCustomId.length() - 3);
+        String numberPart = TicketCustomIdUtils.numberPart(oldCustomId);
         String newCustomId = datePart + firstCategoryAlias + "-" + secondCategoryAlias + numberPart;
 
         ticket.updateCategory(firstCategory, secondCategory);
         ticket.updateCustomId(newCustomId);
         ticketRepository.save(ticket);
+        eventPublisher.publishEvent(new TicketChangedEvent(ticket.getId(), ticket.getUser().getId()));
 
         return newCustomId;
     }
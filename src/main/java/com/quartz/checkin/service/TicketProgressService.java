@@ -0,0 +1,162 @@
+package com.quartz.checkin.service;
+
+import com.quartz.checkin.common.cache.CacheInvalidationBus;
+import com.quartz.checkin.common.cache.CacheInvalidationMessage;
+import com.quartz.checkin.common.progress.TicketProgressCounters;
+import com.quartz.checkin.common.progress.TicketProgressState;
+import com.quartz.checkin.config.CacheInvalidationConfig;
+import com.quartz.checkin.dto.ticket.response.TicketProgressResponse;
+import com.quartz.checkin.repository.TicketViewRepository;
+import jakarta.annotation.PostConstruct;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/*
+ * 담당자 진행률을 메모리 카운터로 응답합니다.
+ * 카운터가 없거나 날짜가 바뀌었거나 무효화 메시지가 누락되었으면 집계 쿼리 한 번으로 다시 채우고,
+ * 티켓 변경은 커밋 후 이 노드의 카운터에 더한 뒤 (변경 전 상태, 변경 후 상태)를 다른 노드에 보내 같은 값을 더하게 합니다.
+ * 집계와 변경이 겹쳐 생기는 오차는 주기적인 재집계로 맞춥니다.
+ */
+@Slf4j
+@Service
+public class TicketProgressService {
+
+    private static final String TRANSITION_SEPARATOR = ">";
+
+    private final TicketViewRepository ticketViewRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    private volatile TicketProgressCounters counters;
+    private volatile long countedAt;
+    private volatile boolean stale;
+
+    public TicketProgressService(TicketViewRepository ticketViewRepository,
+                                 CacheInvalidationBus cacheInvalidationBus) {
+        this.ticketViewRepository = ticketViewRepository;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        cacheInvalidationBus.subscribe(CacheInvalidationConfig.TICKET_PROGRESS_CHANNEL, this::applyRemoteChange);
+        cacheInvalidationBus.subscribeGaps(() -> stale = true);
+    }
+
+    public TicketProgressResponse getProgress(Long managerId) {
+        TicketProgressCounters current = counters;
+        if (current == null || stale || !LocalDate.now().equals(current.getBaseDate())) {
+            current = reconcile();
+        }
+        return current.snapshot(managerId);
+    }
+
+    // 롤백된 변경이 카운터에 남지 않도록 트랜잭션 안에서는 커밋된 뒤에 반영합니다.
+    public void recordChange(List<TicketProgressState> before, List<TicketProgressState> after) {
+        if (before.isEmpty() && after.isEmpty()) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(before, after);
+                }
+            });
+        } else {
+            apply(before, after);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${ticket.progress.reconcile-interval-millis:300000}",
+            initialDelayString = "${ticket.progress.reconcile-interval-millis:300000}")
+    public void reconcilePeriodically() {
+        if (counters == null) {
+            return;
+        }
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            log.error("티켓 진행률 카운터를 다시 집계하지 못했습니다. {}", e.getMessage(), e);
+        }
+    }
+
+    public synchronized TicketProgressCounters reconcile() {
+        stale = false;
+        countedAt = System.currentTimeMillis();
+        LocalDate today = LocalDate.now();
+        TicketProgressCounters reconciled =
+                TicketProgressCounters.of(today, ticketViewRepository.countProgressByManager(today));
+        counters = reconciled;
+        return reconciled;
+    }
+
+    private void apply(List<TicketProgressState> before, List<TicketProgressState> after) {
+        TicketProgressCounters current = counters;
+        if (current != null) {
+            current.apply(before, after);
+        }
+        publish(before, after);
+    }
+
+    // 개수는 더하고 빼는 순서와 무관하므로, 서로 상쇄되는 상태를 지운 뒤 남은 상태를 순서대로 짝지어 보냅니다.
+    private void publish(List<TicketProgressState> before, List<TicketProgressState> after) {
+        Map<String, Integer> removed = new HashMap<>();
+        before.forEach(state -> removed.merge(TicketProgressState.encode(state), 1, Integer::sum));
+        List<String> added = new ArrayList<>();
+        for (TicketProgressState state : after) {
+            String encoded = TicketProgressState.encode(state);
+            Integer count = removed.get(encoded);
+            if (count == null) {
+                added.add(encoded);
+            } else if (count == 1) {
+                removed.remove(encoded);
+            } else {
+                removed.put(encoded, count - 1);
+            }
+        }
+        List<String> from = new ArrayList<>();
+        removed.forEach((encoded, count) -> from.addAll(Collections.nCopies(count, encoded)));
+
+        List<String> transitions = new ArrayList<>();
+        for (int i = 0; i < Math.max(from.size(), added.size()); i++) {
+            String fromState = i < from.size() ? from.get(i) : "";
+            String toState = i < added.size() ? added.get(i) : "";
+            if (!fromState.equals(toState)) {
+                transitions.add(fromState + TRANSITION_SEPARATOR + toState);
+            }
+        }
+
+        long publishedAt = System.currentTimeMillis();
+        for (String key : CacheInvalidationMessage.joinKeys(transitions)) {
+            cacheInvalidationBus.publish(new CacheInvalidationMessage(
+                    CacheInvalidationConfig.TICKET_PROGRESS_CHANNEL, key, publishedAt));
+        }
+    }
+
+    // 집계를 시작하기 전에 발행된 변경은 이미 집계에 포함되어 있으므로 더하지 않습니다. 기동 시 다시 읽는 이전 메시지도 여기서 걸러집니다.
+    private void applyRemoteChange(CacheInvalidationMessage message) {
+        TicketProgressCounters current = counters;
+        if (current == null || message.getValue() < countedAt) {
+            return;
+        }
+
+        List<TicketProgressState> before = new ArrayList<>();
+        List<TicketProgressState> after = new ArrayList<>();
+        for (String transition : CacheInvalidationMessage.splitKey(message.getKey())) {
+            String[] states = transition.split(TRANSITION_SEPARATOR, -1);
+            before.add(TicketProgressState.decode(states[0]));
+            after.add(TicketProgressState.decode(states[1]));
+        }
+        current.apply(before, after);
+    }
+}
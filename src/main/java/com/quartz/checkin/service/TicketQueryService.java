@@ -1,9 +1,12 @@
 package com.quartz.checkin.service;
 
 import com.quartz.checkin.dto.ticket.response.ManagerTicketListResponse;
+import com.quartz.checkin.dto.ticket.response.ManagerTicketSummaryResponse;
+import com.quartz.checkin.dto.ticket.response.TicketCursorResponse;
 import com.quartz.checkin.dto.ticket.response.TicketDetailResponse;
 import com.quartz.checkin.dto.ticket.response.TicketProgressResponse;
 import com.quartz.checkin.dto.ticket.response.UserTicketListResponse;
+import com.quartz.checkin.dto.ticket.response.UserTicketSummaryResponse;
 import com.quartz.checkin.entity.Priority;
 import com.quartz.checkin.entity.Status;
 import java.util.List;
@@ -24,5 +27,20 @@ public interface TicketQueryService {
 
     UserTicketListResponse searchUserTickets(Long memberId, String keyword, int page, int size, String sortByCreatedAt);
 
+    TicketCursorResponse<ManagerTicketSummaryResponse> getManagerTicketsByCursor(
+            List<Status> statuses, List<String> usernames, List<String> categories, List<Priority> priorities,
+            Boolean dueToday, Boolean dueThisWeek, String cursor, int size, String sortByCreatedAt);
+
+    TicketCursorResponse<UserTicketSummaryResponse> getUserTicketsByCursor(
+            Long memberId, List<Status> statuses, List<String> usernames, List<String> categories,
+            List<Priority> priorities, Boolean dueToday, Boolean dueThisWeek, String cursor, int size,
+            String sortByCreatedAt);
+
+    TicketCursorResponse<ManagerTicketSummaryResponse> searchManagerTicketsByCursor(
+            String keyword, String cursor, int size, String sortByCreatedAt);
+
+    TicketCursorResponse<UserTicketSummaryResponse> searchUserTicketsByCursor(
+            Long memberId, String keyword, String cursor, int size, String sortByCreatedAt);
+
     TicketProgressResponse getManagerProgress(Long memberId);
 }
@@ -2,29 +2,47 @@ package com.quartz.checkin.service;
 
 import static com.quartz.checkin.common.validator.PaginationValidator.validatePagination;
 import static com.quartz.checkin.common.validator.PaginationValidator.validateNumberAndSize;
+import static com.quartz.checkin.common.validator.PaginationValidator.validateSize;
 
+import com.quartz.checkin.common.TicketCursor;
+import com.quartz.checkin.common.cache.TicketCountKey;
 import com.quartz.checkin.common.exception.ApiException;
 import com.quartz.checkin.common.exception.ErrorCode;
+import com.quartz.checkin.common.search.TicketSearchHit;
 import com.quartz.checkin.converter.TicketResponseConverter;
 import com.quartz.checkin.dto.ticket.response.ManagerTicketListResponse;
+import com.quartz.checkin.dto.ticket.response.ManagerTicketSummaryResponse;
+import com.quartz.checkin.dto.ticket.response.TicketCursorResponse;
 import com.quartz.checkin.dto.ticket.response.TicketDetailResponse;
 import com.quartz.checkin.dto.ticket.response.TicketProgressResponse;
 import com.quartz.checkin.dto.ticket.response.UserTicketListResponse;
+import com.quartz.checkin.dto.ticket.response.UserTicketSummaryResponse;
 import com.quartz.checkin.entity.Member;
 import com.quartz.checkin.entity.Priority;
 import com.quartz.checkin.entity.Role;
 import com.quartz.checkin.entity.Status;
 import com.quartz.checkin.entity.Ticket;
 import com.quartz.checkin.entity.TicketAttachment;
+import com.quartz.checkin.entity.TicketView;
 import com.quartz.checkin.repository.MemberRepository;
 import com.quartz.checkin.repository.TicketAttachmentRepository;
 import com.quartz.checkin.repository.TicketRepository;
+import com.quartz.checkin.repository.TicketViewRepository;
+import com.quartz.checkin.service.TicketFilterDictionary.ResolvedFilter;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,9 +51,17 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class TicketQueryServiceImpl implements TicketQueryService {
 
+    private static final String SORT_BY_RELEVANCE = "relevance";
+    private static final String DEFAULT_CREATED_AT_SORT = "asc";
+
     private final TicketRepository ticketRepository;
+    private final TicketViewRepository ticketViewRepository;
     private final TicketAttachmentRepository ticketAttachmentRepository;
     private final MemberRepository memberRepository;
+    private final TicketSearchService ticketSearchService;
+    private final TicketFilterDictionary ticketFilterDictionary;
+    private final TicketProgressService ticketProgressService;
+    private final TicketCountCacheService ticketCountCacheService;
 
     @Override
     public TicketDetailResponse getTicketDetail(Long memberId, Long ticketId) {
@@ -59,7 +85,7 @@ public class TicketQueryServiceImpl implements TicketQueryService {
                                                        List<String> categories, List<Priority> priorities,
                                                        Boolean dueToday, Boolean dueThisWeek, int page, int size, String sortByCreatedAt) {
         validateNumberAndSize(page, size);
-        Page<Ticket> ticketPage = fetchTickets(null, statuses, usernames, categories, priorities, dueToday, dueThisWeek, page, size, sortByCreatedAt);
+        Page<TicketView> ticketPage = fetchTickets(null, statuses, usernames, categories, priorities, dueToday, dueThisWeek, page, size, sortByCreatedAt);
         validatePagination(page, ticketPage.getTotalPages());
         return TicketResponseConverter.toManagerTicketListResponse(ticketPage);
     }
@@ -69,7 +95,7 @@ public class TicketQueryServiceImpl implements TicketQueryService {
                                                  List<String> categories, List<Priority> priorities,
                                                  Boolean dueToday, Boolean dueThisWeek, int page, int size, String sortByCreatedAt) {
         validateNumberAndSize(page, size);
-        Page<Ticket> ticketPage = fetchTickets(userId, statuses, usernames, categories, priorities, dueToday, dueThisWeek, page, size, sortByCreatedAt);
+        Page<TicketView> ticketPage = fetchTickets(userId, statuses, usernames, categories, priorities, dueToday, dueThisWeek, page, size, sortByCreatedAt);
         validatePagination(page, ticketPage.getTotalPages());
         return TicketResponseConverter.toUserTicketListResponse(ticketPage);
     }
@@ -77,7 +103,7 @@ public class TicketQueryServiceImpl implements TicketQueryService {
     @Override
     public ManagerTicketListResponse searchManagerTickets(Long memberId, String keyword, int page, int size, String sortByCreatedAt) {
         validateNumberAndSize(page, size);
-        Page<Ticket> ticketPage = fetchSearchedTickets(null, keyword, page, size, sortByCreatedAt);
+        Page<TicketView> ticketPage = fetchSearchedTickets(null, keyword, page, size, sortByCreatedAt);
         validatePagination(page, ticketPage.getTotalPages());
         return TicketResponseConverter.toManagerTicketListResponse(ticketPage);
     }
@@ -85,25 +111,142 @@ public class TicketQueryServiceImpl implements TicketQueryService {
     @Override
     public UserTicketListResponse searchUserTickets(Long memberId, String keyword, int page, int size, String sortByCreatedAt) {
         validateNumberAndSize(page, size);
-        Page<Ticket> ticketPage = fetchSearchedTickets(memberId, keyword, page, size, sortByCreatedAt);
+        Page<TicketView> ticketPage = fetchSearchedTickets(memberId, keyword, page, size, sortByCreatedAt);
         validatePagination(page, ticketPage.getTotalPages());
         return TicketResponseConverter.toUserTicketListResponse(ticketPage);
     }
 
+    @Override
+    public TicketCursorResponse<ManagerTicketSummaryResponse> getManagerTicketsByCursor(
+            List<Status> statuses, List<String> usernames, List<String> categories, List<Priority> priorities,
+            Boolean dueToday, Boolean dueThisWeek, String cursor, int size, String sortByCreatedAt) {
+        validateSize(size);
+        Slice<TicketView> ticketSlice = fetchTicketsByCursor(null, statuses, usernames, categories,
+                priorities, dueToday, dueThisWeek, cursor, size, sortByCreatedAt);
+        return TicketResponseConverter.toManagerTicketCursorResponse(ticketSlice);
+    }
+
+    @Override
+    public TicketCursorResponse<UserTicketSummaryResponse> getUserTicketsByCursor(
+            Long memberId, List<Status> statuses, List<String> usernames, List<String> categories,
+            List<Priority> priorities, Boolean dueToday, Boolean dueThisWeek, String cursor, int size,
+            String sortByCreatedAt) {
+        validateSize(size);
+        Slice<TicketView> ticketSlice = fetchTicketsByCursor(memberId, statuses, usernames, categories,
+                priorities, dueToday, dueThisWeek, cursor, size, sortByCreatedAt);
+        return TicketResponseConverter.toUserTicketCursorResponse(ticketSlice);
+    }
+
+    @Override
+    public TicketCursorResponse<ManagerTicketSummaryResponse> searchManagerTicketsByCursor(
+            String keyword, String cursor, int size, String sortByCreatedAt) {
+        validateSize(size);
+        Slice<TicketView> ticketSlice = fetchSearchedTicketsByCursor(null, keyword,
+                TicketCursor.decode(cursor), size, sortByCreatedAt);
+        return TicketResponseConverter.toManagerTicketCursorResponse(ticketSlice);
+    }
+
+    @Override
+    public TicketCursorResponse<UserTicketSummaryResponse> searchUserTicketsByCursor(
+            Long memberId, String keyword, String cursor, int size, String sortByCreatedAt) {
+        validateSize(size);
+        Slice<TicketView> ticketSlice = fetchSearchedTicketsByCursor(memberId, keyword,
+                TicketCursor.decode(cursor), size, sortByCreatedAt);
+        return TicketResponseConverter.toUserTicketCursorResponse(ticketSlice);
+    }
+
     @Override
     public TicketProgressResponse getManagerProgress(Long managerId) {
-        return ticketRepository.getManagerProgress(managerId);
+        return ticketProgressService.getProgress(managerId);
     }
 
-    public Page<Ticket> fetchSearchedTickets(Long memberId, String keyword, int page, int size, String sortByCreatedAt) {
+    // 검색 색인이 준비되기 전이거나 검색어가 없으면 읽기 모델을 직접 조회합니다.
+    // 정렬을 지정하지 않았거나 relevance를 요청하면 관련도 순, 생성일 정렬을 지정하면 그 순서를 따릅니다.
+    public Page<TicketView> fetchSearchedTickets(Long memberId, String keyword, int page, int size, String sortByCreatedAt) {
         Pageable pageable = PageRequest.of(page - 1, size, Sort.unsorted());
-        return ticketRepository.fetchSearchedTickets(memberId, keyword, pageable, sortByCreatedAt);
+        boolean byRelevance = isRelevanceSort(sortByCreatedAt);
+        String createdAtSort = byRelevance ? DEFAULT_CREATED_AT_SORT : sortByCreatedAt;
+        if (!canUseSearchIndex(keyword)) {
+            List<TicketView> tickets = ticketViewRepository.fetchSearchedTickets(memberId, keyword, pageable, createdAtSort);
+            TicketCountKey countKey = TicketCountKey.of(memberId, keyword, null, null, null, null, null, null);
+            return PageableExecutionUtils.getPage(tickets, pageable, () -> ticketCountCacheService.getCount(countKey,
+                    () -> ticketViewRepository.countSearchedTickets(memberId, keyword)));
+        }
+
+        boolean ascending = isAscending(createdAtSort);
+        List<TicketSearchHit> hits = byRelevance
+                ? ticketSearchService.searchByRelevance(keyword, memberId, ascending)
+                : ticketSearchService.searchByCreatedAt(keyword, memberId, ascending);
+        int from = (int) Math.min(pageable.getOffset(), hits.size());
+        List<TicketView> tickets = findViewsInOrder(hits.subList(from, Math.min(from + size, hits.size())));
+        return new PageImpl<>(tickets, pageable, hits.size());
+    }
+
+    private Slice<TicketView> fetchSearchedTicketsByCursor(Long memberId, String keyword, TicketCursor cursor, int size,
+                                                           String sortByCreatedAt) {
+        if (!canUseSearchIndex(keyword)) {
+            return ticketViewRepository.fetchSearchedTicketsByCursor(memberId, keyword, cursor, size, sortByCreatedAt);
+        }
+
+        List<TicketSearchHit> hits = ticketSearchService.searchAfter(keyword, memberId, cursor, isAscending(sortByCreatedAt));
+        boolean hasNext = hits.size() > size;
+        List<TicketView> tickets = findViewsInOrder(hits.subList(0, Math.min(size, hits.size())));
+        return new SliceImpl<>(tickets, PageRequest.of(0, size), hasNext);
+    }
+
+    private boolean canUseSearchIndex(String keyword) {
+        return keyword != null && !keyword.isBlank() && ticketSearchService.isReady();
+    }
+
+    private List<TicketView> findViewsInOrder(List<TicketSearchHit> hits) {
+        Map<Long, TicketView> views = ticketViewRepository.findAllById(hits.stream().map(TicketSearchHit::ticketId).toList())
+                .stream()
+                .collect(Collectors.toMap(TicketView::getId, Function.identity()));
+        return hits.stream()
+                .map(hit -> views.get(hit.ticketId()))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private boolean isRelevanceSort(String sortByCreatedAt) {
+        return sortByCreatedAt == null || sortByCreatedAt.isBlank() || SORT_BY_RELEVANCE.equalsIgnoreCase(sortByCreatedAt);
+    }
+
+    private boolean isAscending(String sortByCreatedAt) {
+        if (!"asc".equalsIgnoreCase(sortByCreatedAt) && !"desc".equalsIgnoreCase(sortByCreatedAt)) {
+            throw new ApiException(ErrorCode.INVALID_DATA);
+        }
+        return "asc".equalsIgnoreCase(sortByCreatedAt);
     }
 
-    public Page<Ticket> fetchTickets(Long memberId, List<Status> statuses, List<String> usernames,
+    public Page<TicketView> fetchTickets(Long memberId, List<Status> statuses, List<String> usernames,
                                      List<String> categories, List<Priority> priorities,
                                      Boolean dueToday, Boolean dueThisWeek, int page, int size, String sortByCreatedAt) {
         Pageable pageable = PageRequest.of(page - 1, size, Sort.unsorted());
-        return ticketRepository.fetchTickets(memberId, statuses, usernames, categories, priorities, dueToday, dueThisWeek, pageable, sortByCreatedAt);
+        ResolvedFilter filter = ticketFilterDictionary.resolve(usernames, categories);
+        if (filter.matchesNothing()) {
+            return Page.empty(pageable);
+        }
+        List<TicketView> tickets = ticketViewRepository.fetchTickets(memberId, statuses, filter.managerIds(),
+                filter.categoryIds(), priorities, dueToday, dueThisWeek, pageable, sortByCreatedAt);
+        // 전체 개수는 필터별로 캐시하며, 첫 페이지가 다 차지 않거나 마지막 페이지라면 세지 않습니다.
+        TicketCountKey countKey = TicketCountKey.of(memberId, null, statuses, filter.managerIds(),
+                filter.categoryIds(), priorities, dueToday, dueThisWeek);
+        return PageableExecutionUtils.getPage(tickets, pageable, () -> ticketCountCacheService.getCount(countKey,
+                () -> ticketViewRepository.countTickets(memberId, statuses, filter.managerIds(), filter.categoryIds(),
+                        priorities, dueToday, dueThisWeek)));
+    }
+
+    private Slice<TicketView> fetchTicketsByCursor(Long memberId, List<Status> statuses, List<String> usernames,
+                                                   List<String> categories, List<Priority> priorities,
+                                                   Boolean dueToday, Boolean dueThisWeek, String cursor, int size,
+                                                   String sortByCreatedAt) {
+        TicketCursor decodedCursor = TicketCursor.decode(cursor);
+        ResolvedFilter filter = ticketFilterDictionary.resolve(usernames, categories);
+        if (filter.matchesNothing()) {
+            return new SliceImpl<>(List.of(), PageRequest.of(0, size), false);
+        }
+        return ticketViewRepository.fetchTicketsByCursor(memberId, statuses, filter.managerIds(),
+                filter.categoryIds(), priorities, dueToday, dueThisWeek, decodedCursor, size, sortByCreatedAt);
     }
 }
\ No newline at end of file
@@ -0,0 +1,285 @@
+package com.quartz.checkin.service;
+
+import com.quartz.checkin.common.TicketCursor;
+import com.quartz.checkin.common.cache.CacheInvalidationBus;
+import com.quartz.checkin.common.cache.CacheInvalidationMessage;
+import com.quartz.checkin.common.search.TicketSearchDocument;
+import com.quartz.checkin.common.search.TicketSearchHit;
+import com.quartz.checkin.common.search.TicketSearchIndex;
+import com.quartz.checkin.config.CacheInvalidationConfig;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+/*
+ * 티켓 검색 색인을 관리합니다. 시작 시 DB에서 색인을 새로 만들고, 이후에는 변경된 티켓만 다시 읽어 반영합니다.
+ * 색인은 노드마다 따로 가지므로 변경된 티켓 번호를 모아 한 메시지로 알려 다른 노드도 같은 티켓을 다시 읽게 합니다.
+ * 다른 노드의 변경은 메시지를 받는 폴링 스레드를 막지 않도록 모아 두었다가 별도 스레드에서 한 번에 반영합니다.
+ */
+@Slf4j
+@Service
+public class TicketSearchService {
+
+    private static final String ALL_TICKETS = "*";
+    // 한 번에 많은 티켓이 바뀌면(가져오기, 스케줄러) 티켓마다 메시지를 보내지 않고 다른 노드가 색인을 새로 만들게 합니다.
+    private static final int MAX_TARGETED_TICKETS = 100;
+
+    private static final String SELECT_TICKETS_AFTER = """
+            SELECT ticket_id, user_id, title, content, created_at FROM ticket
+            WHERE deleted_at IS NULL AND ticket_id > :lastTicketId
+            ORDER BY ticket_id LIMIT :batchSize
+            """;
+    private static final String SELECT_TICKETS_BY_IDS = """
+            SELECT ticket_id, user_id, title, content, created_at FROM ticket
+            WHERE deleted_at IS NULL AND ticket_id IN (:ticketIds)
+            """;
+    // 첨부 파일 댓글은 본문에 파일 형식이 들어 있으므로 색인하지 않습니다.
+    private static final String SELECT_COMMENTS_BY_TICKET_IDS = """
+            SELECT ticket_id, content FROM comment
+            WHERE attachment IS NULL AND ticket_id IN (:ticketIds)
+            ORDER BY comment_id
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final int rebuildBatchSize;
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private final Set<Long> remoteChanged = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean remoteRebuildRequested = new AtomicBoolean();
+    private final AtomicBoolean remoteApplyScheduled = new AtomicBoolean();
+    private final ThreadPoolExecutor remoteChangeExecutor;
+
+    private volatile TicketSearchIndex index = new TicketSearchIndex();
+    private volatile boolean ready;
+    private volatile boolean rebuilding;
+
+    public TicketSearchService(NamedParameterJdbcTemplate jdbcTemplate, CacheInvalidationBus cacheInvalidationBus,
+                               @Value("${ticket.search.rebuild-batch-size:1000}") int rebuildBatchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.rebuildBatchSize = rebuildBatchSize;
+
+        // 반영 작업은 한 번에 하나만 예약되므로, 실행 중인 작업 뒤에 하나만 기다리면 됩니다.
+        this.remoteChangeExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(1),
+                runnable -> new Thread(runnable, "ticket-search-sync"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PostConstruct
+    void subscribe() {
+        cacheInvalidationBus.subscribe(CacheInvalidationConfig.TICKET_SEARCH_CHANNEL, message -> {
+            if (ALL_TICKETS.equals(message.getKey())) {
+                remoteRebuildRequested.set(true);
+            } else {
+                CacheInvalidationMessage.splitKey(message.getKey()).forEach(id -> remoteChanged.add(Long.valueOf(id)));
+            }
+            scheduleRemoteChanges();
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        remoteChangeExecutor.shutdownNow();
+    }
+
+    // 색인을 만드는 동안에는 검색이 기존 DB 조회로 처리되므로 애플리케이션 시작을 막지 않습니다.
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 관련도 순으로 정렬하며, 점수가 같으면 요청한 생성일 순서를 따릅니다.
+    public List<TicketSearchHit> searchByRelevance(String keyword, Long ownerId, boolean ascending) {
+        Comparator<TicketSearchHit> comparator = Comparator.comparingDouble(TicketSearchHit::score).reversed()
+                .thenComparing(createdAtOrder(ascending));
+        return index.search(keyword, ownerId).stream()
+                .sorted(comparator)
+                .toList();
+    }
+
+    // 생성일 정렬을 요청한 검색은 점수와 관계없이 목록 조회와 같은 (createdAt, id) 순서로 돌려줍니다.
+    public List<TicketSearchHit> searchByCreatedAt(String keyword, Long ownerId, boolean ascending) {
+        return searchAfter(keyword, ownerId, null, ascending);
+    }
+
+    // 커서 조회는 목록 조회와 같이 (createdAt, id) 순서를 유지하고, 커서 이후의 티켓만 돌려줍니다.
+    public List<TicketSearchHit> searchAfter(String keyword, Long ownerId, TicketCursor cursor, boolean ascending) {
+        Comparator<TicketSearchHit> comparator = createdAtOrder(ascending);
+        TicketSearchHit cursorHit = cursor != null ? new TicketSearchHit(cursor.id(), cursor.createdAt(), 0) : null;
+        return index.search(keyword, ownerId).stream()
+                .filter(hit -> cursorHit == null || comparator.compare(hit, cursorHit) > 0)
+                .sorted(comparator)
+                .toList();
+    }
+
+    public void reindex(Collection<Long> ticketIds) {
+        Set<Long> ids = ticketIds.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        reindexLocally(ids);
+        if (ids.size() > MAX_TARGETED_TICKETS) {
+            publish(ALL_TICKETS);
+        } else {
+            CacheInvalidationMessage.joinKeys(ids.stream().map(String::valueOf).toList()).forEach(this::publish);
+        }
+    }
+
+    public synchronized void rebuild() {
+        rebuilding = true;
+        long startedAt = System.currentTimeMillis();
+        try {
+            TicketSearchIndex rebuilt = new TicketSearchIndex();
+            long lastTicketId = 0L;
+            List<TicketSearchDocument> documents;
+            do {
+                MapSqlParameterSource params = new MapSqlParameterSource()
+                        .addValue("lastTicketId", lastTicketId)
+                        .addValue("batchSize", rebuildBatchSize);
+                documents = loadDocuments(SELECT_TICKETS_AFTER, params);
+                documents.forEach(rebuilt::upsert);
+                if (!documents.isEmpty()) {
+                    lastTicketId = documents.get(documents.size() - 1).ticketId();
+                }
+            } while (documents.size() == rebuildBatchSize);
+
+            index = rebuilt;
+            ready = true;
+            log.info("티켓 검색 색인을 만들었습니다. 티켓 {}건, {}ms", rebuilt.size(), System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            log.error("티켓 검색 색인을 만들지 못했습니다. {}", e.getMessage(), e);
+        } finally {
+            rebuilding = false;
+        }
+
+        // 새로 만드는 동안 바뀐 티켓은 이전 색인에만 반영됐을 수 있으므로 새 색인에 다시 반영합니다.
+        if (!changedDuringRebuild.isEmpty()) {
+            List<Long> changed = new ArrayList<>(changedDuringRebuild);
+            changedDuringRebuild.removeAll(changed);
+            reindexLocally(changed);
+        }
+    }
+
+    private void scheduleRemoteChanges() {
+        if (!remoteApplyScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            remoteChangeExecutor.execute(this::applyRemoteChanges);
+        } catch (RejectedExecutionException e) {
+            remoteApplyScheduled.set(false);
+            log.warn("다른 노드의 티켓 변경을 검색 색인에 반영하도록 예약하지 못했습니다. 다음 메시지에서 다시 시도합니다.");
+        }
+    }
+
+    // 그동안 쌓인 변경을 한 번에 반영하며, 전체 재색인 요청이 있으면 개별 티켓은 다시 읽지 않습니다.
+    private void applyRemoteChanges() {
+        remoteApplyScheduled.set(false);
+        List<Long> ticketIds = new ArrayList<>(remoteChanged);
+        remoteChanged.removeAll(ticketIds);
+        try {
+            if (remoteRebuildRequested.getAndSet(false)) {
+                rebuild();
+            } else if (!ticketIds.isEmpty()) {
+                reindexLocally(ticketIds);
+            }
+        } catch (RuntimeException e) {
+            log.error("다른 노드의 티켓 변경을 검색 색인에 반영하지 못했습니다. ticketIds={}, {}", ticketIds, e.getMessage(), e);
+        }
+    }
+
+    private void reindexLocally(Collection<Long> ticketIds) {
+        if (rebuilding) {
+            changedDuringRebuild.addAll(ticketIds);
+        }
+
+        List<Long> ids = new ArrayList<>(ticketIds);
+        for (int from = 0; from < ids.size(); from += rebuildBatchSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + rebuildBatchSize, ids.size()));
+            MapSqlParameterSource params = new MapSqlParameterSource("ticketIds", chunk);
+            Map<Long, TicketSearchDocument> documents = loadDocuments(SELECT_TICKETS_BY_IDS, params).stream()
+                    .collect(Collectors.toMap(TicketSearchDocument::ticketId, document -> document));
+
+            TicketSearchIndex current = index;
+            for (Long ticketId : chunk) {
+                TicketSearchDocument document = documents.get(ticketId);
+                if (document == null) {
+                    current.remove(ticketId);
+                } else {
+                    current.upsert(document);
+                }
+            }
+        }
+    }
+
+    private List<TicketSearchDocument> loadDocuments(String sql, MapSqlParameterSource params) {
+        List<TicketRow> tickets = jdbcTemplate.query(sql, params, (rs, rowNum) -> new TicketRow(
+                rs.getLong("ticket_id"),
+                rs.getLong("user_id"),
+                rs.getTimestamp("created_at").toLocalDateTime(),
+                rs.getString("title"),
+                rs.getString("content")));
+        if (tickets.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, List<String>> comments = new HashMap<>();
+        MapSqlParameterSource commentParams = new MapSqlParameterSource("ticketIds",
+                tickets.stream().map(TicketRow::ticketId).toList());
+        jdbcTemplate.query(SELECT_COMMENTS_BY_TICKET_IDS, commentParams, rs -> {
+            comments.computeIfAbsent(rs.getLong("ticket_id"), key -> new ArrayList<>()).add(rs.getString("content"));
+        });
+
+        return tickets.stream()
+                .map(ticket -> new TicketSearchDocument(ticket.ticketId(), ticket.userId(), ticket.createdAt(),
+                        ticket.title(), ticket.content(), comments.getOrDefault(ticket.ticketId(), List.of())))
+                .toList();
+    }
+
+    private Comparator<TicketSearchHit> createdAtOrder(boolean ascending) {
+        Comparator<TicketSearchHit> comparator = Comparator.comparing(TicketSearchHit::createdAt)
+                .thenComparing(TicketSearchHit::ticketId);
+        return ascending ? comparator : comparator.reversed();
+    }
+
+    private void publish(String key) {
+        cacheInvalidationBus.publish(
+                new CacheInvalidationMessage(CacheInvalidationConfig.TICKET_SEARCH_CHANNEL, key, 0L));
+    }
+
+    private record TicketRow(Long ticketId, Long userId, LocalDateTime createdAt,
+                             String title, String content) {
+    }
+}
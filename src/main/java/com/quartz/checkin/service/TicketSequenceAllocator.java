@@ -0,0 +1,118 @@
+package com.quartz.checkin.service;
+
+import com.quartz.checkin.entity.TicketSequence;
+import com.quartz.checkin.repository.TicketRepository;
+import com.quartz.checkin.repository.TicketSequenceRepository;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/*
+ * 날짜별 티켓 번호를 hi/lo 방식으로 할당합니다.
+ * ticket_sequence 행을 잠근 짧은 트랜잭션에서 blockSize개의 번호를 예약하고, 예약한 번호는 메모리에서 AtomicLong으로 나눠줍니다.
+ * 재시작하거나 날짜가 바뀌면 남은 번호는 버려지므로 번호 사이에 빈 값이 생길 수 있습니다.
+ */
+@Slf4j
+@Component
+public class TicketSequenceAllocator {
+
+    private static final DateTimeFormatter DATE_PREFIX_FORMAT = DateTimeFormatter.ofPattern("MMdd");
+
+    private final TicketSequenceRepository ticketSequenceRepository;
+    private final TicketRepository ticketRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int blockSize;
+
+    private volatile Block current = new Block(null, 0L, 0L);
+
+    public TicketSequenceAllocator(TicketSequenceRepository ticketSequenceRepository,
+                                   TicketRepository ticketRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${ticket.sequence.block-size:20}") int blockSize) {
+        this.ticketSequenceRepository = ticketSequenceRepository;
+        this.ticketRepository = ticketRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.blockSize = blockSize;
+    }
+
+    public long next(LocalDate date) {
+        while (true) {
+            Block block = current;
+            if (date.equals(block.date)) {
+                long value = block.next.getAndIncrement();
+                if (value < block.end) {
+                    return value;
+                }
+            }
+            synchronized (this) {
+                if (current == block) {
+                    current = reserveBlock(date);
+                }
+            }
+        }
+    }
+
+    // 연속된 count개의 번호를 블록과 별도로 예약하고 첫 번호를 반환합니다. 일괄 생성에서 사용합니다.
+    public long nextRange(LocalDate date, int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("count must be positive");
+        }
+        return reserve(date, count);
+    }
+
+    private Block reserveBlock(LocalDate date) {
+        long start = reserve(date, blockSize);
+        return new Block(date, start, start + blockSize);
+    }
+
+    private long reserve(LocalDate date, int size) {
+        try {
+            return reserveInNewTransaction(date, size);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드가 같은 날짜의 행을 먼저 만들었다면, 그 행을 잠그고 다시 예약합니다.
+            log.info("{}의 티켓 번호 행이 이미 생성되어 다시 예약합니다.", date);
+            return reserveInNewTransaction(date, size);
+        }
+    }
+
+    private long reserveInNewTransaction(LocalDate date, int size) {
+        return transactionTemplate.execute(status -> {
+            TicketSequence ticketSequence = ticketSequenceRepository.findByIdForUpdate(date)
+                    .orElseGet(() -> ticketSequenceRepository.saveAndFlush(
+                            new TicketSequence(date, firstValueOf(date))));
+
+            long start = ticketSequence.allocate(size);
+            log.info("{}의 티켓 번호 {}~{}를 예약했습니다.", date, start, start + size - 1);
+            return start;
+        });
+    }
+
+    private long firstValueOf(LocalDate date) {
+        long lastFromTickets = ticketRepository.findLastCustomIdByDate(date.format(DATE_PREFIX_FORMAT));
+        Long nextFromPreviousYears =
+                ticketSequenceRepository.findMaxNextValueByMonthAndDay(date.getMonthValue(), date.getDayOfMonth());
+        long lastFromSequences = nextFromPreviousYears == null ? 0L : nextFromPreviousYears - 1;
+        return Math.max(lastFromTickets, lastFromSequences) + 1;
+    }
+
+    private static final class Block {
+
+        private final LocalDate date;
+        private final AtomicLong next;
+        private final long end;
+
+        private Block(LocalDate date, long start, long end) {
+            this.date = date;
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.quartz.checkin.service;
+
+import com.quartz.checkin.common.cache.CacheInvalidationBus;
+import com.quartz.checkin.common.cache.CacheInvalidationMessage;
+import com.quartz.checkin.common.exception.ApiException;
+import com.quartz.checkin.common.exception.ErrorCode;
+import com.quartz.checkin.common.timeseries.TicketTimeSeries;
+import com.quartz.checkin.common.timeseries.TicketTimeSeriesCount;
+import com.quartz.checkin.common.timeseries.TicketTimeSeriesState;
+import com.quartz.checkin.config.CacheInvalidationConfig;
+import com.quartz.checkin.dto.stat.response.StatTimeSeriesResponse;
+import com.quartz.checkin.repository.TicketViewRepository;
+import jakarta.annotation.PostConstruct;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/*
+ * 일별 티켓 흐름(생성, 완료, 마감 초과)을 메모리 링 버퍼로 응답합니다.
+ * 시작할 때와 날짜가 바뀌었거나 무효화 메시지가 누락되었을 때 보관 기간을 한 번에 집계하고,
+ * 티켓 변경은 커밋 후 칸별 증감으로 바꿔 이 노드의 버퍼에 더한 뒤 다른 노드에도 보내 같은 값을 더하게 합니다.
+ * 집계와 변경이 겹쳐 생기는 오차는 주기적인 재집계로 맞춥니다.
+ */
+@Slf4j
+@Service
+public class TicketTimeSeriesService {
+
+    private final TicketViewRepository ticketViewRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final int capacityDays;
+
+    private volatile TicketTimeSeries series;
+    private volatile long countedAt;
+    private volatile boolean stale;
+
+    public TicketTimeSeriesService(TicketViewRepository ticketViewRepository,
+                                   CacheInvalidationBus cacheInvalidationBus,
+                                   @Value("${stats.timeseries.capacity-days:365}") int capacityDays) {
+        this.ticketViewRepository = ticketViewRepository;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.capacityDays = capacityDays;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        cacheInvalidationBus.subscribe(CacheInvalidationConfig.TICKET_TIMESERIES_CHANNEL, this::applyRemoteChange);
+        cacheInvalidationBus.subscribeGaps(() -> stale = true);
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.error("일별 티켓 흐름을 집계하지 못했습니다. {}", e.getMessage(), e);
+        }
+    }
+
+    public StatTimeSeriesResponse getTimeSeries(int days, Long managerId, Long categoryId) {
+        if (days < 1 || days > capacityDays) {
+            throw new ApiException(ErrorCode.INVALID_STATS_TIMESERIES_DAYS);
+        }
+        if (managerId != null && categoryId != null) {
+            throw new ApiException(ErrorCode.INVALID_STATS_TIMESERIES_FILTER);
+        }
+
+        TicketTimeSeries current = series;
+        if (current == null || stale || !LocalDate.now().equals(current.getBaseDate())) {
+            current = rebuild();
+        }
+        return current.window(managerId, categoryId, days);
+    }
+
+    // 롤백된 변경이 버퍼에 남지 않도록 트랜잭션 안에서는 커밋된 뒤에 반영합니다.
+    public void recordChange(List<TicketTimeSeriesState> before, List<TicketTimeSeriesState> after) {
+        if (before.isEmpty() && after.isEmpty()) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(before, after);
+                }
+            });
+        } else {
+            apply(before, after);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${stats.timeseries.reconcile-interval-millis:300000}",
+            initialDelayString = "${stats.timeseries.reconcile-interval-millis:300000}")
+    public void reconcilePeriodically() {
+        if (series == null) {
+            return;
+        }
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.error("일별 티켓 흐름을 다시 집계하지 못했습니다. {}", e.getMessage(), e);
+        }
+    }
+
+    public synchronized TicketTimeSeries rebuild() {
+        stale = false;
+        long startedAt = System.currentTimeMillis();
+        countedAt = startedAt;
+        LocalDate today = LocalDate.now();
+        TicketTimeSeries rebuilt = TicketTimeSeries.of(today, capacityDays,
+                ticketViewRepository.countTimeSeries(today.minusDays(capacityDays - 1L), today));
+        series = rebuilt;
+        log.debug("일별 티켓 흐름을 집계했습니다. {}일, {}ms", capacityDays, System.currentTimeMillis() - startedAt);
+        return rebuilt;
+    }
+
+    private void apply(List<TicketTimeSeriesState> before, List<TicketTimeSeriesState> after) {
+        List<TicketTimeSeriesCount> changes = TicketTimeSeries.changes(before, after);
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        TicketTimeSeries current = series;
+        if (current != null) {
+            current.apply(changes);
+        }
+        long publishedAt = System.currentTimeMillis();
+        List<String> encoded = changes.stream().map(TicketTimeSeriesCount::encode).toList();
+        for (String key : CacheInvalidationMessage.joinKeys(encoded)) {
+            cacheInvalidationBus.publish(new CacheInvalidationMessage(
+                    CacheInvalidationConfig.TICKET_TIMESERIES_CHANNEL, key, publishedAt));
+        }
+    }
+
+    // 집계를 시작하기 전에 발행된 증감은 이미 집계에 포함되어 있으므로 더하지 않습니다. 기동 시 다시 읽는 이전 메시지도 여기서 걸러집니다.
+    private void applyRemoteChange(CacheInvalidationMessage message) {
+        TicketTimeSeries current = series;
+        if (current == null || message.getValue() < countedAt) {
+            return;
+        }
+        current.apply(CacheInvalidationMessage.splitKey(message.getKey()).stream()
+                .map(TicketTimeSeriesCount::decode)
+                .toList());
+    }
+}
@@ -1,10 +1,13 @@
 package com.quartz.checkin.service;
 
+import com.quartz.checkin.dto.ticket.response.DeletedTicketDetailResponse;
 import com.quartz.checkin.dto.ticket.response.SoftDeletedTicketResponse;
+import com.quartz.checkin.dto.ticket.response.TicketCursorResponse;
 import java.util.List;
 
 public interface TicketTrashService {
     void restoreTickets(Long memberId, List<Long> ticketIds);
     void deleteTickets(Long memberId, List<Long> ticketIds);
     SoftDeletedTicketResponse getDeletedTickets(Long memberId, int page, int size);
+    TicketCursorResponse<DeletedTicketDetailResponse> getDeletedTicketsByCursor(Long memberId, String cursor, int size);
 }
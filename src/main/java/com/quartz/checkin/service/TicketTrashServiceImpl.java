@@ -1,21 +1,28 @@
 package com.quartz.checkin.service;
 
 import static com.quartz.checkin.common.validator.PaginationValidator.validatePagination;
+import static com.quartz.checkin.common.validator.PaginationValidator.validateSize;
 
+import com.quartz.checkin.common.TicketCursor;
 import com.quartz.checkin.common.exception.ApiException;
 import com.quartz.checkin.common.exception.ErrorCode;
 import com.quartz.checkin.converter.TicketResponseConverter;
+import com.quartz.checkin.dto.ticket.response.DeletedTicketDetailResponse;
 import com.quartz.checkin.dto.ticket.response.SoftDeletedTicketResponse;
+import com.quartz.checkin.dto.ticket.response.TicketCursorResponse;
 import com.quartz.checkin.entity.Member;
 import com.quartz.checkin.entity.Ticket;
+import com.quartz.checkin.event.TicketChangedEvent;
 import com.quartz.checkin.repository.TicketRepository;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,6 +33,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class TicketTrashServiceImpl implements TicketTrashService {
     private final MemberService memberService;
     private final TicketRepository ticketRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public void restoreTickets(Long memberId, List<Long> ticketIds) {
@@ -36,12 +44,14 @@ public class TicketTrashServiceImpl implements TicketTrashService {
         }
 
         ticketRepository.saveAll(tickets);
+        eventPublisher.publishEvent(new TicketChangedEvent(ticketIds, List.of(memberId)));
     }
 
     @Override
     public void deleteTickets(Long memberId, List<Long> ticketIds) {
         List<Ticket> tickets = findAndValidateTickets(memberId, ticketIds);
         ticketRepository.deleteAll(tickets);
+        eventPublisher.publishEvent(new TicketChangedEvent(ticketIds, List.of(memberId)));
     }
 
     @Override
@@ -52,6 +62,13 @@ public class TicketTrashServiceImpl implements TicketTrashService {
         return TicketResponseConverter.toSoftDeletedTicketResponse(ticketPage);
     }
 
+    @Override
+    public TicketCursorResponse<DeletedTicketDetailResponse> getDeletedTicketsByCursor(Long memberId, String cursor, int size) {
+        validateSize(size);
+        Slice<Ticket> ticketSlice = ticketRepository.fetchDeletedTicketsByCursor(memberId, TicketCursor.decode(cursor), size);
+        return TicketResponseConverter.toSoftDeletedTicketCursorResponse(ticketSlice);
+    }
+
     private List<Ticket> findAndValidateTickets(Long memberId, List<Long> ticketIds) {
         Member member = memberService.getMemberByIdOrThrow(memberId);
         List<Ticket> tickets = ticketRepository.findAllById(ticketIds);
@@ -69,6 +86,19 @@ public class TicketTrashServiceImpl implements TicketTrashService {
         return tickets;
     }
 
+    private List<Long> ticketIdsOf(List<Ticket> tickets) {
+        return tickets.stream()
+                .map(Ticket::getId)
+                .toList();
+    }
+
+    private List<Long> userIdsOf(List<Ticket> tickets) {
+        return tickets.stream()
+                .map(ticket -> ticket.getUser().getId())
+                .distinct()
+                .toList();
+    }
+
     @Scheduled(cron = "0 0 3 * * ?")
     public void deleteExpiredTickets() {
         LocalDate thresholdDate = LocalDate.now().minusDays(7);
@@ -77,6 +107,7 @@ public class TicketTrashServiceImpl implements TicketTrashService {
         if (!expiredTickets.isEmpty()) {
             expiredTickets.forEach(Ticket::softDelete);
             ticketRepository.saveAll(expiredTickets);
+            eventPublisher.publishEvent(new TicketChangedEvent(ticketIdsOf(expiredTickets), userIdsOf(expiredTickets)));
         }
     }
 
@@ -88,6 +119,7 @@ public class TicketTrashServiceImpl implements TicketTrashService {
         if (!oldTickets.isEmpty()) {
             oldTickets.forEach(Ticket::softDelete);
             ticketRepository.saveAll(oldTickets);
+            eventPublisher.publishEvent(new TicketChangedEvent(ticketIdsOf(oldTickets), userIdsOf(oldTickets)));
         }
     }
 
@@ -96,5 +128,8 @@ public class TicketTrashServiceImpl implements TicketTrashService {
         LocalDateTime thirtyDaysAgo = LocalDateTime.now().minusDays(30);
         List<Ticket> expiredTickets = ticketRepository.findOldSoftDeletedTickets(thirtyDaysAgo);
         ticketRepository.deleteAll(expiredTickets);
+        if (!expiredTickets.isEmpty()) {
+            eventPublisher.publishEvent(new TicketChangedEvent(ticketIdsOf(expiredTickets), userIdsOf(expiredTickets)));
+        }
     }
 }
@@ -0,0 +1,91 @@
+package com.quartz.checkin.service;
+
+import com.quartz.checkin.common.progress.TicketProgressState;
+import com.quartz.checkin.common.stats.TicketDailyStatsKey;
+import com.quartz.checkin.common.timeseries.TicketTimeSeriesState;
+import com.quartz.checkin.entity.Ticket;
+import com.quartz.checkin.entity.TicketView;
+import com.quartz.checkin.repository.TicketRepository;
+import com.quartz.checkin.repository.TicketViewRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class TicketViewService {
+
+    private final TicketRepository ticketRepository;
+    private final TicketViewRepository ticketViewRepository;
+    private final TicketProgressService ticketProgressService;
+    private final TicketDailyStatsService ticketDailyStatsService;
+    private final TicketTimeSeriesService ticketTimeSeriesService;
+
+    // 티켓의 현재 상태로 읽기 모델을 다시 만들고, 더 이상 존재하지 않는 티켓의 행은 지웁니다.
+    public void refresh(Collection<Long> ticketIds) {
+        Set<Long> ids = ticketIds.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        Map<Long, TicketView> views = ticketViewRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(TicketView::getId, Function.identity()));
+        List<TicketProgressState> progressBefore = views.values().stream()
+                .map(TicketProgressState::from)
+                .toList();
+        List<TicketDailyStatsKey> statsBefore = views.values().stream()
+                .map(TicketDailyStatsKey::from)
+                .toList();
+        List<TicketTimeSeriesState> timeSeriesBefore = views.values().stream()
+                .map(TicketTimeSeriesState::from)
+                .toList();
+
+        List<TicketView> created = new ArrayList<>();
+        List<TicketProgressState> progressAfter = new ArrayList<>();
+        List<TicketDailyStatsKey> statsAfter = new ArrayList<>();
+        List<TicketTimeSeriesState> timeSeriesAfter = new ArrayList<>();
+        for (Ticket ticket : ticketRepository.findAllWithViewAssociationsByIdIn(ids)) {
+            TicketView view = views.remove(ticket.getId());
+            if (view == null) {
+                view = TicketView.from(ticket);
+                created.add(view);
+            } else {
+                view.refresh(ticket);
+            }
+            progressAfter.add(TicketProgressState.from(view));
+            statsAfter.add(TicketDailyStatsKey.from(view));
+            timeSeriesAfter.add(TicketTimeSeriesState.from(view));
+        }
+        ticketViewRepository.saveAll(created);
+
+        if (!views.isEmpty()) {
+            ticketViewRepository.deleteAllByTicketIds(views.keySet());
+        }
+        ticketProgressService.recordChange(progressBefore, progressAfter);
+        ticketDailyStatsService.applyChange(statsBefore, statsAfter);
+        ticketTimeSeriesService.recordChange(timeSeriesBefore, timeSeriesAfter);
+    }
+
+    public void renameCategory(Long categoryId, String name, boolean firstCategory) {
+        if (firstCategory) {
+            ticketViewRepository.updateFirstCategoryName(categoryId, name);
+        } else {
+            ticketViewRepository.updateSecondCategoryName(categoryId, name);
+        }
+    }
+
+    public void updateManagerProfilePic(Long managerId, String profilePic) {
+        ticketViewRepository.updateManagerProfilePic(managerId, profilePic);
+    }
+}
@@ -1,9 +1,13 @@
 package com.quartz.checkin.service;
 
+import com.quartz.checkin.common.TokenDigestUtils;
+import com.quartz.checkin.common.cache.CacheInvalidationBus;
+import com.quartz.checkin.common.cache.CacheInvalidationMessage;
 import com.quartz.checkin.common.cache.TokenBlacklistCache;
 import com.quartz.checkin.config.CacheConfig;
+import com.quartz.checkin.config.CacheInvalidationConfig;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.Cache.ValueWrapper;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
@@ -13,18 +17,32 @@ import org.springframework.stereotype.Service;
 public class TokenBlackListCacheService {
 
     private final TokenBlacklistCache tokenBlacklistCache;
+    private final CacheInvalidationBus cacheInvalidationBus;
 
-    public TokenBlackListCacheService(CacheManager cacheManager) {
+    public TokenBlackListCacheService(CacheManager cacheManager, CacheInvalidationBus cacheInvalidationBus) {
         this.tokenBlacklistCache = (TokenBlacklistCache) cacheManager.getCache(CacheConfig.TOKEN_BLACKLIST_CACHE);
+        this.cacheInvalidationBus = cacheInvalidationBus;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        cacheInvalidationBus.subscribe(CacheInvalidationConfig.TOKEN_BLACKLIST_CHANNEL, message ->
+                tokenBlacklistCache.putDigest(Long.parseLong(message.getKey()), message.getValue()));
     }
 
     public boolean isBlackList(String key) {
-        ValueWrapper wrapper = tokenBlacklistCache.get(key);
-        return wrapper != null;
+        return isBlackListDigest(TokenDigestUtils.digestToLong(key));
+    }
+
+    public boolean isBlackListDigest(long digest) {
+        return tokenBlacklistCache.containsDigest(digest);
     }
 
-    public void addBlacklist(String key) {
-        tokenBlacklistCache.put(key, System.currentTimeMillis());
+    public void addBlacklist(String key, long expiresAt) {
+        long digest = TokenDigestUtils.digestToLong(key);
+        tokenBlacklistCache.putDigest(digest, expiresAt);
+        cacheInvalidationBus.publish(new CacheInvalidationMessage(
+                CacheInvalidationConfig.TOKEN_BLACKLIST_CHANNEL, Long.toString(digest), expiresAt));
     }
 
     @CacheEvict(cacheNames = {CacheConfig.TOKEN_BLACKLIST_CACHE})
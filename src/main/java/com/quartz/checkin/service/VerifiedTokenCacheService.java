@@ -0,0 +1,34 @@
+package com.quartz.checkin.service;
+
+import com.quartz.checkin.common.cache.VerifiedToken;
+import com.quartz.checkin.common.cache.VerifiedTokenCache;
+import com.quartz.checkin.config.CacheConfig;
+import com.quartz.checkin.security.CustomUser;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache.ValueWrapper;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class VerifiedTokenCacheService {
+
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    public VerifiedTokenCacheService(CacheManager cacheManager) {
+        this.verifiedTokenCache =
+                (VerifiedTokenCache) cacheManager.getCache(CacheConfig.VERIFIED_TOKEN_CACHE);
+    }
+
+    public CustomUser getPrincipal(String tokenDigest) {
+        ValueWrapper wrapper = verifiedTokenCache.get(tokenDigest);
+        if (wrapper == null) {
+            return null;
+        }
+        return ((VerifiedToken) wrapper.get()).getPrincipal();
+    }
+
+    public void put(String tokenDigest, CustomUser principal, long expiresAt) {
+        verifiedTokenCache.put(tokenDigest, new VerifiedToken(principal, expiresAt));
+    }
+}
@@ -0,0 +1 @@
+-- 버전 1은 ddl-auto로 만들어진 스키마입니다. 기존 DB는 이 버전으로 baseline되며 이 스크립트는 실행되지 않습니다.
@@ -0,0 +1,17 @@
+-- 스케줄러와 통계가 상태별로 마감일 범위를 조회합니다. (만료/오래된 종료 티켓, 지연 건수, 종료율)
+CREATE INDEX idx_ticket_status_deleted_due ON ticket (status, deleted_at, due_date);
+
+-- 기간별 통계는 생성일 범위로 거른 뒤 담당자와 상태로 묶으므로 테이블을 읽지 않도록 함께 둡니다.
+-- deleted_at 범위 조건만 있는 영구 삭제 대상 조회도 이 인덱스를 사용합니다.
+CREATE INDEX idx_ticket_deleted_created ON ticket (deleted_at, created_at, manager_id, status);
+
+-- 담당자별 카테고리 통계를 인덱스만으로 집계합니다.
+CREATE INDEX idx_ticket_deleted_manager_category ON ticket (deleted_at, manager_id, first_category_id);
+
+-- user_id, manager_id는 외래 키 제약이 없어 자동으로 인덱스가 만들어지지 않습니다.
+-- 휴지통 목록과 커서 조회는 작성자별로 생성일 순 정렬합니다.
+CREATE INDEX idx_ticket_user_deleted_created ON ticket (user_id, deleted_at, created_at);
+CREATE INDEX idx_ticket_manager_deleted ON ticket (manager_id, deleted_at);
+
+-- 날짜별 마지막 티켓 번호를 찾는 접두사 범위 조회입니다.
+CREATE INDEX idx_ticket_custom_id ON ticket (custom_id);
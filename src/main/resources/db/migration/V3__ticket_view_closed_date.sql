@@ -0,0 +1,4 @@
+-- 일별 완료 티켓 수를 읽기 모델에서 세기 위해 추가한 closed_date를 기존 완료 티켓에 채웁니다.
+UPDATE ticket_view
+SET closed_date = (SELECT CAST(t.closed_at AS DATE) FROM ticket t WHERE t.ticket_id = ticket_view.ticket_id)
+WHERE status = 'CLOSED' AND closed_date IS NULL;
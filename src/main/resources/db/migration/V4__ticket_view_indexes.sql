@@ -0,0 +1,14 @@
+-- ticket_view 인덱스를 엔티티 선언 대신 마이그레이션으로 관리합니다.
+-- 이전에 ddl-auto가 같은 이름으로 만들어 둔 환경이 있으므로 이미 있으면 건너뜁니다.
+
+-- 전체 목록과 커서 조회는 삭제되지 않은 행을 생성일, id 순으로 읽습니다.
+CREATE INDEX IF NOT EXISTS idx_ticket_view_created ON ticket_view (deleted_at, created_at, ticket_id);
+
+-- 사용자 본인 목록과 검색은 작성자로 먼저 거릅니다.
+CREATE INDEX IF NOT EXISTS idx_ticket_view_user_created ON ticket_view (user_id, deleted_at, created_at, ticket_id);
+
+-- 담당자 목록의 필터 조건입니다.
+CREATE INDEX IF NOT EXISTS idx_ticket_view_status ON ticket_view (status, deleted_at);
+CREATE INDEX IF NOT EXISTS idx_ticket_view_manager_deleted ON ticket_view (manager_id, deleted_at);
+CREATE INDEX IF NOT EXISTS idx_ticket_view_first_category_id ON ticket_view (first_category_id, deleted_at);
+CREATE INDEX IF NOT EXISTS idx_ticket_view_due_date ON ticket_view (due_date, deleted_at);
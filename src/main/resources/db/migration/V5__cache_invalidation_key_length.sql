@@ -0,0 +1,2 @@
+-- 변경된 티켓 번호 여러 개를 한 메시지로 보내도록 키 길이를 늘립니다. (CacheInvalidationMessage.MAX_KEY_LENGTH)
+ALTER TABLE cache_invalidation ALTER COLUMN cache_key SET DATA TYPE VARCHAR(1024);
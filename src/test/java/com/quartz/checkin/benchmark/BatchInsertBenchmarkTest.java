@@ -0,0 +1,129 @@
+package com.quartz.checkin.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.quartz.checkin.config.QueryDslConfig;
+import com.quartz.checkin.entity.Attachment;
+import com.quartz.checkin.entity.Category;
+import com.quartz.checkin.entity.Member;
+import com.quartz.checkin.entity.Priority;
+import com.quartz.checkin.entity.Role;
+import com.quartz.checkin.entity.Status;
+import com.quartz.checkin.entity.Ticket;
+import com.quartz.checkin.entity.TicketAttachment;
+import com.quartz.checkin.repository.AttachmentRepository;
+import com.quartz.checkin.repository.TicketAttachmentRepository;
+import com.quartz.checkin.repository.TicketRepository;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+// ./gradlew benchmark 로 실행합니다. 기본 test 태스크에서는 제외됩니다.
+@Slf4j
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(QueryDslConfig.class)
+class BatchInsertBenchmarkTest {
+
+    private static final int ROWS = 5_000;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private AttachmentRepository attachmentRepository;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private TicketAttachmentRepository ticketAttachmentRepository;
+
+    @Test
+    @DisplayName("IDENTITY 엔티티와 id_generator 엔티티의 saveAll insert 처리량 비교")
+    void compareSaveAllThroughput() {
+        Member member = Member.builder()
+                .username("benchmark")
+                .email("benchmark@example.com")
+                .password("password")
+                .profilePic("profile")
+                .role(Role.USER)
+                .build();
+        Category firstCategory = new Category(null, "DevOps", "D", "guide");
+        Category secondCategory = new Category(firstCategory, "Infra", "I", "guide");
+        entityManager.persist(member);
+        entityManager.persist(firstCategory);
+        entityManager.persist(secondCategory);
+        entityManager.flush();
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+
+        List<Attachment> attachments = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            attachments.add(new Attachment("https://example.com/" + i));
+        }
+        Result identity = measure("attachment (IDENTITY)", statistics,
+                () -> attachmentRepository.saveAll(attachments));
+
+        List<Ticket> tickets = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            tickets.add(Ticket.builder()
+                    .customId("0101D-I" + i)
+                    .user(member)
+                    .firstCategory(firstCategory)
+                    .secondCategory(secondCategory)
+                    .title("title " + i)
+                    .content("content")
+                    .priority(Priority.UNDEFINED)
+                    .status(Status.OPEN)
+                    .dueDate(LocalDate.of(2025, 1, 1))
+                    .build());
+        }
+        Result pooledTickets = measure("ticket (TABLE, pooled)", statistics,
+                () -> ticketRepository.saveAll(tickets));
+
+        List<Attachment> savedAttachments = attachmentRepository.findAll();
+        List<TicketAttachment> ticketAttachments = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            ticketAttachments.add(new TicketAttachment(
+                    entityManager.getReference(Ticket.class, tickets.get(i).getId()), savedAttachments.get(i)));
+        }
+        Result pooledTicketAttachments = measure("ticket_attachment (TABLE, pooled)", statistics,
+                () -> ticketAttachmentRepository.saveAll(ticketAttachments));
+
+        assertThat(pooledTickets.statements()).isLessThan(identity.statements());
+        assertThat(pooledTicketAttachments.statements()).isLessThan(identity.statements());
+    }
+
+    private Result measure(String name, Statistics statistics, Runnable insert) {
+        statistics.clear();
+        long start = System.nanoTime();
+        insert.run();
+        entityManager.flush();
+        long elapsedNanos = System.nanoTime() - start;
+        entityManager.clear();
+
+        Result result = new Result(statistics.getPrepareStatementCount(), elapsedNanos);
+        log.info("{} rows={} statements={} elapsed={}ms throughput={} rows/s",
+                name, ROWS, result.statements(), elapsedNanos / 1_000_000, Math.round(ROWS * 1e9 / elapsedNanos));
+        return result;
+    }
+
+    private record Result(long statements, long elapsedNanos) {
+    }
+}
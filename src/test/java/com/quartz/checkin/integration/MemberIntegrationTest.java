@@ -25,8 +25,8 @@ import com.quartz.checkin.event.PasswordResetMailEvent;
 import com.quartz.checkin.event.SoftDeletedEvent;
 import com.quartz.checkin.repository.MemberRepository;
 import com.quartz.checkin.security.service.JwtService;
+import com.quartz.checkin.service.LoginAttemptService;
 import com.quartz.checkin.service.LoginBlockCacheService;
-import com.quartz.checkin.service.LoginFailureCacheService;
 import com.quartz.checkin.service.MemberAccessLogService;
 import com.quartz.checkin.service.S3Service;
 import com.quartz.checkin.service.TokenBlackListCacheService;
@@ -74,7 +74,7 @@ public class MemberIntegrationTest {
     LoginBlockCacheService loginBlockCacheService;
 
     @Autowired
-    LoginFailureCacheService loginFailureCacheService;
+    LoginAttemptService loginAttemptService;
 
     @Autowired
     MockMvc mockMvc;
@@ -126,7 +126,8 @@ public class MemberIntegrationTest {
         role = Role.USER;
 
         String key = "127.0.0.1:" + username;
-        loginFailureCacheService.evictLoginFailureInfo(key);
+        loginAttemptService.resetMemberFailures("127.0.0.1", username);
+        loginAttemptService.resetIpFailures("127.0.0.1");
         loginBlockCacheService.evict(key);
     }
 
@@ -734,7 +735,8 @@ public class MemberIntegrationTest {
                 savedMember.getId(),
                 username,
                 savedMember.getProfilePic(),
-                savedMember.getRole()
+                savedMember.getRole(),
+                savedMember.getSecurityEpoch()
         );
 
         mockMvc.perform(multipart("/members/{memberId}/profile-pic", savedMember.getId())
@@ -758,7 +760,8 @@ public class MemberIntegrationTest {
                 savedMember.getId(),
                 username,
                 savedMember.getProfilePic(),
-                savedMember.getRole()
+                savedMember.getRole(),
+                savedMember.getSecurityEpoch()
         );
 
         MockMultipartFile file = new MockMultipartFile("file", "test.jpg", "image/jpeg", "test".getBytes());
@@ -786,7 +789,8 @@ public class MemberIntegrationTest {
                 savedMember.getId(),
                 username,
                 savedMember.getProfilePic(),
-                savedMember.getRole()
+                savedMember.getRole(),
+                savedMember.getSecurityEpoch()
         );
 
         byte[] fileContent = new byte[5 * 1024 * 1024 + 1];
@@ -815,7 +819,8 @@ public class MemberIntegrationTest {
                 savedMember.getId(),
                 username,
                 savedMember.getProfilePic(),
-                savedMember.getRole()
+                savedMember.getRole(),
+                savedMember.getSecurityEpoch()
         );
 
         MockMultipartFile file = new MockMultipartFile("file", "test.jpg", "image/jpeg", "test".getBytes());
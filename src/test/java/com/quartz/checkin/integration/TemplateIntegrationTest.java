@@ -206,7 +206,8 @@ public class TemplateIntegrationTest {
                 member.getId(),
                 member.getUsername(),
                 member.getProfilePic(),
-                member.getRole()
+                member.getRole(),
+                member.getSecurityEpoch()
         );
     }
 
@@ -307,7 +308,8 @@ public class TemplateIntegrationTest {
                 100000L,
                 member.getUsername(),
                 member.getProfilePic(),
-                member.getRole()
+                member.getRole(),
+                member.getSecurityEpoch()
         );
 
         mockMvc.perform(put("/members/templates/{templateId}", templates.get(0).getId())
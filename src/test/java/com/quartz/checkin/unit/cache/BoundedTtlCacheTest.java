@@ -0,0 +1,64 @@
+package com.quartz.checkin.unit.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.quartz.checkin.common.cache.BoundedTtlCache;
+import com.quartz.checkin.common.cache.ExpirationTimingWheel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BoundedTtlCacheTest {
+
+    private ExpirationTimingWheel expirationTimingWheel;
+
+    @BeforeEach
+    void setUp() {
+        expirationTimingWheel = new ExpirationTimingWheel(1000, System.currentTimeMillis());
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 최근에 조회되지 않은 항목부터 제거됨")
+    void evictsUnreferencedEntriesBeyondMaxSize() {
+        BoundedTtlCache cache = new BoundedTtlCache("test", 3, 0L, expirationTimingWheel);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+        cache.get("a");
+
+        cache.put("d", 4);
+
+        assertEquals(3, cache.size());
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    @DisplayName("항목별 만료 시각이 지나면 조회되지 않음")
+    void expiresEntriesByDeadline() {
+        BoundedTtlCache cache = new BoundedTtlCache("test", 10, 60_000L, expirationTimingWheel);
+        cache.put("live", 1);
+        cache.put("expired", 2, System.currentTimeMillis() - 1);
+
+        assertNotNull(cache.get("live"));
+        assertNull(cache.get("expired"));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getExpirationCount());
+    }
+
+    @Test
+    @DisplayName("교체와 삭제가 반복되어도 크기 제한이 유지됨")
+    void keepsSizeBoundUnderChurn() {
+        BoundedTtlCache cache = new BoundedTtlCache("test", 100, 0L, expirationTimingWheel);
+        for (int i = 0; i < 10_000; i++) {
+            cache.put("key-" + (i % 500), i);
+            if (i % 3 == 0) {
+                cache.evict("key-" + (i % 500));
+            }
+        }
+
+        assertTrue(cache.size() <= 100);
+    }
+}
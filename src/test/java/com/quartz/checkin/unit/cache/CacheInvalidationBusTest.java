@@ -0,0 +1,192 @@
+package com.quartz.checkin.unit.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+import com.quartz.checkin.common.cache.CacheInvalidationMessage;
+import com.quartz.checkin.common.cache.ExpirationTimingWheel;
+import com.quartz.checkin.common.cache.InMemoryCacheInvalidationBus;
+import com.quartz.checkin.common.cache.JdbcCacheInvalidationBus;
+import com.quartz.checkin.common.cache.LoginBlockCache;
+import com.quartz.checkin.common.cache.TokenBlacklistCache;
+import com.quartz.checkin.config.CacheConfig;
+import com.quartz.checkin.entity.CacheInvalidation;
+import com.quartz.checkin.repository.CacheInvalidationRepository;
+import com.quartz.checkin.service.LoginBlockCacheService;
+import com.quartz.checkin.service.TokenBlackListCacheService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class CacheInvalidationBusTest {
+
+    private InMemoryCacheInvalidationBus cacheInvalidationBus;
+    private ExpirationTimingWheel expirationTimingWheel;
+
+    @BeforeEach
+    void setUp() {
+        cacheInvalidationBus = new InMemoryCacheInvalidationBus();
+        expirationTimingWheel = new ExpirationTimingWheel(1000, System.currentTimeMillis());
+    }
+
+    @Test
+    @DisplayName("한 노드에서 블랙리스트에 등록한 토큰은 다른 노드에서도 거부됨")
+    void blacklistIsReplicated() {
+        TokenBlackListCacheService nodeA = new TokenBlackListCacheService(newCacheManager(), cacheInvalidationBus);
+        TokenBlackListCacheService nodeB =
+                new TokenBlackListCacheService(newCacheManager(), cacheInvalidationBus.connectNode());
+        subscribe(nodeA);
+        subscribe(nodeB);
+
+        nodeA.addBlacklist("access-token", System.currentTimeMillis() + 60_000);
+
+        assertTrue(nodeA.isBlackList("access-token"));
+        assertTrue(nodeB.isBlackList("access-token"));
+        assertFalse(nodeB.isBlackList("other-token"));
+    }
+
+    @Test
+    @DisplayName("로그인 잠금은 다른 노드에서도 잠금 시작 시각 기준으로 만료됨")
+    void loginBlockIsReplicated() {
+        LoginBlockCacheService nodeA = new LoginBlockCacheService(newCacheManager(), cacheInvalidationBus);
+        LoginBlockCacheService nodeB =
+                new LoginBlockCacheService(newCacheManager(), cacheInvalidationBus.connectNode());
+        subscribe(nodeA);
+        subscribe(nodeB);
+
+        nodeA.block("127.0.0.1:user");
+
+        assertTrue(nodeB.isBlockedMember("127.0.0.1:user"));
+        assertTrue(Math.abs(nodeA.getBlockTimeLeft("127.0.0.1:user")
+                - nodeB.getBlockTimeLeft("127.0.0.1:user")) < 1000);
+    }
+
+    @Test
+    @DisplayName("발행한 노드는 자기 메시지를 다시 받지 않음")
+    void publisherDoesNotReceiveOwnMessage() {
+        InMemoryCacheInvalidationBus otherNode = cacheInvalidationBus.connectNode();
+        List<CacheInvalidationMessage> ownReceived = new ArrayList<>();
+        List<CacheInvalidationMessage> otherReceived = new ArrayList<>();
+        cacheInvalidationBus.subscribe("channel", ownReceived::add);
+        otherNode.subscribe("channel", otherReceived::add);
+
+        cacheInvalidationBus.publish(new CacheInvalidationMessage("channel", "key", 1L));
+
+        assertTrue(ownReceived.isEmpty());
+        assertEquals(1, otherReceived.size());
+    }
+
+    @Test
+    @DisplayName("JDBC 버스도 자기 노드가 발행한 행은 적용하지 않음")
+    void jdbcBusSkipsOwnRows() {
+        CacheInvalidationRepository repository = mock(CacheInvalidationRepository.class);
+        JdbcCacheInvalidationBus bus =
+                new JdbcCacheInvalidationBus(repository, mock(PlatformTransactionManager.class));
+        String nodeId = (String) ReflectionTestUtils.getField(bus, "nodeId");
+        CacheInvalidation own = new CacheInvalidation("channel", "own", 0L, nodeId);
+        ReflectionTestUtils.setField(own, "id", 1L);
+        CacheInvalidation other = invalidation(2L);
+        when(repository.findTop500ByIdGreaterThanOrderByIdAsc(anyLong())).thenReturn(List.of());
+        when(repository.findTop500ByIdGreaterThanOrderByIdAsc(0L)).thenReturn(List.of(own, other));
+        List<String> received = new ArrayList<>();
+        bus.subscribe("channel", message -> received.add(message.getKey()));
+
+        bus.poll();
+
+        assertEquals(List.of("key"), received);
+    }
+
+    @Test
+    @DisplayName("이미 만료된 잠금 메시지는 적용되지 않음")
+    void expiredLoginBlockIsIgnored() {
+        LoginBlockCache loginBlockCache =
+                new LoginBlockCache(CacheConfig.LOGIN_BLOCK_CACHE, 100, expirationTimingWheel);
+
+        loginBlockCache.put("127.0.0.1:user", System.currentTimeMillis() - 31 * 60 * 1000L);
+
+        assertNull(loginBlockCache.get("127.0.0.1:user"));
+    }
+
+    @Test
+    @DisplayName("기동 후 처음 읽은 메시지보다 앞선 번호는 누락으로 기다리지 않음")
+    void tracksGapsOnlyBetweenSeenRows() {
+        CacheInvalidationRepository repository = mock(CacheInvalidationRepository.class);
+        when(repository.findTop500ByIdGreaterThanOrderByIdAsc(anyLong())).thenReturn(List.of());
+        when(repository.findTop500ByIdGreaterThanOrderByIdAsc(0L))
+                .thenReturn(List.of(invalidation(1_000_000L), invalidation(1_000_002L)));
+        when(repository.findAllById(any())).thenReturn(List.of());
+        JdbcCacheInvalidationBus bus =
+                new JdbcCacheInvalidationBus(repository, mock(PlatformTransactionManager.class));
+
+        bus.poll();
+        bus.poll();
+
+        verify(repository).findAllById(Set.of(1_000_001L));
+    }
+
+    @Test
+    @DisplayName("빈 번호를 제한 시간까지 읽지 못하면 누락을 알림")
+    void notifiesGapListenersOnTimeout() {
+        CacheInvalidationRepository repository = mock(CacheInvalidationRepository.class);
+        when(repository.findTop500ByIdGreaterThanOrderByIdAsc(anyLong())).thenReturn(List.of());
+        when(repository.findAllById(any())).thenReturn(List.of());
+        JdbcCacheInvalidationBus bus =
+                new JdbcCacheInvalidationBus(repository, mock(PlatformTransactionManager.class));
+        List<String> gaps = new ArrayList<>();
+        bus.subscribeGaps(() -> gaps.add("gap"));
+        @SuppressWarnings("unchecked")
+        Map<Long, Long> pendingGaps = (Map<Long, Long>) ReflectionTestUtils.getField(bus, "pendingGaps");
+
+        pendingGaps.put(10L, System.currentTimeMillis());
+        bus.poll();
+        assertTrue(gaps.isEmpty());
+
+        pendingGaps.put(10L, System.currentTimeMillis() - 60_000);
+        bus.poll();
+        assertEquals(List.of("gap"), gaps);
+    }
+
+    @Test
+    @DisplayName("여러 값을 키 길이 제한 안에서 묶고 다시 나눔")
+    void joinsKeysWithinLimit() {
+        List<String> parts = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            parts.add(String.valueOf(1_000_000 + i));
+        }
+
+        List<String> keys = CacheInvalidationMessage.joinKeys(parts);
+
+        assertTrue(keys.size() > 1);
+        assertTrue(keys.stream().allMatch(key -> key.length() <= CacheInvalidationMessage.MAX_KEY_LENGTH));
+        assertEquals(parts, keys.stream().flatMap(key -> CacheInvalidationMessage.splitKey(key).stream()).toList());
+    }
+
+    private CacheInvalidation invalidation(long id) {
+        CacheInvalidation invalidation = new CacheInvalidation("channel", "key", 0L, "other-node");
+        ReflectionTestUtils.setField(invalidation, "id", id);
+        return invalidation;
+    }
+
+    private CacheManager newCacheManager() {
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(
+                new TokenBlacklistCache(CacheConfig.TOKEN_BLACKLIST_CACHE, expirationTimingWheel),
+                new LoginBlockCache(CacheConfig.LOGIN_BLOCK_CACHE, 100, expirationTimingWheel)));
+        cacheManager.afterPropertiesSet();
+        return cacheManager;
+    }
+
+    private void subscribe(Object service) {
+        ReflectionTestUtils.invokeMethod(service, "subscribe");
+    }
+}
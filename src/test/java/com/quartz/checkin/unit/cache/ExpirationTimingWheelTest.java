@@ -0,0 +1,67 @@
+package com.quartz.checkin.unit.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.quartz.checkin.common.cache.ExpirationTimingWheel;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ExpirationTimingWheelTest {
+
+    private static final long TICK = 1000;
+    private static final long START = 1_700_000_000_000L;
+
+    private ExpirationTimingWheel expirationTimingWheel;
+    private List<Object> expiredKeys;
+
+    @BeforeEach
+    void setUp() {
+        expirationTimingWheel = new ExpirationTimingWheel(TICK, START);
+        expiredKeys = new ArrayList<>();
+    }
+
+    @Test
+    @DisplayName("deadline이 지나기 전에는 만료되지 않고, 지난 뒤 한 tick 이내에 만료됨")
+    void expiresWithinOneTickOfDeadline() {
+        expirationTimingWheel.schedule("key", START + 5_500, (key, deadline) -> expiredKeys.add(key));
+
+        expirationTimingWheel.advance(START + 5_000);
+        assertTrue(expiredKeys.isEmpty());
+        assertEquals(1, expirationTimingWheel.pendingCount());
+
+        expirationTimingWheel.advance(START + 6_000);
+        assertEquals(List.of("key"), expiredKeys);
+        assertEquals(0, expirationTimingWheel.pendingCount());
+    }
+
+    @Test
+    @DisplayName("상위 휠에 배치된 항목도 cascade를 거쳐 정확한 시점에 만료됨")
+    void expiresEntriesFromHigherLevels() {
+        long thirtyMinutes = 30 * 60 * 1000L;
+        long oneHour = 60 * 60 * 1000L;
+        expirationTimingWheel.schedule("block", START + thirtyMinutes, (key, deadline) -> expiredKeys.add(key));
+        expirationTimingWheel.schedule("token", START + oneHour, (key, deadline) -> expiredKeys.add(key));
+
+        expirationTimingWheel.advance(START + thirtyMinutes - TICK);
+        assertTrue(expiredKeys.isEmpty());
+
+        expirationTimingWheel.advance(START + thirtyMinutes);
+        assertEquals(List.of("block"), expiredKeys);
+
+        expirationTimingWheel.advance(START + oneHour);
+        assertEquals(List.of("block", "token"), expiredKeys);
+    }
+
+    @Test
+    @DisplayName("이미 지난 deadline은 다음 advance에서 바로 만료됨")
+    void expiresPastDeadlineImmediately() {
+        expirationTimingWheel.schedule("past", START - 1, (key, deadline) -> expiredKeys.add(key));
+
+        expirationTimingWheel.advance(START);
+
+        assertEquals(List.of("past"), expiredKeys);
+    }
+}
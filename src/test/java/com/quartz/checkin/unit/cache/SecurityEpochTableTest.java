@@ -0,0 +1,59 @@
+package com.quartz.checkin.unit.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.quartz.checkin.common.cache.SecurityEpochTable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SecurityEpochTableTest {
+
+    private SecurityEpochTable securityEpochTable;
+
+    @BeforeEach
+    void setUp() {
+        securityEpochTable = new SecurityEpochTable();
+    }
+
+    @Test
+    @DisplayName("epoch를 올리면 해당 사용자의 값만 바뀜")
+    void advancesOnlyTargetMember() {
+        securityEpochTable.advance(1L, 3);
+
+        assertEquals(3, securityEpochTable.get(1L));
+        assertEquals(0, securityEpochTable.get(2L));
+    }
+
+    @Test
+    @DisplayName("더 작은 epoch로 갱신해도 감소하지 않음")
+    void neverDecreases() {
+        securityEpochTable.advance(1L, 5);
+        securityEpochTable.advance(1L, 2);
+
+        assertEquals(5, securityEpochTable.get(1L));
+    }
+
+    @Test
+    @DisplayName("초기 크기보다 큰 사용자 id도 기록되고 기존 값은 유지됨")
+    void growsForLargeMemberId() {
+        securityEpochTable.advance(1L, 2);
+        securityEpochTable.advance(5_000L, 4);
+
+        assertEquals(2, securityEpochTable.get(1L));
+        assertEquals(4, securityEpochTable.get(5_000L));
+    }
+
+    @Test
+    @DisplayName("범위 밖의 사용자 id와 0 이하의 epoch는 기록되지 않음")
+    void ignoresOutOfRangeValues() {
+        securityEpochTable.advance(0L, 3);
+        securityEpochTable.advance(-1L, 3);
+        securityEpochTable.advance(2L, 0);
+
+        assertEquals(0, securityEpochTable.get(0L));
+        assertEquals(0, securityEpochTable.get(-1L));
+        assertEquals(0, securityEpochTable.get(2L));
+        assertEquals(0, securityEpochTable.get(1_000_000L));
+    }
+}
@@ -0,0 +1,79 @@
+package com.quartz.checkin.unit.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.quartz.checkin.common.cache.ExpirationTimingWheel;
+import com.quartz.checkin.common.cache.LoginAttemptCache;
+import com.quartz.checkin.common.cache.SlidingWindowCounter;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SlidingWindowCounterTest {
+
+    @Test
+    @DisplayName("윈도우 안의 기록만 합산됨")
+    void countsOnlyWithinWindow() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(10_000, 10);
+
+        counter.increment(0);
+        counter.increment(1_500);
+        counter.increment(9_500);
+
+        assertEquals(3, counter.sum(9_999));
+        assertEquals(2, counter.sum(10_500));
+        assertEquals(1, counter.sum(18_999));
+        assertEquals(0, counter.sum(20_000));
+    }
+
+    @Test
+    @DisplayName("재사용된 슬롯은 이전 구간의 횟수를 버리고 새로 집계함")
+    void reusedSlotStartsFresh() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(10_000, 10);
+
+        counter.increment(500);
+        counter.increment(600);
+
+        assertEquals(1, counter.increment(10_500));
+    }
+
+    @Test
+    @DisplayName("동시에 기록해도 누락되지 않음")
+    void concurrentIncrementsAreNotLost() throws InterruptedException {
+        SlidingWindowCounter counter = new SlidingWindowCounter(60_000, 10);
+        long now = 30_000;
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch latch = new CountDownLatch(8);
+
+        for (int i = 0; i < 8; i++) {
+            executor.submit(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    counter.increment(now);
+                }
+                latch.countDown();
+            });
+        }
+        latch.await(5, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        assertEquals(8000, counter.sum(now));
+    }
+
+    @Test
+    @DisplayName("조회는 실패 횟수를 변경하지 않음")
+    void countDoesNotMutate() {
+        ExpirationTimingWheel expirationTimingWheel = new ExpirationTimingWheel(1000, System.currentTimeMillis());
+        LoginAttemptCache loginAttemptCache =
+                new LoginAttemptCache("loginAttempt", 100, 300_000, expirationTimingWheel);
+
+        loginAttemptCache.increment("127.0.0.1:user");
+        loginAttemptCache.increment("127.0.0.1:user");
+
+        assertEquals(2, loginAttemptCache.count("127.0.0.1:user"));
+        assertEquals(2, loginAttemptCache.count("127.0.0.1:user"));
+        assertEquals(0, loginAttemptCache.count("127.0.0.1:other"));
+    }
+}
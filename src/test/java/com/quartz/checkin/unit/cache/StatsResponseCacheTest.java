@@ -0,0 +1,100 @@
+package com.quartz.checkin.unit.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.quartz.checkin.common.cache.ExpirationTimingWheel;
+import com.quartz.checkin.common.cache.StatsCacheKey;
+import com.quartz.checkin.common.cache.StatsResponseCache;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StatsResponseCacheTest {
+
+    private final List<Runnable> refreshTasks = new ArrayList<>();
+    private ExpirationTimingWheel expirationTimingWheel;
+    private ExecutorService requests;
+
+    @BeforeEach
+    void setUp() {
+        expirationTimingWheel = new ExpirationTimingWheel(1000, System.currentTimeMillis());
+        requests = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        requests.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("같은 키를 동시에 놓친 요청은 한 번의 계산 결과를 함께 사용함")
+    void loadsOnceForConcurrentMisses() throws Exception {
+        StatsResponseCache cache = new StatsResponseCache("test", 10, 60_000L, 60_000L,
+                expirationTimingWheel, refreshTasks::add);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        StatsCacheKey key = StatsCacheKey.of("managers", "month");
+
+        List<Future<Integer>> results = new ArrayList<>();
+        results.add(requests.submit(() -> cache.get(key, () -> {
+            loading.countDown();
+            release.await();
+            return loads.incrementAndGet();
+        })));
+        assertTrue(loading.await(1, TimeUnit.SECONDS));
+        for (int i = 0; i < 7; i++) {
+            results.add(requests.submit(() -> cache.get(key, loads::incrementAndGet)));
+        }
+        while (cache.getLoadWaitCount() < 7) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        for (Future<Integer> result : results) {
+            assertEquals(1, result.get(1, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("신선 기간이 지나면 이전 응답을 주고 백그라운드 갱신은 한 번만 예약함")
+    void servesStaleWhileRefreshing() {
+        StatsResponseCache cache = new StatsResponseCache("test", 10, 0L, 60_000L,
+                expirationTimingWheel, refreshTasks::add);
+        StatsCacheKey key = StatsCacheKey.of("closed-rate", "WEEK");
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals(1, cache.get(key, loads::incrementAndGet));
+        assertEquals(1, cache.get(key, loads::incrementAndGet));
+        assertEquals(1, cache.get(key, loads::incrementAndGet));
+        assertEquals(1, refreshTasks.size());
+        assertEquals(2, cache.getStaleHitCount());
+
+        refreshTasks.get(0).run();
+
+        assertEquals(2, cache.get(key, loads::incrementAndGet));
+    }
+
+    @Test
+    @DisplayName("계산에 실패하면 기다리던 요청에도 같은 예외를 전달하고 캐시하지 않음")
+    void propagatesLoadFailure() {
+        StatsResponseCache cache = new StatsResponseCache("test", 10, 60_000L, 60_000L,
+                expirationTimingWheel, refreshTasks::add);
+        StatsCacheKey key = StatsCacheKey.of("managers", "YEAR");
+
+        assertThrows(IllegalArgumentException.class, () -> cache.get(key, () -> {
+            throw new IllegalArgumentException("invalid period");
+        }));
+        assertEquals("ok", cache.get(key, () -> "ok"));
+    }
+}
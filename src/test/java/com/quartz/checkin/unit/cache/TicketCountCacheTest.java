@@ -0,0 +1,125 @@
+package com.quartz.checkin.unit.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.quartz.checkin.common.cache.ExpirationTimingWheel;
+import com.quartz.checkin.common.cache.TicketCountCache;
+import com.quartz.checkin.common.cache.TicketCountKey;
+import com.quartz.checkin.entity.Priority;
+import com.quartz.checkin.entity.Status;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TicketCountCacheTest {
+
+    private TicketCountCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new TicketCountCache("test", 100, 60_000L,
+                new ExpirationTimingWheel(1000, System.currentTimeMillis()));
+    }
+
+    @Test
+    @DisplayName("필터 값의 순서와 중복이 달라도 같은 키가 됨")
+    void normalizesFilterSignature() {
+        TicketCountKey first = TicketCountKey.of(null, null,
+                List.of(Status.OPEN, Status.IN_PROGRESS), List.of(3L, 2L),
+                null, List.of(Priority.HIGH, Priority.HIGH), false, null);
+        TicketCountKey second = TicketCountKey.of(null, null,
+                List.of(Status.IN_PROGRESS, Status.OPEN), List.of(2L, 3L),
+                List.of(), List.of(Priority.HIGH), null, false);
+
+        assertEquals(first, second);
+        assertNotEquals(first, TicketCountKey.of(1L, null,
+                List.of(Status.OPEN, Status.IN_PROGRESS), List.of(2L, 3L),
+                null, List.of(Priority.HIGH), null, null));
+    }
+
+    @Test
+    @DisplayName("캐시된 개수가 있으면 다시 세지 않음")
+    void returnsCachedCount() {
+        TicketCountKey key = TicketCountKey.of(null, "Server", null, null, null, null, null, null);
+        cache.get(key, () -> 10L);
+
+        Long count = cache.get(TicketCountKey.of(null, "server", null, null, null, null, null, null),
+                () -> fail("개수를 다시 세면 안 됩니다."));
+
+        assertEquals(10L, count);
+    }
+
+    @Test
+    @DisplayName("사용자 무효화는 해당 사용자와 전체 조회 키만 제거함")
+    void invalidatesOnlyAffectedMembers() {
+        TicketCountKey managerKey = TicketCountKey.of(null, null, null, null, null, null, null, null);
+        TicketCountKey userKey = TicketCountKey.of(1L, null, null, null, null, null, null, null);
+        TicketCountKey otherUserKey = TicketCountKey.of(2L, null, null, null, null, null, null, null);
+        cache.put(managerKey, 30L);
+        cache.put(userKey, 10L);
+        cache.put(otherUserKey, 20L);
+
+        cache.invalidateMembers(Set.of(1L));
+
+        assertNull(cache.get(managerKey));
+        assertNull(cache.get(userKey));
+        assertEquals(20L, cache.get(otherUserKey).get());
+    }
+
+    @Test
+    @DisplayName("개수를 세는 도중 무효화되면 결과를 캐시에 남기지 않음")
+    void discardsCountLoadedDuringInvalidation() {
+        TicketCountKey key = TicketCountKey.of(1L, null, null, null, null, null, null, null);
+
+        Long count = cache.get(key, () -> {
+            cache.invalidateMembers(Set.of(1L));
+            return 10L;
+        });
+
+        assertEquals(10L, count);
+        assertNull(cache.get(key));
+    }
+
+    @Test
+    @DisplayName("전체 조회 키는 무효화 후 다시 센 값부터 캐시됨")
+    void recachesGlobalCountAfterInvalidation() {
+        TicketCountKey managerKey = TicketCountKey.of(null, null, null, null, null, null, null, null);
+        cache.get(managerKey, () -> 30L);
+
+        cache.invalidateMembers(Set.of(1L));
+        Long recounted = cache.get(managerKey, () -> 31L);
+        Long cached = cache.get(managerKey, () -> fail("개수를 다시 세면 안 됩니다."));
+
+        assertEquals(31L, recounted);
+        assertEquals(31L, cached);
+    }
+
+    @Test
+    @DisplayName("전체 조회 개수를 세는 도중 무효화되면 결과를 조회하지 않음")
+    void discardsGlobalCountLoadedDuringInvalidation() {
+        TicketCountKey managerKey = TicketCountKey.of(null, null, null, null, null, null, null, null);
+
+        Long count = cache.get(managerKey, () -> {
+            cache.invalidateMembers(Set.of(1L));
+            return 30L;
+        });
+
+        assertEquals(30L, count);
+        assertNull(cache.get(managerKey));
+    }
+
+    @Test
+    @DisplayName("제거된 사용자 키를 다시 저장해도 무효화 대상이 됨")
+    void reindexesMemberKeyAfterEvict() {
+        TicketCountKey userKey = TicketCountKey.of(1L, null, null, null, null, null, null, null);
+        cache.put(userKey, 10L);
+        cache.evict(userKey);
+        cache.put(userKey, 11L);
+
+        cache.invalidateMembers(Set.of(1L));
+
+        assertNull(cache.get(userKey));
+    }
+}
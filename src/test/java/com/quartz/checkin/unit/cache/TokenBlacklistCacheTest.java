@@ -0,0 +1,85 @@
+package com.quartz.checkin.unit.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.quartz.checkin.common.TokenDigestUtils;
+import com.quartz.checkin.common.cache.ExpirationTimingWheel;
+import com.quartz.checkin.common.cache.TokenBlacklistCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TokenBlacklistCacheTest {
+
+    private ExpirationTimingWheel expirationTimingWheel;
+    private TokenBlacklistCache tokenBlacklistCache;
+
+    @BeforeEach
+    void setUp() {
+        expirationTimingWheel = new ExpirationTimingWheel(1000, System.currentTimeMillis());
+        tokenBlacklistCache = new TokenBlacklistCache("tokenBlacklist", expirationTimingWheel);
+    }
+
+    @Test
+    @DisplayName("블랙리스트에 등록된 토큰 조회 성공")
+    void blacklistedTokenIsFound() {
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        tokenBlacklistCache.put("access-token", expiresAt);
+
+        assertNotNull(tokenBlacklistCache.get("access-token"));
+        assertEquals(expiresAt, tokenBlacklistCache.get("access-token").get());
+        assertNull(tokenBlacklistCache.get("other-token"));
+    }
+
+    @Test
+    @DisplayName("토큰 만료 시각이 지나면 블랙리스트에서 조회되지 않음")
+    void expiredTokenIsNotFound() {
+        tokenBlacklistCache.put("expired-token", System.currentTimeMillis() - 1);
+
+        assertNull(tokenBlacklistCache.get("expired-token"));
+    }
+
+    @Test
+    @DisplayName("만료 처리 후에도 유효한 토큰은 유지됨")
+    void expirationKeepsLiveTokens() {
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < 1000; i++) {
+            tokenBlacklistCache.put("token-" + i, now + 60_000);
+        }
+        tokenBlacklistCache.put("short-lived-token", now + 2_000);
+        tokenBlacklistCache.evict("token-0");
+
+        expirationTimingWheel.advance(now + 5_000);
+
+        assertEquals(1000, expirationTimingWheel.pendingCount());
+        assertNull(tokenBlacklistCache.get("token-0"));
+        for (int i = 1; i < 1000; i++) {
+            assertNotNull(tokenBlacklistCache.get("token-" + i));
+        }
+    }
+
+    @Test
+    @DisplayName("항목 수가 많아도 만료 전의 토큰은 블랙리스트에서 제거되지 않음")
+    void manyTokensAreNeverEvictedBeforeExpiry() {
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        for (long digest = 1; digest <= 300_000; digest++) {
+            tokenBlacklistCache.putDigest(digest, expiresAt);
+        }
+
+        assertEquals(300_000, tokenBlacklistCache.size());
+        for (long digest = 1; digest <= 300_000; digest++) {
+            assertTrue(tokenBlacklistCache.containsDigest(digest));
+        }
+    }
+
+    @Test
+    @DisplayName("토큰 해시로 만든 다이제스트로도 블랙리스트를 조회함")
+    void blacklistedTokenIsFoundByDigest() {
+        tokenBlacklistCache.put("access-token", System.currentTimeMillis() + 60_000);
+        byte[] tokenHash = TokenDigestUtils.sha256("access-token");
+
+        assertTrue(tokenBlacklistCache.containsDigest(TokenDigestUtils.digestToLong(tokenHash)));
+        assertFalse(tokenBlacklistCache.containsDigest(TokenDigestUtils.digestToLong("other-token")));
+        assertEquals(TokenDigestUtils.digest("access-token"), TokenDigestUtils.digest(tokenHash));
+    }
+}
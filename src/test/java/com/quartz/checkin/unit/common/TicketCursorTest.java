@@ -0,0 +1,45 @@
+package com.quartz.checkin.unit.common;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.quartz.checkin.common.TicketCursor;
+import com.quartz.checkin.common.exception.ApiException;
+import com.quartz.checkin.common.exception.ErrorCode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TicketCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 디코딩하면 같은 위치가 나옴")
+    void encodeAndDecode() {
+        TicketCursor cursor = new TicketCursor(LocalDateTime.of(2025, 2, 12, 9, 30, 15, 123_456_000), 42L);
+
+        String encoded = cursor.encode();
+
+        assertFalse(encoded.contains("|"));
+        assertEquals(cursor, TicketCursor.decode(encoded));
+    }
+
+    @Test
+    @DisplayName("빈 커서는 첫 페이지를 의미함")
+    void blankCursorMeansFirstPage() {
+        assertNull(TicketCursor.decode(null));
+        assertNull(TicketCursor.decode(""));
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 INVALID_CURSOR 예외 발생")
+    void invalidCursor() {
+        String noDelimiter = Base64.getUrlEncoder().encodeToString("2025-02-12T09:30".getBytes(StandardCharsets.UTF_8));
+        String badId = Base64.getUrlEncoder().encodeToString("2025-02-12T09:30|abc".getBytes(StandardCharsets.UTF_8));
+
+        for (String cursor : new String[]{"%%%", noDelimiter, badId}) {
+            ApiException exception = assertThrows(ApiException.class, () -> TicketCursor.decode(cursor));
+            assertEquals(ErrorCode.INVALID_CURSOR, exception.getErrorCode());
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.quartz.checkin.unit.common;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.quartz.checkin.common.TicketCustomIdUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TicketCustomIdUtilsTest {
+
+    @Test
+    @DisplayName("번호는 3자리로 채워 붙임")
+    void formatsNumberWithFixedWidth() {
+        assertEquals("0212DEVO-INF007", TicketCustomIdUtils.format("0212DEVO-INF", 7));
+    }
+
+    @Test
+    @DisplayName("2차 카테고리 약어가 숫자로 끝나도 마지막 구분자 뒤의 3자리만 번호로 읽음")
+    void readsFixedWidthSuffixAfterLastSeparator() {
+        assertEquals("001", TicketCustomIdUtils.numberPart("0212DEVO-INF2001"));
+        assertEquals("015", TicketCustomIdUtils.numberPart("0212D-I015"));
+    }
+
+    @Test
+    @DisplayName("구분자 뒤에 번호 자리가 모자라면 예외")
+    void rejectsCustomIdWithoutNumber() {
+        assertThrows(IllegalArgumentException.class, () -> TicketCustomIdUtils.numberPart("0212D-I1"));
+    }
+}
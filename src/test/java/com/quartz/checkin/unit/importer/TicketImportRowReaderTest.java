@@ -0,0 +1,90 @@
+package com.quartz.checkin.unit.importer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.quartz.checkin.common.importer.CsvTicketImportRowReader;
+import com.quartz.checkin.common.importer.NdjsonTicketImportRowReader;
+import com.quartz.checkin.common.importer.TicketImportRowReader.ParsedRow;
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TicketImportRowReaderTest {
+
+    @Test
+    @DisplayName("CSV는 헤더 순서와 관계없이 열 이름으로 읽고, 따옴표 안의 쉼표와 줄바꿈을 유지함")
+    void readsQuotedCsvFields() throws IOException {
+        String csv = "title,username,content,firstCategory,secondCategory,dueDate\r\n"
+                + "\"서버, 점검\",user1,\"첫 줄\n둘째 줄 \"\"인용\"\"\",DevOps,Infra,2025-03-01\r\n"
+                + "\r\n"
+                + "제목,user2,내용,DevOps,Infra,2025-03-02\n";
+
+        try (CsvTicketImportRowReader reader = new CsvTicketImportRowReader(new StringReader(csv))) {
+            ParsedRow first = reader.next();
+            assertFalse(first.hasError());
+            assertEquals(1, first.rowNumber());
+            assertEquals("user1", first.row().getUsername());
+            assertEquals("서버, 점검", first.row().getTitle());
+            assertEquals("첫 줄\n둘째 줄 \"인용\"", first.row().getContent());
+            assertEquals(LocalDate.of(2025, 3, 1), first.row().getDueDate());
+
+            ParsedRow second = reader.next();
+            assertEquals(2, second.rowNumber());
+            assertEquals("user2", second.row().getUsername());
+
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    @DisplayName("CSV의 잘못된 날짜와 부족한 열은 행 오류로 반환함")
+    void reportsCsvRowErrors() throws IOException {
+        String csv = "username,title,content,firstCategory,secondCategory,dueDate\n"
+                + "user1,제목,내용,DevOps,Infra,2025/03/01\n"
+                + "user1,제목\n";
+
+        try (CsvTicketImportRowReader reader = new CsvTicketImportRowReader(new StringReader(csv))) {
+            ParsedRow invalidDate = reader.next();
+            assertTrue(invalidDate.hasError());
+            assertEquals(1, invalidDate.rowNumber());
+
+            ParsedRow missingColumns = reader.next();
+            assertTrue(missingColumns.hasError());
+            assertEquals(2, missingColumns.rowNumber());
+        }
+    }
+
+    @Test
+    @DisplayName("CSV 헤더에 필수 열이 없으면 예외 발생")
+    void rejectsCsvWithoutRequiredHeader() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new CsvTicketImportRowReader(new StringReader("username,title\n")));
+    }
+
+    @Test
+    @DisplayName("NDJSON은 줄 번호를 행 번호로 사용하고, 깨진 줄은 오류로 반환함")
+    void readsNdjsonLines() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        String ndjson = "{\"username\":\"user1\",\"title\":\"제목\",\"content\":\"내용\","
+                + "\"firstCategory\":\"DevOps\",\"secondCategory\":\"Infra\",\"dueDate\":\"2025-03-01\"}\n"
+                + "\n"
+                + "{\"username\":\n";
+
+        try (NdjsonTicketImportRowReader reader = new NdjsonTicketImportRowReader(new StringReader(ndjson), objectMapper)) {
+            ParsedRow first = reader.next();
+            assertFalse(first.hasError());
+            assertEquals(1, first.rowNumber());
+            assertEquals(LocalDate.of(2025, 3, 1), first.row().getDueDate());
+
+            ParsedRow broken = reader.next();
+            assertTrue(broken.hasError());
+            assertEquals(3, broken.rowNumber());
+
+            assertNull(reader.next());
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.quartz.checkin.unit.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.quartz.checkin.common.stats.TicketDailyStatsKey;
+import com.quartz.checkin.config.QueryDslConfig;
+import com.quartz.checkin.entity.Status;
+import com.quartz.checkin.entity.TicketDailyStats;
+import com.quartz.checkin.repository.TicketDailyStatsRepository;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.datasource.url=jdbc:h2:mem:ticket-daily-stats;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.username=sa",
+        "spring.datasource.password="
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(QueryDslConfig.class)
+class TicketDailyStatsRepositoryTest {
+
+    private static final LocalDate CREATED = LocalDate.of(2025, 2, 1);
+    private static final LocalDate DUE = LocalDate.of(2025, 2, 10);
+
+    @Autowired
+    private TicketDailyStatsRepository ticketDailyStatsRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("처음 증가시키는 키는 새 행으로 넣음")
+    void insertsNewKey() {
+        TicketDailyStatsKey open = key(2L, Status.OPEN);
+
+        ticketDailyStatsRepository.addCounts(Map.of(open, 2L));
+
+        assertThat(counts()).containsExactly(Map.entry(open, 2L));
+    }
+
+    @Test
+    @DisplayName("이미 있는 키는 기존 행에 더하고, 없는 키는 같은 호출에서 새로 넣음")
+    void incrementsExistingKey() {
+        TicketDailyStatsKey open = key(2L, Status.OPEN);
+        TicketDailyStatsKey closed = key(2L, Status.CLOSED);
+        ticketDailyStatsRepository.addCounts(Map.of(open, 2L));
+
+        ticketDailyStatsRepository.addCounts(Map.of(open, -1L, closed, 1L));
+
+        assertThat(counts()).containsOnly(Map.entry(open, 1L), Map.entry(closed, 1L));
+    }
+
+    private Map<TicketDailyStatsKey, Long> counts() {
+        entityManager.clear();
+        Map<TicketDailyStatsKey, Long> counts = new HashMap<>();
+        for (TicketDailyStats stats : ticketDailyStatsRepository.findAll()) {
+            counts.put(new TicketDailyStatsKey(stats.getStatDate(), stats.getDueDate(), stats.getManagerId(),
+                    stats.getFirstCategoryId(), stats.getStatus()), stats.getTicketCount());
+        }
+        return counts;
+    }
+
+    private TicketDailyStatsKey key(Long managerId, Status status) {
+        return new TicketDailyStatsKey(CREATED, DUE, managerId, 3L, status);
+    }
+}
@@ -0,0 +1,205 @@
+package com.quartz.checkin.unit.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.quartz.checkin.common.TicketCursor;
+import com.quartz.checkin.config.QueryDslConfig;
+import com.quartz.checkin.config.SchemaMigrationRunner;
+import com.quartz.checkin.entity.Priority;
+import com.quartz.checkin.entity.Status;
+import com.quartz.checkin.repository.StatsRepository;
+import com.quartz.checkin.repository.TicketRepository;
+import com.quartz.checkin.repository.TicketViewRepository;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.sql.DataSource;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+// 티켓 조회 쿼리가 만든 SQL을 그대로 EXPLAIN해 ticket, ticket_view, ticket_daily_stats 테이블을 전체 스캔하지 않는지 확인합니다.
+@DataJpaTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.datasource.url=jdbc:h2:mem:query-plan;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.quartz.checkin.unit.repository.TicketQueryPlanTest$CapturingStatementInspector"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(QueryDslConfig.class)
+class TicketQueryPlanTest {
+
+    private static final String TICKET_TABLE_SCAN = "ticket.tablescan";
+    private static final String TICKET_VIEW_TABLE_SCAN = "ticket_view.tablescan";
+    private static final String TICKET_DAILY_STATS_TABLE_SCAN = "ticket_daily_stats.tablescan";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private TicketViewRepository ticketViewRepository;
+
+    @Autowired
+    private StatsRepository statsRepository;
+
+    @BeforeEach
+    void setUp() {
+        SchemaMigrationRunner.flyway(dataSource).migrate();
+        CapturingStatementInspector.clear();
+    }
+
+    @Test
+    @DisplayName("날짜별 마지막 티켓 번호 조회는 custom_id 인덱스를 사용함")
+    void ticketRepositoryQueriesUseIndexes() throws SQLException {
+        ticketRepository.findLastCustomIdByDate("0212");
+
+        assertNoTicketTableScan();
+    }
+
+    @Test
+    @DisplayName("휴지통과 스케줄러 조회는 ticket 테이블을 전체 스캔하지 않음")
+    void ticketTrashRepositoryQueriesUseIndexes() throws SQLException {
+        ticketRepository.findExpiredTickets(LocalDate.now());
+        ticketRepository.findOldClosedTickets(LocalDate.now().minusMonths(6));
+        ticketRepository.fetchDeletedTickets(1L, PageRequest.of(0, 10));
+        ticketRepository.fetchDeletedTicketsByCursor(1L, new TicketCursor(LocalDateTime.now(), 100L), 10);
+        ticketRepository.findOldSoftDeletedTickets(LocalDateTime.now().minusDays(30));
+
+        assertNoTicketTableScan();
+    }
+
+    @Test
+    @DisplayName("티켓 목록과 개수 조회는 ticket_view의 필터 인덱스를 사용함")
+    void ticketViewListQueriesUseIndexes() throws SQLException {
+        PageRequest page = PageRequest.of(0, 10);
+        TicketCursor cursor = new TicketCursor(LocalDateTime.now(), 100L);
+
+        ticketViewRepository.fetchTickets(1L, null, null, null, null, null, null, page, "desc");
+        ticketViewRepository.countTickets(1L, null, null, null, null, null, null);
+        ticketViewRepository.fetchTicketsByCursor(1L, null, null, null, null, null, null, cursor, 10, "desc");
+        ticketViewRepository.fetchTickets(null, List.of(Status.OPEN), null, null, null, null, null, page, "desc");
+        ticketViewRepository.countTickets(null, List.of(Status.OPEN), null, null, null, null, null);
+        ticketViewRepository.fetchTickets(null, null, List.of(2L), null, null, null, null, page, "desc");
+        ticketViewRepository.countTickets(null, null, List.of(2L), null, null, null, null);
+        ticketViewRepository.fetchTickets(null, null, null, List.of(3L), List.of(Priority.HIGH), null, null, page, "asc");
+        ticketViewRepository.countTickets(null, null, null, List.of(3L), List.of(Priority.HIGH), null, null);
+        ticketViewRepository.fetchTickets(null, null, null, null, null, true, null, page, "desc");
+        ticketViewRepository.countTickets(null, null, null, null, null, null, true);
+
+        assertNoTableScan(TICKET_VIEW_TABLE_SCAN);
+    }
+
+    // 검색어 조건은 인덱스를 쓸 수 없으므로 작성자로 좁히고, 본문은 ticket을 기본 키로만 찾아야 합니다.
+    @Test
+    @DisplayName("사용자 티켓 검색과 개수 조회는 작성자 인덱스와 ticket 기본 키를 사용함")
+    void ticketViewSearchQueriesUseIndexes() throws SQLException {
+        ticketViewRepository.fetchSearchedTickets(1L, "server", PageRequest.of(0, 10), "desc");
+        ticketViewRepository.countSearchedTickets(1L, "server");
+        ticketViewRepository.fetchSearchedTicketsByCursor(1L, "server",
+                new TicketCursor(LocalDateTime.now(), 100L), 10, "desc");
+
+        assertNoTableScan(TICKET_VIEW_TABLE_SCAN, TICKET_TABLE_SCAN);
+    }
+
+    @Test
+    @DisplayName("통계 조회는 ticket 테이블을 읽지 않음")
+    void statsRepositoryQueriesSkipTicketTable() throws SQLException {
+        statsRepository.findStatsByCategory();
+        statsRepository.findStatTotalProgress();
+        statsRepository.findStatsByManager("WEEK");
+        statsRepository.findClosedRate("MONTH");
+        statsRepository.findCategoryInProgressTickets();
+
+        assertNoTableScan(TICKET_TABLE_SCAN);
+    }
+
+    // 전체 누적 통계는 집계 테이블 전체를 더하므로 제외하고, 기간이 있는 통계만 확인합니다.
+    @Test
+    @DisplayName("기간별 통계 조회는 ticket_daily_stats의 날짜 인덱스를 사용함")
+    void periodStatsQueriesUseDailyStatsIndexes() throws SQLException {
+        statsRepository.findStatTotalProgress();
+        statsRepository.findStatsByManager("WEEK");
+        statsRepository.findClosedRate("MONTH");
+
+        assertNoTableScan(TICKET_DAILY_STATS_TABLE_SCAN);
+    }
+
+    private void assertNoTicketTableScan() throws SQLException {
+        assertNoTableScan(TICKET_TABLE_SCAN);
+    }
+
+    private void assertNoTableScan(String... tableScans) throws SQLException {
+        List<String> queries = CapturingStatementInspector.selects();
+        assertThat(queries).isNotEmpty();
+
+        for (String query : queries) {
+            String plan = explain(query).toLowerCase(Locale.ROOT);
+            for (String tableScan : tableScans) {
+                assertThat(plan)
+                        .as("전체 스캔 실행 계획: %s", plan)
+                        .doesNotContain(tableScan);
+            }
+        }
+    }
+
+    // 실행 계획은 바인딩 값과 무관하게 준비 시점에 정해지므로 파라미터는 모두 NULL로 둡니다.
+    private String explain(String query) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + query)) {
+            int parameterCount = statement.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameterCount; i++) {
+                statement.setObject(i, null);
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                StringBuilder plan = new StringBuilder();
+                while (resultSet.next()) {
+                    plan.append(resultSet.getString(1)).append('\n');
+                }
+                return plan.toString();
+            }
+        }
+    }
+
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+
+        static void clear() {
+            STATEMENTS.clear();
+        }
+
+        static List<String> selects() {
+            List<String> selects = new ArrayList<>();
+            for (String statement : STATEMENTS) {
+                if (statement.trim().toLowerCase(Locale.ROOT).startsWith("select")) {
+                    selects.add(statement);
+                }
+            }
+            return selects;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.quartz.checkin.unit.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.quartz.checkin.config.QueryDslConfig;
+import com.quartz.checkin.config.TicketViewInitializer;
+import com.quartz.checkin.entity.Category;
+import com.quartz.checkin.entity.Member;
+import com.quartz.checkin.entity.Priority;
+import com.quartz.checkin.entity.Role;
+import com.quartz.checkin.entity.Status;
+import com.quartz.checkin.entity.Ticket;
+import com.quartz.checkin.entity.TicketView;
+import com.quartz.checkin.repository.TicketViewRepository;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DataJpaTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.datasource.url=jdbc:h2:mem:ticket-view-initializer;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.username=sa",
+        "spring.datasource.password="
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(QueryDslConfig.class)
+class TicketViewInitializerTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TicketViewRepository ticketViewRepository;
+
+    private TicketViewInitializer ticketViewInitializer;
+    private Member user;
+    private Member manager;
+    private Category firstCategory;
+    private Category secondCategory;
+
+    @BeforeEach
+    void setUp() {
+        ticketViewInitializer = new TicketViewInitializer(jdbcTemplate, null, null);
+        user = persistMember("user", Role.USER);
+        manager = persistMember("manager", Role.MANAGER);
+        firstCategory = new Category(null, "DevOps", "DEVOPS", "guide");
+        secondCategory = new Category(firstCategory, "Infra", "INFRA", "guide");
+        entityManager.persist(firstCategory);
+        entityManager.persist(secondCategory);
+    }
+
+    @Test
+    @DisplayName("ticket_view가 비어 있으면 모든 티켓의 행을 채움")
+    void backfillsEmptyView() {
+        Ticket ticket = persistTicket("0212DEVO-INF001", "a".repeat(TicketView.CONTENT_PREVIEW_LENGTH + 10));
+        ticket.assignManager(manager);
+        entityManager.flush();
+
+        ticketViewInitializer.backfill();
+
+        entityManager.clear();
+        TicketView view = ticketViewRepository.findById(ticket.getId()).orElseThrow();
+        assertThat(view.getCustomId()).isEqualTo("0212DEVO-INF001");
+        assertThat(view.getManagerUsername()).isEqualTo("manager");
+        assertThat(view.getFirstCategoryName()).isEqualTo("DevOps");
+        assertThat(view.getContentPreview()).hasSize(TicketView.CONTENT_PREVIEW_LENGTH);
+        assertThat(view.getStatus()).isEqualTo(Status.IN_PROGRESS);
+    }
+
+    @Test
+    @DisplayName("ticket_view에 행이 하나라도 있으면 다시 채우지 않음")
+    void skipsBackfillWhenViewHasRows() {
+        Ticket existing = persistTicket("0212DEVO-INF001", "content");
+        ticketViewRepository.save(TicketView.from(existing));
+        Ticket missing = persistTicket("0212DEVO-INF002", "content");
+        entityManager.flush();
+
+        ticketViewInitializer.backfill();
+
+        entityManager.clear();
+        assertThat(ticketViewRepository.findById(existing.getId())).isPresent();
+        assertThat(ticketViewRepository.findById(missing.getId())).isEmpty();
+    }
+
+    private Member persistMember(String username, Role role) {
+        Member member = Member.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("password")
+                .profilePic(username + ".png")
+                .role(role)
+                .build();
+        entityManager.persist(member);
+        return member;
+    }
+
+    private Ticket persistTicket(String customId, String content) {
+        Ticket ticket = Ticket.builder()
+                .customId(customId)
+                .user(user)
+                .firstCategory(firstCategory)
+                .secondCategory(secondCategory)
+                .title("Server down")
+                .content(content)
+                .priority(Priority.MEDIUM)
+                .status(Status.OPEN)
+                .dueDate(LocalDate.now().plusDays(3))
+                .build();
+        entityManager.persist(ticket);
+        return ticket;
+    }
+}
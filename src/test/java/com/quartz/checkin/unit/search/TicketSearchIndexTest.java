@@ -0,0 +1,150 @@
+package com.quartz.checkin.unit.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.quartz.checkin.common.search.PostingList;
+import com.quartz.checkin.common.search.SearchTokenizer;
+import com.quartz.checkin.common.search.TicketSearchDocument;
+import com.quartz.checkin.common.search.TicketSearchHit;
+import com.quartz.checkin.common.search.TicketSearchIndex;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TicketSearchIndexTest {
+
+    private TicketSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TicketSearchIndex();
+    }
+
+    @Test
+    @DisplayName("한글은 음절 bigram과 마지막 음절로, 영문과 숫자는 단어 단위로 나눔")
+    void tokenizesHangulIntoBigrams() {
+        assertEquals(List.of("서버", "버가", "가", "vm", "02"), SearchTokenizer.tokenize("서버가 VM-02"));
+        assertEquals(List.of("웹", "error"), SearchTokenizer.tokenize("웹 ERROR!"));
+        assertEquals(List.of("서버", "버가", "vm", "02"), List.copyOf(SearchTokenizer.queryTerms("서버가 VM-02")));
+    }
+
+    @Test
+    @DisplayName("한 음절 한글 검색어는 단어의 어느 위치에 있어도 검색됨")
+    void matchesSingleHangulSyllableAnywhere() {
+        index.upsert(document(1L, 1L, "팀장 승인 요청", "본문", List.of()));
+        index.upsert(document(2L, 1L, "개발팀 문의", "본문", List.of()));
+        index.upsert(document(3L, 1L, "팀 회의실 예약", "본문", List.of()));
+        index.upsert(document(4L, 1L, "서버 점검", "본문", List.of()));
+
+        assertEquals(List.of(1L, 2L, 3L), ticketIdsOf(index.search("팀", null)));
+        assertEquals(List.of(2L), ticketIdsOf(index.search("개발 팀", null)));
+    }
+
+    @Test
+    @DisplayName("접두사에 해당하는 색인어가 많아도 빠짐없이 검색되고, 한 글자 영문은 정확히 일치하는 단어만 찾음")
+    void expandsEveryPrefixTerm() {
+        for (long ticketId = 1; ticketId <= 200; ticketId++) {
+            index.upsert(document(ticketId, 1L, "error" + ticketId, "본문", List.of()));
+        }
+        index.upsert(document(201L, 1L, "x", "본문", List.of()));
+        index.upsert(document(202L, 1L, "xml", "본문", List.of()));
+
+        assertEquals(200, index.search("er", null).size());
+        assertEquals(List.of(201L), ticketIdsOf(index.search("x", null)));
+    }
+
+    @Test
+    @DisplayName("압축한 문서 번호와 빈도를 순서대로 복원함")
+    void restoresCompressedPostings() {
+        PostingList postingList = new PostingList();
+        postingList.add(3, 1);
+        postingList.add(200, 7);
+        postingList.add(100_000, 2);
+
+        List<int[]> postings = new ArrayList<>();
+        postingList.forEach((docId, frequency) -> postings.add(new int[]{docId, frequency}));
+
+        assertEquals(3, postingList.size());
+        assertArrayEquals(new int[]{3, 1}, postings.get(0));
+        assertArrayEquals(new int[]{200, 7}, postings.get(1));
+        assertArrayEquals(new int[]{100_000, 2}, postings.get(2));
+        assertThrows(IllegalArgumentException.class, () -> postingList.add(100_000, 1));
+    }
+
+    @Test
+    @DisplayName("조사가 붙은 단어와 댓글 본문에서도 검색됨")
+    void matchesHangulSubstringsAndComments() {
+        index.upsert(document(1L, 1L, "서버가 응답하지 않습니다", "재시작이 필요합니다", List.of()));
+        index.upsert(document(2L, 1L, "계정 권한 요청", "권한을 추가해 주세요", List.of("방화벽 설정도 확인 부탁드립니다")));
+
+        assertEquals(List.of(1L), ticketIdsOf(index.search("서버", null)));
+        assertEquals(List.of(2L), ticketIdsOf(index.search("방화벽", null)));
+        assertTrue(index.search("데이터베이스", null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("제목에 검색어가 있는 티켓의 점수가 더 높음")
+    void ranksTitleMatchesHigher() {
+        index.upsert(document(1L, 1L, "권한 요청", "네트워크 설정 변경이 필요합니다", List.of()));
+        index.upsert(document(2L, 1L, "네트워크 장애", "사내망 접속이 되지 않습니다", List.of()));
+
+        List<TicketSearchHit> hits = index.search("네트워크", null);
+
+        assertEquals(2, hits.size());
+        TicketSearchHit titleHit = hits.stream().filter(hit -> hit.ticketId() == 2L).findFirst().orElseThrow();
+        TicketSearchHit contentHit = hits.stream().filter(hit -> hit.ticketId() == 1L).findFirst().orElseThrow();
+        assertTrue(titleHit.score() > contentHit.score());
+    }
+
+    @Test
+    @DisplayName("작성자 조건과 마지막 단어의 접두사 검색을 적용함")
+    void appliesOwnerFilterAndPrefix() {
+        index.upsert(document(1L, 1L, "VPN connection error", "접속 오류", List.of()));
+        index.upsert(document(2L, 2L, "VPN connection timeout", "접속 지연", List.of()));
+
+        assertEquals(List.of(1L, 2L), ticketIdsOf(index.search("vpn conn", null)));
+        assertEquals(List.of(2L), ticketIdsOf(index.search("vpn conn", 2L)));
+    }
+
+    @Test
+    @DisplayName("수정하거나 삭제한 티켓은 이전 내용으로 검색되지 않음")
+    void replacesAndRemovesDocuments() {
+        index.upsert(document(1L, 1L, "프린터 고장", "출력이 되지 않습니다", List.of()));
+        index.upsert(document(1L, 1L, "모니터 고장", "화면이 나오지 않습니다", List.of()));
+
+        assertTrue(index.search("프린터", null).isEmpty());
+        assertEquals(List.of(1L), ticketIdsOf(index.search("모니터", null)));
+
+        index.remove(1L);
+
+        assertTrue(index.search("모니터", null).isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    @DisplayName("삭제된 문서가 많아져 압축한 뒤에도 검색 결과가 유지됨")
+    void keepsResultsAfterCompaction() {
+        for (long ticketId = 1; ticketId <= 3000; ticketId++) {
+            index.upsert(document(ticketId, 1L, "장애 " + ticketId, "본문", List.of()));
+        }
+        for (long ticketId = 1; ticketId <= 2500; ticketId++) {
+            index.remove(ticketId);
+        }
+
+        assertEquals(500, index.size());
+        assertEquals(500, index.search("장애", null).size());
+        assertEquals(List.of(2999L), ticketIdsOf(index.search("장애 2999", null)));
+    }
+
+    private TicketSearchDocument document(Long ticketId, Long userId, String title, String content,
+                                          List<String> comments) {
+        return new TicketSearchDocument(ticketId, userId, LocalDateTime.now(), title, content, comments);
+    }
+
+    private List<Long> ticketIdsOf(List<TicketSearchHit> hits) {
+        return hits.stream().map(TicketSearchHit::ticketId).sorted().toList();
+    }
+}
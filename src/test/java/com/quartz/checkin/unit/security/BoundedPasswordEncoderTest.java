@@ -0,0 +1,91 @@
+package com.quartz.checkin.unit.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.quartz.checkin.common.exception.PasswordHashingBusyException;
+import com.quartz.checkin.security.crypto.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class BoundedPasswordEncoderTest {
+
+    private BoundedPasswordEncoder boundedPasswordEncoder;
+
+    @AfterEach
+    void tearDown() {
+        if (boundedPasswordEncoder != null) {
+            boundedPasswordEncoder.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("전용 스레드에서 해싱한 결과로 비밀번호 검증 성공")
+    void encodeAndMatches() {
+        PasswordEncoder delegate = new DelegatingPasswordEncoder("bcrypt",
+                Map.of("bcrypt", new BCryptPasswordEncoder(4)));
+        boundedPasswordEncoder = new BoundedPasswordEncoder(delegate, 4, 2, 4, 3000, new SimpleMeterRegistry());
+
+        String encoded = boundedPasswordEncoder.encode("password1!");
+
+        assertTrue(boundedPasswordEncoder.matches("password1!", encoded));
+        assertFalse(boundedPasswordEncoder.matches("password2!", encoded));
+    }
+
+    @Test
+    @DisplayName("스레드와 대기열이 모두 차면 기다리지 않고 거부함")
+    void rejectsWhenSaturated() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        PasswordEncoder slowEncoder = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return rawPassword.toString().equals(encodedPassword);
+            }
+        };
+        boundedPasswordEncoder = new BoundedPasswordEncoder(slowEncoder, 10, 1, 1, 5000, new SimpleMeterRegistry());
+
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        callers.submit(() -> boundedPasswordEncoder.encode("first"));
+        started.await(5, TimeUnit.SECONDS);
+        callers.submit(() -> boundedPasswordEncoder.encode("queued"));
+        Thread.sleep(100);
+
+        assertThrows(PasswordHashingBusyException.class, () -> boundedPasswordEncoder.encode("rejected"));
+
+        release.countDown();
+        callers.shutdown();
+    }
+
+    @Test
+    @DisplayName("저장된 bcrypt cost가 설정값과 다르면 재해싱 대상")
+    void upgradeEncodingWhenCostDiffers() {
+        boundedPasswordEncoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(), 12, 1, 1, 1000,
+                new SimpleMeterRegistry());
+
+        assertTrue(boundedPasswordEncoder.upgradeEncoding("{bcrypt}$2a$10$abcdefghijklmnopqrstuu"));
+        assertTrue(boundedPasswordEncoder.upgradeEncoding("{bcrypt}$2a$14$abcdefghijklmnopqrstuu"));
+        assertFalse(boundedPasswordEncoder.upgradeEncoding("{bcrypt}$2a$12$abcdefghijklmnopqrstuu"));
+        assertFalse(boundedPasswordEncoder.upgradeEncoding(null));
+    }
+}
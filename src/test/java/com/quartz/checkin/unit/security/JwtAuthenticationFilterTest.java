@@ -0,0 +1,69 @@
+package com.quartz.checkin.unit.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.quartz.checkin.common.TokenDigestUtils;
+import com.quartz.checkin.entity.Role;
+import com.quartz.checkin.security.CustomUser;
+import com.quartz.checkin.security.filter.JwtAuthenticationFilter;
+import com.quartz.checkin.security.service.CustomUserDetailsService;
+import com.quartz.checkin.security.service.JwtService;
+import com.quartz.checkin.security.service.SecurityEpochService;
+import com.quartz.checkin.service.TokenBlackListCacheService;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+class JwtAuthenticationFilterTest {
+
+    private static final String ACCESS_TOKEN = "access-token";
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("요청 한 번에 토큰 해시는 한 번만 계산해 검증 캐시와 블랙리스트에 함께 사용함")
+    void hashesTokenOncePerRequest() throws Exception {
+        JwtService jwtService = mock(JwtService.class);
+        CustomUserDetailsService customUserDetailsService = mock(CustomUserDetailsService.class);
+        TokenBlackListCacheService tokenBlackListCacheService = mock(TokenBlackListCacheService.class);
+        SecurityEpochService securityEpochService = mock(SecurityEpochService.class);
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtService, customUserDetailsService,
+                tokenBlackListCacheService, securityEpochService);
+
+        CustomUser user = new CustomUser(1L, "user", "", "user@example.com", "user.png", Role.USER, null, 0,
+                List.of(new SimpleGrantedAuthority(Role.USER.getValue())));
+        when(jwtService.extractAccessTokenFromRequest(any())).thenReturn(Optional.of(ACCESS_TOKEN));
+        when(customUserDetailsService.loadUserByAccessToken(eq(ACCESS_TOKEN), anyString())).thenReturn(user);
+        when(tokenBlackListCacheService.isBlackListDigest(anyLong())).thenReturn(false);
+        when(securityEpochService.isStale(1L, 0)).thenReturn(false);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/tickets");
+        MockFilterChain filterChain = new MockFilterChain();
+
+        try (MockedStatic<TokenDigestUtils> digestUtils = mockStatic(TokenDigestUtils.class, CALLS_REAL_METHODS)) {
+            filter.doFilter(request, new MockHttpServletResponse(), filterChain);
+
+            digestUtils.verify(() -> TokenDigestUtils.sha256(anyString()), times(1));
+        }
+
+        verify(customUserDetailsService).loadUserByAccessToken(ACCESS_TOKEN, TokenDigestUtils.digest(ACCESS_TOKEN));
+        verify(tokenBlackListCacheService).isBlackListDigest(TokenDigestUtils.digestToLong(ACCESS_TOKEN));
+        assertNotNull(filterChain.getRequest());
+    }
+}
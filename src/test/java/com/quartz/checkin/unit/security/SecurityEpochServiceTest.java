@@ -0,0 +1,67 @@
+package com.quartz.checkin.unit.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.quartz.checkin.common.cache.InMemoryCacheInvalidationBus;
+import com.quartz.checkin.dto.member.response.MemberSecurityEpoch;
+import com.quartz.checkin.repository.MemberRepository;
+import com.quartz.checkin.security.service.SecurityEpochService;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class SecurityEpochServiceTest {
+
+    private MemberRepository memberRepository;
+    private InMemoryCacheInvalidationBus cacheInvalidationBus;
+
+    @BeforeEach
+    void setUp() {
+        memberRepository = mock(MemberRepository.class);
+        cacheInvalidationBus = new InMemoryCacheInvalidationBus();
+    }
+
+    @Test
+    @DisplayName("시작 시 읽어온 epoch보다 이전에 발급된 토큰은 거부됨")
+    void rejectsTokenIssuedBeforeLoadedEpoch() {
+        when(memberRepository.findAllSecurityEpochs()).thenReturn(List.of(new MemberSecurityEpoch(1L, 2)));
+        SecurityEpochService securityEpochService = newService(cacheInvalidationBus);
+
+        assertTrue(securityEpochService.isStale(1L, 1));
+        assertFalse(securityEpochService.isStale(1L, 2));
+        assertFalse(securityEpochService.isStale(2L, 0));
+    }
+
+    @Test
+    @DisplayName("epoch를 올리면 다른 노드에서도 이전에 발급된 토큰이 거부됨")
+    void advancedEpochIsReplicated() {
+        when(memberRepository.findAllSecurityEpochs()).thenReturn(List.of());
+        SecurityEpochService nodeA = newService(cacheInvalidationBus);
+        SecurityEpochService nodeB = newService(cacheInvalidationBus.connectNode());
+
+        nodeA.advance(1L, 1);
+
+        assertTrue(nodeA.isStale(1L, 0));
+        assertTrue(nodeB.isStale(1L, 0));
+        assertFalse(nodeB.isStale(1L, 1));
+    }
+
+    @Test
+    @DisplayName("기록되지 않은 범위의 사용자 id는 거부하지 않음")
+    void acceptsOutOfRangeMemberId() {
+        when(memberRepository.findAllSecurityEpochs()).thenReturn(List.of());
+        SecurityEpochService securityEpochService = newService(cacheInvalidationBus);
+
+        assertFalse(securityEpochService.isStale(0L, 0));
+        assertFalse(securityEpochService.isStale(1_000_000L, 0));
+    }
+
+    private SecurityEpochService newService(InMemoryCacheInvalidationBus bus) {
+        SecurityEpochService securityEpochService = new SecurityEpochService(memberRepository, bus);
+        ReflectionTestUtils.invokeMethod(securityEpochService, "loadSecurityEpochs");
+        return securityEpochService;
+    }
+}
@@ -0,0 +1,92 @@
+package com.quartz.checkin.unit.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.quartz.checkin.entity.AccessLogType;
+import com.quartz.checkin.service.MemberAccessLogBatchWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+public class MemberAccessLogBatchWriterTest {
+
+    @Mock
+    JdbcTemplate jdbcTemplate;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("종료 시 버퍼에 남은 접속 기록을 종류별로 일괄 기록")
+    void flushOnShutdown() {
+        MemberAccessLogBatchWriter writer = newWriter(100);
+
+        writer.append(1L, null, AccessLogType.LOGIN_SUCCESS, "127.0.0.1");
+        writer.append(2L, null, AccessLogType.LOGIN_SUCCESS, "127.0.0.1");
+        writer.append(null, "user", AccessLogType.WRONG_PASSWORD, "127.0.0.1");
+        ReflectionTestUtils.invokeMethod(writer, "shutdown");
+
+        ArgumentCaptor<List<Object[]>> rowsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), rowsCaptor.capture());
+        assertThat(rowsCaptor.getAllValues()).extracting(List::size).containsExactly(2, 1);
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 새 기록은 버리고 개수를 집계")
+    void dropWhenBufferIsFull() {
+        MemberAccessLogBatchWriter writer = newWriter(2);
+
+        writer.append(1L, null, AccessLogType.LOGIN_SUCCESS, "127.0.0.1");
+        writer.append(2L, null, AccessLogType.LOGIN_SUCCESS, "127.0.0.1");
+        writer.append(3L, null, AccessLogType.LOGIN_SUCCESS, "127.0.0.1");
+
+        assertThat(meterRegistry.counter("access.log.dropped").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("일괄 기록에 실패하면 한 건씩 다시 기록하고 실패한 기록만 버림")
+    void retryRowByRowOnBatchFailure() {
+        MemberAccessLogBatchWriter writer = newWriter(100);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataIntegrityViolationException("fk"));
+        when(jdbcTemplate.update(anyString(), any(Object[].class)))
+                .thenReturn(1)
+                .thenThrow(new DataIntegrityViolationException("fk"));
+
+        writer.append(1L, null, AccessLogType.LOGIN_SUCCESS, "127.0.0.1");
+        writer.append(2L, null, AccessLogType.LOGIN_SUCCESS, "127.0.0.1");
+        ReflectionTestUtils.invokeMethod(writer, "shutdown");
+
+        verify(jdbcTemplate, times(2)).update(anyString(), any(Object[].class));
+        assertThat(meterRegistry.counter("access.log.written").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("access.log.dropped").count()).isEqualTo(1.0);
+    }
+
+    // flusher 스레드를 띄우지 않고 shutdown 시점의 일괄 기록만 검증합니다.
+    private MemberAccessLogBatchWriter newWriter(int bufferCapacity) {
+        MemberAccessLogBatchWriter writer = new MemberAccessLogBatchWriter(
+                jdbcTemplate, transactionManager, meterRegistry, bufferCapacity, 100, 1000);
+        ReflectionTestUtils.setField(writer, "flusher", new Thread(() -> {}));
+        return writer;
+    }
+}
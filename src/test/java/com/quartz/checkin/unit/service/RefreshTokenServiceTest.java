@@ -0,0 +1,101 @@
+package com.quartz.checkin.unit.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.quartz.checkin.common.TokenDigestUtils;
+import com.quartz.checkin.common.exception.ApiException;
+import com.quartz.checkin.common.exception.ErrorCode;
+import com.quartz.checkin.entity.Member;
+import com.quartz.checkin.entity.RefreshToken;
+import com.quartz.checkin.entity.Role;
+import com.quartz.checkin.repository.MemberRepository;
+import com.quartz.checkin.repository.RefreshTokenRepository;
+import com.quartz.checkin.security.service.JwtService;
+import com.quartz.checkin.service.RefreshTokenService;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class RefreshTokenServiceTest {
+
+    @Mock
+    JwtService jwtService;
+    @Mock
+    MemberRepository memberRepository;
+    @Mock
+    RefreshTokenRepository refreshTokenRepository;
+    @InjectMocks
+    RefreshTokenService refreshTokenService;
+
+    private Member member;
+    private RefreshToken storedToken;
+
+    @BeforeEach
+    public void setUp() {
+        member = Member.builder()
+                .id(1L)
+                .username("user.a")
+                .role(Role.USER)
+                .build();
+
+        storedToken = RefreshToken.builder()
+                .id(10L)
+                .member(member)
+                .tokenHash(TokenDigestUtils.digest("old-token"))
+                .familyId("family")
+                .expiresAt(LocalDateTime.now().plusDays(1))
+                .build();
+    }
+
+    @Test
+    @DisplayName("refreshToken 재발급 성공 - 같은 family로 새 토큰 저장")
+    public void rotateSuccess() {
+        when(refreshTokenRepository.findByTokenHashJoinFetch(TokenDigestUtils.digest("old-token")))
+                .thenReturn(Optional.of(storedToken));
+        when(refreshTokenRepository.markUsed(10L)).thenReturn(1);
+        when(jwtService.getExpirationTime("new-token")).thenReturn(System.currentTimeMillis() + 60_000);
+
+        Member result = refreshTokenService.rotate("old-token", "new-token");
+
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(captor.capture());
+        assertThat(result).isSameAs(member);
+        assertThat(captor.getValue().getFamilyId()).isEqualTo("family");
+        assertThat(captor.getValue().getTokenHash()).isEqualTo(TokenDigestUtils.digest("new-token"));
+    }
+
+    @Test
+    @DisplayName("refreshToken 재발급 실패 - 이미 사용된 토큰이면 family 전체 폐기")
+    public void rotateFailsWhenTokenIsReused() {
+        when(refreshTokenRepository.findByTokenHashJoinFetch(TokenDigestUtils.digest("old-token")))
+                .thenReturn(Optional.of(storedToken));
+        when(refreshTokenRepository.markUsed(10L)).thenReturn(0);
+
+        assertThatThrownBy(() -> refreshTokenService.rotate("old-token", "new-token"))
+                .isInstanceOf(ApiException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_REFRESH_TOKEN);
+
+        verify(refreshTokenRepository).revokeFamily("family");
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("refreshToken 재발급 실패 - 저장되지 않은 토큰")
+    public void rotateFailsWhenTokenIsUnknown() {
+        when(refreshTokenRepository.findByTokenHashJoinFetch(anyString())).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> refreshTokenService.rotate("unknown-token", "new-token"))
+                .isInstanceOf(ApiException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_REFRESH_TOKEN);
+    }
+}
@@ -0,0 +1,137 @@
+package com.quartz.checkin.unit.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.quartz.checkin.common.exception.ApiException;
+import com.quartz.checkin.common.exception.ErrorCode;
+import com.quartz.checkin.dto.stat.response.StatClosedRateResponse;
+import com.quartz.checkin.dto.stat.response.StatDashboardResponse;
+import com.quartz.checkin.dto.stat.response.StatTotalProgressResultResponse;
+import com.quartz.checkin.service.StatsDashboardService;
+import com.quartz.checkin.service.StatsService;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+@ExtendWith(MockitoExtension.class)
+class StatsDashboardServiceTest {
+
+    @Mock
+    private StatsService statsService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private StatsDashboardService statsDashboardService;
+
+    @BeforeEach
+    void setUp() {
+        statsDashboardService = new StatsDashboardService(statsService, transactionManager, 5, 5, 500L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        statsDashboardService.shutdown();
+    }
+
+    @Test
+    @DisplayName("모든 통계 항목을 한 번에 반환함")
+    void returnsAllSections() {
+        when(statsService.getStatsByManager("MONTH")).thenReturn(List.of());
+        when(statsService.getCategoryInProgressTickets()).thenReturn(List.of());
+        when(statsService.getStatTotalProgress()).thenReturn(new StatTotalProgressResultResponse(0, List.of()));
+        when(statsService.getClosedRate("MONTH")).thenReturn(new StatClosedRateResponse(10, 50.0, 5, 5));
+        when(statsService.getStatsByCategory()).thenReturn(List.of());
+
+        StatDashboardResponse response = statsDashboardService.getDashboard("MONTH");
+
+        assertNotNull(response.getManagers());
+        assertNotNull(response.getStatusRate());
+        assertEquals(5, response.getClosedRate().getClosedCount());
+        assertTrue(response.getFailedSections().isEmpty());
+    }
+
+    @Test
+    @DisplayName("제한 시간을 넘기거나 실패한 항목만 비우고 나머지를 반환함")
+    void returnsPartialResult() {
+        when(statsService.getStatsByManager("WEEK")).thenReturn(List.of());
+        when(statsService.getCategoryInProgressTickets()).thenAnswer(invocation -> {
+            Thread.sleep(2_000L);
+            return List.of();
+        });
+        when(statsService.getStatTotalProgress()).thenThrow(new IllegalStateException("connection refused"));
+        when(statsService.getClosedRate("WEEK")).thenReturn(new StatClosedRateResponse(0, 0.0, 0, 0));
+        when(statsService.getStatsByCategory()).thenReturn(List.of());
+
+        long startedAt = System.currentTimeMillis();
+        StatDashboardResponse response = statsDashboardService.getDashboard("WEEK");
+
+        assertTrue(System.currentTimeMillis() - startedAt < 1_500L);
+        assertNull(response.getCategories());
+        assertNull(response.getStatusRate());
+        assertNotNull(response.getClosedRate());
+        assertEquals(List.of("categories", "statusRate"), response.getFailedSections());
+    }
+
+    @Test
+    @DisplayName("잘못된 기간은 부분 결과 대신 오류로 응답함")
+    void rejectsInvalidPeriod() {
+        lenient().when(statsService.getStatsByManager("YEAR"))
+                .thenThrow(new ApiException(ErrorCode.INVALID_STATS_PERIOD_FORMAT));
+        lenient().when(statsService.getClosedRate("YEAR"))
+                .thenThrow(new ApiException(ErrorCode.INVALID_STATS_PERIOD_FORMAT));
+
+        ApiException thrown = assertThrows(ApiException.class, () -> statsDashboardService.getDashboard("YEAR"));
+        assertEquals(ErrorCode.INVALID_STATS_PERIOD_FORMAT, thrown.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("각 항목은 제한 시간을 가진 읽기 전용 트랜잭션에서 실행됨")
+    void runsSectionsInTimedTransaction() {
+        when(statsService.getStatsByManager("MONTH")).thenReturn(List.of());
+        when(statsService.getCategoryInProgressTickets()).thenReturn(List.of());
+        when(statsService.getStatTotalProgress()).thenReturn(new StatTotalProgressResultResponse(0, List.of()));
+        when(statsService.getClosedRate("MONTH")).thenReturn(new StatClosedRateResponse(10, 50.0, 5, 5));
+        when(statsService.getStatsByCategory()).thenReturn(List.of());
+
+        statsDashboardService.getDashboard("MONTH");
+
+        ArgumentCaptor<TransactionDefinition> captor = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager, times(5)).getTransaction(captor.capture());
+        assertTrue(captor.getAllValues().stream()
+                .allMatch(definition -> definition.isReadOnly() && definition.getTimeout() == 1));
+    }
+
+    @Test
+    @DisplayName("제한 시간을 넘긴 항목은 취소되어 다음 요청이 스레드를 기다리지 않음")
+    void cancelsTimedOutSections() {
+        StatsDashboardService singleThreadService = new StatsDashboardService(statsService, transactionManager, 1, 5, 500L);
+        when(statsService.getStatsByManager("MONTH")).thenAnswer(invocation -> {
+            Thread.sleep(5_000L);
+            return List.of();
+        }).thenReturn(List.of());
+        when(statsService.getCategoryInProgressTickets()).thenReturn(List.of());
+        when(statsService.getStatTotalProgress()).thenReturn(new StatTotalProgressResultResponse(0, List.of()));
+        when(statsService.getClosedRate("MONTH")).thenReturn(new StatClosedRateResponse(10, 50.0, 5, 5));
+        when(statsService.getStatsByCategory()).thenReturn(List.of());
+
+        try {
+            StatDashboardResponse timedOut = singleThreadService.getDashboard("MONTH");
+            StatDashboardResponse response = singleThreadService.getDashboard("MONTH");
+
+            assertTrue(timedOut.getFailedSections().contains("managers"));
+            assertTrue(response.getFailedSections().isEmpty());
+        } finally {
+            singleThreadService.shutdown();
+        }
+    }
+}
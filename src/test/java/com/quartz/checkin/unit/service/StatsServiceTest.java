@@ -0,0 +1,58 @@
+package com.quartz.checkin.unit.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+import com.quartz.checkin.config.CacheConfig;
+import com.quartz.checkin.dto.stat.response.StatClosedRateResponse;
+import com.quartz.checkin.repository.StatsRepository;
+import com.quartz.checkin.service.StatsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+@ExtendWith(MockitoExtension.class)
+class StatsServiceTest {
+
+    @Mock
+    private StatsRepository statsRepository;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private StatsService statsService;
+
+    @BeforeEach
+    void setUp() {
+        when(cacheManager.getCache(CacheConfig.STATS_RESPONSE_CACHE))
+                .thenReturn(new ConcurrentMapCache(CacheConfig.STATS_RESPONSE_CACHE));
+        statsService = new StatsService(statsRepository, cacheManager, transactionManager);
+    }
+
+    @Test
+    @DisplayName("캐시에 없을 때만 읽기 전용 트랜잭션을 열어 집계하고, 캐시된 응답은 트랜잭션 없이 돌려줌")
+    void opensTransactionOnlyWhenLoading() {
+        StatClosedRateResponse closedRate = new StatClosedRateResponse(10, 50.0, 5, 5);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(statsRepository.findClosedRate("WEEK")).thenReturn(closedRate);
+
+        assertSame(closedRate, statsService.getClosedRate("WEEK"));
+        assertSame(closedRate, statsService.getClosedRate("WEEK"));
+
+        verify(statsRepository, times(1)).findClosedRate("WEEK");
+        verify(transactionManager, times(1)).getTransaction(argThat(definition -> definition.isReadOnly()));
+        verify(transactionManager, times(1)).commit(any());
+    }
+}
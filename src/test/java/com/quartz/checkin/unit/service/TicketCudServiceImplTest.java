@@ -3,17 +3,23 @@ package com.quartz.checkin.unit.service;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyLong;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.quartz.checkin.common.exception.ApiException;
 import com.quartz.checkin.common.exception.ErrorCode;
 import com.quartz.checkin.dto.ticket.request.PriorityUpdateRequest;
+import com.quartz.checkin.dto.ticket.request.TicketBulkCreateRequest;
 import com.quartz.checkin.dto.ticket.request.TicketCreateRequest;
+import com.quartz.checkin.dto.ticket.response.TicketBulkCreateResponse;
 import com.quartz.checkin.dto.ticket.response.TicketCreateResponse;
 import com.quartz.checkin.entity.Category;
 import com.quartz.checkin.entity.Member;
@@ -27,6 +33,7 @@ import com.quartz.checkin.repository.TicketRepository;
 import com.quartz.checkin.service.CategoryServiceImpl;
 import com.quartz.checkin.service.MemberService;
 import com.quartz.checkin.service.TicketCudServiceImpl;
+import com.quartz.checkin.service.TicketSequenceAllocator;
 import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Predicate;
@@ -34,11 +41,13 @@ import com.querydsl.core.types.dsl.EntityPathBase;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -65,6 +74,9 @@ class TicketCudServiceImplTest {
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
+    @Mock
+    private TicketSequenceAllocator ticketSequenceAllocator;
+
     @Mock
     private JPAQueryFactory queryFactory;
 
@@ -243,4 +255,65 @@ class TicketCudServiceImplTest {
         // Then
         assertEquals(ErrorCode.INVALID_TICKET_MANAGER, thrown.getErrorCode());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("티켓 일괄 생성 성공 - 카테고리는 한 번만 조회하고 연속된 번호를 사용")
+    @SuppressWarnings("unchecked")
+    void createTicketsSuccess() {
+        TicketCreateRequest request = new TicketCreateRequest(
+                "Test Ticket", "This is a test ticket.", "DevOps", "Infrastructure",
+                LocalDate.now().plusDays(1), List.of()
+        );
+        TicketBulkCreateRequest bulkRequest = new TicketBulkCreateRequest(List.of(request, request, request));
+
+        when(ticketSequenceAllocator.nextRange(any(LocalDate.class), eq(3)))
+                .thenReturn(41L);
+        when(ticketRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        TicketBulkCreateResponse response = ticketCudService.createTickets(1L, bulkRequest);
+
+        assertEquals(3, response.ticketIds().size());
+        verify(categoryService, times(1)).getFirstCategoryOrThrow("DevOps");
+        verify(categoryService, times(1)).getSecondCategoryOrThrow("Infrastructure", firstCategory);
+
+        ArgumentCaptor<List<Ticket>> captor = ArgumentCaptor.forClass(List.class);
+        verify(ticketRepository).saveAll(captor.capture());
+        List<String> customIds = captor.getValue().stream().map(Ticket::getCustomId).toList();
+        String datePart = LocalDate.now().format(DateTimeFormatter.ofPattern("MMdd"));
+        assertEquals(List.of(datePart + "D-I041", datePart + "D-I042", datePart + "D-I043"), customIds);
+    }
+
+    @Test
+    @DisplayName("티켓 일괄 생성 실패 - 존재하지 않는 첨부파일")
+    void createTicketsFailAttachmentNotFound() {
+        TicketCreateRequest request = new TicketCreateRequest(
+                "Test Ticket", "This is a test ticket.", "DevOps", "Infrastructure",
+                LocalDate.now().plusDays(1), List.of(1L, 2L)
+        );
+        TicketBulkCreateRequest bulkRequest = new TicketBulkCreateRequest(List.of(request));
+
+        when(attachmentRepository.findAllById(any())).thenReturn(List.of());
+
+        ApiException thrown = assertThrows(ApiException.class, () -> ticketCudService.createTickets(1L, bulkRequest));
+        assertEquals(ErrorCode.ATTACHMENT_NOT_FOUND, thrown.getErrorCode());
+        verify(ticketRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("티켓 일괄 생성 실패 - 여러 티켓에 같은 첨부파일")
+    void createTicketsFailSharedAttachment() {
+        TicketCreateRequest first = new TicketCreateRequest(
+                "Test Ticket", "This is a test ticket.", "DevOps", "Infrastructure",
+                LocalDate.now().plusDays(1), List.of(1L)
+        );
+        TicketCreateRequest second = new TicketCreateRequest(
+                "Test Ticket", "This is a test ticket.", "DevOps", "Infrastructure",
+                LocalDate.now().plusDays(1), List.of(1L, 2L)
+        );
+        TicketBulkCreateRequest bulkRequest = new TicketBulkCreateRequest(List.of(first, second));
+
+        ApiException thrown = assertThrows(ApiException.class, () -> ticketCudService.createTickets(1L, bulkRequest));
+        assertEquals(ErrorCode.ATTACHMENT_NOT_FOUND, thrown.getErrorCode());
+        verify(ticketRepository, never()).saveAll(any());
+    }
+}
@@ -0,0 +1,89 @@
+package com.quartz.checkin.unit.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.quartz.checkin.common.stats.TicketDailyStatsKey;
+import com.quartz.checkin.entity.Status;
+import com.quartz.checkin.repository.TicketDailyStatsRepository;
+import com.quartz.checkin.service.TicketDailyStatsService;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class TicketDailyStatsServiceTest {
+
+    private static final LocalDate CREATED = LocalDate.of(2025, 2, 1);
+    private static final LocalDate DUE = LocalDate.of(2025, 2, 10);
+
+    @Mock
+    private TicketDailyStatsRepository ticketDailyStatsRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TicketDailyStatsService ticketDailyStatsService;
+
+    @BeforeEach
+    void setUp() {
+        ticketDailyStatsService = new TicketDailyStatsService(ticketDailyStatsRepository, transactionManager, 30);
+    }
+
+    @Test
+    @DisplayName("상태가 바뀌면 이전 키는 빼고 새 키는 더함")
+    void appliesStatusChange() {
+        TicketDailyStatsKey open = key(2L, Status.OPEN);
+        TicketDailyStatsKey inProgress = key(2L, Status.IN_PROGRESS);
+
+        ticketDailyStatsService.applyChange(List.of(open), List.of(inProgress));
+
+        assertEquals(Map.of(open, -1L, inProgress, 1L), capturedDeltas());
+    }
+
+    @Test
+    @DisplayName("통계에 영향이 없는 변경과 삭제된 티켓은 개수를 바꾸지 않음")
+    void skipsUnchangedKeys() {
+        TicketDailyStatsKey open = key(2L, Status.OPEN);
+
+        ticketDailyStatsService.applyChange(List.of(open, key(3L, Status.CLOSED)), Arrays.asList(open, null));
+
+        assertEquals(Map.of(key(3L, Status.CLOSED), -1L), capturedDeltas());
+    }
+
+    @Test
+    @DisplayName("다시 계산할 때 생성일 구간별로 나눠 교체함")
+    void rebuildsInChunks() {
+        LocalDate today = LocalDate.now();
+        when(ticketDailyStatsRepository.findFirstTicketDate()).thenReturn(today.minusDays(45));
+        when(ticketDailyStatsRepository.findFirstStatDate()).thenReturn(today.minusDays(10));
+        when(ticketDailyStatsRepository.rebuildCounts(any(), any())).thenReturn(0);
+
+        ticketDailyStatsService.rebuild();
+
+        verify(ticketDailyStatsRepository).rebuildCounts(today.minusDays(45), today.minusDays(15));
+        verify(ticketDailyStatsRepository).rebuildCounts(today.minusDays(15), today.plusDays(1));
+        verify(transactionManager, times(2)).getTransaction(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<TicketDailyStatsKey, Long> capturedDeltas() {
+        ArgumentCaptor<Map<TicketDailyStatsKey, Long>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(ticketDailyStatsRepository).addCounts(captor.capture());
+        return captor.getValue();
+    }
+
+    private TicketDailyStatsKey key(Long managerId, Status status) {
+        return new TicketDailyStatsKey(CREATED, DUE, managerId, 1L, status);
+    }
+}
@@ -0,0 +1,110 @@
+package com.quartz.checkin.unit.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.quartz.checkin.common.cache.BoundedTtlCache;
+import com.quartz.checkin.common.cache.CacheInvalidationBus;
+import com.quartz.checkin.common.cache.ExpirationTimingWheel;
+import com.quartz.checkin.common.cache.InMemoryCacheInvalidationBus;
+import com.quartz.checkin.config.CacheConfig;
+import com.quartz.checkin.repository.CategoryRepository;
+import com.quartz.checkin.repository.MemberRepository;
+import com.quartz.checkin.service.TicketFilterDictionary;
+import com.quartz.checkin.service.TicketFilterDictionary.ResolvedFilter;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class TicketFilterDictionaryTest {
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    private InMemoryCacheInvalidationBus cacheInvalidationBus;
+    private ExpirationTimingWheel expirationTimingWheel;
+
+    @BeforeEach
+    void setUp() {
+        cacheInvalidationBus = new InMemoryCacheInvalidationBus();
+        expirationTimingWheel = new ExpirationTimingWheel(1000, System.currentTimeMillis());
+    }
+
+    @Test
+    @DisplayName("이름 조건이 없으면 id 조건도 걸지 않음")
+    void returnsNullWithoutNames() {
+        ResolvedFilter filter = newDictionary().resolve(null, List.of());
+
+        assertNull(filter.managerIds());
+        assertNull(filter.categoryIds());
+        assertFalse(filter.matchesNothing());
+        verifyNoInteractions(categoryRepository, memberRepository);
+    }
+
+    @Test
+    @DisplayName("한 번 찾은 이름은 캐시에서 id로 바꿈")
+    void cachesResolvedIds() {
+        when(categoryRepository.findFirstCategoryIdsByKey("devops")).thenReturn(List.of(1L));
+        when(memberRepository.findIdByUsername("manager.a")).thenReturn(Optional.of(2L));
+        TicketFilterDictionary dictionary = newDictionary();
+
+        dictionary.resolve(List.of("manager.a"), List.of("DevOps"));
+        ResolvedFilter filter = dictionary.resolve(List.of("manager.a"), List.of(" devops "));
+
+        assertEquals(List.of(2L), filter.managerIds());
+        assertEquals(List.of(1L), filter.categoryIds());
+        verify(categoryRepository, times(1)).findFirstCategoryIdsByKey("devops");
+        verify(memberRepository, times(1)).findIdByUsername("manager.a");
+    }
+
+    @Test
+    @DisplayName("없는 이름은 빈 결과로 처리하고 캐시하지 않음")
+    void doesNotCacheUnknownNames() {
+        when(categoryRepository.findFirstCategoryIdsByKey("new")).thenReturn(List.of(), List.of(5L));
+        TicketFilterDictionary dictionary = newDictionary();
+
+        assertTrue(dictionary.resolve(null, List.of("new")).matchesNothing());
+        assertEquals(List.of(5L), dictionary.resolve(null, List.of("new")).categoryIds());
+    }
+
+    @Test
+    @DisplayName("카테고리가 바뀌면 다른 노드의 캐시도 비움")
+    void evictionIsReplicated() {
+        when(categoryRepository.findFirstCategoryIdsByKey("devops")).thenReturn(List.of(1L), List.of(3L));
+        TicketFilterDictionary nodeA = newDictionary();
+        TicketFilterDictionary nodeB = newDictionary(cacheInvalidationBus.connectNode());
+
+        nodeB.resolve(null, List.of("devops"));
+        nodeA.evictCategories();
+
+        assertEquals(List.of(3L), nodeB.resolve(null, List.of("devops")).categoryIds());
+    }
+
+    private TicketFilterDictionary newDictionary() {
+        return newDictionary(cacheInvalidationBus);
+    }
+
+    private TicketFilterDictionary newDictionary(CacheInvalidationBus bus) {
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(
+                new BoundedTtlCache(CacheConfig.CATEGORY_ID_CACHE, 100, 60_000L, expirationTimingWheel),
+                new BoundedTtlCache(CacheConfig.MEMBER_ID_CACHE, 100, 60_000L, expirationTimingWheel)));
+        cacheManager.afterPropertiesSet();
+
+        TicketFilterDictionary dictionary = new TicketFilterDictionary(
+                cacheManager, categoryRepository, memberRepository, bus);
+        ReflectionTestUtils.invokeMethod(dictionary, "subscribe");
+        return dictionary;
+    }
+}
@@ -0,0 +1,152 @@
+package com.quartz.checkin.unit.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.quartz.checkin.common.cache.CacheInvalidationBus;
+import com.quartz.checkin.common.cache.CacheInvalidationMessage;
+import com.quartz.checkin.common.cache.InMemoryCacheInvalidationBus;
+import com.quartz.checkin.common.progress.TicketProgressCount;
+import com.quartz.checkin.common.progress.TicketProgressState;
+import com.quartz.checkin.config.CacheInvalidationConfig;
+import com.quartz.checkin.dto.ticket.response.TicketProgressResponse;
+import com.quartz.checkin.entity.Status;
+import com.quartz.checkin.repository.TicketViewRepository;
+import com.quartz.checkin.service.TicketProgressService;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class TicketProgressServiceTest {
+
+    @Mock
+    private TicketViewRepository ticketViewRepository;
+
+    private final List<CacheInvalidationMessage> published = new ArrayList<>();
+    private final List<Consumer<CacheInvalidationMessage>> subscribers = new ArrayList<>();
+    private final List<Runnable> gapListeners = new ArrayList<>();
+    private TicketProgressService ticketProgressService;
+
+    @BeforeEach
+    void setUp() {
+        CacheInvalidationBus cacheInvalidationBus = new CacheInvalidationBus() {
+            @Override
+            public void publish(CacheInvalidationMessage message) {
+                published.add(message);
+            }
+
+            @Override
+            public void subscribe(String channel, Consumer<CacheInvalidationMessage> subscriber) {
+                subscribers.add(subscriber);
+            }
+
+            @Override
+            public void subscribeGaps(Runnable listener) {
+                gapListeners.add(listener);
+            }
+        };
+        ticketProgressService = new TicketProgressService(ticketViewRepository, cacheInvalidationBus);
+        ReflectionTestUtils.invokeMethod(ticketProgressService, "subscribe");
+
+        lenient().when(ticketViewRepository.countProgressByManager(any())).thenReturn(List.of(
+                new TicketProgressCount(null, 3L, 0L, 0L, 0L, 3L),
+                new TicketProgressCount(2L, 0L, 4L, 2L, 1L, 6L)));
+    }
+
+    @Test
+    @DisplayName("처음 조회할 때 담당자별 집계 한 번으로 진행률을 계산함")
+    void loadsCountersOnColdStart() {
+        TicketProgressResponse response = ticketProgressService.getProgress(2L);
+
+        assertEquals(1L, response.getDueTodayCount());
+        assertEquals(3L, response.getOpenTicketCount());
+        assertEquals(4L, response.getInProgressTicketCount());
+        assertEquals(2L, response.getClosedTicketCount());
+        assertEquals("6 / 9", response.getProgressExpression());
+
+        ticketProgressService.getProgress(3L);
+        verify(ticketViewRepository, times(1)).countProgressByManager(LocalDate.now());
+    }
+
+    @Test
+    @DisplayName("티켓 변경은 다시 집계하지 않고 카운터에 반영함")
+    void appliesChangesWithoutQuery() {
+        ticketProgressService.getProgress(2L);
+
+        ticketProgressService.recordChange(
+                List.of(new TicketProgressState(null, Status.OPEN, null, false)),
+                List.of(new TicketProgressState(2L, Status.IN_PROGRESS, LocalDate.now(), false)));
+        ticketProgressService.recordChange(
+                List.of(new TicketProgressState(2L, Status.CLOSED, null, false)),
+                List.of(new TicketProgressState(2L, Status.CLOSED, null, true)));
+
+        TicketProgressResponse response = ticketProgressService.getProgress(2L);
+
+        assertEquals(2L, response.getOpenTicketCount());
+        assertEquals(5L, response.getInProgressTicketCount());
+        assertEquals(1L, response.getClosedTicketCount());
+        assertEquals(2L, response.getDueTodayCount());
+        assertEquals("6 / 8", response.getProgressExpression());
+        verify(ticketViewRepository, times(1)).countProgressByManager(any());
+        assertEquals(CacheInvalidationConfig.TICKET_PROGRESS_CHANNEL, published.get(0).getChannel());
+    }
+
+    @Test
+    @DisplayName("메시지 누락을 알리면 다음 조회에서 다시 집계함")
+    void reconcilesAfterGap() {
+        ticketProgressService.getProgress(2L);
+
+        gapListeners.forEach(Runnable::run);
+        ticketProgressService.getProgress(2L);
+
+        verify(ticketViewRepository, times(2)).countProgressByManager(any());
+    }
+
+    @Test
+    @DisplayName("집계하기 전에 발행된 다른 노드의 변경은 다시 더하지 않음")
+    void ignoresChangesPublishedBeforeCounting() {
+        ticketProgressService.getProgress(2L);
+
+        subscribers.forEach(subscriber -> subscriber.accept(new CacheInvalidationMessage(
+                CacheInvalidationConfig.TICKET_PROGRESS_CHANNEL, ">2,IN_PROGRESS,", 0L)));
+
+        assertEquals(4L, ticketProgressService.getProgress(2L).getInProgressTicketCount());
+    }
+
+    @Test
+    @DisplayName("다른 노드의 변경은 다시 집계하지 않고 전달받은 상태 변화로 카운터에 반영함")
+    void appliesPeerChangesWithoutQuery() {
+        InMemoryCacheInvalidationBus busA = new InMemoryCacheInvalidationBus();
+        TicketProgressService nodeA = new TicketProgressService(ticketViewRepository, busA);
+        TicketProgressService nodeB = new TicketProgressService(ticketViewRepository, busA.connectNode());
+        ReflectionTestUtils.invokeMethod(nodeA, "subscribe");
+        ReflectionTestUtils.invokeMethod(nodeB, "subscribe");
+        nodeA.getProgress(2L);
+        nodeB.getProgress(2L);
+
+        nodeA.recordChange(
+                List.of(new TicketProgressState(null, Status.OPEN, null, false)),
+                List.of(new TicketProgressState(2L, Status.IN_PROGRESS, LocalDate.now(), false)));
+        nodeA.recordChange(
+                List.of(new TicketProgressState(2L, Status.CLOSED, null, false)),
+                List.of(new TicketProgressState(2L, Status.CLOSED, null, true)));
+        TicketProgressResponse peer = nodeB.getProgress(2L);
+
+        assertEquals(2L, peer.getOpenTicketCount());
+        assertEquals(5L, peer.getInProgressTicketCount());
+        assertEquals(1L, peer.getClosedTicketCount());
+        assertEquals(2L, peer.getDueTodayCount());
+        assertEquals("6 / 8", peer.getProgressExpression());
+        verify(ticketViewRepository, times(2)).countProgressByManager(any());
+    }
+}
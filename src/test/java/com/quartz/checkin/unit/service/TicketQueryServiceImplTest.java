@@ -6,6 +6,7 @@ import static org.mockito.Mockito.*;
 
 import com.quartz.checkin.common.exception.ApiException;
 import com.quartz.checkin.common.exception.ErrorCode;
+import com.quartz.checkin.common.search.TicketSearchHit;
 import com.quartz.checkin.dto.ticket.response.ManagerTicketListResponse;
 import com.quartz.checkin.dto.ticket.response.TicketDetailResponse;
 import com.quartz.checkin.dto.ticket.response.TicketProgressResponse;
@@ -14,11 +15,19 @@ import com.quartz.checkin.entity.*;
 import com.quartz.checkin.repository.MemberRepository;
 import com.quartz.checkin.repository.TicketAttachmentRepository;
 import com.quartz.checkin.repository.TicketRepository;
+import com.quartz.checkin.repository.TicketViewRepository;
+import com.quartz.checkin.service.TicketCountCacheService;
+import com.quartz.checkin.service.TicketFilterDictionary;
+import com.quartz.checkin.service.TicketFilterDictionary.ResolvedFilter;
+import com.quartz.checkin.service.TicketProgressService;
 import com.quartz.checkin.service.TicketQueryServiceImpl;
+import com.quartz.checkin.service.TicketSearchService;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,6 +42,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class TicketQueryServiceImplTest {
@@ -40,12 +50,27 @@ class TicketQueryServiceImplTest {
     @Mock
     private TicketRepository ticketRepository;
 
+    @Mock
+    private TicketViewRepository ticketViewRepository;
+
     @Mock
     private TicketAttachmentRepository ticketAttachmentRepository;
 
     @Mock
     private MemberRepository memberRepository;
 
+    @Mock
+    private TicketSearchService ticketSearchService;
+
+    @Mock
+    private TicketFilterDictionary ticketFilterDictionary;
+
+    @Mock
+    private TicketProgressService ticketProgressService;
+
+    @Mock
+    private TicketCountCacheService ticketCountCacheService;
+
     @Mock
     private JPAQueryFactory queryFactory;
 
@@ -94,12 +119,16 @@ class TicketQueryServiceImplTest {
                 .build();
 
         Page<Ticket> mockPage = new PageImpl<>(List.of(mockTicket, mockTicket), PageRequest.of(0, 10), 2);
+        TicketView mockTicketView = TicketView.from(mockTicket);
+        List<TicketView> mockViews = List.of(mockTicketView, mockTicketView);
 
         lenient().when(ticketRepository.findAll(any(Pageable.class))).thenReturn(mockPage);
-        lenient().when(ticketRepository.fetchTickets(any(), any(), any(), any(), any(), any(), any(), any(Pageable.class), any()))
-                .thenReturn(mockPage);
-        lenient().when(ticketRepository.fetchSearchedTickets(any(), any(), any(Pageable.class), any()))
-                .thenReturn(mockPage);
+        lenient().when(ticketViewRepository.fetchTickets(any(), any(), any(), any(), any(), any(), any(), any(Pageable.class), any()))
+                .thenReturn(mockViews);
+        lenient().when(ticketFilterDictionary.resolve(any(), any()))
+                .thenReturn(new ResolvedFilter(null, null));
+        lenient().when(ticketViewRepository.fetchSearchedTickets(any(), any(), any(Pageable.class), any()))
+                .thenReturn(mockViews);
         lenient().when(ticketRepository.findById(10L)).thenReturn(Optional.of(mockTicket));
         lenient().when(memberRepository.findById(2L)).thenReturn(Optional.of(mockManager));
 
@@ -108,7 +137,7 @@ class TicketQueryServiceImplTest {
         lenient().when(mockJPAQueryLong.from(qTicket)).thenReturn(mockJPAQueryLong);
         lenient().when(mockJPAQueryLong.fetchOne()).thenReturn(10L);
 
-        lenient().when(ticketRepository.getManagerProgress(anyLong()))
+        lenient().when(ticketProgressService.getProgress(anyLong()))
                 .thenReturn(new TicketProgressResponse(5L, 30L, 10L, 20L, "30 / 60"));
     }
 
@@ -148,6 +177,33 @@ class TicketQueryServiceImplTest {
         assertFalse(response.getTickets().isEmpty());
     }
 
+    @Test
+    @DisplayName("필터의 이름에 해당하는 id가 없으면 목록을 조회하지 않고 빈 결과를 반환")
+    void getManagerTicketsWithUnknownCategory() {
+        when(ticketFilterDictionary.resolve(any(), any())).thenReturn(new ResolvedFilter(null, List.of()));
+
+        ManagerTicketListResponse response = ticketQueryService.getManagerTickets(
+                2L, null, null, List.of("Unknown"), null, false, false, 1, 20, "desc");
+
+        assertTrue(response.getTickets().isEmpty());
+        verify(ticketViewRepository, never()).fetchTickets(any(), any(), any(), any(), any(), any(), any(),
+                any(Pageable.class), any());
+    }
+
+    @Test
+    @DisplayName("페이지가 가득 차면 전체 개수를 개수 캐시 서비스를 통해 조회")
+    void getManagerTicketsCountsThroughCacheService() {
+        when(ticketViewRepository.fetchTickets(any(), any(), any(), any(), any(), any(), any(), any(Pageable.class), any()))
+                .thenReturn(Collections.nCopies(20, TicketView.from(mockTicket)));
+        when(ticketCountCacheService.getCount(any(), any())).thenReturn(70L);
+
+        ManagerTicketListResponse response = ticketQueryService.getManagerTickets(
+                2L, null, null, null, null, false, false, 1, 20, "desc");
+
+        assertEquals(70L, response.getTotalElements());
+        verify(ticketCountCacheService).getCount(any(), any());
+    }
+
     @Test
     @DisplayName("사용자 본인 티켓 조회 성공")
     void getUserTicketsSuccess() {
@@ -177,6 +233,50 @@ class TicketQueryServiceImplTest {
         assertFalse(response.getTickets().isEmpty());
     }
 
+    @Test
+    @DisplayName("검색 색인이 준비되고 정렬을 지정하지 않으면 색인의 관련도 순서로 검색 결과를 반환")
+    void searchTicketsUsesSearchIndexWhenReady() {
+        Ticket otherTicket = Ticket.builder()
+                .customId("0212INFR-CRT002")
+                .user(mockUser)
+                .firstCategory(mockTicket.getFirstCategory())
+                .secondCategory(mockTicket.getSecondCategory())
+                .title("Other Ticket")
+                .content("This is another test ticket.")
+                .priority(Priority.LOW)
+                .status(Status.OPEN)
+                .dueDate(LocalDate.now().plusDays(3))
+                .build();
+        ReflectionTestUtils.setField(mockTicket, "id", 10L);
+        ReflectionTestUtils.setField(otherTicket, "id", 11L);
+
+        when(ticketSearchService.isReady()).thenReturn(true);
+        when(ticketSearchService.searchByRelevance("test", 1L, true)).thenReturn(List.of(
+                new TicketSearchHit(11L, LocalDateTime.now(), 2.0),
+                new TicketSearchHit(10L, LocalDateTime.now(), 1.0)));
+        when(ticketViewRepository.findAllById(any())).thenReturn(
+                List.of(TicketView.from(mockTicket), TicketView.from(otherTicket)));
+
+        UserTicketListResponse response = ticketQueryService.searchUserTickets(1L, "test", 1, 20, null);
+
+        assertEquals(2, response.getTickets().size());
+        assertEquals(11L, response.getTickets().get(0).getTicketId());
+        assertEquals(10L, response.getTickets().get(1).getTicketId());
+        verify(ticketViewRepository, never()).fetchSearchedTickets(any(), any(), any(Pageable.class), any());
+    }
+
+    @Test
+    @DisplayName("검색 색인이 준비돼도 생성일 정렬을 지정하면 관련도 대신 생성일 순서를 따름")
+    void searchTicketsHonoursCreatedAtSort() {
+        when(ticketSearchService.isReady()).thenReturn(true);
+        when(ticketSearchService.searchByCreatedAt("test", 1L, false)).thenReturn(List.of());
+
+        ticketQueryService.searchUserTickets(1L, "test", 1, 20, "desc");
+
+        verify(ticketSearchService).searchByCreatedAt("test", 1L, false);
+        verify(ticketSearchService, never()).searchByRelevance(any(), any(), anyBoolean());
+    }
+
     @Test
     @DisplayName("담당자 티켓 진행률 조회 성공")
     void getManagerProgressSuccess() {
@@ -185,6 +285,6 @@ class TicketQueryServiceImplTest {
         assertNotNull(response);
         assertEquals("30 / 60", response.getProgressExpression());
 
-        verify(ticketRepository, times(1)).getManagerProgress(2L);
+        verify(ticketProgressService, times(1)).getProgress(2L);
     }
 }
@@ -0,0 +1,65 @@
+package com.quartz.checkin.unit.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.quartz.checkin.common.cache.CacheInvalidationBus;
+import com.quartz.checkin.common.cache.CacheInvalidationMessage;
+import com.quartz.checkin.config.CacheInvalidationConfig;
+import com.quartz.checkin.service.TicketSearchService;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class TicketSearchServiceTest {
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Mock
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    private TicketSearchService ticketSearchService;
+
+    @BeforeEach
+    void setUp() {
+        ticketSearchService = new TicketSearchService(jdbcTemplate, cacheInvalidationBus, 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ticketSearchService.shutdown();
+    }
+
+    @Test
+    @DisplayName("변경된 티켓 번호를 티켓마다 보내지 않고 한 메시지로 묶어 보냄")
+    void publishesChangedTicketsInOneMessage() {
+        ticketSearchService.reindex(List.of(1L, 2L, 3L));
+
+        ArgumentCaptor<CacheInvalidationMessage> captor = ArgumentCaptor.forClass(CacheInvalidationMessage.class);
+        verify(cacheInvalidationBus, times(1)).publish(captor.capture());
+        assertThat(captor.getValue().getChannel()).isEqualTo(CacheInvalidationConfig.TICKET_SEARCH_CHANNEL);
+        assertThat(CacheInvalidationMessage.splitKey(captor.getValue().getKey()))
+                .containsExactlyInAnyOrder("1", "2", "3");
+    }
+
+    @Test
+    @DisplayName("한 번에 많은 티켓이 바뀌면 다른 노드가 색인을 새로 만들도록 알림")
+    void publishesRebuildForManyTickets() {
+        ticketSearchService.reindex(LongStream.rangeClosed(1, 101).boxed().toList());
+
+        ArgumentCaptor<CacheInvalidationMessage> captor = ArgumentCaptor.forClass(CacheInvalidationMessage.class);
+        verify(cacheInvalidationBus, times(1)).publish(captor.capture());
+        assertThat(captor.getValue().getKey()).isEqualTo("*");
+    }
+}
@@ -0,0 +1,94 @@
+package com.quartz.checkin.unit.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.quartz.checkin.entity.TicketSequence;
+import com.quartz.checkin.repository.TicketRepository;
+import com.quartz.checkin.repository.TicketSequenceRepository;
+import com.quartz.checkin.service.TicketSequenceAllocator;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+public class TicketSequenceAllocatorTest {
+
+    @Mock
+    TicketSequenceRepository ticketSequenceRepository;
+    @Mock
+    TicketRepository ticketRepository;
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    private LocalDate today;
+    private TicketSequenceAllocator ticketSequenceAllocator;
+
+    @BeforeEach
+    public void setUp() {
+        today = LocalDate.of(2025, 2, 12);
+        ticketSequenceAllocator =
+                new TicketSequenceAllocator(ticketSequenceRepository, ticketRepository, transactionManager, 10);
+    }
+
+    @Test
+    @DisplayName("첫 블록은 기존 티켓의 마지막 번호 다음부터 할당")
+    public void firstBlockStartsAfterExistingTickets() {
+        when(ticketSequenceRepository.findByIdForUpdate(today)).thenReturn(Optional.empty());
+        when(ticketRepository.findLastCustomIdByDate("0212")).thenReturn(7);
+        when(ticketSequenceRepository.saveAndFlush(any(TicketSequence.class))).thenAnswer(i -> i.getArgument(0));
+
+        assertThat(ticketSequenceAllocator.next(today)).isEqualTo(8);
+        assertThat(ticketSequenceAllocator.next(today)).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("블록을 모두 쓰기 전에는 DB에 접근하지 않고, 다 쓰면 다음 블록을 예약")
+    public void reservesNextBlockWhenExhausted() {
+        TicketSequence ticketSequence = new TicketSequence(today, 1);
+        when(ticketSequenceRepository.findByIdForUpdate(today)).thenReturn(Optional.of(ticketSequence));
+
+        for (int i = 1; i <= 10; i++) {
+            assertThat(ticketSequenceAllocator.next(today)).isEqualTo(i);
+        }
+        verify(ticketSequenceRepository, times(1)).findByIdForUpdate(today);
+
+        assertThat(ticketSequenceAllocator.next(today)).isEqualTo(11);
+        verify(ticketSequenceRepository, times(2)).findByIdForUpdate(today);
+        assertThat(ticketSequence.getNextValue()).isEqualTo(21);
+    }
+
+    @Test
+    @DisplayName("동시에 요청해도 같은 번호를 두 번 할당하지 않음")
+    public void concurrentAllocationsAreUnique() throws InterruptedException {
+        TicketSequence ticketSequence = new TicketSequence(today, 1);
+        when(ticketSequenceRepository.findByIdForUpdate(today)).thenReturn(Optional.of(ticketSequence));
+
+        Set<Long> allocated = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 8; i++) {
+            executor.submit(() -> {
+                for (int j = 0; j < 250; j++) {
+                    allocated.add(ticketSequenceAllocator.next(today));
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        assertThat(allocated).hasSize(2000);
+        assertThat(allocated).contains(1000L, 1001L);
+    }
+}
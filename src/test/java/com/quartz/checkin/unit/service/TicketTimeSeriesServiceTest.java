@@ -0,0 +1,206 @@
+package com.quartz.checkin.unit.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.quartz.checkin.common.cache.CacheInvalidationBus;
+import com.quartz.checkin.common.cache.CacheInvalidationMessage;
+import com.quartz.checkin.common.cache.InMemoryCacheInvalidationBus;
+import com.quartz.checkin.common.exception.ApiException;
+import com.quartz.checkin.common.exception.ErrorCode;
+import com.quartz.checkin.common.timeseries.TicketTimeSeriesCount;
+import com.quartz.checkin.common.timeseries.TicketTimeSeriesMeasure;
+import com.quartz.checkin.common.timeseries.TicketTimeSeriesState;
+import com.quartz.checkin.config.CacheInvalidationConfig;
+import com.quartz.checkin.dto.stat.response.StatTimeSeriesPointResponse;
+import com.quartz.checkin.dto.stat.response.StatTimeSeriesResponse;
+import com.quartz.checkin.repository.TicketViewRepository;
+import com.quartz.checkin.service.TicketTimeSeriesService;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class TicketTimeSeriesServiceTest {
+
+    private static final int CAPACITY_DAYS = 30;
+
+    @Mock
+    private TicketViewRepository ticketViewRepository;
+
+    private final List<CacheInvalidationMessage> published = new ArrayList<>();
+    private final List<Consumer<CacheInvalidationMessage>> subscribers = new ArrayList<>();
+    private final List<Runnable> gapListeners = new ArrayList<>();
+    private final LocalDate today = LocalDate.now();
+    private TicketTimeSeriesService ticketTimeSeriesService;
+
+    @BeforeEach
+    void setUp() {
+        CacheInvalidationBus cacheInvalidationBus = new CacheInvalidationBus() {
+            @Override
+            public void publish(CacheInvalidationMessage message) {
+                published.add(message);
+            }
+
+            @Override
+            public void subscribe(String channel, Consumer<CacheInvalidationMessage> subscriber) {
+                subscribers.add(subscriber);
+            }
+
+            @Override
+            public void subscribeGaps(Runnable listener) {
+                gapListeners.add(listener);
+            }
+        };
+        ticketTimeSeriesService = new TicketTimeSeriesService(ticketViewRepository, cacheInvalidationBus,
+                CAPACITY_DAYS);
+        ReflectionTestUtils.invokeMethod(ticketTimeSeriesService, "subscribe");
+
+        lenient().when(ticketViewRepository.countTimeSeries(any(), any())).thenReturn(List.of(
+                new TicketTimeSeriesCount(TicketTimeSeriesMeasure.CREATED, today, 1L, 10L, 2L),
+                new TicketTimeSeriesCount(TicketTimeSeriesMeasure.CREATED, today.minusDays(1), null, 20L, 3L),
+                new TicketTimeSeriesCount(TicketTimeSeriesMeasure.CLOSED, today.minusDays(1), 1L, 10L, 1L),
+                new TicketTimeSeriesCount(TicketTimeSeriesMeasure.OVERDUE, today.minusDays(2), 1L, 20L, 4L),
+                new TicketTimeSeriesCount(TicketTimeSeriesMeasure.CREATED, today.minusDays(CAPACITY_DAYS), 1L, 10L,
+                        9L)));
+    }
+
+    @Test
+    @DisplayName("처음 조회할 때 보관 기간을 한 번 집계하고 최근 구간의 일별 개수와 합계를 반환함")
+    void loadsSeriesOnColdStart() {
+        StatTimeSeriesResponse response = ticketTimeSeriesService.getTimeSeries(7, null, null);
+
+        assertEquals(today.minusDays(6), response.getFrom());
+        assertEquals(today, response.getTo());
+        assertEquals(7, response.getPoints().size());
+        assertEquals(5L, response.getCreatedCount());
+        assertEquals(1L, response.getClosedCount());
+        assertEquals(4L, response.getOverdueCount());
+        assertEquals(2, pointOf(response, today).getCreatedCount());
+
+        ticketTimeSeriesService.getTimeSeries(2, 1L, null);
+        verify(ticketViewRepository, times(1))
+                .countTimeSeries(today.minusDays(CAPACITY_DAYS - 1), today);
+    }
+
+    @Test
+    @DisplayName("담당자나 카테고리를 지정하면 해당 버퍼만 합산함")
+    void filtersByManagerOrCategory() {
+        StatTimeSeriesResponse manager = ticketTimeSeriesService.getTimeSeries(7, 1L, null);
+        StatTimeSeriesResponse category = ticketTimeSeriesService.getTimeSeries(7, null, 20L);
+        StatTimeSeriesResponse unknown = ticketTimeSeriesService.getTimeSeries(7, 99L, null);
+
+        assertEquals(2L, manager.getCreatedCount());
+        assertEquals(1L, manager.getClosedCount());
+        assertEquals(4L, manager.getOverdueCount());
+        assertEquals(3L, category.getCreatedCount());
+        assertEquals(4L, category.getOverdueCount());
+        assertEquals(0L, unknown.getCreatedCount());
+        assertEquals(7, unknown.getPoints().size());
+    }
+
+    @Test
+    @DisplayName("티켓 변경은 다시 집계하지 않고 버퍼에 반영하며, 오늘 마감인 티켓은 마감 초과로 세지 않음")
+    void appliesChangesWithoutQuery() {
+        ticketTimeSeriesService.getTimeSeries(7, null, null);
+
+        TicketTimeSeriesState open = new TicketTimeSeriesState(1L, 10L, today, null, today, true);
+        TicketTimeSeriesState lateOpen = new TicketTimeSeriesState(1L, 10L, today.minusDays(3), null,
+                today.minusDays(1), true);
+        TicketTimeSeriesState lateClosed = new TicketTimeSeriesState(1L, 10L, today.minusDays(3), today,
+                today.minusDays(1), true);
+        ticketTimeSeriesService.recordChange(List.of(), List.of(open));
+        ticketTimeSeriesService.recordChange(List.of(), List.of(lateOpen));
+        ticketTimeSeriesService.recordChange(List.of(lateOpen), List.of(lateClosed));
+
+        StatTimeSeriesResponse response = ticketTimeSeriesService.getTimeSeries(7, null, null);
+
+        assertEquals(3, pointOf(response, today).getCreatedCount());
+        assertEquals(0, pointOf(response, today).getOverdueCount());
+        assertEquals(1, pointOf(response, today).getClosedCount());
+        assertEquals(1, pointOf(response, today.minusDays(1)).getOverdueCount());
+        assertEquals(1, pointOf(response, today.minusDays(3)).getCreatedCount());
+        verify(ticketViewRepository, times(1)).countTimeSeries(any(), any());
+        assertEquals(CacheInvalidationConfig.TICKET_TIMESERIES_CHANNEL, published.get(0).getChannel());
+    }
+
+    @Test
+    @DisplayName("메시지 누락을 알리면 다음 조회에서 다시 집계함")
+    void reloadsAfterGap() {
+        ticketTimeSeriesService.getTimeSeries(7, null, null);
+
+        gapListeners.forEach(Runnable::run);
+        ticketTimeSeriesService.getTimeSeries(7, null, null);
+
+        verify(ticketViewRepository, times(2)).countTimeSeries(any(), any());
+    }
+
+    @Test
+    @DisplayName("집계하기 전에 발행된 다른 노드의 증감은 다시 더하지 않음")
+    void ignoresChangesPublishedBeforeCounting() {
+        ticketTimeSeriesService.getTimeSeries(7, null, null);
+
+        subscribers.forEach(subscriber -> subscriber.accept(new CacheInvalidationMessage(
+                CacheInvalidationConfig.TICKET_TIMESERIES_CHANNEL, "CREATED," + today + ",1,10,1", 0L)));
+
+        assertEquals(5L, ticketTimeSeriesService.getTimeSeries(7, null, null).getCreatedCount());
+    }
+
+    @Test
+    @DisplayName("보관 기간을 벗어난 일수나 담당자와 카테고리를 함께 지정하면 예외 발생")
+    void rejectsInvalidRequest() {
+        ApiException days = assertThrows(ApiException.class,
+                () -> ticketTimeSeriesService.getTimeSeries(CAPACITY_DAYS + 1, null, null));
+        ApiException filter = assertThrows(ApiException.class,
+                () -> ticketTimeSeriesService.getTimeSeries(7, 1L, 10L));
+
+        assertEquals(ErrorCode.INVALID_STATS_TIMESERIES_DAYS, days.getErrorCode());
+        assertEquals(ErrorCode.INVALID_STATS_TIMESERIES_FILTER, filter.getErrorCode());
+        verify(ticketViewRepository, never()).countTimeSeries(any(), any());
+    }
+
+    @Test
+    @DisplayName("다른 노드의 변경은 다시 집계하지 않고 전달받은 칸별 증감으로 버퍼에 반영함")
+    void appliesPeerChangesWithoutQuery() {
+        InMemoryCacheInvalidationBus busA = new InMemoryCacheInvalidationBus();
+        TicketTimeSeriesService nodeA = new TicketTimeSeriesService(ticketViewRepository, busA, CAPACITY_DAYS);
+        TicketTimeSeriesService nodeB =
+                new TicketTimeSeriesService(ticketViewRepository, busA.connectNode(), CAPACITY_DAYS);
+        ReflectionTestUtils.invokeMethod(nodeA, "subscribe");
+        ReflectionTestUtils.invokeMethod(nodeB, "subscribe");
+        nodeA.getTimeSeries(7, null, null);
+        nodeB.getTimeSeries(7, null, null);
+
+        TicketTimeSeriesState lateOpen = new TicketTimeSeriesState(1L, 10L, today.minusDays(3), null,
+                today.minusDays(1), true);
+        TicketTimeSeriesState lateClosed = new TicketTimeSeriesState(1L, 10L, today.minusDays(3), today,
+                today.minusDays(1), true);
+        nodeA.recordChange(List.of(), List.of(new TicketTimeSeriesState(1L, 10L, today, null, today, true)));
+        nodeA.recordChange(List.of(), List.of(lateOpen));
+        nodeA.recordChange(List.of(lateOpen), List.of(lateClosed));
+        StatTimeSeriesResponse peer = nodeB.getTimeSeries(7, null, null);
+        StatTimeSeriesResponse peerManager = nodeB.getTimeSeries(7, 1L, null);
+
+        assertEquals(3, pointOf(peer, today).getCreatedCount());
+        assertEquals(1, pointOf(peer, today).getClosedCount());
+        assertEquals(1, pointOf(peer, today.minusDays(1)).getOverdueCount());
+        assertEquals(4L, peerManager.getCreatedCount());
+        verify(ticketViewRepository, times(2)).countTimeSeries(any(), any());
+    }
+
+    private StatTimeSeriesPointResponse pointOf(StatTimeSeriesResponse response, LocalDate date) {
+        return response.getPoints().stream()
+                .filter(point -> point.getDate().equals(date))
+                .findFirst()
+                .orElseThrow();
+    }
+}
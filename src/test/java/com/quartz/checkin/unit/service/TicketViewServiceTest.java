@@ -0,0 +1,194 @@
+package com.quartz.checkin.unit.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+
+import com.quartz.checkin.config.QueryDslConfig;
+import com.quartz.checkin.entity.Category;
+import com.quartz.checkin.entity.Member;
+import com.quartz.checkin.entity.Priority;
+import com.quartz.checkin.entity.Role;
+import com.quartz.checkin.entity.Status;
+import com.quartz.checkin.entity.Ticket;
+import com.quartz.checkin.entity.TicketView;
+import com.quartz.checkin.repository.TicketViewRepository;
+import com.quartz.checkin.service.TicketDailyStatsService;
+import com.quartz.checkin.service.TicketProgressService;
+import com.quartz.checkin.service.TicketTimeSeriesService;
+import com.quartz.checkin.service.TicketViewService;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+// 티켓을 바꾼 뒤 refresh하면 ticket_view 행이 티켓의 현재 상태와 같아지는지 확인합니다.
+@DataJpaTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.datasource.url=jdbc:h2:mem:ticket-view;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.username=sa",
+        "spring.datasource.password="
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryDslConfig.class, TicketViewService.class})
+class TicketViewServiceTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TicketViewService ticketViewService;
+
+    @Autowired
+    private TicketViewRepository ticketViewRepository;
+
+    @MockitoBean
+    private TicketProgressService ticketProgressService;
+
+    @MockitoBean
+    private TicketDailyStatsService ticketDailyStatsService;
+
+    @MockitoBean
+    private TicketTimeSeriesService ticketTimeSeriesService;
+
+    private Member user;
+    private Category firstCategory;
+    private Category secondCategory;
+
+    @BeforeEach
+    void setUp() {
+        user = persistMember("user", Role.USER);
+        firstCategory = new Category(null, "DevOps", "DEVOPS", "guide");
+        secondCategory = new Category(firstCategory, "Infra", "INFRA", "guide");
+        entityManager.persist(firstCategory);
+        entityManager.persist(secondCategory);
+    }
+
+    @Test
+    @DisplayName("읽기 모델 행이 없는 티켓은 새 행을 만듦")
+    void createsViewForNewTicket() {
+        Ticket ticket = persistTicket("Server down", "content");
+
+        ticketViewService.refresh(List.of(ticket.getId()));
+
+        TicketView view = findView(ticket.getId());
+        assertThat(view.getCustomId()).isEqualTo(ticket.getCustomId());
+        assertThat(view.getUserId()).isEqualTo(user.getId());
+        assertThat(view.getManagerId()).isNull();
+        assertThat(view.getFirstCategoryName()).isEqualTo("DevOps");
+        assertThat(view.getSecondCategoryName()).isEqualTo("Infra");
+        assertThat(view.getTitle()).isEqualTo("Server down");
+        assertThat(view.getStatus()).isEqualTo(Status.OPEN);
+        assertThat(view.getCreatedAt()).isNotNull();
+        verify(ticketProgressService).recordChange(any(), any());
+    }
+
+    @Test
+    @DisplayName("수정된 티켓은 기존 행을 현재 상태로 갱신하고 본문은 앞부분만 저장함")
+    void refreshesUpdatedTicket() {
+        Long ticketId = persistTicket("Server down", "content").getId();
+        ticketViewService.refresh(List.of(ticketId));
+
+        Ticket ticket = entityManager.find(Ticket.class, ticketId);
+        ticket.updateTitle("Server restored");
+        ticket.updateContent("a".repeat(TicketView.CONTENT_PREVIEW_LENGTH + 10));
+        ticket.updatePriority(Priority.HIGH);
+        ticket.closeTicket();
+        ticketViewService.refresh(List.of(ticketId));
+
+        TicketView view = findView(ticketId);
+        assertThat(view.getTitle()).isEqualTo("Server restored");
+        assertThat(view.getContentPreview()).hasSize(TicketView.CONTENT_PREVIEW_LENGTH);
+        assertThat(view.getPriority()).isEqualTo(Priority.HIGH);
+        assertThat(view.getStatus()).isEqualTo(Status.CLOSED);
+        assertThat(view.getClosedDate()).isEqualTo(LocalDate.now());
+    }
+
+    @Test
+    @DisplayName("소프트 삭제된 티켓은 행을 남기고 삭제 시각을 기록함")
+    void marksSoftDeletedTicket() {
+        Long ticketId = persistTicket("Server down", "content").getId();
+        ticketViewService.refresh(List.of(ticketId));
+
+        entityManager.find(Ticket.class, ticketId).softDelete();
+        ticketViewService.refresh(List.of(ticketId));
+
+        assertThat(findView(ticketId).getDeletedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("담당자가 바뀌면 담당자 정보를 새 담당자로 갱신함")
+    void reassignsManager() {
+        Member first = persistMember("manager1", Role.MANAGER);
+        Member second = persistMember("manager2", Role.MANAGER);
+        Long ticketId = persistTicket("Server down", "content").getId();
+
+        entityManager.find(Ticket.class, ticketId).assignManager(entityManager.find(Member.class, first.getId()));
+        ticketViewService.refresh(List.of(ticketId));
+        entityManager.find(Ticket.class, ticketId).assignManager(entityManager.find(Member.class, second.getId()));
+        ticketViewService.refresh(List.of(ticketId));
+
+        TicketView view = findView(ticketId);
+        assertThat(view.getManagerId()).isEqualTo(second.getId());
+        assertThat(view.getManagerUsername()).isEqualTo("manager2");
+        assertThat(view.getManagerProfilePic()).isEqualTo("manager2.png");
+        assertThat(view.getStatus()).isEqualTo(Status.IN_PROGRESS);
+    }
+
+    @Test
+    @DisplayName("영구 삭제된 티켓의 행은 지움")
+    void deletesViewOfRemovedTicket() {
+        Long ticketId = persistTicket("Server down", "content").getId();
+        ticketViewService.refresh(List.of(ticketId));
+
+        entityManager.remove(entityManager.find(Ticket.class, ticketId));
+        entityManager.flush();
+        ticketViewService.refresh(List.of(ticketId));
+
+        entityManager.clear();
+        assertThat(ticketViewRepository.findById(ticketId)).isEmpty();
+    }
+
+    private Member persistMember(String username, Role role) {
+        Member member = Member.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("password")
+                .profilePic(username + ".png")
+                .role(role)
+                .build();
+        entityManager.persist(member);
+        return member;
+    }
+
+    private Ticket persistTicket(String title, String content) {
+        Ticket ticket = Ticket.builder()
+                .customId("0212DEVO-INF001")
+                .user(user)
+                .firstCategory(firstCategory)
+                .secondCategory(secondCategory)
+                .title(title)
+                .content(content)
+                .priority(Priority.MEDIUM)
+                .status(Status.OPEN)
+                .dueDate(LocalDate.now().plusDays(3))
+                .build();
+        entityManager.persist(ticket);
+        entityManager.flush();
+        entityManager.clear();
+        return ticket;
+    }
+
+    private TicketView findView(Long ticketId) {
+        entityManager.flush();
+        entityManager.clear();
+        return ticketViewRepository.findById(ticketId).orElseThrow();
+    }
+}